@@ -0,0 +1,63 @@
+package com.codeflix.admin.catalogo.application.bulk;
+
+import com.codeflix.admin.catalogo.domain.validation.ValidationHandler;
+import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class BulkChunk<T> {
+
+    private final List<T> accepted;
+    private final List<BulkItemOutput> outputs;
+
+    private BulkChunk(final int size) {
+        this.accepted = new ArrayList<>(size);
+        this.outputs = new ArrayList<>(size);
+    }
+
+    public static <T> BulkChunk<T> create(final int size) {
+        return new BulkChunk<>(size);
+    }
+
+    public BulkChunk<T> add(final T aggregate, final ValidationHandler handler) {
+        if (handler.hasError()) {
+            this.outputs.add(BulkItemOutput.failed(handler));
+        } else {
+            this.accepted.add(Objects.requireNonNull(aggregate));
+            this.outputs.add(null);
+        }
+        return this;
+    }
+
+    public List<T> accepted() {
+        return Collections.unmodifiableList(this.accepted);
+    }
+
+    public List<BulkItemOutput> complete(final Function<List<T>, List<T>> createAll, final Function<T, String> idOf) {
+        if (this.accepted.isEmpty()) {
+            return List.copyOf(this.outputs);
+        }
+
+        List<BulkItemOutput> created;
+        try {
+            created = createAll.apply(this.accepted).stream()
+                    .map(it -> BulkItemOutput.created(idOf.apply(it)))
+                    .toList();
+        } catch (final RuntimeException e) {
+            // the chunk shares one transaction, so a failed insert rejects every accepted line in it
+            final var failed = BulkItemOutput.failed(Notification.create(e));
+            created = Collections.nCopies(this.accepted.size(), failed);
+        }
+
+        final var results = new ArrayList<BulkItemOutput>(this.outputs.size());
+        var next = 0;
+        for (final var output : this.outputs) {
+            results.add(output != null ? output : created.get(next++));
+        }
+        return results;
+    }
+}
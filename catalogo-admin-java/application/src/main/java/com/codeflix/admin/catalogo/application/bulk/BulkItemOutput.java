@@ -0,0 +1,24 @@
+package com.codeflix.admin.catalogo.application.bulk;
+
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.ValidationHandler;
+
+import java.util.List;
+
+public record BulkItemOutput(
+        String id,
+        List<Error> errors
+) {
+
+    public static BulkItemOutput created(final String id) {
+        return new BulkItemOutput(id, List.of());
+    }
+
+    public static BulkItemOutput failed(final ValidationHandler handler) {
+        return new BulkItemOutput(null, List.copyOf(handler.getErrors()));
+    }
+
+    public boolean isCreated() {
+        return this.errors.isEmpty();
+    }
+}
@@ -0,0 +1,50 @@
+package com.codeflix.admin.catalogo.application.bulk;
+
+import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class BulkReferences<T extends Identifier> {
+
+    private final String aggregate;
+    private final Set<T> found;
+
+    private BulkReferences(final String aggregate, final Set<T> found) {
+        this.aggregate = aggregate;
+        this.found = found;
+    }
+
+    public static <T extends Identifier> BulkReferences<T> resolve(
+            final String aggregate,
+            final Collection<? extends Collection<T>> references,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var ids = new HashSet<T>();
+        references.forEach(ids::addAll);
+
+        if (ids.isEmpty()) {
+            return new BulkReferences<>(aggregate, Set.of());
+        }
+
+        return new BulkReferences<>(aggregate, new HashSet<>(existsByIds.apply(ids)));
+    }
+
+    public Error missing(final Collection<T> ids) {
+        if (ids == null || this.found.containsAll(ids)) {
+            return null;
+        }
+
+        final var missingIds = ids.stream()
+                .filter(it -> !this.found.contains(it))
+                .map(Identifier::getValue)
+                .collect(Collectors.joining(", "));
+
+        return new Error("Some %s could not be found: %s".formatted(this.aggregate, missingIds));
+    }
+}
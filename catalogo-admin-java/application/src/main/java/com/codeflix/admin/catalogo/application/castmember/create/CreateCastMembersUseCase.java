@@ -0,0 +1,10 @@
+package com.codeflix.admin.catalogo.application.castmember.create;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+
+import java.util.List;
+
+public abstract class CreateCastMembersUseCase extends UseCase<List<CreateCastMemberCommand>, List<BulkItemOutput>> {
+
+}
@@ -0,0 +1,32 @@
+package com.codeflix.admin.catalogo.application.castmember.create;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkChunk;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCastMembersUseCase extends CreateCastMembersUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultCreateCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateCastMemberCommand> commands) {
+        final var chunk = BulkChunk.<CastMember>create(commands.size());
+
+        for (final var command : commands) {
+            final var notification = Notification.create();
+            final var member = notification.validate(() -> CastMember.newMember(command.name(), command.type()));
+            chunk.add(member, notification);
+        }
+
+        return chunk.complete(this.castMemberGateway::createAll, it -> it.getId().getValue());
+    }
+}
@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.application.castmember.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCastMembersUseCase extends ExportCastMembersUseCase {
+
+    private final CastMemberGateway gateway;
+
+    public DefaultExportCastMembersUseCase(final CastMemberGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CastMemberOutput> consumer) {
+        this.gateway.streamAll(it -> consumer.accept(CastMemberOutput.from(it)));
+    }
+}
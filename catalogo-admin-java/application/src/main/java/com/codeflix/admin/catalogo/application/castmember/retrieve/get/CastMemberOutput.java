@@ -10,7 +10,8 @@ public record CastMemberOutput(
         String name,
         CastMemberType type,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        Long version
 ) {
 
     public static CastMemberOutput from(final CastMember member) {
@@ -19,7 +20,8 @@ public record CastMemberOutput(
                 member.getName(),
                 member.getType(),
                 member.getCreatedAt(),
-                member.getUpdatedAt()
+                member.getUpdatedAt(),
+                member.getVersion()
         );
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.codeflix.admin.catalogo.application.castmember.retrieve.get;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+
+public non-sealed class DefaultGetCastMemberVersionUseCase extends GetCastMemberVersionUseCase {
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultGetCastMemberVersionUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public Long execute(final String in) {
+        final var memberId = CastMemberID.from(in);
+        return this.castMemberGateway.findVersion(memberId)
+                .orElseThrow(() -> NotFoundException.with(CastMember.class, memberId));
+    }
+}
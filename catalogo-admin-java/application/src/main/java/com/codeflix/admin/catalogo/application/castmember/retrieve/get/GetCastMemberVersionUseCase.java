@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.application.castmember.retrieve.get;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+
+public sealed abstract class GetCastMemberVersionUseCase
+        extends UseCase<String, Long>
+        permits DefaultGetCastMemberVersionUseCase {
+}
@@ -1,6 +1,7 @@
 package com.codeflix.admin.catalogo.application.castmember.retrieve.list;
 
 import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberPreview;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
 
 import java.time.Instant;
@@ -13,11 +14,15 @@ public record CastMemberListOutput(
 ) {
 
     public static CastMemberListOutput from(final CastMember member) {
+        return from(new CastMemberPreview(member));
+    }
+
+    public static CastMemberListOutput from(final CastMemberPreview member) {
         return new CastMemberListOutput(
-                member.getId().getValue(),
-                member.getName(),
-                member.getType(),
-                member.getCreatedAt()
+                member.id(),
+                member.name(),
+                member.type(),
+                member.createdAt()
         );
     }
 }
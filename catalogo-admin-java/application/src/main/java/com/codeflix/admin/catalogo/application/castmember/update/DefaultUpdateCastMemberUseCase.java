@@ -27,6 +27,7 @@ public non-sealed class DefaultUpdateCastMemberUseCase extends UpdateCastMemberU
 
         final var member = this.castMemberGateway.findById(id)
                 .orElseThrow(notFound(id));
+        member.checkVersion(command.version(), () -> this.castMemberGateway.findVersion(id));
 
         final var notification = Notification.create();
         notification.validate(() -> member.update(name, type));
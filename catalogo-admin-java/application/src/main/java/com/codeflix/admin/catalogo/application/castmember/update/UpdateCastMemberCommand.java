@@ -5,7 +5,8 @@ import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
 public record UpdateCastMemberCommand(
         String id,
         String name,
-        CastMemberType type
+        CastMemberType type,
+        Long version
 ) {
 
     public static UpdateCastMemberCommand with(
@@ -13,6 +14,15 @@ public record UpdateCastMemberCommand(
             final String name,
             final CastMemberType type
     ) {
-        return new UpdateCastMemberCommand(id, name, type);
+        return with(id, name, type, null);
+    }
+
+    public static UpdateCastMemberCommand with(
+            final String id,
+            final String name,
+            final CastMemberType type,
+            final Long version
+    ) {
+        return new UpdateCastMemberCommand(id, name, type, version);
     }
 }
\ No newline at end of file
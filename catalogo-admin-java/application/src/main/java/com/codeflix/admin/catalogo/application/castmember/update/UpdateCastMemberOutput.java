@@ -3,13 +3,13 @@ package com.codeflix.admin.catalogo.application.castmember.update;
 import com.codeflix.admin.catalogo.domain.castmember.CastMember;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
 
-public record UpdateCastMemberOutput(String id) {
+public record UpdateCastMemberOutput(String id, Long version) {
 
     public static UpdateCastMemberOutput from(final CastMemberID id) {
-        return new UpdateCastMemberOutput(id.getValue());
+        return new UpdateCastMemberOutput(id.getValue(), null);
     }
 
     public static UpdateCastMemberOutput from(final CastMember member) {
-        return from(member.getId());
+        return new UpdateCastMemberOutput(member.getId().getValue(), member.getVersion());
     }
 }
@@ -0,0 +1,38 @@
+package com.codeflix.admin.catalogo.application.category.create;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkChunk;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway gateway;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateCategoryCommand> commands) {
+        final var chunk = BulkChunk.<Category>create(commands.size());
+
+        for (final var command : commands) {
+            final var notification = Notification.create();
+            final var category = notification.validate(() ->
+                    Category.newCategory(command.name(), command.description(), command.isActive()));
+
+            if (category != null) {
+                category.validate(notification);
+            }
+
+            chunk.add(category, notification);
+        }
+
+        return chunk.complete(this.gateway::createAll, it -> it.getId().getValue());
+    }
+}
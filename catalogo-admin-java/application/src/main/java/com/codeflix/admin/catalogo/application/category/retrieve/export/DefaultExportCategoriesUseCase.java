@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.application.category.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.category.retrieve.get.CategoryOutput;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway gateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryOutput> consumer) {
+        this.gateway.streamAll(it -> consumer.accept(CategoryOutput.from(it)));
+    }
+}
@@ -12,7 +12,8 @@ public record CategoryOutput(
         boolean isActive,
         Instant createdAt,
         Instant updatedAt,
-        Instant deleteAt
+        Instant deleteAt,
+        Long version
 ) {
 
     public static CategoryOutput from(final Category category) {
@@ -23,7 +24,8 @@ public record CategoryOutput(
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 }
@@ -0,0 +1,25 @@
+package com.codeflix.admin.catalogo.application.category.retrieve.get;
+
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+
+public class DefaultGetCategoryVersionUseCase extends GetCategoryVersionUseCase {
+
+    private final CategoryGateway gateway;
+
+    public DefaultGetCategoryVersionUseCase(final CategoryGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Long execute(final String in) {
+        final var categoryId = CategoryID.from(in);
+
+        return this.gateway.findVersion(categoryId)
+                .orElseThrow(() -> NotFoundException.with(Category.class, categoryId));
+    }
+}
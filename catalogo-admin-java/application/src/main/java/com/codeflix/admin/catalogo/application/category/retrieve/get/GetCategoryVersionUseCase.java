@@ -0,0 +1,6 @@
+package com.codeflix.admin.catalogo.application.category.retrieve.get;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+
+public abstract class GetCategoryVersionUseCase extends UseCase<String, Long> {
+}
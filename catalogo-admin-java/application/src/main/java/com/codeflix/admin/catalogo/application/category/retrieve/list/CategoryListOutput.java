@@ -2,6 +2,7 @@ package com.codeflix.admin.catalogo.application.category.retrieve.list;
 
 import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.category.CategoryPreview;
 
 import java.time.Instant;
 
@@ -15,13 +16,17 @@ public record CategoryListOutput(
 ) {
 
     public static CategoryListOutput from(final Category category) {
+        return from(new CategoryPreview(category));
+    }
+
+    public static CategoryListOutput from(final CategoryPreview category) {
         return new CategoryListOutput(
-                category.getId(),
-                category.getName(),
-                category.getDescription(),
+                CategoryID.from(category.id()),
+                category.name(),
+                category.description(),
                 category.isActive(),
-                category.getCreatedAt(),
-                category.getDeletedAt()
+                category.createdAt(),
+                category.deletedAt()
         );
     }
 }
@@ -4,6 +4,7 @@ import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
 import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.validation.Error;
 import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
 import io.vavr.API;
@@ -26,6 +27,9 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
 
     private Either<Notification, UpdateCategoryOutput> update(final Category category) {
         return API.Try(() -> this.gateway.update(category))
+                .onFailure(StaleVersionException.class, it -> {
+                    throw it;
+                })
                 .toEither()
                 .bimap(Notification::create, UpdateCategoryOutput::from);
     }
@@ -35,6 +39,8 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         final var id = CategoryID.from(command.id());
 
         final var category = this.gateway.findById(id).orElseThrow(notFound(id));
+        category.checkVersion(command.version(), () -> this.gateway.findVersion(id));
+
         final var notification = Notification.create();
 
         category.update(command.name(), command.description(), command.isActive())
@@ -4,7 +4,8 @@ public record UpdateCategoryCommand(
         String id,
         String name,
         String description,
-        boolean isActive
+        boolean isActive,
+        Long version
 ) {
 
     public static UpdateCategoryCommand with(
@@ -13,6 +14,16 @@ public record UpdateCategoryCommand(
             final String description,
             final boolean isActive
     ) {
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return with(id, name, description, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+            final String id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Long version
+    ) {
+        return new UpdateCategoryCommand(id, name, description, isActive, version);
     }
 }
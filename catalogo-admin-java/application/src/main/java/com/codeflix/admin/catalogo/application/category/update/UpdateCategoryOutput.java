@@ -3,14 +3,15 @@ package com.codeflix.admin.catalogo.application.category.update;
 import com.codeflix.admin.catalogo.domain.category.Category;
 
 public record UpdateCategoryOutput(
-        String id
+        String id,
+        Long version
 ) {
 
     public static UpdateCategoryOutput from(final String id) {
-        return new UpdateCategoryOutput(id);
+        return new UpdateCategoryOutput(id, null);
     }
 
     public static UpdateCategoryOutput from(final Category category) {
-        return new UpdateCategoryOutput(category.getId().getValue());
+        return new UpdateCategoryOutput(category.getId().getValue(), category.getVersion());
     }
 }
@@ -0,0 +1,10 @@
+package com.codeflix.admin.catalogo.application.genre.create;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+
+import java.util.List;
+
+public abstract class CreateGenresUseCase extends UseCase<List<CreateGenreCommand>, List<BulkItemOutput>> {
+
+}
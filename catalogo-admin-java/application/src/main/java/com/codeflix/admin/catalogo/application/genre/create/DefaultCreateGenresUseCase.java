@@ -0,0 +1,68 @@
+package com.codeflix.admin.catalogo.application.genre.create;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkChunk;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.application.bulk.BulkReferences;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateGenresUseCase extends CreateGenresUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+
+    public DefaultCreateGenresUseCase(
+            final CategoryGateway categoryGateway,
+            final GenreGateway genreGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateGenreCommand> commands) {
+        final var categories = commands.stream()
+                .map(it -> toCategoryID(it.categories()))
+                .toList();
+
+        final var references = BulkReferences.resolve("categories", categories, this.categoryGateway::existsByIds);
+        final var chunk = BulkChunk.<Genre>create(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var ids = categories.get(i);
+
+            final var notification = Notification.create();
+            final var missing = references.missing(ids);
+            if (missing != null) {
+                notification.append(missing);
+            }
+
+            final var genre = notification.validate(() -> Genre.newGenre(command.name(), command.isActive()));
+
+            if (!notification.hasError()) {
+                genre.addCategories(ids);
+            }
+
+            chunk.add(genre, notification);
+        }
+
+        return chunk.complete(this.genreGateway::createAll, it -> it.getId().getValue());
+    }
+
+    private List<CategoryID> toCategoryID(final List<String> categories) {
+        if (categories == null) {
+            return List.of();
+        }
+
+        return categories.stream()
+                .map(CategoryID::from)
+                .toList();
+    }
+}
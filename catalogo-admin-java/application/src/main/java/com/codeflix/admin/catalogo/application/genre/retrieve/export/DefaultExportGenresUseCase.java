@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.application.genre.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.genre.retrieve.get.GenreOutput;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+
+    private final GenreGateway gateway;
+
+    public DefaultExportGenresUseCase(final GenreGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public void execute(final Consumer<GenreOutput> consumer) {
+        this.gateway.streamAll(it -> consumer.accept(GenreOutput.from(it)));
+    }
+}
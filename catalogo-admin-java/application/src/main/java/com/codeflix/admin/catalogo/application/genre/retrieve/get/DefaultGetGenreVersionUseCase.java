@@ -0,0 +1,25 @@
+package com.codeflix.admin.catalogo.application.genre.retrieve.get;
+
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+
+import java.util.Objects;
+
+public class DefaultGetGenreVersionUseCase extends GetGenreVersionUseCase {
+
+    private final GenreGateway gateway;
+
+    public DefaultGetGenreVersionUseCase(final GenreGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public Long execute(final String in) {
+        final var genreId = GenreID.from(in);
+
+        return this.gateway.findVersion(genreId)
+                .orElseThrow(() -> NotFoundException.with(Genre.class, genreId));
+    }
+}
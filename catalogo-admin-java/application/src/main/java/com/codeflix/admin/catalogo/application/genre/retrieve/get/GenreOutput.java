@@ -13,7 +13,8 @@ public record GenreOutput(
         List<String> categories,
         Instant createdAt,
         Instant updatedAt,
-        Instant deletedAt
+        Instant deletedAt,
+        Long version
 ) {
 
     public static GenreOutput from(final Genre genre) {
@@ -26,7 +27,8 @@ public record GenreOutput(
                         .toList(),
                 genre.getCreatedAt(),
                 genre.getUpdatedAt(),
-                genre.getDeletedAt()
+                genre.getDeletedAt(),
+                genre.getVersion()
         );
     }
 }
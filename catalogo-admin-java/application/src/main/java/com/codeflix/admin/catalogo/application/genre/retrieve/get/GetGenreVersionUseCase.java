@@ -0,0 +1,6 @@
+package com.codeflix.admin.catalogo.application.genre.retrieve.get;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+
+public abstract class GetGenreVersionUseCase extends UseCase<String, Long> {
+}
@@ -41,6 +41,7 @@ public class DefaultUpdateGenreUseCase extends UpdateGenreUseCase {
 
         final var genre = this.genreGateway.findById(id)
                 .orElseThrow(notFound(id));
+        genre.checkVersion(command.version(), () -> this.genreGateway.findVersion(id));
 
         final var notification = Notification.create();
         notification.append(validateCategories(categories));
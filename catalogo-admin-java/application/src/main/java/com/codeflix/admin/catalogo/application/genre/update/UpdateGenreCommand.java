@@ -6,7 +6,8 @@ public record UpdateGenreCommand(
         String id,
         String name,
         boolean isActive,
-        List<String> categories
+        List<String> categories,
+        Long version
 ) {
 
     public static UpdateGenreCommand with(
@@ -15,6 +16,16 @@ public record UpdateGenreCommand(
             final Boolean isActive,
             final List<String> categories
     ) {
-        return new UpdateGenreCommand(id, name, isActive != null ? isActive : true, categories);
+        return with(id, name, isActive, categories, null);
+    }
+
+    public static UpdateGenreCommand with(
+            final String id,
+            final String name,
+            final Boolean isActive,
+            final List<String> categories,
+            final Long version
+    ) {
+        return new UpdateGenreCommand(id, name, isActive != null ? isActive : true, categories, version);
     }
 }
\ No newline at end of file
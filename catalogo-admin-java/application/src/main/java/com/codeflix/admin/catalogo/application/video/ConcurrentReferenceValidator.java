@@ -0,0 +1,98 @@
+package com.codeflix.admin.catalogo.application.video;
+
+import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+public final class ConcurrentReferenceValidator {
+
+    private final Executor executor;
+    private final List<Supplier<Error>> checks;
+
+    private ConcurrentReferenceValidator(final Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        this.checks = new ArrayList<>();
+    }
+
+    public static ConcurrentReferenceValidator with(final Executor executor) {
+        return new ConcurrentReferenceValidator(executor);
+    }
+
+    public <T extends Identifier> ConcurrentReferenceValidator add(
+            final String aggregate,
+            final Set<T> ids,
+            final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        if (ids == null || ids.isEmpty()) {
+            return this;
+        }
+
+        this.checks.add(() -> missing(aggregate, ids, existsByIds.apply(ids)));
+        return this;
+    }
+
+    public Notification validate() {
+        final var notification = Notification.create();
+
+        if (this.checks.size() == 1) {
+            append(notification, this.checks.get(0).get());
+            return notification;
+        }
+
+        final var futures = this.checks.stream()
+                .map(check -> CompletableFuture.supplyAsync(check, this.executor))
+                .toList();
+
+        try {
+            futures.forEach(it -> append(notification, it.join()));
+        } catch (final CompletionException e) {
+            futures.forEach(it -> it.cancel(true));
+            throw rethrow(e.getCause());
+        }
+
+        return notification;
+    }
+
+    private static <T extends Identifier> Error missing(final String aggregate, final Set<T> ids, final List<T> retrievedIds) {
+        if (ids.size() == retrievedIds.size()) {
+            return null;
+        }
+
+        final var missingIds = new ArrayList<>(ids);
+        missingIds.removeAll(retrievedIds);
+
+        final var missingIdsMessage = missingIds.stream()
+                .map(Identifier::getValue)
+                .collect(Collectors.joining(", "));
+
+        return new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage));
+    }
+
+    private static void append(final Notification notification, final Error error) {
+        if (error != null) {
+            notification.append(error);
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable cause) {
+        if (cause instanceof RuntimeException re) {
+            return re;
+        }
+        if (cause instanceof java.lang.Error err) {
+            throw err;
+        }
+        return InternalErrorException.with(cause.getMessage(), cause);
+    }
+}
@@ -0,0 +1,10 @@
+package com.codeflix.admin.catalogo.application.video.create;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+
+import java.util.List;
+
+public abstract class CreateVideosUseCase extends UseCase<List<CreateVideoCommand>, List<BulkItemOutput>> {
+
+}
@@ -1,6 +1,7 @@
 package com.codeflix.admin.catalogo.application.video.create;
 
-import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.application.video.ConcurrentReferenceValidator;
+import com.codeflix.admin.catalogo.application.video.media.ConcurrentMediaStore;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
@@ -9,16 +10,12 @@ import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
 import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
-import com.codeflix.admin.catalogo.domain.validation.Error;
-import com.codeflix.admin.catalogo.domain.validation.ValidationHandler;
-import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
 import com.codeflix.admin.catalogo.domain.video.*;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,19 +26,25 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
     private final VideoGateway videoGateway;
+    private final Executor referenceExecutor;
+    private final Executor mediaExecutor;
 
     public DefaultCreateVideoUseCase(
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
             final MediaResourceGateway mediaResourceGateway,
-            final VideoGateway videoGateway
+            final VideoGateway videoGateway,
+            final Executor referenceExecutor,
+            final Executor mediaExecutor
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.referenceExecutor = Objects.requireNonNull(referenceExecutor);
+        this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
     }
 
     @Override
@@ -52,10 +55,11 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var genres = toIdentifier(command.genres(), GenreID::from);
         final var members = toIdentifier(command.members(), CastMemberID::from);
 
-        final var notification = Notification.create();
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateMembers(members));
+        final var notification = ConcurrentReferenceValidator.with(this.referenceExecutor)
+                .add("categories", categories, this.categoryGateway::existsByIds)
+                .add("genres", genres, this.genreGateway::existsByIds)
+                .add("cast members", members, this.castMemberGateway::existsByIds)
+                .validate();
 
         final var video = Video.newVideo(
                 command.title(),
@@ -83,34 +87,15 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var anId = video.getId();
 
         try {
-            final var videoMedia = command.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VideoMediaType.VIDEO, it)))
-                    .orElse(null);
-
-            final var trailerMedia = command.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VideoMediaType.TRAILER, it)))
-                    .orElse(null);
-
-            final var bannerMedia = command.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.BANNER, it)))
-                    .orElse(null);
-
-            final var thumbnailMedia = command.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL, it)))
-                    .orElse(null);
-
-            final var thumbHalfMedia = command.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL_HALF, it)))
-                    .orElse(null);
-
-            return this.videoGateway.create(
-                    video
-                            .updateVideoMedia(videoMedia)
-                            .updateTrailerMedia(trailerMedia)
-                            .updateBannerMedia(bannerMedia)
-                            .updateThumbnailMedia(thumbnailMedia)
-                            .updateThumbnailHalfMedia(thumbHalfMedia)
-            );
+            final var withMedias = ConcurrentMediaStore.with(this.mediaExecutor)
+                    .add(command.getVideo(), it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VideoMediaType.VIDEO, it)), Video::updateVideoMedia)
+                    .add(command.getTrailer(), it -> this.mediaResourceGateway.storeAudioVideo(anId, VideoResource.with(VideoMediaType.TRAILER, it)), Video::updateTrailerMedia)
+                    .add(command.getBanner(), it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.BANNER, it)), Video::updateBannerMedia)
+                    .add(command.getThumbnail(), it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL, it)), Video::updateThumbnailMedia)
+                    .add(command.getThumbnailHalf(), it -> this.mediaResourceGateway.storeImage(anId, VideoResource.with(VideoMediaType.THUMBNAIL_HALF, it)), Video::updateThumbnailHalfMedia)
+                    .storeAll(video);
+
+            return this.videoGateway.create(withMedias);
         } catch (final Throwable throwable) {
             this.mediaResourceGateway.clearResources(anId);
             throw InternalErrorException.with(
@@ -120,44 +105,6 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         }
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
-        final var notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
-        }
-
-        return notification;
-    }
-
     private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
         return ids.stream()
                 .map(mapper)
@@ -0,0 +1,106 @@
+package com.codeflix.admin.catalogo.application.video.create;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkChunk;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.application.bulk.BulkReferences;
+import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
+import com.codeflix.admin.catalogo.domain.video.Rating;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class DefaultCreateVideosUseCase extends CreateVideosUseCase {
+
+    private final CategoryGateway categoryGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final GenreGateway genreGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCreateVideosUseCase(
+            final CategoryGateway categoryGateway,
+            final CastMemberGateway castMemberGateway,
+            final GenreGateway genreGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public List<BulkItemOutput> execute(final List<CreateVideoCommand> commands) {
+        final var categories = commands.stream().map(it -> toIdentifier(it.categories(), CategoryID::from)).toList();
+        final var genres = commands.stream().map(it -> toIdentifier(it.genres(), GenreID::from)).toList();
+        final var members = commands.stream().map(it -> toIdentifier(it.members(), CastMemberID::from)).toList();
+
+        final var categoryReferences = BulkReferences.resolve("categories", categories, this.categoryGateway::existsByIds);
+        final var genreReferences = BulkReferences.resolve("genres", genres, this.genreGateway::existsByIds);
+        final var memberReferences = BulkReferences.resolve("cast members", members, this.castMemberGateway::existsByIds);
+
+        final var chunk = BulkChunk.<Video>create(commands.size());
+
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var aCategories = categories.get(i);
+            final var aGenres = genres.get(i);
+            final var aMembers = members.get(i);
+
+            final var notification = Notification.create();
+            append(notification, categoryReferences.missing(aCategories));
+            append(notification, genreReferences.missing(aGenres));
+            append(notification, memberReferences.missing(aMembers));
+
+            final var video = notification.validate(() -> Video.newVideo(
+                    command.title(),
+                    command.description(),
+                    command.launchedAt() != null ? Year.of(command.launchedAt()) : null,
+                    command.duration(),
+                    command.opened(),
+                    command.published(),
+                    Rating.of(command.rating()).orElse(null),
+                    aCategories,
+                    aGenres,
+                    aMembers
+            ));
+
+            if (video != null) {
+                video.validate(notification);
+            }
+
+            chunk.add(video, notification);
+        }
+
+        return chunk.complete(this.videoGateway::createAll, it -> it.getId().getValue());
+    }
+
+    private static void append(final Notification notification, final Error error) {
+        if (error != null) {
+            notification.append(error);
+        }
+    }
+
+    private static <T extends Identifier> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
+        if (ids == null) {
+            return Set.of();
+        }
+
+        return ids.stream()
+                .map(mapper)
+                .collect(Collectors.toSet());
+    }
+}
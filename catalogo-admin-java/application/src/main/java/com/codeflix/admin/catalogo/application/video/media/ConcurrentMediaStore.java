@@ -0,0 +1,150 @@
+package com.codeflix.admin.catalogo.application.video.media;
+
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.Video;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+public final class ConcurrentMediaStore {
+
+    private final Executor executor;
+    private final List<Callable<UnaryOperator<Video>>> stores;
+
+    private ConcurrentMediaStore(final Executor executor) {
+        this.executor = Objects.requireNonNull(executor);
+        this.stores = new ArrayList<>();
+    }
+
+    public static ConcurrentMediaStore with(final Executor executor) {
+        return new ConcurrentMediaStore(executor);
+    }
+
+    public <T> ConcurrentMediaStore add(
+            final Optional<Resource> resource,
+            final Function<Resource, T> store,
+            final BiFunction<Video, T, Video> apply
+    ) {
+        if (resource.isEmpty()) {
+            this.stores.add(() -> video -> apply.apply(video, null));
+            return this;
+        }
+
+        this.stores.add(() -> {
+            final var media = store.apply(resource.get());
+            return video -> apply.apply(video, media);
+        });
+        return this;
+    }
+
+    public Video storeAll(final Video video) {
+        final var tasks = this.stores.stream().map(Task::new).toList();
+        final var completion = new ExecutorCompletionService<UnaryOperator<Video>>(this.executor);
+        final var futures = new ArrayList<Future<UnaryOperator<Video>>>(tasks.size());
+        final var appliers = new ArrayList<UnaryOperator<Video>>(tasks.size());
+
+        try {
+            for (final var task : tasks) {
+                futures.add(completion.submit(task));
+            }
+
+            for (int i = 0; i < tasks.size(); i++) {
+                completion.take().get();
+            }
+
+            for (final var future : futures) {
+                appliers.add(future.get());
+            }
+        } catch (final ExecutionException e) {
+            cancel(tasks, futures);
+            throw rethrow(e.getCause());
+        } catch (final InterruptedException e) {
+            cancel(tasks, futures);
+            Thread.currentThread().interrupt();
+            throw InternalErrorException.with("Interrupted while storing medias of video %s".formatted(video.getId().getValue()), e);
+        } catch (final RuntimeException e) {
+            cancel(tasks, futures);
+            throw e;
+        }
+
+        var actual = video;
+        for (final var applier : appliers) {
+            actual = applier.apply(actual);
+        }
+        return actual;
+    }
+
+    private static void cancel(final List<Task> tasks, final List<Future<UnaryOperator<Video>>> futures) {
+        // a failure is only surfaced after every store stopped, so the caller may safely clear the resources
+        tasks.forEach(Task::claim);
+        futures.forEach(it -> it.cancel(true));
+
+        var interrupted = false;
+        for (final var task : tasks) {
+            while (true) {
+                try {
+                    task.done.await();
+                    break;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable cause) {
+        if (cause instanceof RuntimeException re) {
+            return re;
+        }
+        if (cause instanceof Error err) {
+            throw err;
+        }
+        return InternalErrorException.with(cause.getMessage(), cause);
+    }
+
+    private static final class Task implements Callable<UnaryOperator<Video>> {
+
+        private final Callable<UnaryOperator<Video>> delegate;
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private Task(final Callable<UnaryOperator<Video>> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public UnaryOperator<Video> call() throws Exception {
+            if (!this.claimed.compareAndSet(false, true)) {
+                return UnaryOperator.identity();
+            }
+            try {
+                return this.delegate.call();
+            } finally {
+                this.done.countDown();
+            }
+        }
+
+        private void claim() {
+            if (this.claimed.compareAndSet(false, true)) {
+                this.done.countDown();
+            }
+        }
+    }
+}
@@ -1,19 +1,29 @@
 package com.codeflix.admin.catalogo.application.video.media.get;
 
 import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.ImageMedia;
 import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
 import com.codeflix.admin.catalogo.domain.video.VideoID;
 import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
 import com.codeflix.admin.catalogo.domain.validation.Error;
 
 import java.util.Objects;
+import java.util.Optional;
 
 public class DefaultGetMediaUseCase extends GetMediaUseCase {
 
     private final MediaResourceGateway mediaResourceGateway;
+    private final VideoGateway videoGateway;
 
-    public DefaultGetMediaUseCase(final MediaResourceGateway mediaResourceGateway) {
+    public DefaultGetMediaUseCase(
+            final MediaResourceGateway mediaResourceGateway,
+            final VideoGateway videoGateway
+    ) {
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
     @Override
@@ -22,11 +32,26 @@ public class DefaultGetMediaUseCase extends GetMediaUseCase {
         final var type = VideoMediaType.of(command.mediaType())
                 .orElseThrow(() -> typeNotFound(command.mediaType()));
 
+        final var checksum =
+                this.videoGateway.findById(id)
+                        .flatMap(aVideo -> checksumOf(aVideo, type))
+                        .orElseThrow(() -> notFound(command.videoId(), command.mediaType()));
+
         final var resource =
                 this.mediaResourceGateway.getResource(id, type)
                         .orElseThrow(() -> notFound(command.videoId(), command.mediaType()));
 
-        return MediaOutput.with(resource);
+        return MediaOutput.with(resource, checksum);
+    }
+
+    private Optional<String> checksumOf(final Video aVideo, final VideoMediaType type) {
+        return switch (type) {
+            case VIDEO -> aVideo.getVideo().map(AudioVideoMedia::checksum);
+            case TRAILER -> aVideo.getTrailer().map(AudioVideoMedia::checksum);
+            case BANNER -> aVideo.getBanner().map(ImageMedia::checksum);
+            case THUMBNAIL -> aVideo.getThumbnail().map(ImageMedia::checksum);
+            case THUMBNAIL_HALF -> aVideo.getThumbnailHalf().map(ImageMedia::checksum);
+        };
     }
 
     private NotFoundException notFound(final String id, final String type) {
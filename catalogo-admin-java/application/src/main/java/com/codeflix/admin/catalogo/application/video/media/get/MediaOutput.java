@@ -3,15 +3,24 @@ package com.codeflix.admin.catalogo.application.video.media.get;
 import com.codeflix.admin.catalogo.domain.video.Resource;
 
 public record MediaOutput(
-        byte[] content,
+        Resource resource,
+        String checksum,
         String contentType,
-        String name
+        String name,
+        long length
 ) {
-    public static MediaOutput with(final Resource aResource) {
+    // the checksum comes from what was recorded on store, asking the resource for it may read the whole object
+    public static MediaOutput with(final Resource aResource, final String checksum) {
         return new MediaOutput(
-                aResource.content(),
+                aResource,
+                checksum,
                 aResource.contentType(),
-                aResource.name()
+                aResource.name(),
+                aResource.length()
         );
     }
-}
\ No newline at end of file
+
+    public byte[] content() {
+        return resource.content();
+    }
+}
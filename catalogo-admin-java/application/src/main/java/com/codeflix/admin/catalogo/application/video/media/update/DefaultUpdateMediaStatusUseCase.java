@@ -1,7 +1,8 @@
 package com.codeflix.admin.catalogo.application.video.media.update;
 
-import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
-import com.codeflix.admin.catalogo.domain.video.*;
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
 
 import java.util.Objects;
 
@@ -15,43 +16,20 @@ public class DefaultUpdateMediaStatusUseCase extends UpdateMediaStatusUseCase {
 
     @Override
     public void execute(final UpdateMediaStatusCommand command) {
-        final var id = VideoID.from(command.videoId());
-        final var resourceId = command.resourceId();
-        final var folder = command.folder();
-        final var filename = command.filename();
-
-        final var video = this.videoGateway.findById(id)
-                .orElseThrow(() -> notFound(id));
-
-        final var encodedPath = "%s/%s".formatted(folder, filename);
-
-        if (matches(resourceId, video.getVideo().orElse(null))) {
-            updateVideo(VideoMediaType.VIDEO, command.status(), video, encodedPath);
-        } else if (matches(resourceId, video.getTrailer().orElse(null))) {
-            updateVideo(VideoMediaType.TRAILER, command.status(), video, encodedPath);
-        }
-    }
-
-    private void updateVideo(final VideoMediaType type, final MediaStatus status, final Video video, final String encodedPath) {
-        switch (status) {
-            case PENDING -> {
-            }
-            case PROCESSING -> video.processing(type);
-            case COMPLETED -> video.completed(type, encodedPath);
+        final var status = command.status();
+        if (status == MediaStatus.PENDING) {
+            return;
         }
 
-        this.videoGateway.update(video);
-    }
-
-    private boolean matches(final String id, final AudioVideoMedia media) {
-        if (media == null) {
-            return false;
-        }
-
-        return media.id().equals(id);
-    }
+        final var encodedPath = status == MediaStatus.COMPLETED
+                ? "%s/%s".formatted(command.folder(), command.filename())
+                : null;
 
-    private NotFoundException notFound(final VideoID id) {
-        return NotFoundException.with(Video.class, id);
+        this.videoGateway.updateMediaStatus(
+                VideoID.from(command.videoId()),
+                command.resourceId(),
+                status,
+                encodedPath
+        );
     }
 }
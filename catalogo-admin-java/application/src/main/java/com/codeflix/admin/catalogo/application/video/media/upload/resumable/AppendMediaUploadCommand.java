@@ -0,0 +1,34 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+import java.io.InputStream;
+
+public record AppendMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String uploadId,
+        long offset,
+        Long length,
+        InputStream content
+) {
+
+    public static AppendMediaUploadCommand with(
+            final String videoId,
+            final String mediaType,
+            final String uploadId,
+            final long offset,
+            final InputStream content
+    ) {
+        return with(videoId, mediaType, uploadId, offset, null, content);
+    }
+
+    public static AppendMediaUploadCommand with(
+            final String videoId,
+            final String mediaType,
+            final String uploadId,
+            final long offset,
+            final Long length,
+            final InputStream content
+    ) {
+        return new AppendMediaUploadCommand(videoId, mediaType, uploadId, offset, length, content);
+    }
+}
@@ -0,0 +1,7 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+
+public abstract class AppendMediaUploadUseCase
+        extends UseCase<AppendMediaUploadCommand, MediaUploadOutput> {
+}
@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CompleteMediaUploadUseCase
+        extends UseCase<MediaUploadCommand, UploadMediaOutput> {
+}
@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+public record CreateMediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String contentType,
+        String name,
+        long length
+) {
+
+    public static CreateMediaUploadCommand with(
+            final String videoId,
+            final String mediaType,
+            final String contentType,
+            final String name,
+            final long length
+    ) {
+        return new CreateMediaUploadCommand(videoId, mediaType, contentType, name, length);
+    }
+}
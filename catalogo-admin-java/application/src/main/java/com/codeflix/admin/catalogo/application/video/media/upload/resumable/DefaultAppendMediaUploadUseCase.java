@@ -0,0 +1,43 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultAppendMediaUploadUseCase extends AppendMediaUploadUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultAppendMediaUploadUseCase(final MediaResourceGateway mediaResourceGateway) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final AppendMediaUploadCommand aCmd) {
+        final var anUpload = this.mediaResourceGateway.findUpload(VideoID.from(aCmd.videoId()), aCmd.uploadId())
+                .filter(it -> it.type().name().equalsIgnoreCase(aCmd.mediaType()))
+                .orElseThrow(() -> notFound(aCmd.uploadId()));
+
+        if (anUpload.offset() != aCmd.offset()) {
+            throw DomainException.with(new Error("Invalid offset %s for upload %s, committed offset is %s"
+                    .formatted(aCmd.offset(), anUpload.id(), anUpload.offset())));
+        }
+
+        if (aCmd.length() != null && aCmd.offset() + aCmd.length() > anUpload.length()) {
+            throw DomainException.with(new Error("Chunk of %s bytes at offset %s exceeds the declared length of upload %s, which is %s bytes"
+                    .formatted(aCmd.length(), aCmd.offset(), anUpload.id(), anUpload.length())));
+        }
+
+        // the gateway checks the offset again while it holds the upload, so concurrent chunks cannot both land
+
+        return MediaUploadOutput.from(this.mediaResourceGateway.appendUpload(anUpload, aCmd.content()));
+    }
+
+    private NotFoundException notFound(final String uploadId) {
+        return NotFoundException.with(new Error("Upload %s was not found".formatted(uploadId)));
+    }
+}
@@ -0,0 +1,54 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaCommand;
+import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.domain.video.VideoResource;
+
+import java.util.Objects;
+
+public class DefaultCompleteMediaUploadUseCase extends CompleteMediaUploadUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final UploadMediaUseCase uploadMediaUseCase;
+
+    public DefaultCompleteMediaUploadUseCase(
+            final MediaResourceGateway mediaResourceGateway,
+            final UploadMediaUseCase uploadMediaUseCase
+    ) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final MediaUploadCommand aCmd) {
+        final var anUpload = this.mediaResourceGateway.findUpload(VideoID.from(aCmd.videoId()), aCmd.uploadId())
+                .filter(it -> it.type().name().equalsIgnoreCase(aCmd.mediaType()))
+                .orElseThrow(() -> notFound(aCmd.uploadId()));
+
+        if (!anUpload.isComplete()) {
+            throw DomainException.with(new Error("Upload %s is incomplete, received %s of %s bytes"
+                    .formatted(anUpload.id(), anUpload.offset(), anUpload.length())));
+        }
+
+        final var aResource = this.mediaResourceGateway.completeUpload(anUpload);
+
+        final var output = this.uploadMediaUseCase.execute(UploadMediaCommand.with(
+                aCmd.videoId(),
+                VideoResource.with(anUpload.type(), aResource)
+        ));
+
+        this.mediaResourceGateway.discardUpload(anUpload);
+
+        return output;
+    }
+
+    private NotFoundException notFound(final String uploadId) {
+        return NotFoundException.with(new Error("Upload %s was not found".formatted(uploadId)));
+    }
+}
@@ -0,0 +1,53 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
+
+import java.util.Objects;
+
+public class DefaultCreateMediaUploadUseCase extends CreateMediaUploadUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+    private final VideoGateway videoGateway;
+
+    public DefaultCreateMediaUploadUseCase(
+            final MediaResourceGateway mediaResourceGateway,
+            final VideoGateway videoGateway
+    ) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final CreateMediaUploadCommand aCmd) {
+        final var id = VideoID.from(aCmd.videoId());
+        final var type = VideoMediaType.of(aCmd.mediaType())
+                .orElseThrow(() -> typeNotFound(aCmd.mediaType()));
+
+        if (aCmd.length() <= 0) {
+            throw DomainException.with(new Error("'length' should be greater than 0"));
+        }
+
+        if (aCmd.contentType() == null || aCmd.name() == null) {
+            throw DomainException.with(new Error("'content_type' and 'name' should not be null"));
+        }
+
+        this.videoGateway.findById(id)
+                .orElseThrow(() -> NotFoundException.with(Video.class, id));
+
+        final var anUpload = this.mediaResourceGateway
+                .createUpload(id, type, aCmd.contentType(), aCmd.name(), aCmd.length());
+
+        return MediaUploadOutput.from(anUpload);
+    }
+
+    private NotFoundException typeNotFound(final String type) {
+        return NotFoundException.with(new Error("Media type %s doesn't exists".formatted(type)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultGetMediaUploadUseCase extends GetMediaUploadUseCase {
+
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultGetMediaUploadUseCase(final MediaResourceGateway mediaResourceGateway) {
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final MediaUploadCommand aCmd) {
+        return this.mediaResourceGateway.findUpload(VideoID.from(aCmd.videoId()), aCmd.uploadId())
+                .filter(it -> it.type().name().equalsIgnoreCase(aCmd.mediaType()))
+                .map(MediaUploadOutput::from)
+                .orElseThrow(() -> notFound(aCmd.uploadId()));
+    }
+
+    private NotFoundException notFound(final String uploadId) {
+        return NotFoundException.with(new Error("Upload %s was not found".formatted(uploadId)));
+    }
+}
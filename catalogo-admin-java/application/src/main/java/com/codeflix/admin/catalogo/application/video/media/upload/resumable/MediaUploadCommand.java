@@ -0,0 +1,12 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+public record MediaUploadCommand(
+        String videoId,
+        String mediaType,
+        String uploadId
+) {
+
+    public static MediaUploadCommand with(final String videoId, final String mediaType, final String uploadId) {
+        return new MediaUploadCommand(videoId, mediaType, uploadId);
+    }
+}
@@ -0,0 +1,23 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+import com.codeflix.admin.catalogo.domain.video.MediaUpload;
+import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
+
+public record MediaUploadOutput(
+        String uploadId,
+        String videoId,
+        VideoMediaType mediaType,
+        long offset,
+        long length
+) {
+
+    public static MediaUploadOutput from(final MediaUpload upload) {
+        return new MediaUploadOutput(
+                upload.id(),
+                upload.videoId().getValue(),
+                upload.type(),
+                upload.offset(),
+                upload.length()
+        );
+    }
+}
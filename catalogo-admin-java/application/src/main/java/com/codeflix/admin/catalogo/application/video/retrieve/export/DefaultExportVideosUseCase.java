@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.application.video.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.video.retrieve.get.VideoOutput;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportVideosUseCase extends ExportVideosUseCase {
+
+    private final VideoGateway gateway;
+
+    public DefaultExportVideosUseCase(final VideoGateway gateway) {
+        this.gateway = Objects.requireNonNull(gateway);
+    }
+
+    @Override
+    public void execute(final Consumer<VideoOutput> consumer) {
+        this.gateway.streamAll(it -> consumer.accept(VideoOutput.from(it)));
+    }
+}
@@ -0,0 +1,9 @@
+package com.codeflix.admin.catalogo.application.video.retrieve.export;
+
+import com.codeflix.admin.catalogo.application.UnitUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.get.VideoOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportVideosUseCase extends UnitUseCase<Consumer<VideoOutput>> {
+}
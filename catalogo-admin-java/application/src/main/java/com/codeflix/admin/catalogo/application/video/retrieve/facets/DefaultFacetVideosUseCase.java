@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.application.video.retrieve.facets;
+
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+
+import java.util.Objects;
+
+public class DefaultFacetVideosUseCase extends FacetVideosUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultFacetVideosUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public VideoFacetsOutput execute(final VideoSearchQuery query) {
+        return VideoFacetsOutput.from(this.videoGateway.facets(query));
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.application.video.retrieve.facets;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+
+public abstract class FacetVideosUseCase
+        extends UseCase<VideoSearchQuery, VideoFacetsOutput> {
+}
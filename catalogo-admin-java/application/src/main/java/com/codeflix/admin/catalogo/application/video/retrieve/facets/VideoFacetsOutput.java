@@ -0,0 +1,30 @@
+package com.codeflix.admin.catalogo.application.video.retrieve.facets;
+
+import com.codeflix.admin.catalogo.domain.video.VideoFacets;
+
+import java.util.Map;
+
+public record VideoFacetsOutput(
+        long total,
+        Map<String, Long> categories,
+        Map<String, Long> genres,
+        Map<String, Long> castMembers,
+        Map<String, Long> ratings,
+        Map<String, Long> published,
+        Map<String, Long> videoStatus,
+        Map<String, Long> trailerStatus
+) {
+
+    public static VideoFacetsOutput from(final VideoFacets facets) {
+        return new VideoFacetsOutput(
+                facets.total(),
+                facets.categories(),
+                facets.genres(),
+                facets.castMembers(),
+                facets.ratings(),
+                facets.published(),
+                facets.videoStatus(),
+                facets.trailerStatus()
+        );
+    }
+}
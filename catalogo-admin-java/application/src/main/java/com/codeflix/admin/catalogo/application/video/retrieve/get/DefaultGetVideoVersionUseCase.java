@@ -0,0 +1,25 @@
+package com.codeflix.admin.catalogo.application.video.retrieve.get;
+
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+
+import java.util.Objects;
+
+public class DefaultGetVideoVersionUseCase extends GetVideoVersionUseCase {
+
+    private final VideoGateway videoGateway;
+
+    public DefaultGetVideoVersionUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public Long execute(final String in) {
+        final var videoId = VideoID.from(in);
+
+        return this.videoGateway.findVersion(videoId)
+                .orElseThrow(() -> NotFoundException.with(Video.class, videoId));
+    }
+}
@@ -0,0 +1,6 @@
+package com.codeflix.admin.catalogo.application.video.retrieve.get;
+
+import com.codeflix.admin.catalogo.application.UseCase;
+
+public abstract class GetVideoVersionUseCase extends UseCase<String, Long> {
+}
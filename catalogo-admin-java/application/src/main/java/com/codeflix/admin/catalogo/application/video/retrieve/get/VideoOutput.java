@@ -28,7 +28,8 @@ public record VideoOutput(
         ImageMedia thumbnail,
         ImageMedia thumbnailHalf,
         AudioVideoMedia video,
-        AudioVideoMedia trailer
+        AudioVideoMedia trailer,
+        Long version
 ) {
 
     public static VideoOutput from(final Video video) {
@@ -50,7 +51,8 @@ public record VideoOutput(
                 video.getThumbnail().orElse(null),
                 video.getThumbnailHalf().orElse(null),
                 video.getVideo().orElse(null),
-                video.getTrailer().orElse(null)
+                video.getTrailer().orElse(null),
+                video.getVersion()
         );
     }
 }
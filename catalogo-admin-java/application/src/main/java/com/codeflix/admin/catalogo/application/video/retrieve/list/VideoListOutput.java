@@ -2,25 +2,24 @@ package com.codeflix.admin.catalogo.application.video.retrieve.list;
 
 import com.codeflix.admin.catalogo.domain.video.Video;
 import com.codeflix.admin.catalogo.domain.video.VideoPreview;
+import com.codeflix.admin.catalogo.domain.video.VideoPreview.Reference;
 
 import java.time.Instant;
+import java.util.List;
 
 public record VideoListOutput(
         String id,
         String title,
         String description,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        List<Reference> categories,
+        List<Reference> genres,
+        List<Reference> castMembers
 ) {
 
     public static VideoListOutput from(final Video video) {
-        return new VideoListOutput(
-                video.getId().getValue(),
-                video.getTitle(),
-                video.getDescription(),
-                video.getCreatedAt(),
-                video.getUpdatedAt()
-        );
+        return from(new VideoPreview(video));
     }
 
     public static VideoListOutput from(final VideoPreview video) {
@@ -29,7 +28,10 @@ public record VideoListOutput(
                 video.title(),
                 video.description(),
                 video.createdAt(),
-                video.updatedAt()
+                video.updatedAt(),
+                video.categories(),
+                video.genres(),
+                video.castMembers()
         );
     }
 }
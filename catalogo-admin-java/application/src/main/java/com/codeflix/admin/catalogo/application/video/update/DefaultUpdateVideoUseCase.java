@@ -1,6 +1,7 @@
 package com.codeflix.admin.catalogo.application.video.update;
 
-import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.application.video.ConcurrentReferenceValidator;
+import com.codeflix.admin.catalogo.application.video.media.ConcurrentMediaStore;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
@@ -9,18 +10,15 @@ import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
 import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
-import com.codeflix.admin.catalogo.domain.validation.Error;
-import com.codeflix.admin.catalogo.domain.validation.ValidationHandler;
-import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
 import com.codeflix.admin.catalogo.domain.video.*;
 
 import java.time.Year;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Executor;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -32,19 +30,25 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final Executor referenceExecutor;
+    private final Executor mediaExecutor;
 
     public DefaultUpdateVideoUseCase(
             final VideoGateway videoGateway,
             final CategoryGateway categoryGateway,
             final CastMemberGateway castMemberGateway,
             final GenreGateway genreGateway,
-            final MediaResourceGateway mediaResourceGateway
+            final MediaResourceGateway mediaResourceGateway,
+            final Executor referenceExecutor,
+            final Executor mediaExecutor
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.referenceExecutor = Objects.requireNonNull(referenceExecutor);
+        this.mediaExecutor = Objects.requireNonNull(mediaExecutor);
     }
 
     @Override
@@ -58,11 +62,13 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
 
         final var video = this.videoGateway.findById(id)
                 .orElseThrow(notFoundException(id));
+        video.checkVersion(aCommand.version(), () -> this.videoGateway.findVersion(id));
 
-        final var notification = Notification.create();
-        notification.append(validateCategories(categories));
-        notification.append(validateGenres(genres));
-        notification.append(validateMembers(members));
+        final var notification = ConcurrentReferenceValidator.with(this.referenceExecutor)
+                .add("categories", categories, this.categoryGateway::existsByIds)
+                .add("genres", genres, this.genreGateway::existsByIds)
+                .add("cast members", members, this.castMemberGateway::existsByIds)
+                .validate();
 
         video.update(
                 aCommand.title(),
@@ -90,34 +96,17 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var id = video.getId();
 
         try {
-            final var videoMedia = aCommand.getVideo()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(id, VideoResource.with(VideoMediaType.VIDEO, it)))
-                    .orElse(null);
-
-            final var aTrailerMedia = aCommand.getTrailer()
-                    .map(it -> this.mediaResourceGateway.storeAudioVideo(id, VideoResource.with(VideoMediaType.TRAILER, it)))
-                    .orElse(null);
-
-            final var aBannerMedia = aCommand.getBanner()
-                    .map(it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(VideoMediaType.BANNER, it)))
-                    .orElse(null);
-
-            final var aThumbnailMedia = aCommand.getThumbnail()
-                    .map(it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(VideoMediaType.THUMBNAIL, it)))
-                    .orElse(null);
-
-            final var aThumbHalfMedia = aCommand.getThumbnailHalf()
-                    .map(it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(VideoMediaType.THUMBNAIL_HALF, it)))
-                    .orElse(null);
-
-            return this.videoGateway.update(
-                    video
-                            .updateVideoMedia(videoMedia)
-                            .updateTrailerMedia(aTrailerMedia)
-                            .updateBannerMedia(aBannerMedia)
-                            .updateThumbnailMedia(aThumbnailMedia)
-                            .updateThumbnailHalfMedia(aThumbHalfMedia)
-            );
+            final var withMedias = ConcurrentMediaStore.with(this.mediaExecutor)
+                    .add(aCommand.getVideo(), it -> this.mediaResourceGateway.storeAudioVideo(id, VideoResource.with(VideoMediaType.VIDEO, it)), Video::updateVideoMedia)
+                    .add(aCommand.getTrailer(), it -> this.mediaResourceGateway.storeAudioVideo(id, VideoResource.with(VideoMediaType.TRAILER, it)), Video::updateTrailerMedia)
+                    .add(aCommand.getBanner(), it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(VideoMediaType.BANNER, it)), Video::updateBannerMedia)
+                    .add(aCommand.getThumbnail(), it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(VideoMediaType.THUMBNAIL, it)), Video::updateThumbnailMedia)
+                    .add(aCommand.getThumbnailHalf(), it -> this.mediaResourceGateway.storeImage(id, VideoResource.with(VideoMediaType.THUMBNAIL_HALF, it)), Video::updateThumbnailHalfMedia)
+                    .storeAll(video);
+
+            return this.videoGateway.update(withMedias);
+        } catch (final StaleVersionException exception) {
+            throw exception;
         } catch (final Throwable throwable) {
             throw InternalErrorException.with(
                     "An error on create video was observed [videoId:%s]".formatted(id.getValue()),
@@ -130,44 +119,6 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         return () -> NotFoundException.with(Video.class, id);
     }
 
-    private ValidationHandler validateCategories(final Set<CategoryID> ids) {
-        return validateAggregate("categories", ids, categoryGateway::existsByIds);
-    }
-
-    private ValidationHandler validateGenres(final Set<GenreID> ids) {
-        return validateAggregate("genres", ids, genreGateway::existsByIds);
-    }
-
-    private ValidationHandler validateMembers(final Set<CastMemberID> ids) {
-        return validateAggregate("cast members", ids, castMemberGateway::existsByIds);
-    }
-
-    private <T extends Identifier> ValidationHandler validateAggregate(
-            final String aggregate,
-            final Set<T> ids,
-            final Function<Iterable<T>, List<T>> existsByIds
-    ) {
-        final var notification = Notification.create();
-        if (ids == null || ids.isEmpty()) {
-            return notification;
-        }
-
-        final var retrievedIds = existsByIds.apply(ids);
-
-        if (ids.size() != retrievedIds.size()) {
-            final var missingIds = new ArrayList<>(ids);
-            missingIds.removeAll(retrievedIds);
-
-            final var missingIdsMessage = missingIds.stream()
-                    .map(Identifier::getValue)
-                    .collect(Collectors.joining(", "));
-
-            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIdsMessage)));
-        }
-
-        return notification;
-    }
-
     private <T> Set<T> toIdentifier(final Set<String> ids, final Function<String, T> mapper) {
         return ids.stream()
                 .map(mapper)
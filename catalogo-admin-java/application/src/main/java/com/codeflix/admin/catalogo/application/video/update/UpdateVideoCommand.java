@@ -21,7 +21,8 @@ public record UpdateVideoCommand(
         Resource trailer,
         Resource banner,
         Resource thumbnail,
-        Resource thumbnailHalf
+        Resource thumbnailHalf,
+        Long version
 ) {
 
     public static UpdateVideoCommand with(
@@ -38,6 +39,36 @@ public record UpdateVideoCommand(
             final Set<String> members
     ) {
         return with(
+                id,
+                title,
+                description,
+                launchedAt,
+                duration,
+                opened,
+                published,
+                rating,
+                categories,
+                genres,
+                members,
+                null
+        );
+    }
+
+    public static UpdateVideoCommand with(
+            final String id,
+            final String title,
+            final String description,
+            final Integer launchedAt,
+            final Double duration,
+            final Boolean opened,
+            final Boolean published,
+            final String rating,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> members,
+            final Long version
+    ) {
+        return new UpdateVideoCommand(
                 id,
                 title,
                 description,
@@ -53,7 +84,8 @@ public record UpdateVideoCommand(
                 null,
                 null,
                 null,
-                null
+                null,
+                version
         );
     }
 
@@ -91,7 +123,8 @@ public record UpdateVideoCommand(
                 trailer,
                 banner,
                 thumbnail,
-                thumbnailHalf
+                thumbnailHalf,
+                null
         );
     }
 
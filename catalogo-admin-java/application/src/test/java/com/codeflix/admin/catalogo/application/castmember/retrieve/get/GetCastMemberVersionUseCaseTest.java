@@ -0,0 +1,61 @@
+package com.codeflix.admin.catalogo.application.castmember.retrieve.get;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.Fixture;
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+public class GetCastMemberVersionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCastMemberVersionUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCastMemberVersion_shouldReturnItWithoutLoadingTheCastMember() {
+        final var expectedVersion = 4L;
+        final var expectedId = CastMember.newMember(Fixture.name(), Fixture.CastMembers.type()).getId();
+
+        Mockito.when(castMemberGateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(expectedVersion));
+
+        final var actualVersion = useCase.execute(expectedId.getValue());
+
+        Assertions.assertEquals(expectedVersion, actualVersion);
+
+        Mockito.verify(castMemberGateway, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetCastMemberVersion_shouldReturnNotFound() {
+        final var expectedId = CastMemberID.from("123");
+        final var expectedErrorMessage = "CastMember with ID 123 was not found";
+
+        Mockito.when(castMemberGateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(expectedId.getValue())
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
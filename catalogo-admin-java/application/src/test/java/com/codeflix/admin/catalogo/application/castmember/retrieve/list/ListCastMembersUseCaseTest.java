@@ -4,6 +4,7 @@ import com.codeflix.admin.catalogo.application.UseCaseTest;
 import com.codeflix.admin.catalogo.domain.Fixture;
 import com.codeflix.admin.catalogo.domain.castmember.CastMember;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberPreview;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -49,7 +50,7 @@ public class ListCastMembersUseCaseTest extends UseCaseTest {
                 expectedPage,
                 expectedPerPage,
                 expectedTotal,
-                members
+                members.stream().map(CastMemberPreview::new).toList()
         );
 
         Mockito.when(castMemberGateway.findAll(Mockito.any()))
@@ -84,7 +85,7 @@ public class ListCastMembersUseCaseTest extends UseCaseTest {
                 expectedPage,
                 expectedPerPage,
                 expectedTotal,
-                members
+                members.stream().map(CastMemberPreview::new).toList()
         );
 
         Mockito.when(castMemberGateway.findAll(Mockito.any()))
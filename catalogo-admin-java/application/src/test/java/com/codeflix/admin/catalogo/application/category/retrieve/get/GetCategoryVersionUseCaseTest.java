@@ -0,0 +1,60 @@
+package com.codeflix.admin.catalogo.application.category.retrieve.get;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+public class GetCategoryVersionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetCategoryVersionUseCase useCase;
+
+    @Mock
+    private CategoryGateway gateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(gateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCategoryVersion_shouldReturnItWithoutLoadingTheCategory() {
+        final var expectedVersion = 4L;
+        final var expectedId = Category.newCategory("Filmes", "A categoria mais assistida", true).getId();
+
+        Mockito.when(gateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(expectedVersion));
+
+        final var actualVersion = useCase.execute(expectedId.getValue());
+
+        Assertions.assertEquals(expectedVersion, actualVersion);
+
+        Mockito.verify(gateway, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetCategoryVersion_shouldReturnNotFound() {
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was not found";
+
+        Mockito.when(gateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(expectedId.getValue())
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -3,6 +3,7 @@ package com.codeflix.admin.catalogo.application.category.retrieve.list;
 import com.codeflix.admin.catalogo.application.UseCaseTest;
 import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryPreview;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import org.junit.jupiter.api.Assertions;
@@ -40,7 +41,7 @@ public class ListCategoryUseCaseTest extends UseCaseTest {
 
         final var query = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories);
+        final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories.stream().map(CategoryPreview::new).toList());
 
         final var expectedItemsCount = 2;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
@@ -69,7 +70,7 @@ public class ListCategoryUseCaseTest extends UseCaseTest {
 
         final var query = new SearchQuery(expectedPage, expectedPerPage, expectedTerms, expectedSort, expectedDirection);
 
-        final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories);
+        final var expectedPagination = new Pagination<>(expectedPage, expectedPerPage, categories.size(), categories.stream().map(CategoryPreview::new).toList());
 
         final var expectedItemsCount = 0;
         final var expectedResult = expectedPagination.map(CategoryListOutput::from);
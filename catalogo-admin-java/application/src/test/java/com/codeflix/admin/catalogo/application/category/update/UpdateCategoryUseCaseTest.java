@@ -5,6 +5,7 @@ import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
 import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -214,4 +215,66 @@ public class UpdateCategoryUseCaseTest extends UseCaseTest {
 
         Mockito.verify(gateway, Mockito.times(0)).update(Mockito.any());
     }
+
+    @Test
+    public void givenCommandWithAnOutdatedVersion_whenCallsUpdateCategory_shouldReturnStaleVersionException() {
+        final var category = Category.newCategory("Film", null, true);
+        category.setVersion(3L);
+        final var expectedId = category.getId();
+        final var expectedErrorMessage = "Category with ID %s was changed by someone else".formatted(expectedId.getValue());
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 2L);
+
+        Mockito.when(gateway.findById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(Category.with(category)));
+        Mockito.when(gateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(3L));
+
+        final var actualException = Assertions.assertThrows(StaleVersionException.class, () -> useCase.execute(aCommand));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        Mockito.verify(gateway, Mockito.times(0)).update(Mockito.any());
+    }
+
+    @Test
+    public void givenAConcurrentUpdate_whenGatewayRejectsTheVersion_shouldReturnStaleVersionExceptionInsteadOfNotification() {
+        final var category = Category.newCategory("Film", null, true);
+        category.setVersion(3L);
+        final var expectedId = category.getId();
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 3L);
+
+        Mockito.when(gateway.findById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(Category.with(category)));
+        Mockito.when(gateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(3L));
+        Mockito.when(gateway.update(Mockito.any()))
+                .thenThrow(StaleVersionException.with(category));
+
+        Assertions.assertThrows(StaleVersionException.class, () -> useCase.execute(aCommand));
+
+        Mockito.verify(gateway, Mockito.times(1)).update(argThat(it -> Long.valueOf(3L).equals(it.getVersion())));
+    }
+
+    @Test
+    public void givenACachedCopyOlderThanTheStoredVersion_whenCallsUpdateCategoryWithTheStoredVersion_shouldUpdateAtThatVersion() {
+        final var category = Category.newCategory("Film", null, true);
+        category.setVersion(2L);
+        final var expectedId = category.getId();
+
+        final var aCommand = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 3L);
+
+        Mockito.when(gateway.findById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(Category.with(category)));
+        Mockito.when(gateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(3L));
+        Mockito.when(gateway.update(Mockito.any()))
+                .thenAnswer(returnsFirstArg());
+
+        final var actualOutput = useCase.execute(aCommand).get();
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.id());
+        Mockito.verify(gateway, Mockito.times(1)).update(argThat(it -> Long.valueOf(3L).equals(it.getVersion())));
+    }
 }
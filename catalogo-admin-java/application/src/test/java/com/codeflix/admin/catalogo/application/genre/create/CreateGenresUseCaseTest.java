@@ -0,0 +1,93 @@
+package com.codeflix.admin.catalogo.application.genre.create;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.AdditionalAnswers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Set;
+
+public class CreateGenresUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateGenresUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway, genreGateway);
+    }
+
+    @Test
+    public void givenAChunkOfCommands_whenCallsCreateGenres_shouldResolveCategoriesOnceAndReportEachLine() {
+        final var filmes = CategoryID.from("123");
+        final var series = CategoryID.from("456");
+        final var missing = CategoryID.from("789");
+
+        final var commands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of(filmes.getValue())),
+                CreateGenreCommand.with(" ", true, List.of()),
+                CreateGenreCommand.with("Drama", false, List.of(series.getValue(), missing.getValue())),
+                CreateGenreCommand.with("Terror", true, List.of(filmes.getValue(), series.getValue()))
+        );
+
+        Mockito.when(categoryGateway.existsByIds(Mockito.any()))
+                .thenReturn(List.of(filmes, series));
+
+        Mockito.when(genreGateway.createAll(Mockito.any()))
+                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var actualOutputs = useCase.execute(commands);
+
+        Assertions.assertEquals(4, actualOutputs.size());
+        Assertions.assertTrue(actualOutputs.get(0).isCreated());
+        Assertions.assertNotNull(actualOutputs.get(0).id());
+        Assertions.assertEquals("'name' should not be empty", actualOutputs.get(1).errors().get(0).message());
+        Assertions.assertEquals("Some categories could not be found: 789", actualOutputs.get(2).errors().get(0).message());
+        Assertions.assertTrue(actualOutputs.get(3).isCreated());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).existsByIds(Mockito.argThat(ids ->
+                ids instanceof Set<?> set && set.equals(Set.of(filmes, series, missing))
+        ));
+        Mockito.verify(genreGateway, Mockito.times(1)).createAll(Mockito.argThat(genres ->
+                genres.size() == 2
+                        && genres.get(0).getName().equals("Ação")
+                        && genres.get(1).getCategories().equals(List.of(filmes, series))
+        ));
+        Mockito.verify(genreGateway, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    public void givenAFailingInsert_whenCallsCreateGenres_shouldRejectEveryAcceptedLineOfTheChunk() {
+        final var expectedMessage = "Gateway error";
+
+        final var commands = List.of(
+                CreateGenreCommand.with("Ação", true, List.of()),
+                CreateGenreCommand.with(null, true, List.of()),
+                CreateGenreCommand.with("Drama", true, List.of())
+        );
+
+        Mockito.when(genreGateway.createAll(Mockito.any()))
+                .thenThrow(new IllegalStateException(expectedMessage));
+
+        final var actualOutputs = useCase.execute(commands);
+
+        Assertions.assertEquals(expectedMessage, actualOutputs.get(0).errors().get(0).message());
+        Assertions.assertEquals("'name' should not be null", actualOutputs.get(1).errors().get(0).message());
+        Assertions.assertEquals(expectedMessage, actualOutputs.get(2).errors().get(0).message());
+
+        Mockito.verify(categoryGateway, Mockito.never()).existsByIds(Mockito.any());
+    }
+}
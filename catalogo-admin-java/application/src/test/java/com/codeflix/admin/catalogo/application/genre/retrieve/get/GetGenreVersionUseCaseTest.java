@@ -0,0 +1,60 @@
+package com.codeflix.admin.catalogo.application.genre.retrieve.get;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+public class GetGenreVersionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetGenreVersionUseCase useCase;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(genreGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetGenreVersion_shouldReturnItWithoutLoadingTheGenre() {
+        final var expectedVersion = 4L;
+        final var expectedId = Genre.newGenre("Ação", true).getId();
+
+        Mockito.when(genreGateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(expectedVersion));
+
+        final var actualVersion = useCase.execute(expectedId.getValue());
+
+        Assertions.assertEquals(expectedVersion, actualVersion);
+
+        Mockito.verify(genreGateway, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetGenreVersion_shouldReturnNotFound() {
+        final var expectedId = GenreID.from("123");
+        final var expectedErrorMessage = "Genre with ID 123 was not found";
+
+        Mockito.when(genreGateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(expectedId.getValue())
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
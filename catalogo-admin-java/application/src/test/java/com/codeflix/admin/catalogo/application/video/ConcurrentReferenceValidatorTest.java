@@ -0,0 +1,159 @@
+package com.codeflix.admin.catalogo.application.video;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.InternalErrorException;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public class ConcurrentReferenceValidatorTest extends UseCaseTest {
+
+    private static final int POOL_SIZE = 3;
+
+    private ExecutorService executor;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of();
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newFixedThreadPool(POOL_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void givenHundredsOfReferences_whenCallsValidate_shouldLookThemUpConcurrently() {
+        final var categories = ids(20, CategoryID::unique);
+        final var genres = ids(10, GenreID::unique);
+        final var members = ids(300, CastMemberID::unique);
+
+        final var started = new CountDownLatch(3);
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+
+        final var actualNotification = ConcurrentReferenceValidator.with(this.executor)
+                .add("categories", categories, slow(started, inFlight, maxInFlight))
+                .add("genres", genres, slow(started, inFlight, maxInFlight))
+                .add("cast members", members, slow(started, inFlight, maxInFlight))
+                .validate();
+
+        Assertions.assertFalse(actualNotification.hasError());
+        Assertions.assertEquals(3, maxInFlight.get());
+        Assertions.assertEquals(0, inFlight.get());
+    }
+
+    @Test
+    public void givenMissingReferences_whenCallsValidate_shouldReportThemInOrder() {
+        final var expectedCategory = CategoryID.unique();
+        final var expectedMember = CastMemberID.unique();
+
+        final var actualNotification = ConcurrentReferenceValidator.with(this.executor)
+                .add("categories", Set.of(expectedCategory), it -> List.of())
+                .add("genres", Set.of(GenreID.unique()), ConcurrentReferenceValidatorTest::all)
+                .add("cast members", Set.of(expectedMember), it -> List.of())
+                .validate();
+
+        Assertions.assertEquals(2, actualNotification.getErrors().size());
+        Assertions.assertEquals(
+                "Some categories could not be found: %s".formatted(expectedCategory.getValue()),
+                actualNotification.getErrors().get(0).message()
+        );
+        Assertions.assertEquals(
+                "Some cast members could not be found: %s".formatted(expectedMember.getValue()),
+                actualNotification.getErrors().get(1).message()
+        );
+    }
+
+    @Test
+    public void givenEmptyReferences_whenCallsValidate_shouldNotLookThemUp() {
+        final var lookups = new AtomicInteger();
+
+        final var actualNotification = ConcurrentReferenceValidator.with(this.executor)
+                .add("categories", Set.<CategoryID>of(), counting(lookups))
+                .add("genres", null, counting(lookups))
+                .validate();
+
+        Assertions.assertFalse(actualNotification.hasError());
+        Assertions.assertEquals(0, lookups.get());
+    }
+
+    @Test
+    public void givenAFailingLookup_whenCallsValidate_shouldRethrowIt() {
+        final var expectedException = InternalErrorException.with("Gateway error", new RuntimeException());
+
+        final var actualException = Assertions.assertThrows(InternalErrorException.class, () ->
+                ConcurrentReferenceValidator.with(this.executor)
+                        .add("categories", Set.of(CategoryID.unique()), ConcurrentReferenceValidatorTest::all)
+                        .add("genres", Set.of(GenreID.unique()), it -> {
+                            throw expectedException;
+                        })
+                        .validate()
+        );
+
+        Assertions.assertSame(expectedException, actualException);
+    }
+
+    private static <T extends Identifier> Set<T> ids(final int count, final Supplier<T> unique) {
+        final var ids = new HashSet<T>(count);
+        for (int i = 0; i < count; i++) {
+            ids.add(unique.get());
+        }
+        return ids;
+    }
+
+    private static <T extends Identifier> List<T> all(final Iterable<T> ids) {
+        final var all = new ArrayList<T>();
+        ids.forEach(all::add);
+        return all;
+    }
+
+    private static <T extends Identifier> Function<Iterable<T>, List<T>> slow(
+            final CountDownLatch started,
+            final AtomicInteger inFlight,
+            final AtomicInteger maxInFlight
+    ) {
+        return ids -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                // every lookup waits for the others, so a sequential validation never gets past the first one
+                Assertions.assertTrue(started.await(10, TimeUnit.SECONDS), "lookups did not run concurrently");
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return all(ids);
+        };
+    }
+
+    private static <T extends Identifier> Function<Iterable<T>, List<T>> counting(final AtomicInteger lookups) {
+        return ids -> {
+            lookups.incrementAndGet();
+            return all(ids);
+        };
+    }
+}
@@ -12,9 +12,9 @@ import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.video.*;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
@@ -26,7 +26,6 @@ import java.util.Set;
 
 public class CreateVideoUseCastTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateVideoUseCase useCase;
 
     @Mock
@@ -49,6 +48,12 @@ public class CreateVideoUseCastTest extends UseCaseTest {
         return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
     }
 
+    @BeforeEach
+    void setUp() {
+        // stores run on the calling thread, the concurrency itself is covered by ConcurrentMediaStoreTest
+        this.useCase = new DefaultCreateVideoUseCase(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway, Runnable::run, Runnable::run);
+    }
+
     @Test
     public void givenAValidCommand_whenCallsCreateVideo_shouldReturnVideoId() {
         final var expectedTitle = Fixture.title();
@@ -955,6 +960,70 @@ public class CreateVideoUseCastTest extends UseCaseTest {
         Mockito.verify(mediaResourceGateway).clearResources(Mockito.any());
     }
 
+    @Test
+    public void givenAValidCommand_whenAMediaStoreFails_shouldCallClearResourcesOnce() {
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+
+        final var expectedTitle = Fixture.title();
+        final var expectedDescription = Fixture.Videos.description();
+        final var expectedLaunchYear = Year.of(Fixture.year());
+        final var expectedDuration = Fixture.duration();
+        final var expectedOpened = Fixture.bool();
+        final var expectedPublished = Fixture.bool();
+        final var expectedRating = Fixture.Videos.rating();
+        final var expectedCategories = Set.of(Fixture.Categories.aulas().getId());
+        final var expectedGenres = Set.of(Fixture.Genres.tech().getId());
+        final var expectedMembers = Set.of(
+                Fixture.CastMembers.lucas().getId(),
+                Fixture.CastMembers.geo().getId()
+        );
+        final Resource expectedVideo = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final Resource expectedTrailer = Fixture.Videos.resource(VideoMediaType.TRAILER);
+        final Resource expectedBanner = Fixture.Videos.resource(VideoMediaType.BANNER);
+        final Resource expectedThumb = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final Resource expectedThumbHalf = Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF);
+
+        final var command = CreateVideoCommand.with(
+                expectedTitle,
+                expectedDescription,
+                expectedLaunchYear.getValue(),
+                expectedDuration,
+                expectedOpened,
+                expectedPublished,
+                expectedRating.getName(),
+                asString(expectedCategories),
+                asString(expectedGenres),
+                asString(expectedMembers),
+                expectedVideo,
+                expectedTrailer,
+                expectedBanner,
+                expectedThumb,
+                expectedThumbHalf
+        );
+
+        Mockito.when(categoryGateway.existsByIds(Mockito.any()))
+                .thenReturn(new ArrayList<>(expectedCategories));
+
+        Mockito.when(castMemberGateway.existsByIds(Mockito.any()))
+                .thenReturn(new ArrayList<>(expectedMembers));
+
+        Mockito.when(genreGateway.existsByIds(Mockito.any()))
+                .thenReturn(new ArrayList<>(expectedGenres));
+
+        Mockito.when(mediaResourceGateway.storeImage(Mockito.any(), Mockito.any()))
+                .thenThrow(new RuntimeException("Storage unavailable"));
+
+        final var actualResult = Assertions.assertThrows(InternalErrorException.class, () -> {
+            useCase.execute(command);
+        });
+
+        Assertions.assertNotNull(actualResult);
+        Assertions.assertTrue(actualResult.getMessage().startsWith(expectedErrorMessage));
+
+        Mockito.verify(mediaResourceGateway, Mockito.times(1)).clearResources(Mockito.any());
+        Mockito.verify(videoGateway, Mockito.never()).create(Mockito.any());
+    }
+
     private void mockImageMedia() {
         Mockito.when(mediaResourceGateway.storeImage(Mockito.any(), Mockito.any())).thenAnswer(t -> {
             final var videoResource = t.getArgument(1, VideoResource.class);
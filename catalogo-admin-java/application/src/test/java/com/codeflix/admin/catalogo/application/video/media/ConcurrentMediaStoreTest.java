@@ -0,0 +1,157 @@
+package com.codeflix.admin.catalogo.application.video.media;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.Fixture;
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.ImageMedia;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+public class ConcurrentMediaStoreTest extends UseCaseTest {
+
+    private static final int POOL_SIZE = 5;
+
+    private ExecutorService executor;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of();
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.executor = Executors.newFixedThreadPool(POOL_SIZE);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.executor.shutdownNow();
+    }
+
+    @Test
+    public void givenFiveSlowStores_whenCallsStoreAll_shouldStoreThemConcurrently() {
+        final var video = Fixture.video();
+        final var expectedVideo = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailer = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+        final var expectedBanner = Fixture.Videos.image(VideoMediaType.BANNER);
+        final var expectedThumb = Fixture.Videos.image(VideoMediaType.THUMBNAIL);
+        final var expectedThumbHalf = Fixture.Videos.image(VideoMediaType.THUMBNAIL_HALF);
+
+        final var started = new CountDownLatch(5);
+        final var inFlight = new AtomicInteger();
+        final var maxInFlight = new AtomicInteger();
+
+        final var actualVideo = ConcurrentMediaStore.with(this.executor)
+                .add(resourceOf(VideoMediaType.VIDEO), slow(expectedVideo, started, inFlight, maxInFlight), Video::updateVideoMedia)
+                .add(resourceOf(VideoMediaType.TRAILER), slow(expectedTrailer, started, inFlight, maxInFlight), Video::updateTrailerMedia)
+                .add(resourceOf(VideoMediaType.BANNER), slow(expectedBanner, started, inFlight, maxInFlight), Video::updateBannerMedia)
+                .add(resourceOf(VideoMediaType.THUMBNAIL), slow(expectedThumb, started, inFlight, maxInFlight), Video::updateThumbnailMedia)
+                .add(resourceOf(VideoMediaType.THUMBNAIL_HALF), slow(expectedThumbHalf, started, inFlight, maxInFlight), Video::updateThumbnailHalfMedia)
+                .storeAll(video);
+
+        Assertions.assertEquals(5, maxInFlight.get());
+        Assertions.assertEquals(0, inFlight.get());
+        Assertions.assertEquals(expectedVideo, actualVideo.getVideo().get());
+        Assertions.assertEquals(expectedTrailer, actualVideo.getTrailer().get());
+        Assertions.assertEquals(expectedBanner, actualVideo.getBanner().get());
+        Assertions.assertEquals(expectedThumb, actualVideo.getThumbnail().get());
+        Assertions.assertEquals(expectedThumbHalf, actualVideo.getThumbnailHalf().get());
+    }
+
+    @Test
+    public void givenAnEmptyResource_whenCallsStoreAll_shouldApplyNullMedia() {
+        final var video = Fixture.video()
+                .updateBannerMedia(Fixture.Videos.image(VideoMediaType.BANNER));
+
+        final var storeCalls = new AtomicInteger();
+
+        final var actualVideo = ConcurrentMediaStore.with(this.executor)
+                .add(Optional.<Resource>empty(), it -> storeCalls.incrementAndGet(), (Video v, Integer ignored) -> v.updateBannerMedia(null))
+                .storeAll(video);
+
+        Assertions.assertEquals(0, storeCalls.get());
+        Assertions.assertTrue(actualVideo.getBanner().isEmpty());
+    }
+
+    @Test
+    public void givenAFailingStore_whenCallsStoreAll_shouldCancelRunningStoresBeforeRethrowing() {
+        final var expectedErrorMessage = "Storage unavailable";
+
+        final var video = Fixture.video();
+        final var running = new CountDownLatch(1);
+        final var finished = new AtomicInteger();
+
+        final Function<Resource, AudioVideoMedia> blocking = it -> {
+            running.countDown();
+            try {
+                Thread.sleep(TimeUnit.SECONDS.toMillis(30));
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            finished.incrementAndGet();
+            return null;
+        };
+
+        final Function<Resource, ImageMedia> failing = it -> {
+            try {
+                running.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException(expectedErrorMessage);
+        };
+
+        final var startedAt = System.nanoTime();
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class, () -> ConcurrentMediaStore.with(this.executor)
+                .add(resourceOf(VideoMediaType.VIDEO), blocking, Video::updateVideoMedia)
+                .add(resourceOf(VideoMediaType.BANNER), failing, Video::updateBannerMedia)
+                .storeAll(video));
+
+        final var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+        Assertions.assertEquals(1, finished.get());
+        Assertions.assertTrue(elapsed.toSeconds() < 10, "took " + elapsed);
+    }
+
+    private static Optional<Resource> resourceOf(final VideoMediaType type) {
+        return Optional.of(Fixture.Videos.resource(type));
+    }
+
+    private static <T> Function<Resource, T> slow(
+            final T media,
+            final CountDownLatch started,
+            final AtomicInteger inFlight,
+            final AtomicInteger maxInFlight
+    ) {
+        return it -> {
+            maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            started.countDown();
+            try {
+                // every store waits for the others, so a sequential store never gets past the first one
+                Assertions.assertTrue(started.await(10, TimeUnit.SECONDS), "stores did not run concurrently");
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                inFlight.decrementAndGet();
+            }
+            return media;
+        };
+    }
+}
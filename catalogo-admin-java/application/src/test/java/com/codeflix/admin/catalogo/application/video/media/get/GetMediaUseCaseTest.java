@@ -4,7 +4,10 @@ import com.codeflix.admin.catalogo.application.UseCaseTest;
 import com.codeflix.admin.catalogo.domain.Fixture;
 import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
 import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
 import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -22,17 +25,25 @@ public class GetMediaUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway mediaResourceGateway;
 
+    @Mock
+    private VideoGateway videoGateway;
+
     @Override
     protected List<Object> getMocks() {
-        return List.of(mediaResourceGateway);
+        return List.of(mediaResourceGateway, videoGateway);
     }
 
     @Test
     public void givenVideoIdAndType_whenIsValidCmd_shouldReturnResource() {
-        final var expectedId = VideoID.unique();
-        final var expectedType = Fixture.Videos.mediaType();
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        aVideo.updateVideoMedia(expectedMedia);
 
+        Mockito.when(videoGateway.findById(expectedId))
+                .thenReturn(Optional.of(aVideo));
         Mockito.when(mediaResourceGateway.getResource(expectedId, expectedType))
                 .thenReturn(Optional.of(expectedResource));
 
@@ -43,13 +54,60 @@ public class GetMediaUseCaseTest extends UseCaseTest {
         Assertions.assertEquals(expectedResource.name(), actualResult.name());
         Assertions.assertEquals(expectedResource.content(), actualResult.content());
         Assertions.assertEquals(expectedResource.contentType(), actualResult.contentType());
+        Assertions.assertEquals(expectedMedia.checksum(), actualResult.checksum());
+    }
+
+    @Test
+    public void givenAResourceWithoutAStoredChecksum_whenCallsGetMedia_shouldTakeTheRecordedOneWithoutReadingIt() {
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.BANNER;
+        final var expectedMedia = Fixture.Videos.image(expectedType);
+        aVideo.updateBannerMedia(expectedMedia);
+
+        final var aResource = Mockito.mock(Resource.class);
+        Mockito.when(aResource.contentType()).thenReturn("image/jpg");
+        Mockito.when(aResource.name()).thenReturn("banner");
+        Mockito.when(aResource.length()).thenReturn(8L);
+
+        Mockito.when(videoGateway.findById(expectedId))
+                .thenReturn(Optional.of(aVideo));
+        Mockito.when(mediaResourceGateway.getResource(expectedId, expectedType))
+                .thenReturn(Optional.of(aResource));
+
+        final var actualResult = this.useCase.execute(GetMediaCommand.with(expectedId.getValue(), expectedType.name()));
+
+        Assertions.assertEquals(expectedMedia.checksum(), actualResult.checksum());
+        Mockito.verify(aResource, Mockito.never()).checksum();
+        Mockito.verify(aResource, Mockito.never()).openStream();
+        Mockito.verify(aResource, Mockito.never()).content();
+    }
+
+    @Test
+    public void givenAVideoWithoutTheMedia_whenCallsGetMedia_shouldReturnNotFoundException() {
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.TRAILER;
+
+        Mockito.when(videoGateway.findById(expectedId))
+                .thenReturn(Optional.of(aVideo));
+
+        final var command = GetMediaCommand.with(expectedId.getValue(), expectedType.name());
+
+        Assertions.assertThrows(NotFoundException.class, () -> this.useCase.execute(command));
+
+        Mockito.verify(mediaResourceGateway, Mockito.never()).getResource(Mockito.any(), Mockito.any());
     }
 
     @Test
     public void givenVideoIdAndType_whenIsNotFound_shouldReturnNotFoundException() {
-        final var expectedId = VideoID.unique();
-        final var expectedType = Fixture.Videos.mediaType();
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        aVideo.updateVideoMedia(Fixture.Videos.audioVideo(expectedType));
 
+        Mockito.when(videoGateway.findById(expectedId))
+                .thenReturn(Optional.of(aVideo));
         Mockito.when(mediaResourceGateway.getResource(expectedId, expectedType))
                 .thenReturn(Optional.empty());
 
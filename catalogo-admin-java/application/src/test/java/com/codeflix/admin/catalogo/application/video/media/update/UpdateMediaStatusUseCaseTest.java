@@ -3,15 +3,15 @@ package com.codeflix.admin.catalogo.application.video.media.update;
 import com.codeflix.admin.catalogo.application.UseCaseTest;
 import com.codeflix.admin.catalogo.domain.Fixture;
 import com.codeflix.admin.catalogo.domain.video.MediaStatus;
-import com.codeflix.admin.catalogo.domain.video.Video;
 import com.codeflix.admin.catalogo.domain.video.VideoGateway;
 import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.mockito.*;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
 
 import java.util.List;
-import java.util.Optional;
 
 public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
@@ -31,19 +31,15 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedFolder = "encoded_media";
         final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
 
         final var aVideo = Fixture.Videos.systemDesign()
                 .updateVideoMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        Mockito.when(videoGateway.findById(Mockito.any()))
-                .thenReturn(Optional.of(aVideo));
-
-        Mockito.when(videoGateway.update(Mockito.any()))
-                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(videoGateway.updateMediaStatus(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -55,71 +51,46 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCmd);
 
-        Mockito.verify(videoGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        Mockito.verify(videoGateway, Mockito.times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+        Mockito.verify(videoGateway, Mockito.times(1)).updateMediaStatus(
+                Mockito.eq(expectedId),
+                Mockito.eq(expectedMedia.id()),
+                Mockito.eq(expectedStatus),
+                Mockito.eq(expectedFolder.concat("/").concat(expectedFilename))
+        );
+        Mockito.verify(videoGateway, Mockito.never()).findById(Mockito.any());
+        Mockito.verify(videoGateway, Mockito.never()).update(Mockito.any());
     }
 
     @Test
-    public void givenCommandForVideo_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
+    public void givenCommandForVideo_whenIsValidForProcessing_shouldUpdateStatusAndKeepEncodedLocation() {
         final var expectedStatus = MediaStatus.PROCESSING;
-        final String expectedFolder = null;
-        final String expectedFilename = null;
-        final var expectedType = VideoMediaType.VIDEO;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
 
         final var aVideo = Fixture.Videos.systemDesign()
                 .updateVideoMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        Mockito.when(videoGateway.findById(Mockito.any()))
-                .thenReturn(Optional.of(aVideo));
-
-        Mockito.when(videoGateway.update(Mockito.any()))
-                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(videoGateway.updateMediaStatus(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
                 expectedId.getValue(),
                 expectedMedia.id(),
-                expectedFolder,
-                expectedFilename
+                null,
+                null
         );
 
         this.useCase.execute(aCmd);
 
-        Mockito.verify(videoGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        Mockito.verify(videoGateway, Mockito.times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getTrailer().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getVideo().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        Mockito.verify(videoGateway, Mockito.times(1)).updateMediaStatus(
+                Mockito.eq(expectedId),
+                Mockito.eq(expectedMedia.id()),
+                Mockito.eq(expectedStatus),
+                Mockito.isNull()
+        );
+        Mockito.verify(videoGateway, Mockito.never()).update(Mockito.any());
     }
 
     @Test
@@ -127,19 +98,15 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
         final var expectedStatus = MediaStatus.COMPLETED;
         final var expectedFolder = "encoded_media";
         final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
 
         final var aVideo = Fixture.Videos.systemDesign()
                 .updateTrailerMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        Mockito.when(videoGateway.findById(Mockito.any()))
-                .thenReturn(Optional.of(aVideo));
-
-        Mockito.when(videoGateway.update(Mockito.any()))
-                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(videoGateway.updateMediaStatus(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(true);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
@@ -151,99 +118,55 @@ public class UpdateMediaStatusUseCaseTest extends UseCaseTest {
 
         this.useCase.execute(aCmd);
 
-        Mockito.verify(videoGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        Mockito.verify(videoGateway, Mockito.times(1)).update(captor.capture());
-
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertEquals(expectedFolder.concat("/").concat(expectedFilename), actualVideoMedia.encodedLocation());
+        Mockito.verify(videoGateway, Mockito.times(1)).updateMediaStatus(
+                Mockito.eq(expectedId),
+                Mockito.eq(expectedMedia.id()),
+                Mockito.eq(expectedStatus),
+                Mockito.eq(expectedFolder.concat("/").concat(expectedFilename))
+        );
+        Mockito.verify(videoGateway, Mockito.never()).update(Mockito.any());
     }
 
     @Test
-    public void givenCommandForTrailer_whenIsValidForProcessing_shouldUpdateStatusAndEncodedLocation() {
-        final var expectedStatus = MediaStatus.PROCESSING;
-        final String expectedFolder = null;
-        final String expectedFilename = null;
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
+    public void givenCommandForTrailer_whenIsInvalid_shouldDoNothing() {
+        final var expectedStatus = MediaStatus.COMPLETED;
+        final var expectedFolder = "encoded_media";
+        final var expectedFilename = "filename.mp4";
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
 
         final var aVideo = Fixture.Videos.systemDesign()
                 .updateTrailerMedia(expectedMedia);
 
         final var expectedId = aVideo.getId();
 
-        Mockito.when(videoGateway.findById(Mockito.any()))
-                .thenReturn(Optional.of(aVideo));
-
-        Mockito.when(videoGateway.update(Mockito.any()))
-                .thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(videoGateway.updateMediaStatus(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(false);
 
         final var aCmd = UpdateMediaStatusCommand.with(
                 expectedStatus,
                 expectedId.getValue(),
-                expectedMedia.id(),
+                "randomId",
                 expectedFolder,
                 expectedFilename
         );
 
-        this.useCase.execute(aCmd);
-
-        Mockito.verify(videoGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
-
-        final var captor = ArgumentCaptor.forClass(Video.class);
-
-        Mockito.verify(videoGateway, Mockito.times(1)).update(captor.capture());
+        Assertions.assertDoesNotThrow(() -> this.useCase.execute(aCmd));
 
-        final var actualVideo = captor.getValue();
-
-        Assertions.assertTrue(actualVideo.getVideo().isEmpty());
-
-        final var actualVideoMedia = actualVideo.getTrailer().get();
-
-        Assertions.assertEquals(expectedMedia.id(), actualVideoMedia.id());
-        Assertions.assertEquals(expectedMedia.rawLocation(), actualVideoMedia.rawLocation());
-        Assertions.assertEquals(expectedMedia.checksum(), actualVideoMedia.checksum());
-        Assertions.assertEquals(expectedStatus, actualVideoMedia.status());
-        Assertions.assertTrue(actualVideoMedia.encodedLocation().isBlank());
+        Mockito.verify(videoGateway, Mockito.times(0)).update(Mockito.any());
     }
 
     @Test
-    public void givenCommandForTrailer_whenIsInvalid_shouldDoNothing() {
-        final var expectedStatus = MediaStatus.COMPLETED;
-        final var expectedFolder = "encoded_media";
-        final var expectedFilename = "filename.mp4";
-        final var expectedType = VideoMediaType.TRAILER;
-        final var expectedMedia = Fixture.Videos.audioVideo(expectedType);
-
-        final var aVideo = Fixture.Videos.systemDesign()
-                .updateTrailerMedia(expectedMedia);
-
-        final var expectedId = aVideo.getId();
-
-        Mockito.when(videoGateway.findById(Mockito.any()))
-                .thenReturn(Optional.of(aVideo));
-
+    public void givenCommandForPendingStatus_whenCallsExecute_shouldNotTouchTheGateway() {
         final var aCmd = UpdateMediaStatusCommand.with(
-                expectedStatus,
-                expectedId.getValue(),
-                "randomId",
-                expectedFolder,
-                expectedFilename
+                MediaStatus.PENDING,
+                Fixture.Videos.systemDesign().getId().getValue(),
+                "resourceId",
+                null,
+                null
         );
 
         this.useCase.execute(aCmd);
 
-        Mockito.verify(videoGateway, Mockito.times(0)).update(Mockito.any());
+        Mockito.verifyNoInteractions(videoGateway);
     }
 }
@@ -0,0 +1,105 @@
+package com.codeflix.admin.catalogo.application.video.media.upload.resumable;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.codeflix.admin.catalogo.domain.Fixture;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
+import com.codeflix.admin.catalogo.domain.video.MediaUpload;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+public class CompleteMediaUploadUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultCompleteMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaResourceGateway, uploadMediaUseCase);
+    }
+
+    @Test
+    public void givenFinishedUpload_whenCallsComplete_shouldUploadMediaAndDiscardSession() {
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+        final var expectedUpload =
+                MediaUpload.with("123", expectedId, expectedType, "video/mp4", "video.mp4", 8, 8);
+
+        Mockito.when(mediaResourceGateway.findUpload(Mockito.any(), Mockito.any()))
+                .thenReturn(Optional.of(expectedUpload));
+
+        Mockito.when(mediaResourceGateway.completeUpload(Mockito.any()))
+                .thenReturn(expectedResource);
+
+        Mockito.when(uploadMediaUseCase.execute(Mockito.any()))
+                .thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        final var aCmd = MediaUploadCommand.with(expectedId.getValue(), expectedType.name(), expectedUpload.id());
+
+        final var actualOutput = useCase.execute(aCmd);
+
+        Assertions.assertEquals(expectedId.getValue(), actualOutput.videoId());
+        Assertions.assertEquals(expectedType, actualOutput.mediaType());
+
+        Mockito.verify(uploadMediaUseCase, Mockito.times(1)).execute(Mockito.argThat(cmd ->
+                expectedId.getValue().equals(cmd.videoId())
+                        && expectedType == cmd.videoResource().type()
+                        && expectedResource == cmd.videoResource().resource()
+        ));
+        Mockito.verify(mediaResourceGateway, Mockito.times(1)).discardUpload(Mockito.eq(expectedUpload));
+    }
+
+    @Test
+    public void givenUnfinishedUpload_whenCallsComplete_shouldReturnError() {
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUpload =
+                MediaUpload.with("123", expectedId, expectedType, "video/mp4", "video.mp4", 8, 4);
+        final var expectedErrorMessage = "Upload 123 is incomplete, received 4 of 8 bytes";
+
+        Mockito.when(mediaResourceGateway.findUpload(Mockito.any(), Mockito.any()))
+                .thenReturn(Optional.of(expectedUpload));
+
+        final var aCmd = MediaUploadCommand.with(expectedId.getValue(), expectedType.name(), expectedUpload.id());
+
+        final var actualException = Assertions.assertThrows(DomainException.class, () -> useCase.execute(aCmd));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        Mockito.verify(mediaResourceGateway, Mockito.never()).completeUpload(Mockito.any());
+        Mockito.verify(uploadMediaUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenUnknownUpload_whenCallsComplete_shouldReturnNotFound() {
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Upload 123 was not found";
+
+        Mockito.when(mediaResourceGateway.findUpload(Mockito.any(), Mockito.any()))
+                .thenReturn(Optional.empty());
+
+        final var aCmd = MediaUploadCommand.with(expectedId.getValue(), VideoMediaType.VIDEO.name(), "123");
+
+        final var actualException = Assertions.assertThrows(NotFoundException.class, () -> useCase.execute(aCmd));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -0,0 +1,69 @@
+package com.codeflix.admin.catalogo.application.video.retrieve.facets;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.Fixture;
+import com.codeflix.admin.catalogo.domain.video.VideoFacets;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class FacetVideosUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultFacetVideosUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsFacetVideos_shouldReturnCountsPerValue() {
+        final var aulas = Fixture.Categories.aulas();
+        final var tech = Fixture.Genres.tech();
+
+        final var expectedFacets = new VideoFacets(
+                3,
+                Map.of(aulas.getId().getValue(), 3L),
+                Map.of(tech.getId().getValue(), 2L),
+                Map.of(),
+                Map.of("L", 1L, "18", 2L),
+                Map.of("true", 3L),
+                Map.of("COMPLETED", 1L),
+                Map.of()
+        );
+
+        Mockito.when(videoGateway.facets(Mockito.any()))
+                .thenReturn(expectedFacets);
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                0,
+                "",
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(aulas.getId()),
+                Set.of()
+        );
+
+        final var actualOutput = useCase.execute(aQuery);
+
+        Assertions.assertEquals(VideoFacetsOutput.from(expectedFacets), actualOutput);
+        Assertions.assertEquals(3, actualOutput.total());
+        Assertions.assertEquals(expectedFacets.ratings(), actualOutput.ratings());
+
+        Mockito.verify(videoGateway, Mockito.times(1)).facets(Mockito.eq(aQuery));
+    }
+}
@@ -0,0 +1,59 @@
+package com.codeflix.admin.catalogo.application.video.retrieve.get;
+
+import com.codeflix.admin.catalogo.application.UseCaseTest;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+public class GetVideoVersionUseCaseTest extends UseCaseTest {
+
+    @InjectMocks
+    private DefaultGetVideoVersionUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway);
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetVideoVersion_shouldReturnItWithoutLoadingTheVideo() {
+        final var expectedVersion = 7L;
+        final var expectedId = VideoID.unique();
+
+        Mockito.when(videoGateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(expectedVersion));
+
+        final var actualVersion = useCase.execute(expectedId.getValue());
+
+        Assertions.assertEquals(expectedVersion, actualVersion);
+
+        Mockito.verify(videoGateway, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetVideoVersion_shouldReturnNotFound() {
+        final var expectedId = VideoID.from("123");
+        final var expectedErrorMessage = "Video with ID 123 was not found";
+
+        Mockito.when(videoGateway.findVersion(Mockito.eq(expectedId)))
+                .thenReturn(Optional.empty());
+
+        final var actualException = Assertions.assertThrows(
+                NotFoundException.class,
+                () -> useCase.execute(expectedId.getValue())
+        );
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -13,9 +13,9 @@ import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.video.*;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.AdditionalAnswers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 
@@ -24,7 +24,6 @@ import java.util.*;
 
 public class UpdateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultUpdateVideoUseCase useCase;
 
     @Mock
@@ -47,6 +46,12 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         return List.of(videoGateway, categoryGateway, genreGateway, castMemberGateway, mediaResourceGateway);
     }
 
+    @BeforeEach
+    void setUp() {
+        // stores run on the calling thread, the concurrency itself is covered by ConcurrentMediaStoreTest
+        this.useCase = new DefaultUpdateVideoUseCase(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, Runnable::run, Runnable::run);
+    }
+
     @Test
     public void givenValidCommand_whenUpdateVideo_shouldReturnVideoId() {
         final var video = Fixture.Videos.systemDesign();
@@ -1,11 +1,17 @@
 package com.codeflix.admin.catalogo.domain;
 
 import com.codeflix.admin.catalogo.domain.events.DomainEvent;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
 
+    // the stored version this aggregate was read at, null while it was never persisted
+    private Long version;
+
     protected AggregateRoot(final ID id) {
         super(id);
     }
@@ -13,4 +19,31 @@ public abstract class AggregateRoot<ID extends Identifier> extends Entity<ID> {
     protected AggregateRoot(final ID id, final List<DomainEvent> events) {
         super(id, events);
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(final Long version) {
+        this.version = version;
+    }
+
+    public void checkVersion(final Long expected) {
+        if (expected != null && !expected.equals(this.version)) {
+            throw StaleVersionException.with(this);
+        }
+    }
+
+    // this copy may have been read from a cache or a replica, so the expected version is compared with the
+    // stored one and then carried to the write, where the optimistic lock rejects anything that got in between
+    public void checkVersion(final Long expected, final Supplier<Optional<Long>> stored) {
+        if (expected == null) {
+            return;
+        }
+
+        if (!stored.get().filter(expected::equals).isPresent()) {
+            throw StaleVersionException.with(this);
+        }
+        this.version = expected;
+    }
 }
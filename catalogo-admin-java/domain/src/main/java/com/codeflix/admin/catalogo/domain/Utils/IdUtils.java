@@ -1,13 +1,30 @@
 package com.codeflix.admin.catalogo.domain.Utils;
 
+import java.security.SecureRandom;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public final class IdUtils {
 
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final AtomicLong LAST_TICK = new AtomicLong();
+
     private IdUtils() {
     }
 
     public static String uuid() {
-        return UUID.randomUUID().toString().toLowerCase().replace("-", "");
+        return format(timeOrdered());
+    }
+
+    public static String format(final UUID id) {
+        return id.toString().toLowerCase().replace("-", "");
+    }
+
+    public static UUID timeOrdered() {
+        // UUIDv7: 48 bits of unix millis, then a 12 bit sequence so ids from this process never go backwards
+        final var tick = LAST_TICK.updateAndGet(last -> Math.max(last + 1, System.currentTimeMillis() << 12));
+        final var mostSigBits = (tick >>> 12) << 16 | 0x7000L | (tick & 0xFFFL);
+        final var leastSigBits = RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
     }
 }
@@ -47,13 +47,15 @@ public class CastMember extends AggregateRoot<CastMemberID> {
     }
 
     public static CastMember with(final CastMember member) {
-        return new CastMember(
+        final var copy = new CastMember(
                 member.id,
                 member.name,
                 member.type,
                 member.createdAt,
                 member.updatedAt
         );
+        copy.setVersion(member.getVersion());
+        return copy;
     }
 
     public CastMember update(final String name, final CastMemberType type) {
@@ -0,0 +1,16 @@
+package com.codeflix.admin.catalogo.domain.castmember;
+
+import com.codeflix.admin.catalogo.domain.Utils.InstantUtils;
+import com.codeflix.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record CastMemberChanged(
+        String id,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public CastMemberChanged(final String id) {
+        this(id, InstantUtils.now());
+    }
+}
@@ -5,18 +5,25 @@ import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CastMemberGateway {
 
     CastMember create(CastMember castMember);
 
+    List<CastMember> createAll(List<CastMember> castMembers);
+
     void deleteById(CastMemberID id);
 
     Optional<CastMember> findById(CastMemberID id);
 
+    Optional<Long> findVersion(CastMemberID id);
+
     CastMember update(CastMember castMember);
 
-    Pagination<CastMember> findAll(SearchQuery query);
+    Pagination<CastMemberPreview> findAll(SearchQuery query);
+
+    void streamAll(Consumer<CastMember> consumer);
 
     List<CastMemberID> existsByIds(Iterable<CastMemberID> ids);
 }
@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.domain.castmember;
+
+import java.time.Instant;
+
+public record CastMemberPreview(
+        String id,
+        String name,
+        CastMemberType type,
+        Instant createdAt
+) {
+
+    public CastMemberPreview(final CastMember member) {
+        this(
+                member.getId().getValue(),
+                member.getName(),
+                member.getType(),
+                member.getCreatedAt()
+        );
+    }
+}
@@ -66,7 +66,7 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
     }
 
     public static Category with(final Category category) {
-        return with(
+        final var copy = with(
                 category.getId(),
                 category.name,
                 category.description,
@@ -75,6 +75,8 @@ public class Category extends AggregateRoot<CategoryID> implements Cloneable {
                 category.updatedAt,
                 category.deletedAt
         );
+        copy.setVersion(category.getVersion());
+        return copy;
     }
 
     @Override
@@ -5,16 +5,23 @@ import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
 
     Category create(Category category);
 
+    List<Category> createAll(List<Category> categories);
+
     void deleteById(CategoryID id);
 
     Optional<Category> findById(CategoryID id);
 
-    Pagination<Category> findAll(SearchQuery query);
+    Optional<Long> findVersion(CategoryID id);
+
+    Pagination<CategoryPreview> findAll(SearchQuery query);
+
+    void streamAll(Consumer<Category> consumer);
 
     Category update(Category category);
 
@@ -24,7 +24,7 @@ public class CategoryID extends Identifier {
     }
 
     public static CategoryID from(final UUID id) {
-        return new CategoryID(id.toString().toLowerCase());
+        return new CategoryID(IdUtils.format(id));
     }
 
     public String getValue() {
@@ -0,0 +1,24 @@
+package com.codeflix.admin.catalogo.domain.category;
+
+import java.time.Instant;
+
+public record CategoryPreview(
+        String id,
+        String name,
+        String description,
+        boolean isActive,
+        Instant createdAt,
+        Instant deletedAt
+) {
+
+    public CategoryPreview(final Category category) {
+        this(
+                category.getId().getValue(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getDeletedAt()
+        );
+    }
+}
@@ -0,0 +1,22 @@
+package com.codeflix.admin.catalogo.domain.exceptions;
+
+import com.codeflix.admin.catalogo.domain.AggregateRoot;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+
+import java.util.Collections;
+import java.util.List;
+
+public class StaleVersionException extends DomainException {
+
+    protected StaleVersionException(final String message, final List<Error> errors) {
+        super(message, errors);
+    }
+
+    public static StaleVersionException with(final AggregateRoot<?> aggregate) {
+        final var anError = "%s with ID %s was changed by someone else".formatted(
+                aggregate.getClass().getSimpleName(),
+                aggregate.getId().getValue()
+        );
+        return new StaleVersionException(anError, Collections.emptyList());
+    }
+}
@@ -60,7 +60,7 @@ public class Genre extends AggregateRoot<GenreID> {
     }
 
     public static Genre with(final Genre genre) {
-        return new Genre(
+        final var copy = new Genre(
                 genre.id,
                 genre.name,
                 genre.active,
@@ -69,6 +69,8 @@ public class Genre extends AggregateRoot<GenreID> {
                 genre.updatedAt,
                 genre.deletedAt
         );
+        copy.setVersion(genre.getVersion());
+        return copy;
     }
 
     @Override
@@ -0,0 +1,16 @@
+package com.codeflix.admin.catalogo.domain.genre;
+
+import com.codeflix.admin.catalogo.domain.Utils.InstantUtils;
+import com.codeflix.admin.catalogo.domain.events.DomainEvent;
+
+import java.time.Instant;
+
+public record GenreChanged(
+        String id,
+        Instant occurredOn
+) implements DomainEvent {
+
+    public GenreChanged(final String id) {
+        this(id, InstantUtils.now());
+    }
+}
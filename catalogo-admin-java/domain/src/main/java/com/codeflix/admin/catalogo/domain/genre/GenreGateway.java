@@ -5,18 +5,25 @@ import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
 
     Genre create(Genre genre);
 
+    List<Genre> createAll(List<Genre> genres);
+
     void deleteById(GenreID id);
 
     Optional<Genre> findById(GenreID id);
 
+    Optional<Long> findVersion(GenreID id);
+
     Genre update(Genre genre);
 
     Pagination<Genre> findAll(SearchQuery query);
 
+    void streamAll(Consumer<Genre> consumer);
+
     List<GenreID> existsByIds(Iterable<GenreID> ids);
 }
@@ -24,7 +24,7 @@ public class GenreID extends Identifier {
     }
 
     public static GenreID from(final UUID id) {
-        return new GenreID(id.toString().toLowerCase());
+        return new GenreID(IdUtils.format(id));
     }
 
     public String getValue() {
@@ -7,12 +7,22 @@ public record Pagination<T>(
         int currentPage,
         int perPage,
         long total,
-        List<T> items
+        List<T> items,
+        String next,
+        boolean hasMore
 ) {
 
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null);
+    }
+
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items, final String next) {
+        this(currentPage, perPage, total, items, next, next != null || (long) (currentPage + 1) * perPage < total);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> list = this.items.stream().map(mapper).toList();
 
-        return new Pagination<>(currentPage(), perPage(), total(), list);
+        return new Pagination<>(currentPage(), perPage(), total(), list, next(), hasMore());
     }
 }
@@ -0,0 +1,43 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Objects;
+
+class ByteArrayResource extends Resource {
+
+    private final byte[] content;
+    private final String checksum;
+
+    ByteArrayResource(final byte[] content, final String checksum, final String contentType, final String name) {
+        super(contentType, name);
+        this.content = Objects.requireNonNull(content);
+        this.checksum = Objects.requireNonNull(checksum);
+    }
+
+    @Override
+    public String checksum() {
+        return checksum;
+    }
+
+    @Override
+    public byte[] content() {
+        return content;
+    }
+
+    @Override
+    public InputStream openStream() {
+        return new ByteArrayInputStream(content);
+    }
+
+    @Override
+    public InputStream openStream(final long position) {
+        final var offset = (int) Math.min(position, content.length);
+        return new ByteArrayInputStream(content, offset, content.length - offset);
+    }
+
+    @Override
+    public long length() {
+        return content.length;
+    }
+}
@@ -1,5 +1,6 @@
 package com.codeflix.admin.catalogo.domain.video;
 
+import java.io.InputStream;
 import java.util.Optional;
 
 public interface MediaResourceGateway {
@@ -11,4 +12,14 @@ public interface MediaResourceGateway {
     Optional<Resource> getResource(VideoID id, VideoMediaType type);
 
     void clearResources(VideoID id);
+
+    MediaUpload createUpload(VideoID id, VideoMediaType type, String contentType, String name, long length);
+
+    Optional<MediaUpload> findUpload(VideoID id, String uploadId);
+
+    MediaUpload appendUpload(MediaUpload upload, InputStream content);
+
+    Resource completeUpload(MediaUpload upload);
+
+    void discardUpload(MediaUpload upload);
 }
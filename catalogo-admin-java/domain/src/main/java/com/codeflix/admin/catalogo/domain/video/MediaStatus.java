@@ -1,6 +1,16 @@
 package com.codeflix.admin.catalogo.domain.video;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum MediaStatus {
-    PENDING, PROCESSING, COMPLETED, ERROR
-}
+    PENDING, PROCESSING, COMPLETED, ERROR;
 
+    public Set<MediaStatus> reachableFrom() {
+        return switch (this) {
+            case PENDING -> EnumSet.noneOf(MediaStatus.class);
+            case PROCESSING -> EnumSet.of(PENDING);
+            case COMPLETED, ERROR -> EnumSet.of(PENDING, PROCESSING);
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+public record MediaUpload(
+        String id,
+        VideoID videoId,
+        VideoMediaType type,
+        String contentType,
+        String name,
+        long length,
+        long offset
+) {
+
+    public static MediaUpload with(
+            final String id,
+            final VideoID videoId,
+            final VideoMediaType type,
+            final String contentType,
+            final String name,
+            final long length,
+            final long offset
+    ) {
+        return new MediaUpload(id, videoId, type, contentType, name, length, offset);
+    }
+
+    public MediaUpload withOffset(final long offset) {
+        return new MediaUpload(id, videoId, type, contentType, name, length, offset);
+    }
+
+    public boolean isComplete() {
+        return offset == length;
+    }
+}
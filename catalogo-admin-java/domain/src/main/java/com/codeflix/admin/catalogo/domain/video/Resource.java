@@ -2,32 +2,50 @@ package com.codeflix.admin.catalogo.domain.video;
 
 import com.codeflix.admin.catalogo.domain.ValueObject;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.Objects;
 
-public class Resource extends ValueObject {
+public abstract class Resource extends ValueObject {
+
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
 
-    private final byte[] content;
-    private final String checksum;
     private final String contentType;
     private final String name;
 
-    private Resource(final byte[] content, final String checksum, final String contentType, final String name) {
-        this.content = Objects.requireNonNull(content);
-        this.checksum = Objects.requireNonNull(checksum);
+    protected Resource(final String contentType, final String name) {
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
     }
 
     public static Resource with(final byte[] content, final String checksum, final String contentType, final String name) {
-        return new Resource(content, checksum, contentType, name);
+        return new ByteArrayResource(content, checksum, contentType, name);
     }
 
-    public String checksum() {
-        return checksum;
+    public abstract String checksum();
+
+    public abstract byte[] content();
+
+    public abstract InputStream openStream();
+
+    public abstract long length();
+
+    public InputStream openStream(final long position) {
+        final var in = openStream();
+        try {
+            in.skipNBytes(position);
+            return in;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
-    public byte[] content() {
-        return content;
+    public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+        return copy(openStream(position), count, target);
     }
 
     public String contentType() {
@@ -38,4 +56,25 @@ public class Resource extends ValueObject {
         return name;
     }
 
+    static long copy(final InputStream in, final long count, final WritableByteChannel target) throws IOException {
+        try (final var source = Channels.newChannel(in)) {
+            final var buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+
+            long transferred = 0;
+            while (transferred < count) {
+                buffer.limit((int) Math.min(buffer.capacity(), count - transferred));
+                final var n = source.read(buffer);
+                if (n == -1) {
+                    break;
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+                transferred += n;
+            }
+            return transferred;
+        }
+    }
 }
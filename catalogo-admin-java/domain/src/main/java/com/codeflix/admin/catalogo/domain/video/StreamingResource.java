@@ -0,0 +1,161 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.util.Objects;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+
+public class StreamingResource extends Resource {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Source source;
+    private final long length;
+    private volatile String checksum;
+
+    private StreamingResource(
+            final Source source,
+            final long length,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        super(contentType, name);
+        this.source = Objects.requireNonNull(source);
+        this.length = length;
+        this.checksum = checksum;
+    }
+
+    public static StreamingResource with(final Source source, final long length, final String contentType, final String name) {
+        return new StreamingResource(source, length, null, contentType, name);
+    }
+
+    public static StreamingResource with(
+            final Source source,
+            final long length,
+            final String checksum,
+            final String contentType,
+            final String name
+    ) {
+        return new StreamingResource(source, length, Objects.requireNonNull(checksum), contentType, name);
+    }
+
+    @Override
+    public String checksum() {
+        if (this.checksum == null) {
+            try (final var in = openStream()) {
+                final var buffer = new byte[BUFFER_SIZE];
+                while (in.read(buffer) != -1) {
+                    // drains the source so the checksum gets recorded
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return this.checksum;
+    }
+
+    @Override
+    public byte[] content() {
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openStream() {
+        try {
+            return new ChecksumInputStream(this.source.open());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public InputStream openStream(final long position) {
+        if (position == 0) {
+            return openStream();
+        }
+
+        try {
+            return this.source.open(position);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+        return this.source.transferTo(position, count, target);
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    private static String toHex(final long crc) {
+        return "%08x".formatted(Integer.reverseBytes((int) crc));
+    }
+
+    @FunctionalInterface
+    public interface Source {
+
+        InputStream open() throws IOException;
+
+        default InputStream open(final long position) throws IOException {
+            final var in = open();
+            in.skipNBytes(position);
+            return in;
+        }
+
+        default long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            return Resource.copy(open(position), count, target);
+        }
+    }
+
+    private class ChecksumInputStream extends CheckedInputStream {
+
+        private long count;
+
+        private ChecksumInputStream(final InputStream in) {
+            super(in, new CRC32C());
+        }
+
+        @Override
+        public int read() throws IOException {
+            final var b = super.read();
+            if (b == -1) {
+                complete();
+            } else {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] buf, final int off, final int len) throws IOException {
+            final var n = super.read(buf, off, len);
+            if (n == -1) {
+                complete();
+            } else {
+                count += n;
+                if (count == length) {
+                    complete();
+                }
+            }
+            return n;
+        }
+
+        private void complete() {
+            if (length < 0 || count == length) {
+                checksum = toHex(getChecksum().getValue());
+            }
+        }
+    }
+}
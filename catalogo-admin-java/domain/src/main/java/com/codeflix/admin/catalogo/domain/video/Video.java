@@ -259,7 +259,7 @@ public class Video extends AggregateRoot<VideoID> {
     }
 
     public static Video with(final Video video) {
-        return new Video(
+        final var copy = new Video(
                 video.getId(),
                 video.getTitle(),
                 video.getDescription(),
@@ -280,6 +280,8 @@ public class Video extends AggregateRoot<VideoID> {
                 new HashSet<>(video.getCastMembers()),
                 video.getDomainEvents()
         );
+        copy.setVersion(video.getVersion());
+        return copy;
     }
 
     public static Video with(
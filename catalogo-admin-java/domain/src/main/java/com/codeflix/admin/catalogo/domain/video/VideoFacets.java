@@ -0,0 +1,15 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+import java.util.Map;
+
+public record VideoFacets(
+        long total,
+        Map<String, Long> categories,
+        Map<String, Long> genres,
+        Map<String, Long> castMembers,
+        Map<String, Long> ratings,
+        Map<String, Long> published,
+        Map<String, Long> videoStatus,
+        Map<String, Long> trailerStatus
+) {
+}
@@ -1,19 +1,27 @@
 package com.codeflix.admin.catalogo.domain.video;
 
-import com.codeflix.admin.catalogo.domain.pagination.Pagination;
-
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-public interface VideoGateway {
+public interface VideoGateway extends VideoListingGateway {
 
     Video create(Video video);
 
+    List<Video> createAll(List<Video> videos);
+
     void deleteById(VideoID id);
 
     Optional<Video> findById(VideoID id);
 
+    Optional<Long> findVersion(VideoID id);
+
     Video update(Video video);
 
-    Pagination<VideoPreview> findAll(VideoSearchQuery query);
+    boolean updateMediaStatus(VideoID id, String resourceId, MediaStatus status, String encodedPath);
+
+    void streamAll(Consumer<Video> consumer);
+
+    VideoFacets facets(VideoSearchQuery query);
 
 }
@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+
+public interface VideoListingGateway {
+
+    Pagination<VideoPreview> findAll(VideoSearchQuery query);
+}
@@ -1,15 +1,30 @@
 package com.codeflix.admin.catalogo.domain.video;
 
 import java.time.Instant;
+import java.util.List;
 
 public record VideoPreview(
         String id,
         String title,
         String description,
         Instant createdAt,
-        Instant updatedAt
+        Instant updatedAt,
+        List<Reference> categories,
+        List<Reference> genres,
+        List<Reference> castMembers
 ) {
 
+    // read without its references, which are unknown rather than empty
+    public VideoPreview(
+            final String id,
+            final String title,
+            final String description,
+            final Instant createdAt,
+            final Instant updatedAt
+    ) {
+        this(id, title, description, createdAt, updatedAt, null, null, null);
+    }
+
     public VideoPreview(final Video video) {
         this(
                 video.getId().getValue(),
@@ -19,4 +34,7 @@ public record VideoPreview(
                 video.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    public record Reference(String id, String name) {
+    }
+}
@@ -0,0 +1,42 @@
+package com.codeflix.admin.catalogo.domain.Utils;
+
+import com.codeflix.admin.catalogo.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+public class IdUtilsTest extends UnitTest {
+
+    @Test
+    public void givenConsecutiveCalls_whenCallsUuid_shouldReturnIncreasingHexIds() {
+        var previous = IdUtils.uuid();
+
+        for (int i = 0; i < 10_000; i++) {
+            final var actualId = IdUtils.uuid();
+
+            Assertions.assertTrue(actualId.matches("[0-9a-f]{32}"));
+            Assertions.assertTrue(actualId.compareTo(previous) > 0);
+            previous = actualId;
+        }
+    }
+
+    @Test
+    public void givenATimeOrderedId_whenInspected_shouldBeVersion7WithCurrentTimestamp() {
+        final var before = System.currentTimeMillis();
+        final var actualId = IdUtils.timeOrdered();
+
+        Assertions.assertEquals(7, actualId.version());
+        Assertions.assertEquals(2, actualId.variant());
+        Assertions.assertTrue((actualId.getMostSignificantBits() >>> 16) >= before);
+    }
+
+    @Test
+    public void givenAUuid_whenCallsFormat_shouldReturnLowerCaseHexWithoutDashes() {
+        final var expectedId = "123e4567e89b12d3a456426614174000";
+
+        final var actualId = IdUtils.format(UUID.fromString("123E4567-E89B-12D3-A456-426614174000"));
+
+        Assertions.assertEquals(expectedId, actualId);
+    }
+}
@@ -2,10 +2,13 @@ package com.codeflix.admin.catalogo.domain.category;
 
 import com.codeflix.admin.catalogo.domain.UnitTest;
 import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.validation.handler.ThrowsValidationHandler;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Optional;
+
 public class CategoryTest extends UnitTest {
 
     @Test
@@ -301,4 +304,44 @@ public class CategoryTest extends UnitTest {
         Assertions.assertTrue(actualCategory.getUpdatedAt().isAfter(updatedAt));
         Assertions.assertNull(category.getDeletedAt());
     }
+
+    @Test
+    public void givenAVersionedCategory_whenCopiesAndChecksVersion_shouldKeepItAndRejectAnyOther() {
+        final var expectedVersion = 3L;
+
+        final var category = Category.newCategory("Filmes", "A categoria", true);
+        Assertions.assertNull(category.getVersion());
+
+        category.setVersion(expectedVersion);
+        final var actualCategory = Category.with(category);
+
+        Assertions.assertEquals(expectedVersion, actualCategory.getVersion());
+        Assertions.assertDoesNotThrow(() -> actualCategory.checkVersion(null));
+        Assertions.assertDoesNotThrow(() -> actualCategory.checkVersion(expectedVersion));
+
+        final var actualException = Assertions.assertThrows(
+                StaleVersionException.class,
+                () -> actualCategory.checkVersion(2L)
+        );
+
+        Assertions.assertEquals(
+                "Category with ID %s was changed by someone else".formatted(category.getId().getValue()),
+                actualException.getMessage()
+        );
+    }
+
+    @Test
+    public void givenAStaleCopy_whenChecksVersionAgainstTheStoredOne_shouldCarryTheStoredVersionOrReject() {
+        final var category = Category.newCategory("Filmes", "A categoria", true);
+        category.setVersion(2L);
+
+        Assertions.assertDoesNotThrow(() -> category.checkVersion(null, Optional::empty));
+        Assertions.assertEquals(2L, category.getVersion());
+
+        Assertions.assertThrows(StaleVersionException.class, () -> category.checkVersion(2L, () -> Optional.of(3L)));
+        Assertions.assertThrows(StaleVersionException.class, () -> category.checkVersion(3L, Optional::empty));
+
+        category.checkVersion(3L, () -> Optional.of(3L));
+        Assertions.assertEquals(3L, category.getVersion());
+    }
 }
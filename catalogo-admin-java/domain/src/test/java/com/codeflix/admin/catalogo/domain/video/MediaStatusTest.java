@@ -0,0 +1,18 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+import com.codeflix.admin.catalogo.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+public class MediaStatusTest extends UnitTest {
+
+    @Test
+    public void givenAStatus_whenCallsReachableFrom_shouldOnlyAllowForwardTransitions() {
+        Assertions.assertEquals(Set.of(), MediaStatus.PENDING.reachableFrom());
+        Assertions.assertEquals(Set.of(MediaStatus.PENDING), MediaStatus.PROCESSING.reachableFrom());
+        Assertions.assertEquals(Set.of(MediaStatus.PENDING, MediaStatus.PROCESSING), MediaStatus.COMPLETED.reachableFrom());
+        Assertions.assertEquals(Set.of(MediaStatus.PENDING, MediaStatus.PROCESSING), MediaStatus.ERROR.reachableFrom());
+    }
+}
@@ -0,0 +1,125 @@
+package com.codeflix.admin.catalogo.domain.video;
+
+import com.codeflix.admin.catalogo.domain.UnitTest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class StreamingResourceTest extends UnitTest {
+
+    @Test
+    public void givenStreamingResource_whenStreamIsConsumed_shouldRecordChecksumWithoutReopeningSource() throws Exception {
+        final var content = "123456789".getBytes();
+        final var expectedChecksum = "839206e3";
+        final var expectedOpens = 1;
+
+        final var opens = new AtomicInteger();
+
+        final var actualResource = StreamingResource.with(
+                () -> {
+                    opens.incrementAndGet();
+                    return new ByteArrayInputStream(content);
+                },
+                content.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        try (final var in = actualResource.openStream()) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertEquals(expectedOpens, opens.get());
+        Assertions.assertEquals(content.length, actualResource.length());
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+        Assertions.assertEquals("video.mp4", actualResource.name());
+    }
+
+    @Test
+    public void givenStreamingResource_whenCallsChecksumBeforeStreaming_shouldComputeIt() {
+        final var content = "123456789".getBytes();
+        final var expectedChecksum = "839206e3";
+
+        final var actualResource = StreamingResource.with(
+                () -> new ByteArrayInputStream(content),
+                content.length,
+                "video/mp4",
+                "video.mp4"
+        );
+
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+        Assertions.assertArrayEquals(content, actualResource.content());
+    }
+
+    @Test
+    public void givenLargeStreamingResource_whenStreamIsConsumed_shouldNotBufferContent() throws Exception {
+        final long expectedLength = 256L * 1024 * 1024;
+        final long maxAllocatedBytes = 16L * 1024 * 1024;
+
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threads.isThreadAllocatedMemorySupported());
+        threads.setThreadAllocatedMemoryEnabled(true);
+        final var threadId = Thread.currentThread().getId();
+
+        final var actualResource = StreamingResource.with(
+                () -> new RepeatingInputStream(expectedLength),
+                expectedLength,
+                "video/mp4",
+                "master.mp4"
+        );
+
+        final var allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+
+        final long actualLength;
+        try (final var in = actualResource.openStream()) {
+            actualLength = in.transferTo(OutputStream.nullOutputStream());
+        }
+        final var actualChecksum = actualResource.checksum();
+
+        final var actualAllocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        Assertions.assertEquals(expectedLength, actualLength);
+        Assertions.assertNotNull(actualChecksum);
+        Assertions.assertTrue(
+                actualAllocated < maxAllocatedBytes,
+                "streaming %d bytes allocated %d bytes".formatted(expectedLength, actualAllocated)
+        );
+    }
+
+    private static class RepeatingInputStream extends InputStream {
+
+        private long remaining;
+
+        private RepeatingInputStream(final long length) {
+            this.remaining = length;
+        }
+
+        @Override
+        public int read() {
+            if (remaining <= 0) {
+                return -1;
+            }
+            remaining--;
+            return 'x';
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (remaining <= 0) {
+                return -1;
+            }
+            final var n = (int) Math.min(len, remaining);
+            Arrays.fill(b, off, off + n, (byte) 'x');
+            remaining -= n;
+            return n;
+        }
+    }
+}
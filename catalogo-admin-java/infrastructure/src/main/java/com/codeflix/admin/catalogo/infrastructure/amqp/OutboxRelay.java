@@ -0,0 +1,128 @@
+package com.codeflix.admin.catalogo.infrastructure.amqp;
+
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.codeflix.admin.catalogo.infrastructure.utils.InstantUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final RabbitOperations rabbitOperations;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+    private final long confirmTimeout;
+    private final Duration claimTimeout;
+    private final Duration retention;
+
+    public OutboxRelay(
+            final OutboxEventRepository outboxEventRepository,
+            final RabbitOperations rabbitOperations,
+            final TransactionOperations transactionOperations,
+            final int batchSize,
+            final long confirmTimeout,
+            final Duration claimTimeout,
+            final Duration retention
+    ) {
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.rabbitOperations = Objects.requireNonNull(rabbitOperations);
+        this.transactionOperations = Objects.requireNonNull(transactionOperations);
+        this.batchSize = batchSize;
+        this.confirmTimeout = confirmTimeout;
+        this.claimTimeout = Objects.requireNonNull(claimTimeout);
+        this.retention = Objects.requireNonNull(retention);
+    }
+
+    @Scheduled(fixedDelayString = "${amqp.outbox.poll-delay}")
+    public void drain() {
+        int relayed;
+        do {
+            relayed = relay();
+        } while (relayed == this.batchSize);
+    }
+
+    @Scheduled(fixedDelayString = "${amqp.outbox.purge-delay}")
+    public void purge() {
+        final var sentBefore = InstantUtils.now().minus(this.retention);
+
+        int purged;
+        do {
+            purged = purge(sentBefore);
+        } while (purged == this.batchSize);
+    }
+
+    public int relay() {
+        final var events = claim();
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        // the broker is awaited outside any transaction, the claim keeps other relays off these rows meanwhile
+        final var ids = events.stream().map(OutboxEventJpaEntity::getId).toList();
+        if (!publish(events)) {
+            this.transactionOperations.executeWithoutResult(status -> this.outboxEventRepository.release(ids));
+            return 0;
+        }
+
+        this.transactionOperations.executeWithoutResult(status -> this.outboxEventRepository.markSent(ids, InstantUtils.now()));
+        return events.size();
+    }
+
+    public int purge(final Instant sentBefore) {
+        final Integer purged = this.transactionOperations.execute(status -> {
+            final var ids = this.outboxEventRepository.findSentBefore(sentBefore, PageRequest.ofSize(this.batchSize));
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            this.outboxEventRepository.deleteAllByIdInBatch(ids);
+            return ids.size();
+        });
+        return purged != null ? purged : 0;
+    }
+
+    private List<OutboxEventJpaEntity> claim() {
+        final var claimed = this.transactionOperations.execute(status -> {
+            final var now = InstantUtils.now();
+            final var events = this.outboxEventRepository.findPending(now, PageRequest.ofSize(this.batchSize));
+            if (events.isEmpty()) {
+                return List.<OutboxEventJpaEntity>of();
+            }
+
+            this.outboxEventRepository.claim(events.stream().map(OutboxEventJpaEntity::getId).toList(), now.plus(this.claimTimeout));
+            return events;
+        });
+        return claimed != null ? claimed : List.of();
+    }
+
+    private boolean publish(final List<OutboxEventJpaEntity> events) {
+        try {
+            final var confirmed = this.rabbitOperations.invoke(ops -> {
+                events.forEach(it -> ops.convertAndSend(it.getExchange(), it.getRoutingKey(), it.getPayload()));
+                return ops.waitForConfirms(this.confirmTimeout);
+            });
+
+            if (!Boolean.TRUE.equals(confirmed)) {
+                log.warn("[message:outbox.relay] [status:unconfirmed] [events:{}]", events.size());
+                return false;
+            }
+            return true;
+        } catch (final AmqpException e) {
+            log.warn("[message:outbox.relay] [status:error] [events:{}]", events.size(), e);
+            return false;
+        }
+    }
+}
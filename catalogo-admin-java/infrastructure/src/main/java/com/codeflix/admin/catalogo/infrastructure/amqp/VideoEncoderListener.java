@@ -2,18 +2,34 @@ package com.codeflix.admin.catalogo.infrastructure.amqp;
 
 import com.codeflix.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
 import com.codeflix.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.codeflix.admin.catalogo.infrastructure.persistence.ReadYourWrites;
 import com.codeflix.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
 import com.codeflix.admin.catalogo.infrastructure.video.models.VideoEncoderError;
 import com.codeflix.admin.catalogo.infrastructure.video.models.VideoEncoderResult;
+import com.google.common.util.concurrent.Striped;
+import com.rabbitmq.client.Channel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.amqp.rabbit.support.DefaultMessagePropertiesConverter;
+import org.springframework.amqp.rabbit.support.MessagePropertiesConverter;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.locks.Lock;
 
 @Component
 public class VideoEncoderListener {
@@ -22,31 +38,145 @@ public class VideoEncoderListener {
 
     static final String LISTENER_ID = "videoEncodedListener";
 
+    private static final MessagePropertiesConverter PROPERTIES_CONVERTER = new DefaultMessagePropertiesConverter();
+
     private final UpdateMediaStatusUseCase updateMediaStatusUseCase;
+    private final String deadLetterQueue;
+    private final Striped<Lock> videoLocks;
 
-    public VideoEncoderListener(final UpdateMediaStatusUseCase updateMediaStatusUseCase) {
+    public VideoEncoderListener(
+            final UpdateMediaStatusUseCase updateMediaStatusUseCase,
+            @VideoEncodedQueue final QueueProperties queueProperties
+    ) {
         this.updateMediaStatusUseCase = Objects.requireNonNull(updateMediaStatusUseCase);
+        this.deadLetterQueue = queueProperties.deadLetterQueue();
+        this.videoLocks = Striped.lazyWeakLock(1024);
     }
 
-    @RabbitListener(id = LISTENER_ID, queues = "${amqp.queues.video-encoded.queue}")
-    public void onVideoEncodedMessage(@Payload final String message) {
-        final var result = Json.readValue(message, VideoEncoderResult.class);
-
-        if (result instanceof VideoEncoderCompleted dto) {
-            log.error("[message:video.listener.income] [status:completed] [payload:{}]", message);
-            final var command = new UpdateMediaStatusCommand(
-                    MediaStatus.COMPLETED,
-                    dto.id(),
-                    dto.video().resourceId(),
-                    dto.video().encodedVideoFolder(),
-                    dto.video().filePath()
-            );
-
-            this.updateMediaStatusUseCase.execute(command);
-        } else if (result instanceof VideoEncoderError) {
-            log.error("[message:video.listener.income] [status:error] [payload:{}]", message);
-        } else {
-            log.error("[message:video.listener.income] [status:unknown] [payload:{}]", message);
+    @RabbitListener(
+            id = LISTENER_ID,
+            queues = "${amqp.queues.video-encoded.queue}",
+            containerFactory = "videoEncodedListenerFactory"
+    )
+    public void onVideoEncodedMessages(final List<Message> messages, final Channel channel) throws IOException {
+        final var updatesByVideo = new LinkedHashMap<String, Map<String, PendingUpdate>>();
+
+        for (final var message : messages) {
+            final var deliveryTag = message.getMessageProperties().getDeliveryTag();
+            final var payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+            final VideoEncoderResult result;
+            try {
+                result = Json.readValue(payload, VideoEncoderResult.class);
+            } catch (final RuntimeException e) {
+                log.error("[message:video.listener.income] [status:unreadable] [payload:{}]", payload, e);
+                deadLetter(channel, message);
+                continue;
+            }
+
+            if (result instanceof VideoEncoderCompleted dto) {
+                log.info("[message:video.listener.income] [status:completed] [payload:{}]", payload);
+                final var command = new UpdateMediaStatusCommand(
+                        MediaStatus.COMPLETED,
+                        dto.id(),
+                        dto.video().resourceId(),
+                        dto.video().encodedVideoFolder(),
+                        dto.video().filePath()
+                );
+
+                final var updates = updatesByVideo.computeIfAbsent(command.videoId(), it -> new LinkedHashMap<>());
+                final var previous = updates.get(command.resourceId());
+                if (previous != null) {
+                    log.info("[message:video.listener.income] [status:duplicated] [resourceId:{}]", command.resourceId());
+                    previous.messages().add(message);
+                } else {
+                    updates.put(command.resourceId(), new PendingUpdate(command, new ArrayList<>(List.of(message))));
+                }
+            } else if (result instanceof VideoEncoderError) {
+                log.error("[message:video.listener.income] [status:error] [payload:{}]", payload);
+                channel.basicAck(deliveryTag, false);
+            } else {
+                log.error("[message:video.listener.income] [status:unknown] [payload:{}]", payload);
+                channel.basicAck(deliveryTag, false);
+            }
+        }
+
+        var failures = 0;
+        for (final var entry : updatesByVideo.entrySet()) {
+            failures += update(entry.getKey(), entry.getValue().values(), channel);
+        }
+
+        if (failures > 0) {
+            log.error("[message:video.listener.batch] [status:partial] [messages:{}] [failed:{}]", messages.size(), failures);
         }
     }
+
+    private int update(final String videoId, final Iterable<PendingUpdate> updates, final Channel channel) throws IOException {
+        // concurrent consumers apply the results of one video in order, other nodes are fenced by the aggregate version
+        final var lock = this.videoLocks.get(videoId);
+        lock.lock();
+        // the video is read and written back, so the read must not come from a lagging replica
+        ReadYourWrites.begin(true);
+        try {
+            var failures = 0;
+            Boolean requeue = null;
+            for (final var update : updates) {
+                if (requeue != null) {
+                    // a later result must not overtake the one that failed
+                    nack(channel, update, true);
+                    failures++;
+                    continue;
+                }
+
+                final var command = update.command();
+                try {
+                    this.updateMediaStatusUseCase.execute(command);
+                    ack(channel, update);
+                } catch (final RuntimeException e) {
+                    // a domain rejection fails again on redelivery, so it goes to the dead letter queue instead
+                    requeue = !(e instanceof DomainException) || e instanceof StaleVersionException;
+                    log.error("[message:video.listener.update] [status:failed] [requeue:{}] [videoId:{}] [resourceId:{}]", requeue, command.videoId(), command.resourceId(), e);
+                    if (requeue) {
+                        nack(channel, update, true);
+                    } else {
+                        for (final var message : update.messages()) {
+                            deadLetter(channel, message);
+                        }
+                    }
+                    failures++;
+                }
+            }
+            return failures;
+        } finally {
+            ReadYourWrites.end();
+            lock.unlock();
+        }
+    }
+
+    // the queue carries no dead letter arguments, so a rejected delivery is copied to the dead letter queue before it is acked
+    private void deadLetter(final Channel channel, final Message message) throws IOException {
+        final var properties = message.getMessageProperties();
+        channel.basicPublish(
+                "",
+                this.deadLetterQueue,
+                PROPERTIES_CONVERTER.fromMessageProperties(properties, StandardCharsets.UTF_8.name()),
+                message.getBody()
+        );
+        channel.basicAck(properties.getDeliveryTag(), false);
+    }
+
+    private static void ack(final Channel channel, final PendingUpdate update) throws IOException {
+        for (final var message : update.messages()) {
+            channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+        }
+    }
+
+    private static void nack(final Channel channel, final PendingUpdate update, final boolean requeue) throws IOException {
+        for (final var message : update.messages()) {
+            channel.basicNack(message.getMessageProperties().getDeliveryTag(), false, requeue);
+        }
+    }
+
+    private record PendingUpdate(UpdateMediaStatusCommand command, List<Message> messages) {
+    }
 }
@@ -1,20 +1,26 @@
 package com.codeflix.admin.catalogo.infrastructure.api;
 
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.infrastructure.video.models.CreateMediaUploadRequest;
 import com.codeflix.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
+import com.codeflix.admin.catalogo.infrastructure.video.models.MediaUploadResponse;
 import com.codeflix.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
+import com.codeflix.admin.catalogo.infrastructure.video.models.VideoFacetsResponse;
 import com.codeflix.admin.catalogo.infrastructure.video.models.VideoListResponse;
 import com.codeflix.admin.catalogo.infrastructure.video.models.VideoResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.Set;
 
 @RequestMapping(value = "videos")
@@ -36,7 +42,9 @@ public interface VideoAPI {
             @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
             @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
             @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+            @RequestParam(name = "after", required = false) String after,
+            @RequestParam(name = "total", required = false, defaultValue = "exact") String total
     );
 
     @PostMapping(
@@ -79,14 +87,54 @@ public interface VideoAPI {
     })
     ResponseEntity<?> createPartial(@RequestBody CreateVideoRequest payload);
 
+    @PostMapping(
+            value = "bulk",
+            consumes = MediaType.APPLICATION_NDJSON_VALUE,
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    @Operation(summary = "Create videos without medias in bulk from a NDJSON stream, one per line")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every line was processed, the result of each one is streamed back"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> createInBulk(InputStream body);
+
+    @GetMapping(value = "export")
+    @Operation(summary = "Export every video as a NDJSON or CSV stream")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Every video is streamed back"),
+            @ApiResponse(responseCode = "422", description = "An invalid format was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(name = "format", required = false, defaultValue = "ndjson") String format
+    );
+
+    @GetMapping(value = "facets", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Count the matching videos per category, genre, cast member, rating, published and media status")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Facets counted"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    VideoFacetsResponse facets(
+            @RequestParam(name = "search", required = false, defaultValue = "") String search,
+            @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
+            @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
+            @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+    );
+
     @GetMapping(value = "{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a video by it's identifier")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Video retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Video was not modified since the given ETag"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    VideoResponse getById(@PathVariable(name = "id") String id);
+    ResponseEntity<VideoResponse> getById(
+            @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    );
 
     @PutMapping(
             value = "{id}",
@@ -98,10 +146,13 @@ public interface VideoAPI {
             @ApiResponse(responseCode = "200", description = "Video updated successfully"),
             @ApiResponse(responseCode = "404", description = "Video was not found"),
             @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "409", description = "Video was changed by a concurrent update"),
+            @ApiResponse(responseCode = "412", description = "Video no longer matches the If-Match ETag"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
     ResponseEntity<?> update(
             @PathVariable(name = "id") String id,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UpdateVideoRequest payload
     );
 
@@ -118,12 +169,17 @@ public interface VideoAPI {
     @Operation(summary = "Get a video media by it's type")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+            @ApiResponse(responseCode = "206", description = "Media range retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Media was not modified"),
             @ApiResponse(responseCode = "404", description = "Media was not found"),
+            @ApiResponse(responseCode = "416", description = "Requested range is not satisfiable"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<StreamingResponseBody> getMediaByType(
             @PathVariable(name = "id") String id,
-            @PathVariable(name = "type") String type
+            @PathVariable(name = "type") String type,
+            @RequestHeader(name = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(name = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     );
 
     @PostMapping(value = "{id}/medias/{type}")
@@ -138,4 +194,75 @@ public interface VideoAPI {
             @PathVariable(name = "type") String type,
             @RequestParam(name = "media_file") MultipartFile media
     );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start a resumable upload for a video media")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Upload session created"),
+            @ApiResponse(responseCode = "404", description = "Video was not found"),
+            @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<MediaUploadResponse> createMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @RequestBody CreateMediaUploadRequest payload
+    );
+
+    @PutMapping(
+            value = "{id}/medias/{type}/uploads/{uploadId}",
+            consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload a chunk of a resumable video media upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chunk committed"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "422", description = "The chunk range doesn't match the committed offset"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    MediaUploadResponse appendMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId,
+            @RequestHeader(name = HttpHeaders.CONTENT_RANGE) String range,
+            InputStream content
+    );
+
+    @GetMapping(
+            value = "{id}/medias/{type}/uploads/{uploadId}",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get the committed offset of a resumable video media upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Upload retrieved successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    MediaUploadResponse getMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
+
+    @PostMapping(
+            value = "{id}/medias/{type}/uploads/{uploadId}/complete",
+            produces = MediaType.APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Complete a resumable video media upload")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Media created successfully"),
+            @ApiResponse(responseCode = "404", description = "Upload was not found"),
+            @ApiResponse(responseCode = "422", description = "The upload is incomplete"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<?> completeMediaUpload(
+            @PathVariable(name = "id") String id,
+            @PathVariable(name = "type") String type,
+            @PathVariable(name = "uploadId") String uploadId
+    );
 }
@@ -0,0 +1,34 @@
+package com.codeflix.admin.catalogo.infrastructure.api;
+
+import com.codeflix.admin.catalogo.infrastructure.video.models.VideoListingStatusResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+@RequestMapping(value = "videos/listing")
+@Tag(name = "Video Listing")
+public interface VideoListingAPI {
+
+    @PostMapping(value = "rebuild")
+    @Operation(summary = "Rebuild the video listing read model from the videos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "Rebuild started"),
+            @ApiResponse(responseCode = "409", description = "A rebuild is already running"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    ResponseEntity<Void> rebuild();
+
+    @GetMapping(value = "status", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Show how far the video listing read model is behind the videos")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Status retrieved"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown"),
+    })
+    VideoListingStatusResponse status();
+}
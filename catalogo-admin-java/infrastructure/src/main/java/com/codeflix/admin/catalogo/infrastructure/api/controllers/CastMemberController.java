@@ -2,46 +2,81 @@ package com.codeflix.admin.catalogo.infrastructure.api.controllers;
 
 import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMemberCommand;
 import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.GetCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.get.GetCastMemberVersionUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.update.UpdateCastMemberCommand;
 import com.codeflix.admin.catalogo.application.castmember.update.UpdateCastMemberUseCase;
+import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
+import com.codeflix.admin.catalogo.domain.validation.Error;
 import com.codeflix.admin.catalogo.infrastructure.api.CastMemberAPI;
+import com.codeflix.admin.catalogo.infrastructure.bulk.CatalogExport;
+import com.codeflix.admin.catalogo.infrastructure.bulk.ExportColumn;
+import com.codeflix.admin.catalogo.infrastructure.bulk.ExportFormat;
+import com.codeflix.admin.catalogo.infrastructure.bulk.NdjsonImport;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.CastMemberListResponse;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.CastMemberResponse;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.CreateCastMemberRequest;
 import com.codeflix.admin.catalogo.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.codeflix.admin.catalogo.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.codeflix.admin.catalogo.infrastructure.utils.ETagUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
 
+    private static final List<ExportColumn<CastMemberResponse>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", CastMemberResponse::id),
+            ExportColumn.of("name", CastMemberResponse::name),
+            ExportColumn.of("type", CastMemberResponse::type),
+            ExportColumn.of("created_at", CastMemberResponse::createdAt),
+            ExportColumn.of("updated_at", CastMemberResponse::updatedAt)
+    );
+
     private final CreateCastMemberUseCase createCastMemberUseCase;
+    private final CreateCastMembersUseCase createCastMembersUseCase;
     private final GetCastMemberUseCase getCastMemberUseCase;
+    private final GetCastMemberVersionUseCase getCastMemberVersionUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
 
     public CastMemberController(
             final CreateCastMemberUseCase createCastMemberUseCase,
+            final CreateCastMembersUseCase createCastMembersUseCase,
             final GetCastMemberUseCase getCastMemberUseCase,
+            final GetCastMemberVersionUseCase getCastMemberVersionUseCase,
             final UpdateCastMemberUseCase updateCastMemberUseCase,
             final DeleteCastMemberUseCase deleteCastMemberUseCase,
-            final ListCastMembersUseCase listCastMembersUseCase
+            final ListCastMembersUseCase listCastMembersUseCase,
+            final ExportCastMembersUseCase exportCastMembersUseCase
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
+        this.createCastMembersUseCase = Objects.requireNonNull(createCastMembersUseCase);
         this.getCastMemberUseCase = Objects.requireNonNull(getCastMemberUseCase);
+        this.getCastMemberVersionUseCase = Objects.requireNonNull(getCastMemberVersionUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
     }
 
     @Override
@@ -54,31 +89,77 @@ public class CastMemberController implements CastMemberAPI {
         return ResponseEntity.created(URI.create("/cast_members/" + output.id())).body(output);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> createInBulk(final InputStream body) {
+        final var stream = NdjsonImport.with(
+                "cast_members",
+                body,
+                CreateCastMemberRequest.class,
+                input -> CreateCastMemberCommand.with(input.name(), input.type()),
+                this.createCastMembersUseCase::execute
+        );
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String format) {
+        final var aFormat = ExportFormat.of(format)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for format".formatted(format))));
+
+        final var stream = CatalogExport.with(
+                "cast_members",
+                aFormat,
+                consumer -> this.exportCastMembersUseCase.execute(it -> consumer.accept(CastMemberPresenter.present(it))),
+                EXPORT_COLUMNS
+        );
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(stream.getFilename()).build().toString())
+                .contentType(aFormat.getMediaType())
+                .body(stream);
+    }
+
     @Override
     public Pagination<CastMemberListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String total
     ) {
-        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        final var aTotal = TotalMode.of(total)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for total".formatted(total))));
+
+        return this.listCastMembersUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, after, aTotal))
                 .map(CastMemberPresenter::present);
     }
 
     @Override
-    public CastMemberResponse getById(final String id) {
-        return CastMemberPresenter.present(this.getCastMemberUseCase.execute(id));
+    public ResponseEntity<CastMemberResponse> getById(final String id, final String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            final var eTag = ETagUtils.of(this.getCastMemberVersionUseCase.execute(id));
+            if (ETagUtils.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        final var output = this.getCastMemberUseCase.execute(id);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.version()))
+                .body(CastMemberPresenter.present(output));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCastMemberRequest body) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCastMemberRequest body) {
         final var command =
-                UpdateCastMemberCommand.with(id, body.name(), body.type());
+                UpdateCastMemberCommand.with(id, body.name(), body.type(), ETagUtils.version(ifMatch));
 
         final var output = this.updateCastMemberUseCase.execute(command);
 
-        return ResponseEntity.ok(output);
+        return ResponseEntity.ok().eTag(ETagUtils.of(output.version())).body(output);
     }
 
     @Override
@@ -1,51 +1,88 @@
 package com.codeflix.admin.catalogo.infrastructure.api.controllers;
 
+import com.codeflix.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryCommand;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.update.UpdateCategoryCommand;
 import com.codeflix.admin.catalogo.application.category.update.UpdateCategoryOutput;
 import com.codeflix.admin.catalogo.application.category.update.UpdateCategoryUseCase;
+import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
+import com.codeflix.admin.catalogo.domain.validation.Error;
 import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
 import com.codeflix.admin.catalogo.infrastructure.api.CategoryAPI;
+import com.codeflix.admin.catalogo.infrastructure.bulk.CatalogExport;
+import com.codeflix.admin.catalogo.infrastructure.bulk.ExportColumn;
+import com.codeflix.admin.catalogo.infrastructure.bulk.ExportFormat;
+import com.codeflix.admin.catalogo.infrastructure.bulk.NdjsonImport;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CategoryListResponse;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CategoryResponse;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
 import com.codeflix.admin.catalogo.infrastructure.category.models.UpdateCategoryRequest;
 import com.codeflix.admin.catalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.codeflix.admin.catalogo.infrastructure.utils.ETagUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
 @RestController
 public class CategoryController implements CategoryAPI {
 
+    private static final List<ExportColumn<CategoryResponse>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", CategoryResponse::id),
+            ExportColumn.of("name", CategoryResponse::name),
+            ExportColumn.of("description", CategoryResponse::description),
+            ExportColumn.of("is_active", CategoryResponse::active),
+            ExportColumn.of("created_at", CategoryResponse::createdAt),
+            ExportColumn.of("updated_at", CategoryResponse::updatedAt),
+            ExportColumn.of("deleted_at", CategoryResponse::deletedAt)
+    );
+
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoriesUseCase createCategoriesUseCase;
     private final GetCategoryUseCase getCategoryUseCase;
+    private final GetCategoryVersionUseCase getCategoryVersionUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoryUseCase listCategoryUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
 
     public CategoryController(
             CreateCategoryUseCase createCategoryUseCase,
+            CreateCategoriesUseCase createCategoriesUseCase,
             GetCategoryUseCase getCategoryUseCase,
+            GetCategoryVersionUseCase getCategoryVersionUseCase,
             UpdateCategoryUseCase updateCategoryUseCase,
             DeleteCategoryUseCase deleteCategoryUseCase,
-            ListCategoryUseCase listCategoryUseCase
+            ListCategoryUseCase listCategoryUseCase,
+            ExportCategoriesUseCase exportCategoriesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
         this.getCategoryUseCase = Objects.requireNonNull(getCategoryUseCase);
+        this.getCategoryVersionUseCase = Objects.requireNonNull(getCategoryVersionUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoryUseCase = Objects.requireNonNull(listCategoryUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
     }
 
     @Override
@@ -67,30 +104,80 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public Pagination<CategoryListResponse> listCategories(String search, int page, int perPage, String sort, String direction) {
+    public ResponseEntity<StreamingResponseBody> createInBulk(final InputStream body) {
+        final var stream = NdjsonImport.with(
+                "categories",
+                body,
+                CreateCategoryRequest.class,
+                input -> CreateCategoryCommand.with(
+                        input.name(),
+                        input.description(),
+                        input.active() != null ? input.active() : true
+                ),
+                this.createCategoriesUseCase::execute
+        );
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String format) {
+        final var aFormat = ExportFormat.of(format)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for format".formatted(format))));
+
+        final var stream = CatalogExport.with(
+                "categories",
+                aFormat,
+                consumer -> this.exportCategoriesUseCase.execute(it -> consumer.accept(CategoryApiPresenter.present(it))),
+                EXPORT_COLUMNS
+        );
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(stream.getFilename()).build().toString())
+                .contentType(aFormat.getMediaType())
+                .body(stream);
+    }
+
+    @Override
+    public Pagination<CategoryListResponse> listCategories(String search, int page, int perPage, String sort, String direction, String after, String total) {
+        final var aTotal = TotalMode.of(total)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for total".formatted(total))));
+
         return listCategoryUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, direction))
+                .execute(new SearchQuery(page, perPage, search, sort, direction, after, aTotal))
                 .map(CategoryApiPresenter::present);
     }
 
     @Override
-    public CategoryResponse getById(final String id) {
-        return CategoryApiPresenter.present(this.getCategoryUseCase.execute(id));
+    public ResponseEntity<CategoryResponse> getById(final String id, final String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            final var eTag = ETagUtils.of(this.getCategoryVersionUseCase.execute(id));
+            if (ETagUtils.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        final var output = this.getCategoryUseCase.execute(id);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.version()))
+                .body(CategoryApiPresenter.present(output));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateCategoryRequest input) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateCategoryRequest input) {
         final var command = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active() != null ? input.active() : true
+                input.active() != null ? input.active() : true,
+                ETagUtils.version(ifMatch)
         );
 
         final Function<Notification, ResponseEntity<?>> onError = notification ->
                 ResponseEntity.unprocessableEntity().body(notification);
 
-        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = ResponseEntity::ok;
+        final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess = output ->
+                ResponseEntity.ok().eTag(ETagUtils.of(output.version())).body(output);
 
         return this.updateCategoryUseCase.execute(command)
                 .fold(onError, onSuccess);
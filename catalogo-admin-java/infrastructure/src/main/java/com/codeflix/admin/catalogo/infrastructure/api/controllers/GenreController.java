@@ -2,44 +2,81 @@ package com.codeflix.admin.catalogo.infrastructure.api.controllers;
 
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreCommand;
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.create.CreateGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.GetGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.get.GetGenreVersionUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.update.UpdateGenreCommand;
 import com.codeflix.admin.catalogo.application.genre.update.UpdateGenreUseCase;
+import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
+import com.codeflix.admin.catalogo.domain.validation.Error;
 import com.codeflix.admin.catalogo.infrastructure.api.GenreAPI;
+import com.codeflix.admin.catalogo.infrastructure.bulk.CatalogExport;
+import com.codeflix.admin.catalogo.infrastructure.bulk.ExportColumn;
+import com.codeflix.admin.catalogo.infrastructure.bulk.ExportFormat;
+import com.codeflix.admin.catalogo.infrastructure.bulk.NdjsonImport;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.CreateGenreRequest;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.GenreListResponse;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.GenreResponse;
 import com.codeflix.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.codeflix.admin.catalogo.infrastructure.genre.presenters.GenreApiPresenter;
+import com.codeflix.admin.catalogo.infrastructure.utils.ETagUtils;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.util.List;
 
 @RestController
 public class GenreController implements GenreAPI {
 
+    private static final List<ExportColumn<GenreResponse>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", GenreResponse::id),
+            ExportColumn.of("name", GenreResponse::name),
+            ExportColumn.of("categories_id", GenreResponse::categories),
+            ExportColumn.of("is_active", GenreResponse::active),
+            ExportColumn.of("created_at", GenreResponse::createdAt),
+            ExportColumn.of("updated_at", GenreResponse::updatedAt),
+            ExportColumn.of("deleted_at", GenreResponse::deletedAt)
+    );
+
     private final CreateGenreUseCase createGenreUseCase;
+    private final CreateGenresUseCase createGenresUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
     private final GetGenreUseCase getGenreUseCase;
+    private final GetGenreVersionUseCase getGenreVersionUseCase;
     private final ListGenreUseCase listGenreUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
 
     public GenreController(
             final CreateGenreUseCase createGenreUseCase,
+            final CreateGenresUseCase createGenresUseCase,
             final DeleteGenreUseCase deleteGenreUseCase,
             final GetGenreUseCase getGenreUseCase,
+            final GetGenreVersionUseCase getGenreVersionUseCase,
             final ListGenreUseCase listGenreUseCase,
+            final ExportGenresUseCase exportGenresUseCase,
             final UpdateGenreUseCase updateGenreUseCase
     ) {
         this.createGenreUseCase = createGenreUseCase;
+        this.createGenresUseCase = createGenresUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
         this.getGenreUseCase = getGenreUseCase;
+        this.getGenreVersionUseCase = getGenreVersionUseCase;
         this.listGenreUseCase = listGenreUseCase;
+        this.exportGenresUseCase = exportGenresUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
     }
 
@@ -56,35 +93,82 @@ public class GenreController implements GenreAPI {
         return ResponseEntity.created(URI.create("/genres/" + output.id())).body(output);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> createInBulk(final InputStream body) {
+        final var stream = NdjsonImport.with(
+                "genres",
+                body,
+                CreateGenreRequest.class,
+                input -> CreateGenreCommand.with(input.name(), input.isActive(), input.categories()),
+                this.createGenresUseCase::execute
+        );
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String format) {
+        final var aFormat = ExportFormat.of(format)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for format".formatted(format))));
+
+        final var stream = CatalogExport.with(
+                "genres",
+                aFormat,
+                consumer -> this.exportGenresUseCase.execute(it -> consumer.accept(GenreApiPresenter.present(it))),
+                EXPORT_COLUMNS
+        );
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(stream.getFilename()).build().toString())
+                .contentType(aFormat.getMediaType())
+                .body(stream);
+    }
+
     @Override
     public Pagination<GenreListResponse> list(
             final String search,
             final int page,
             final int perPage,
             final String sort,
-            final String direction
+            final String direction,
+            final String after,
+            final String total
     ) {
-        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction))
+        final var aTotal = TotalMode.of(total)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for total".formatted(total))));
+
+        return this.listGenreUseCase.execute(new SearchQuery(page, perPage, search, sort, direction, after, aTotal))
                 .map(GenreApiPresenter::present);
     }
 
     @Override
-    public GenreResponse getById(final String id) {
-        return GenreApiPresenter.present(this.getGenreUseCase.execute(id));
+    public ResponseEntity<GenreResponse> getById(final String id, final String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            final var eTag = ETagUtils.of(this.getGenreVersionUseCase.execute(id));
+            if (ETagUtils.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        final var output = this.getGenreUseCase.execute(id);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.version()))
+                .body(GenreApiPresenter.present(output));
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id, final UpdateGenreRequest input) {
+    public ResponseEntity<?> updateById(final String id, final String ifMatch, final UpdateGenreRequest input) {
         final var aCommand = UpdateGenreCommand.with(
                 id,
                 input.name(),
                 input.isActive(),
-                input.categories()
+                input.categories(),
+                ETagUtils.version(ifMatch)
         );
 
         final var output = this.updateGenreUseCase.execute(aCommand);
 
-        return ResponseEntity.ok(output);
+        return ResponseEntity.ok().eTag(ETagUtils.of(output.version())).body(output);
     }
 
     @Override
@@ -2,11 +2,14 @@ package com.codeflix.admin.catalogo.infrastructure.api.controllers;
 
 import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.validation.Error;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -23,6 +26,15 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(APIError.from(exception));
     }
 
+    @ExceptionHandler(value = StaleVersionException.class)
+    public ResponseEntity<?> handleStaleVersionException(final StaleVersionException exception, final WebRequest request) {
+        // a failed If-Match is a precondition, a write racing another one without it is a conflict
+        final var status = request.getHeader(HttpHeaders.IF_MATCH) != null
+                ? HttpStatus.PRECONDITION_FAILED
+                : HttpStatus.CONFLICT;
+        return ResponseEntity.status(status).body(APIError.from(exception));
+    }
+
     record APIError(String message, List<Error> errors) {
         static APIError from(final DomainException exception) {
             return new APIError(exception.getMessage(), exception.getErrors());
@@ -2,12 +2,18 @@ package com.codeflix.admin.catalogo.infrastructure.api.controllers;
 
 import com.codeflix.admin.catalogo.application.video.create.CreateVideoCommand;
 import com.codeflix.admin.catalogo.application.video.create.CreateVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.create.CreateVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.codeflix.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.codeflix.admin.catalogo.application.video.media.get.GetMediaUseCase;
+import com.codeflix.admin.catalogo.application.video.media.get.MediaOutput;
 import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaCommand;
 import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.codeflix.admin.catalogo.application.video.media.upload.resumable.*;
+import com.codeflix.admin.catalogo.application.video.retrieve.export.ExportVideosUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.facets.FacetVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.retrieve.get.GetVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.get.GetVideoVersionUseCase;
 import com.codeflix.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.update.UpdateVideoCommand;
 import com.codeflix.admin.catalogo.application.video.update.UpdateVideoUseCase;
@@ -16,57 +22,121 @@ import com.codeflix.admin.catalogo.domain.category.CategoryID;
 import com.codeflix.admin.catalogo.domain.exceptions.NotificationException;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
 import com.codeflix.admin.catalogo.domain.validation.Error;
 import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.StreamingResource;
 import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
 import com.codeflix.admin.catalogo.domain.video.VideoResource;
 import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
 import com.codeflix.admin.catalogo.infrastructure.api.VideoAPI;
-import com.codeflix.admin.catalogo.infrastructure.utils.HashingUtils;
-import com.codeflix.admin.catalogo.infrastructure.video.models.CreateVideoRequest;
-import com.codeflix.admin.catalogo.infrastructure.video.models.UpdateVideoRequest;
-import com.codeflix.admin.catalogo.infrastructure.video.models.VideoListResponse;
-import com.codeflix.admin.catalogo.infrastructure.video.models.VideoResponse;
+import com.codeflix.admin.catalogo.infrastructure.bulk.CatalogExport;
+import com.codeflix.admin.catalogo.infrastructure.bulk.ExportColumn;
+import com.codeflix.admin.catalogo.infrastructure.bulk.ExportFormat;
+import com.codeflix.admin.catalogo.infrastructure.bulk.NdjsonImport;
+import com.codeflix.admin.catalogo.infrastructure.utils.ETagUtils;
+import com.codeflix.admin.catalogo.infrastructure.video.models.*;
 import com.codeflix.admin.catalogo.infrastructure.video.presenters.VideoApiPresenter;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.net.URI;
+import java.nio.channels.Channels;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Pattern;
 
 import static com.codeflix.admin.catalogo.domain.Utils.CollectionUtils.mapTo;
 
 @RestController
 public class VideoController implements VideoAPI {
 
+    private static final Pattern CONTENT_RANGE = Pattern.compile("^bytes (\\d+)-(\\d+)/(\\d+|\\*)$");
+
+    private static final List<ExportColumn<VideoResponse>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", VideoResponse::id),
+            ExportColumn.of("title", VideoResponse::title),
+            ExportColumn.of("description", VideoResponse::description),
+            ExportColumn.of("year_launched", VideoResponse::yearLaunched),
+            ExportColumn.of("duration", VideoResponse::duration),
+            ExportColumn.of("opened", VideoResponse::opened),
+            ExportColumn.of("published", VideoResponse::published),
+            ExportColumn.of("rating", VideoResponse::rating),
+            ExportColumn.of("created_at", VideoResponse::createdAt),
+            ExportColumn.of("updated_at", VideoResponse::updatedAt),
+            ExportColumn.of("categories_id", VideoResponse::categoriesId),
+            ExportColumn.of("genres_id", VideoResponse::genresId),
+            ExportColumn.of("cast_members_id", VideoResponse::castMembersId),
+            media("banner_location", VideoResponse::banner, ImageMediaResponse::location),
+            media("thumbnail_location", VideoResponse::thumbnail, ImageMediaResponse::location),
+            media("thumbnail_half_location", VideoResponse::thumbnailHalf, ImageMediaResponse::location),
+            media("video_location", VideoResponse::video, AudioVideoMediaResponse::rawLocation),
+            media("video_encoded_location", VideoResponse::video, AudioVideoMediaResponse::encodedLocation),
+            media("video_status", VideoResponse::video, AudioVideoMediaResponse::status),
+            media("trailer_location", VideoResponse::trailer, AudioVideoMediaResponse::rawLocation),
+            media("trailer_encoded_location", VideoResponse::trailer, AudioVideoMediaResponse::encodedLocation),
+            media("trailer_status", VideoResponse::trailer, AudioVideoMediaResponse::status)
+    );
+
     private final CreateVideoUseCase createVideoUseCase;
+    private final CreateVideosUseCase createVideosUseCase;
     private final GetVideoUseCase getVideoUseCase;
+    private final GetVideoVersionUseCase getVideoVersionUseCase;
     private final UpdateVideoUseCase updateVideoUseCase;
     private final DeleteVideoUseCase deleteVideoUseCase;
     private final ListVideosUseCase listVideosUseCase;
+    private final ExportVideosUseCase exportVideosUseCase;
+    private final FacetVideosUseCase facetVideosUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final CreateMediaUploadUseCase createMediaUploadUseCase;
+    private final AppendMediaUploadUseCase appendMediaUploadUseCase;
+    private final GetMediaUploadUseCase getMediaUploadUseCase;
+    private final CompleteMediaUploadUseCase completeMediaUploadUseCase;
 
     public VideoController(
             final CreateVideoUseCase createVideoUseCase,
+            final CreateVideosUseCase createVideosUseCase,
             final GetVideoUseCase getVideoUseCase,
+            final GetVideoVersionUseCase getVideoVersionUseCase,
             final UpdateVideoUseCase updateVideoUseCase,
             final DeleteVideoUseCase deleteVideoUseCase,
             final ListVideosUseCase listVideosUseCase,
+            final ExportVideosUseCase exportVideosUseCase,
+            final FacetVideosUseCase facetVideosUseCase,
             final GetMediaUseCase getMediaUseCase,
-            final UploadMediaUseCase uploadMediaUseCase
+            final UploadMediaUseCase uploadMediaUseCase,
+            final CreateMediaUploadUseCase createMediaUploadUseCase,
+            final AppendMediaUploadUseCase appendMediaUploadUseCase,
+            final GetMediaUploadUseCase getMediaUploadUseCase,
+            final CompleteMediaUploadUseCase completeMediaUploadUseCase
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
+        this.createVideosUseCase = Objects.requireNonNull(createVideosUseCase);
         this.getVideoUseCase = Objects.requireNonNull(getVideoUseCase);
+        this.getVideoVersionUseCase = Objects.requireNonNull(getVideoVersionUseCase);
         this.updateVideoUseCase = Objects.requireNonNull(updateVideoUseCase);
         this.deleteVideoUseCase = Objects.requireNonNull(deleteVideoUseCase);
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
+        this.exportVideosUseCase = Objects.requireNonNull(exportVideosUseCase);
+        this.facetVideosUseCase = Objects.requireNonNull(facetVideosUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.createMediaUploadUseCase = Objects.requireNonNull(createMediaUploadUseCase);
+        this.appendMediaUploadUseCase = Objects.requireNonNull(appendMediaUploadUseCase);
+        this.getMediaUploadUseCase = Objects.requireNonNull(getMediaUploadUseCase);
+        this.completeMediaUploadUseCase = Objects.requireNonNull(completeMediaUploadUseCase);
     }
 
     @Override
@@ -78,14 +148,19 @@ public class VideoController implements VideoAPI {
             final String direction,
             final Set<String> castMembers,
             final Set<String> categories,
-            final Set<String> genres
+            final Set<String> genres,
+            final String after,
+            final String total
     ) {
+        final var aTotal = TotalMode.of(total)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for total".formatted(total))));
+
         final var castMemberIDs = mapTo(castMembers, CastMemberID::from);
         final var categoriesIDs = mapTo(categories, CategoryID::from);
         final var genresIDs = mapTo(genres, GenreID::from);
 
         final var query =
-                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs);
+                new VideoSearchQuery(page, perPage, search, sort, direction, castMemberIDs, categoriesIDs, genresIDs, after, aTotal);
 
         return VideoApiPresenter.present(this.listVideosUseCase.execute(query));
     }
@@ -152,12 +227,93 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public VideoResponse getById(final String anId) {
-        return VideoApiPresenter.present(this.getVideoUseCase.execute(anId));
+    public ResponseEntity<StreamingResponseBody> createInBulk(final InputStream body) {
+        final var stream = NdjsonImport.with(
+                "videos",
+                body,
+                CreateVideoRequest.class,
+                payload -> CreateVideoCommand.with(
+                        payload.title(),
+                        payload.description(),
+                        payload.yearLaunched(),
+                        payload.duration(),
+                        payload.opened(),
+                        payload.published(),
+                        payload.rating(),
+                        payload.categories(),
+                        payload.genres(),
+                        payload.castMembers()
+                ),
+                this.createVideosUseCase::execute
+        );
+
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(stream);
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> export(final String format) {
+        final var aFormat = ExportFormat.of(format)
+                .orElseThrow(() -> NotificationException.with(new Error("Invalid %s for format".formatted(format))));
+
+        final var stream = CatalogExport.with(
+                "videos",
+                aFormat,
+                consumer -> this.exportVideosUseCase.execute(it -> consumer.accept(VideoApiPresenter.present(it))),
+                EXPORT_COLUMNS
+        );
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(stream.getFilename()).build().toString())
+                .contentType(aFormat.getMediaType())
+                .body(stream);
+    }
+
+    private static <M> ExportColumn<VideoResponse> media(
+            final String name,
+            final Function<VideoResponse, M> media,
+            final Function<M, Object> value
+    ) {
+        return ExportColumn.of(name, it -> Optional.ofNullable(media.apply(it)).map(value).orElse(null));
     }
 
     @Override
-    public ResponseEntity<?> update(final String id, final UpdateVideoRequest payload) {
+    public VideoFacetsResponse facets(
+            final String search,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        final var query = new VideoSearchQuery(
+                0,
+                0,
+                search,
+                "title",
+                "asc",
+                mapTo(castMembers, CastMemberID::from),
+                mapTo(categories, CategoryID::from),
+                mapTo(genres, GenreID::from)
+        );
+
+        return VideoApiPresenter.present(this.facetVideosUseCase.execute(query));
+    }
+
+    @Override
+    public ResponseEntity<VideoResponse> getById(final String anId, final String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            final var eTag = ETagUtils.of(this.getVideoVersionUseCase.execute(anId));
+            if (ETagUtils.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+        }
+
+        final var output = this.getVideoUseCase.execute(anId);
+        return ResponseEntity.ok()
+                .eTag(ETagUtils.of(output.version()))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public ResponseEntity<?> update(final String id, final String ifMatch, final UpdateVideoRequest payload) {
         final var command = UpdateVideoCommand.with(
                 id,
                 payload.title(),
@@ -169,13 +325,15 @@ public class VideoController implements VideoAPI {
                 payload.rating(),
                 payload.categories(),
                 payload.genres(),
-                payload.castMembers()
+                payload.castMembers(),
+                ETagUtils.version(ifMatch)
         );
 
         final var output = this.updateVideoUseCase.execute(command);
 
         return ResponseEntity.ok()
                 .location(URI.create("/videos/" + output.id()))
+                .eTag(ETagUtils.of(output.version()))
                 .body(VideoApiPresenter.present(output));
     }
 
@@ -185,15 +343,46 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String id, final String type) {
+    public ResponseEntity<StreamingResponseBody> getMediaByType(
+            final String id,
+            final String type,
+            final String range,
+            final String ifNoneMatch
+    ) {
         final var aMedia =
                 this.getMediaUseCase.execute(GetMediaCommand.with(id, type));
 
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(aMedia.contentType()))
-                .contentLength(aMedia.content().length)
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
-                .body(aMedia.content());
+        final var eTag = "\"%s\"".formatted(aMedia.checksum());
+
+        if (ifNoneMatch != null && ETagUtils.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .build();
+        }
+
+        final var length = aMedia.length();
+        final var ranges = rangesOf(range);
+
+        if (ranges.size() != 1) {
+            return mediaResponse(ResponseEntity.ok(), aMedia, eTag, 0, length);
+        }
+
+        final var aRange = ranges.get(0);
+        final long start;
+        final long end;
+        try {
+            start = aRange.getRangeStart(length);
+            end = aRange.getRangeEnd(length);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(HttpHeaders.CONTENT_RANGE, "bytes */%s".formatted(length))
+                    .build();
+        }
+
+        final var response = ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .header(HttpHeaders.CONTENT_RANGE, "bytes %s-%s/%s".formatted(start, end, length));
+
+        return mediaResponse(response, aMedia, eTag, start, end - start + 1);
     }
 
     @Override
@@ -211,20 +400,106 @@ public class VideoController implements VideoAPI {
                 .body(VideoApiPresenter.present(output));
     }
 
+    @Override
+    public ResponseEntity<MediaUploadResponse> createMediaUpload(
+            final String id,
+            final String type,
+            final CreateMediaUploadRequest payload
+    ) {
+        final var command = CreateMediaUploadCommand.with(
+                id,
+                type,
+                payload.contentType(),
+                payload.name(),
+                payload.length() != null ? payload.length() : 0
+        );
+
+        final var output = this.createMediaUploadUseCase.execute(command);
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(id, type, output.uploadId())))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    @Override
+    public MediaUploadResponse appendMediaUpload(
+            final String id,
+            final String type,
+            final String uploadId,
+            final String range,
+            final InputStream content
+    ) {
+        final var matcher = CONTENT_RANGE.matcher(range == null ? "" : range.trim());
+        if (!matcher.matches()) {
+            throw NotificationException.with(new Error("Invalid Content-Range %s".formatted(range)));
+        }
+
+        final var offset = Long.parseLong(matcher.group(1));
+        final var last = Long.parseLong(matcher.group(2));
+        if (last < offset) {
+            throw NotificationException.with(new Error("Invalid Content-Range %s".formatted(range)));
+        }
+
+        final var command = AppendMediaUploadCommand.with(id, type, uploadId, offset, last - offset + 1, content);
+
+        return VideoApiPresenter.present(this.appendMediaUploadUseCase.execute(command));
+    }
+
+    @Override
+    public MediaUploadResponse getMediaUpload(final String id, final String type, final String uploadId) {
+        return VideoApiPresenter.present(this.getMediaUploadUseCase.execute(MediaUploadCommand.with(id, type, uploadId)));
+    }
+
+    @Override
+    public ResponseEntity<?> completeMediaUpload(final String id, final String type, final String uploadId) {
+        final var output = this.completeMediaUploadUseCase.execute(MediaUploadCommand.with(id, type, uploadId));
+
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(id, type)))
+                .body(VideoApiPresenter.present(output));
+    }
+
+    private ResponseEntity<StreamingResponseBody> mediaResponse(
+            final ResponseEntity.BodyBuilder response,
+            final MediaOutput aMedia,
+            final String eTag,
+            final long position,
+            final long count
+    ) {
+        final StreamingResponseBody body = out ->
+                aMedia.resource().transferTo(position, count, Channels.newChannel(out));
+
+        return response
+                .contentType(MediaType.valueOf(aMedia.contentType()))
+                .contentLength(count)
+                .eTag(eTag)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=%s".formatted(aMedia.name()))
+                .body(body);
+    }
+
+    private List<HttpRange> rangesOf(final String range) {
+        if (range == null || range.isBlank()) {
+            return List.of();
+        }
+
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+
     private Resource resourceOf(final MultipartFile part) {
         if (part == null) {
             return null;
         }
 
-        try {
-            return Resource.with(
-                    part.getBytes(),
-                    HashingUtils.checksum(part.getBytes()),
-                    part.getContentType(),
-                    part.getOriginalFilename()
-            );
-        } catch (Throwable throwable) {
-            throw new RuntimeException(throwable);
-        }
+        return StreamingResource.with(
+                part::getInputStream,
+                part.getSize(),
+                part.getContentType(),
+                part.getOriginalFilename()
+        );
     }
 }
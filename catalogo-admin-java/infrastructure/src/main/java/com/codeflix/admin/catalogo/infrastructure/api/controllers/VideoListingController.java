@@ -0,0 +1,34 @@
+package com.codeflix.admin.catalogo.infrastructure.api.controllers;
+
+import com.codeflix.admin.catalogo.infrastructure.api.VideoListingAPI;
+import com.codeflix.admin.catalogo.infrastructure.video.VideoListingProjection;
+import com.codeflix.admin.catalogo.infrastructure.video.models.VideoListingStatusResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+@RestController
+@ConditionalOnProperty(value = "video.listing.enabled", havingValue = "true")
+public class VideoListingController implements VideoListingAPI {
+
+    private final VideoListingProjection videoListingProjection;
+
+    public VideoListingController(final VideoListingProjection videoListingProjection) {
+        this.videoListingProjection = Objects.requireNonNull(videoListingProjection);
+    }
+
+    @Override
+    public ResponseEntity<Void> rebuild() {
+        return this.videoListingProjection.rebuildAsync()
+                ? ResponseEntity.accepted().build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    @Override
+    public VideoListingStatusResponse status() {
+        return VideoListingStatusResponse.from(this.videoListingProjection.status());
+    }
+}
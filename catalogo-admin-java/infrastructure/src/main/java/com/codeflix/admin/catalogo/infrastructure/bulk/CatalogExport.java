@@ -0,0 +1,101 @@
+package com.codeflix.admin.catalogo.infrastructure.bulk;
+
+import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+public final class CatalogExport<T> implements StreamingResponseBody {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogExport.class);
+
+    public static final int BUFFER_SIZE = 64 * 1024;
+
+    private final String aggregate;
+    private final ExportFormat format;
+    private final Consumer<Consumer<T>> source;
+    private final List<ExportColumn<T>> columns;
+
+    private CatalogExport(
+            final String aggregate,
+            final ExportFormat format,
+            final Consumer<Consumer<T>> source,
+            final List<ExportColumn<T>> columns
+    ) {
+        this.aggregate = Objects.requireNonNull(aggregate);
+        this.format = Objects.requireNonNull(format);
+        this.source = Objects.requireNonNull(source);
+        this.columns = Objects.requireNonNull(columns);
+    }
+
+    public static <T> CatalogExport<T> with(
+            final String aggregate,
+            final ExportFormat format,
+            final Consumer<Consumer<T>> source,
+            final List<ExportColumn<T>> columns
+    ) {
+        return new CatalogExport<>(aggregate, format, source, columns);
+    }
+
+    public String getFilename() {
+        return this.aggregate + "." + this.format.getExtension();
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        final var startedAt = System.currentTimeMillis();
+        // writes only reach the socket when the buffer fills up, a slow client blocks the cursor right there
+        final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), BUFFER_SIZE);
+        final var rows = new AtomicLong();
+
+        if (this.format == ExportFormat.CSV) {
+            writer.write(this.columns.stream().map(ExportColumn::name).collect(Collectors.joining(",")));
+            writer.write('\n');
+        }
+
+        try {
+            this.source.accept(row -> {
+                try {
+                    write(writer, row);
+                    rows.incrementAndGet();
+                } catch (final IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (final UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        writer.flush();
+
+        log.info("[message:bulk.export] [status:done] [aggregate:{}] [format:{}] [rows:{}] [elapsed:{}ms]",
+                this.aggregate, this.format.getExtension(), rows.get(), System.currentTimeMillis() - startedAt);
+    }
+
+    private void write(final Writer writer, final T row) throws IOException {
+        if (this.format == ExportFormat.NDJSON) {
+            writer.write(Json.writeValueAsString(row));
+        } else {
+            for (int i = 0; i < this.columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(this.columns.get(i).format(row));
+            }
+        }
+        writer.write('\n');
+    }
+}
@@ -0,0 +1,30 @@
+package com.codeflix.admin.catalogo.infrastructure.bulk;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public record ExportColumn<T>(String name, Function<T, Object> value) {
+
+    public static <T> ExportColumn<T> of(final String name, final Function<T, Object> value) {
+        return new ExportColumn<>(Objects.requireNonNull(name), Objects.requireNonNull(value));
+    }
+
+    public String format(final T row) {
+        final var value = this.value.apply(row);
+        if (value == null) {
+            return "";
+        }
+
+        final var text = value instanceof Collection<?> values
+                ? values.stream().map(String::valueOf).sorted().collect(Collectors.joining("|"))
+                : value.toString();
+
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            return text;
+        }
+
+        return '"' + text.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,137 @@
+package com.codeflix.admin.catalogo.infrastructure.bulk;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
+import com.codeflix.admin.catalogo.infrastructure.bulk.models.BulkItemResponse;
+import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+public final class NdjsonImport<R, C> implements StreamingResponseBody {
+
+    private static final Logger log = LoggerFactory.getLogger(NdjsonImport.class);
+
+    public static final int CHUNK_SIZE = 500;
+
+    private final String aggregate;
+    private final InputStream body;
+    private final Class<R> requestType;
+    private final Function<R, C> toCommand;
+    private final Function<List<C>, List<BulkItemOutput>> useCase;
+
+    private NdjsonImport(
+            final String aggregate,
+            final InputStream body,
+            final Class<R> requestType,
+            final Function<R, C> toCommand,
+            final Function<List<C>, List<BulkItemOutput>> useCase
+    ) {
+        this.aggregate = Objects.requireNonNull(aggregate);
+        this.body = Objects.requireNonNull(body);
+        this.requestType = Objects.requireNonNull(requestType);
+        this.toCommand = Objects.requireNonNull(toCommand);
+        this.useCase = Objects.requireNonNull(useCase);
+    }
+
+    public static <R, C> NdjsonImport<R, C> with(
+            final String aggregate,
+            final InputStream body,
+            final Class<R> requestType,
+            final Function<R, C> toCommand,
+            final Function<List<C>, List<BulkItemOutput>> useCase
+    ) {
+        return new NdjsonImport<>(aggregate, body, requestType, toCommand, useCase);
+    }
+
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+        final var startedAt = System.currentTimeMillis();
+        final var reader = new BufferedReader(new InputStreamReader(this.body, StandardCharsets.UTF_8));
+        final var writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        final var chunk = new Chunk();
+
+        var line = 0;
+        String raw;
+        while ((raw = reader.readLine()) != null) {
+            line++;
+            if (raw.isBlank()) {
+                continue;
+            }
+
+            chunk.add(line, raw);
+
+            if (chunk.commands.size() == CHUNK_SIZE) {
+                chunk.flush(writer);
+            }
+        }
+        chunk.flush(writer);
+
+        log.info("[message:bulk.import] [status:done] [aggregate:{}] [lines:{}] [created:{}] [elapsed:{}ms]",
+                this.aggregate, chunk.processed, chunk.created, System.currentTimeMillis() - startedAt);
+    }
+
+    private final class Chunk {
+
+        private final List<Integer> lines = new ArrayList<>(CHUNK_SIZE);
+        private final List<BulkItemOutput> rejected = new ArrayList<>(CHUNK_SIZE);
+        private final List<C> commands = new ArrayList<>(CHUNK_SIZE);
+
+        private long processed;
+        private long created;
+
+        private void add(final int line, final String raw) {
+            this.lines.add(line);
+
+            try {
+                this.commands.add(toCommand.apply(Json.readValue(raw, requestType)));
+                this.rejected.add(null);
+            } catch (final RuntimeException e) {
+                this.rejected.add(BulkItemOutput.failed(Notification.create(new Error("Malformed JSON line"))));
+            }
+        }
+
+        private void flush(final Writer writer) throws IOException {
+            if (this.lines.isEmpty()) {
+                return;
+            }
+
+            final var outputs = this.commands.isEmpty() ? List.<BulkItemOutput>of() : useCase.apply(this.commands);
+
+            var next = 0;
+            for (int i = 0; i < this.lines.size(); i++) {
+                final var rejection = this.rejected.get(i);
+                final var output = rejection != null ? rejection : outputs.get(next++);
+
+                if (output.isCreated()) {
+                    this.created++;
+                }
+
+                writer.write(Json.writeValueAsString(BulkItemResponse.from(this.lines.get(i), output)));
+                writer.write('\n');
+            }
+
+            writer.flush();
+
+            this.processed += this.lines.size();
+            this.lines.clear();
+            this.rejected.clear();
+            this.commands.clear();
+        }
+    }
+}
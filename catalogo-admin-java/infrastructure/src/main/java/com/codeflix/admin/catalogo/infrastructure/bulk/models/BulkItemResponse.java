@@ -0,0 +1,18 @@
+package com.codeflix.admin.catalogo.infrastructure.bulk.models;
+
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+
+public record BulkItemResponse(
+        @JsonProperty("line") int line,
+        @JsonProperty("id") String id,
+        @JsonProperty("errors") List<Error> errors
+) {
+
+    public static BulkItemResponse from(final int line, final BulkItemOutput output) {
+        return new BulkItemResponse(line, output.id(), output.errors());
+    }
+}
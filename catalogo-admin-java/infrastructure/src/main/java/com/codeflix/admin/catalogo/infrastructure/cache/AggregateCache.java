@@ -0,0 +1,72 @@
+package com.codeflix.admin.catalogo.infrastructure.cache;
+
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.cache.CacheProperties;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+public class AggregateCache<T> {
+
+    private final String name;
+    private final Cache<String, T> cache;
+    private final UnaryOperator<T> copy;
+
+    private AggregateCache(final String name, final Cache<String, T> cache, final UnaryOperator<T> copy) {
+        this.name = Objects.requireNonNull(name);
+        this.cache = Objects.requireNonNull(cache);
+        this.copy = Objects.requireNonNull(copy);
+    }
+
+    public static <T> AggregateCache<T> create(
+            final String name,
+            final CacheProperties properties,
+            final UnaryOperator<T> copy
+    ) {
+        final Cache<String, T> cache = CacheBuilder.newBuilder()
+                .maximumSize(properties.getMaxSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getTtl()))
+                .recordStats()
+                .build();
+
+        return new AggregateCache<>(name, cache, copy);
+    }
+
+    // aggregates are mutable, so callers always get their own copy and never the cached instance
+    public Optional<T> get(final String id, final Supplier<Optional<T>> loader) {
+        final var key = id.trim();
+        final var cached = this.cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(this.copy.apply(cached));
+        }
+
+        final var loaded = loader.get();
+        loaded.ifPresent(it -> this.cache.put(key, this.copy.apply(it)));
+        return loaded;
+    }
+
+    public void invalidate(final String id) {
+        this.cache.invalidate(id.trim());
+    }
+
+    public void invalidateAll() {
+        this.cache.invalidateAll();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long size() {
+        return this.cache.size();
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+}
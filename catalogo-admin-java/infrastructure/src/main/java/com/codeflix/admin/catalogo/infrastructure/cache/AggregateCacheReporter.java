@@ -0,0 +1,29 @@
+package com.codeflix.admin.catalogo.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+import java.util.Objects;
+
+public class AggregateCacheReporter {
+
+    private static final Logger log = LoggerFactory.getLogger(AggregateCacheReporter.class);
+
+    private final List<AggregateCache<?>> caches;
+
+    public AggregateCacheReporter(final List<AggregateCache<?>> caches) {
+        this.caches = Objects.requireNonNull(caches);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.aggregates.report-interval}")
+    public void report() {
+        for (final var cache : this.caches) {
+            final var stats = cache.stats();
+            log.info("[message:cache.stats] [cache:{}] [size:{}] [hits:{}] [misses:{}] [hitRate:{}] [evictions:{}]",
+                    cache.name(), cache.size(), stats.hitCount(), stats.missCount(),
+                    "%.3f".formatted(stats.hitRate()), stats.evictionCount());
+        }
+    }
+}
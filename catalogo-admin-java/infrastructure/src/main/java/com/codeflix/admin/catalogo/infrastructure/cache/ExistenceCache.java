@@ -0,0 +1,68 @@
+package com.codeflix.admin.catalogo.infrastructure.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+
+@Component
+public class ExistenceCache {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final long MAX_SIZE = 100_000;
+
+    // only positive answers are cached, a missing id is always looked up again
+    private final Cache<String, Boolean> existing;
+
+    public ExistenceCache() {
+        this.existing = CacheBuilder.newBuilder()
+                .expireAfterWrite(TTL)
+                .maximumSize(MAX_SIZE)
+                .build();
+    }
+
+    public List<String> existsByIds(
+            final String aggregate,
+            final Collection<String> ids,
+            final Function<List<String>, List<String>> lookup
+    ) {
+        final var found = new ArrayList<String>(ids.size());
+        final var unknown = new ArrayList<String>();
+
+        for (final var id : ids) {
+            final var value = id.trim();
+            if (this.existing.getIfPresent(key(aggregate, value)) != null) {
+                found.add(value);
+            } else {
+                unknown.add(value);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            for (final var id : lookup.apply(unknown)) {
+                final var value = id.trim();
+                this.existing.put(key(aggregate, value), Boolean.TRUE);
+                found.add(value);
+            }
+        }
+
+        return found;
+    }
+
+    public void invalidate(final String aggregate, final String id) {
+        this.existing.invalidate(key(aggregate, id.trim()));
+    }
+
+    public void invalidateAll() {
+        this.existing.invalidateAll();
+    }
+
+    private static String key(final String aggregate, final String id) {
+        return aggregate + ":" + id;
+    }
+}
@@ -0,0 +1,81 @@
+package com.codeflix.admin.catalogo.infrastructure.castmember;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberPreview;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CachedCastMemberGateway implements CastMemberGateway {
+
+    private final CastMemberGateway gateway;
+    private final AggregateCache<CastMember> cache;
+
+    public CachedCastMemberGateway(final CastMemberGateway gateway, final AggregateCache<CastMember> cache) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public CastMember create(final CastMember castMember) {
+        final var created = this.gateway.create(castMember);
+        this.cache.invalidate(created.getId().getValue());
+        return created;
+    }
+
+    @Override
+    public List<CastMember> createAll(final List<CastMember> castMembers) {
+        final var created = this.gateway.createAll(castMembers);
+        created.forEach(it -> this.cache.invalidate(it.getId().getValue()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CastMemberID id) {
+        this.gateway.deleteById(id);
+        this.cache.invalidate(id.getValue());
+    }
+
+    @Override
+    public Optional<CastMember> findById(final CastMemberID id) {
+        return this.cache.get(id.getValue(), () -> this.gateway.findById(id));
+    }
+
+    @Override
+    public Optional<Long> findVersion(final CastMemberID id) {
+        // a cached copy may be older than what another node wrote, so If-None-Match is answered from the table
+        return this.gateway.findVersion(id);
+    }
+
+    @Override
+    public CastMember update(final CastMember castMember) {
+        // a rejected version means the cached copy is the stale one, so it goes either way
+        try {
+            return this.gateway.update(castMember);
+        } finally {
+            this.cache.invalidate(castMember.getId().getValue());
+        }
+    }
+
+    @Override
+    public Pagination<CastMemberPreview> findAll(final SearchQuery query) {
+        return this.gateway.findAll(query);
+    }
+
+    @Override
+    public void streamAll(final Consumer<CastMember> consumer) {
+        this.gateway.streamAll(consumer);
+    }
+
+    @Override
+    public List<CastMemberID> existsByIds(final Iterable<CastMemberID> ids) {
+        return this.gateway.existsByIds(ids);
+    }
+}
@@ -1,77 +1,139 @@
 package com.codeflix.admin.catalogo.infrastructure.castmember;
 
 import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberChanged;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberPreview;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.ExistenceCache;
 import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberPreviewJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberPreviewRepository;
 import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
-import com.codeflix.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchDocument;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchIndexes;
+import com.codeflix.admin.catalogo.infrastructure.utils.BatchUtils;
+import com.codeflix.admin.catalogo.infrastructure.utils.SearchUtils;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
 @Component
 public class CastMemberMySqlGateway implements CastMemberGateway {
 
-    private final CastMemberRepository castMemberRepository;
+    private static final String AGGREGATE = "cast_members";
 
-    public CastMemberMySqlGateway(final CastMemberRepository castMemberRepository) {
+    private final CastMemberRepository castMemberRepository;
+    private final CastMemberPreviewRepository castMemberPreviewRepository;
+    private final SearchIndexes searchIndexes;
+    private final ExistenceCache existenceCache;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CastMemberMySqlGateway(
+            final CastMemberRepository castMemberRepository,
+            final CastMemberPreviewRepository castMemberPreviewRepository,
+            final SearchIndexes searchIndexes,
+            final ExistenceCache existenceCache,
+            final EntityManager entityManager,
+            final ApplicationEventPublisher eventPublisher
+    ) {
         this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.castMemberPreviewRepository = Objects.requireNonNull(castMemberPreviewRepository);
+        this.searchIndexes = Objects.requireNonNull(searchIndexes);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
     @Override
     public CastMember create(final CastMember aCastMember) {
-        return save(aCastMember);
+        return save(aCastMember, CastMemberJpaEntity.from(aCastMember));
+    }
+
+    @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> members) {
+        final var entities = members.stream()
+                .map(CastMemberJpaEntity::from)
+                .toList();
+
+        final var created = BatchUtils.persistAll(this.entityManager, entities, CastMemberJpaEntity::toAggregate);
+
+        SearchIndexes.afterCommit(() -> created.forEach(it -> this.searchIndexes.castMembers()
+                .put(SearchDocument.with(it.getId().getValue(), it.getName()))));
+        return created;
     }
 
     @Override
     public void deleteById(final CastMemberID aMemberId) {
         final var anId = aMemberId.getValue();
-        if (this.castMemberRepository.existsById(anId)) {
+        if (BinaryIdConverter.isWellFormed(anId) && this.castMemberRepository.existsById(anId)) {
             this.castMemberRepository.deleteById(anId);
+            SearchIndexes.afterCommit(() -> this.searchIndexes.castMembers().remove(anId));
+            this.existenceCache.invalidate(AGGREGATE, anId);
+            this.eventPublisher.publishEvent(new CastMemberChanged(anId));
         }
     }
 
     @Override
     public Optional<CastMember> findById(final CastMemberID anId) {
-        return this.castMemberRepository.findById(anId.getValue())
+        return Optional.of(anId.getValue())
+                .filter(BinaryIdConverter::isWellFormed)
+                .flatMap(this.castMemberRepository::findById)
                 .map(CastMemberJpaEntity::toAggregate);
     }
 
     @Override
-    public CastMember update(final CastMember aCastMember) {
-        return save(aCastMember);
+    public Optional<Long> findVersion(final CastMemberID anId) {
+        return Optional.of(anId.getValue())
+                .filter(BinaryIdConverter::isWellFormed)
+                .flatMap(this.castMemberRepository::findVersion);
     }
 
     @Override
-    public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-                aQuery.page(),
-                aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+    public CastMember update(final CastMember aCastMember) {
+        final var entity = CastMemberJpaEntity.from(aCastMember);
+        if (entity.getVersion() == null) {
+            // read without a version, so it keeps overwriting whatever is stored
+            this.castMemberRepository.findVersion(entity.getId()).ifPresent(entity::setVersion);
+        }
 
-        final var where = Optional.ofNullable(aQuery.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        final var updated = save(aCastMember, entity);
+        this.eventPublisher.publishEvent(new CastMemberChanged(updated.getId().getValue()));
+        return updated;
+    }
 
-        final var pageResult =
-                this.castMemberRepository.findAll(where, page);
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CastMemberPreview> findAll(final SearchQuery aQuery) {
+        return SearchUtils.findAll(
+                this.castMemberPreviewRepository,
+                this.searchIndexes.castMembers(),
+                aQuery,
+                CastMemberPreviewJpaEntity::toPreview
+        );
+    }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CastMemberJpaEntity::toAggregate).toList()
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(final Consumer<CastMember> consumer) {
+        BatchUtils.forEachBatch(
+                this.entityManager,
+                this.castMemberRepository.streamAll(),
+                batch -> batch.forEach(it -> consumer.accept(it.toAggregate()))
         );
     }
 
@@ -79,18 +141,23 @@ public class CastMemberMySqlGateway implements CastMemberGateway {
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> castMemberIDS) {
         final var ids = StreamSupport.stream(castMemberIDS.spliterator(), false)
                 .map(CastMemberID::getValue)
+                .filter(BinaryIdConverter::isWellFormed)
                 .toList();
-        return this.castMemberRepository.existsByIds(ids).stream()
+        return this.existenceCache.existsByIds(AGGREGATE, ids, this.castMemberRepository::existsByIds).stream()
                 .map(CastMemberID::from)
                 .toList();
     }
 
-    private CastMember save(final CastMember aCastMember) {
-        return this.castMemberRepository.save(CastMemberJpaEntity.from(aCastMember))
-                .toAggregate();
-    }
+    private CastMember save(final CastMember aCastMember, final CastMemberJpaEntity entity) {
+        final CastMember saved;
+        try {
+            saved = this.castMemberRepository.saveAndFlush(entity).toAggregate();
+        } catch (final OptimisticLockingFailureException ex) {
+            throw StaleVersionException.with(aCastMember);
+        }
 
-    private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        SearchIndexes.afterCommit(() -> this.searchIndexes.castMembers()
+                .put(SearchDocument.with(saved.getId().getValue(), saved.getName())));
+        return saved;
     }
 }
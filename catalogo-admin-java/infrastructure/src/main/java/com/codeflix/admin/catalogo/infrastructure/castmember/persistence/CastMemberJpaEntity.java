@@ -3,6 +3,7 @@ package com.codeflix.admin.catalogo.infrastructure.castmember.persistence;
 import com.codeflix.admin.catalogo.domain.castmember.CastMember;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -11,6 +12,8 @@ import java.time.Instant;
 @Table(name = "cast_members")
 public class CastMemberJpaEntity {
     @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -26,6 +29,10 @@ public class CastMemberJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public CastMemberJpaEntity() {
     }
 
@@ -50,17 +57,19 @@ public class CastMemberJpaEntity {
                 member.getType(),
                 member.getCreatedAt(),
                 member.getUpdatedAt()
-        );
+        ).setVersion(member.getVersion());
     }
 
     public CastMember toAggregate() {
-        return CastMember.with(
+        final var member = CastMember.with(
                 CastMemberID.from(getId()),
                 getName(),
                 getType(),
                 getCreatedAt(),
                 getUpdatedAt()
         );
+        member.setVersion(getVersion());
+        return member;
     }
 
     public String getId() {
@@ -107,4 +116,13 @@ public class CastMemberJpaEntity {
         this.updatedAt = updatedAt;
         return this;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public CastMemberJpaEntity setVersion(final Long version) {
+        this.version = version;
+        return this;
+    }
 }
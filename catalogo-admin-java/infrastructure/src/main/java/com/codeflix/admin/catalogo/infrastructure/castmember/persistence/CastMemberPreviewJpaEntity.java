@@ -0,0 +1,65 @@
+package com.codeflix.admin.catalogo.infrastructure.castmember.persistence;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberPreview;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+// the columns a listing shows or sorts by, read without a dirty-checking snapshot
+@Immutable
+@Entity(name = "CastMemberPreview")
+@Table(name = "cast_members")
+public class CastMemberPreviewJpaEntity {
+    @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private String id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private CastMemberType type;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    public CastMemberPreviewJpaEntity() {
+    }
+
+    public CastMemberPreview toPreview() {
+        return new CastMemberPreview(
+                getId(),
+                getName(),
+                getType(),
+                getCreatedAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CastMemberType getType() {
+        return type;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.infrastructure.castmember.persistence;
+
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.Repository;
+
+public interface CastMemberPreviewRepository
+        extends Repository<CastMemberPreviewJpaEntity, String>, JpaSpecificationExecutor<CastMemberPreviewJpaEntity> {
+}
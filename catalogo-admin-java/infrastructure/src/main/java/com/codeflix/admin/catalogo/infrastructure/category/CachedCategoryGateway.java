@@ -0,0 +1,81 @@
+package com.codeflix.admin.catalogo.infrastructure.category;
+
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.category.CategoryPreview;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CachedCategoryGateway implements CategoryGateway {
+
+    private final CategoryGateway gateway;
+    private final AggregateCache<Category> cache;
+
+    public CachedCategoryGateway(final CategoryGateway gateway, final AggregateCache<Category> cache) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var created = this.gateway.create(category);
+        this.cache.invalidate(created.getId().getValue());
+        return created;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var created = this.gateway.createAll(categories);
+        created.forEach(it -> this.cache.invalidate(it.getId().getValue()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.gateway.deleteById(id);
+        this.cache.invalidate(id.getValue());
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.cache.get(id.getValue(), () -> this.gateway.findById(id));
+    }
+
+    @Override
+    public Optional<Long> findVersion(final CategoryID id) {
+        // a cached copy may be older than what another node wrote, so If-None-Match is answered from the table
+        return this.gateway.findVersion(id);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        // a rejected version means the cached copy is the stale one, so it goes either way
+        try {
+            return this.gateway.update(category);
+        } finally {
+            this.cache.invalidate(category.getId().getValue());
+        }
+    }
+
+    @Override
+    public Pagination<CategoryPreview> findAll(final SearchQuery query) {
+        return this.gateway.findAll(query);
+    }
+
+    @Override
+    public void streamAll(final Consumer<Category> consumer) {
+        this.gateway.streamAll(consumer);
+    }
+
+    @Override
+    public List<CategoryID> existsByIds(final Iterable<CategoryID> ids) {
+        return this.gateway.existsByIds(ids);
+    }
+}
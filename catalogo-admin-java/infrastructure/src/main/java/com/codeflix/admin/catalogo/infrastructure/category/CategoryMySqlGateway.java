@@ -1,40 +1,93 @@
 package com.codeflix.admin.catalogo.infrastructure.category;
 
 import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryChanged;
 import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.category.CategoryPreview;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.ExistenceCache;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryPreviewJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryPreviewRepository;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
-import com.codeflix.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchDocument;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchIndexes;
+import com.codeflix.admin.catalogo.infrastructure.utils.BatchUtils;
+import com.codeflix.admin.catalogo.infrastructure.utils.SearchUtils;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
 @Component
 public class CategoryMySqlGateway implements CategoryGateway {
 
-    private final CategoryRepository repository;
+    private static final String AGGREGATE = "categories";
 
-    public CategoryMySqlGateway(final CategoryRepository repository) {
+    private final CategoryRepository repository;
+    private final CategoryPreviewRepository previewRepository;
+    private final SearchIndexes searchIndexes;
+    private final ExistenceCache existenceCache;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public CategoryMySqlGateway(
+            final CategoryRepository repository,
+            final CategoryPreviewRepository previewRepository,
+            final SearchIndexes searchIndexes,
+            final ExistenceCache existenceCache,
+            final EntityManager entityManager,
+            final ApplicationEventPublisher eventPublisher
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.previewRepository = Objects.requireNonNull(previewRepository);
+        this.searchIndexes = Objects.requireNonNull(searchIndexes);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
     @Override
     public Category create(final Category category) {
-        return save(category);
+        return save(category, CategoryJpaEntity.from(category));
+    }
+
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> categories) {
+        final var entities = categories.stream()
+                .map(CategoryJpaEntity::from)
+                .toList();
+
+        final var created = BatchUtils.persistAll(this.entityManager, entities, CategoryJpaEntity::toAggregate);
+
+        SearchIndexes.afterCommit(() -> created.forEach(it -> this.searchIndexes.categories()
+                .put(SearchDocument.with(it.getId().getValue(), it.getName(), it.getDescription()))));
+        return created;
     }
 
     @Override
     public Category update(final Category category) {
-        return save(category);
+        final var entity = CategoryJpaEntity.from(category);
+        if (entity.getVersion() == null) {
+            // read without a version, so it keeps overwriting whatever is stored
+            this.repository.findVersion(entity.getId()).ifPresent(entity::setVersion);
+        }
+
+        final var updated = save(category, entity);
+        this.eventPublisher.publishEvent(new CategoryChanged(updated.getId().getValue()));
+        return updated;
     }
 
     @Override
@@ -42,58 +95,70 @@ public class CategoryMySqlGateway implements CategoryGateway {
 
         final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
                 .map(CategoryID::getValue)
+                .filter(BinaryIdConverter::isWellFormed)
                 .toList();
 
-        return this.repository.existsByIds(ids).stream()
+        return this.existenceCache.existsByIds(AGGREGATE, ids, this.repository::existsByIds).stream()
                 .map(CategoryID::from)
                 .toList();
     }
 
     @Override
     public void deleteById(CategoryID id) {
-        if (this.repository.existsById(id.getValue())) {
+        if (BinaryIdConverter.isWellFormed(id.getValue()) && this.repository.existsById(id.getValue())) {
             this.repository.deleteById(id.getValue());
+            SearchIndexes.afterCommit(() -> this.searchIndexes.categories().remove(id.getValue()));
+            this.existenceCache.invalidate(AGGREGATE, id.getValue());
+            this.eventPublisher.publishEvent(new CategoryChanged(id.getValue()));
         }
     }
 
     @Override
     public Optional<Category> findById(CategoryID id) {
-        return this.repository.findById(id.getValue())
+        return Optional.of(id.getValue())
+                .filter(BinaryIdConverter::isWellFormed)
+                .flatMap(this.repository::findById)
                 .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
-    public Pagination<Category> findAll(final SearchQuery query) {
-
-        final var specifications = Optional.ofNullable(query.terms())
-                .filter(term -> !term.isBlank())
-                .map(this::AssembleSpecification)
-                .orElse(null);
-
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
-        );
-
-        final var pageResult = this.repository.findAll(Specification.where(specifications), page);
+    public Optional<Long> findVersion(final CategoryID id) {
+        return Optional.of(id.getValue())
+                .filter(BinaryIdConverter::isWellFormed)
+                .flatMap(this.repository::findVersion);
+    }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).toList()
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<CategoryPreview> findAll(final SearchQuery query) {
+        return SearchUtils.findAll(
+                this.previewRepository,
+                this.searchIndexes.categories(),
+                query,
+                CategoryPreviewJpaEntity::toPreview
         );
     }
 
-    private Category save(Category category) {
-        return this.repository.save(CategoryJpaEntity.from(category)).toAggregate();
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(final Consumer<Category> consumer) {
+        BatchUtils.forEachBatch(
+                this.entityManager,
+                this.repository.streamAll(),
+                batch -> batch.forEach(it -> consumer.accept(it.toAggregate()))
+        );
     }
 
-    private Specification<CategoryJpaEntity> AssembleSpecification(final String term) {
-        final Specification<CategoryJpaEntity> nameLike = SpecificationUtils.like("name", term);
-        final Specification<CategoryJpaEntity> descriptionLike = SpecificationUtils.like("description", term);
+    private Category save(final Category category, final CategoryJpaEntity entity) {
+        final Category saved;
+        try {
+            saved = this.repository.saveAndFlush(entity).toAggregate();
+        } catch (final OptimisticLockingFailureException ex) {
+            throw StaleVersionException.with(category);
+        }
 
-        return nameLike.or(descriptionLike);
+        SearchIndexes.afterCommit(() -> this.searchIndexes.categories()
+                .put(SearchDocument.with(saved.getId().getValue(), saved.getName(), saved.getDescription())));
+        return saved;
     }
 }
@@ -2,10 +2,13 @@ package com.codeflix.admin.catalogo.infrastructure.category.persistence;
 
 import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.time.Instant;
 
@@ -14,6 +17,8 @@ import java.time.Instant;
 public class CategoryJpaEntity {
 
     @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -34,6 +39,10 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public CategoryJpaEntity() {
     }
 
@@ -56,7 +65,7 @@ public class CategoryJpaEntity {
     }
 
     public static CategoryJpaEntity from(final Category category) {
-        return new CategoryJpaEntity(
+        final var entity = new CategoryJpaEntity(
                 category.getId().getValue(),
                 category.getName(),
                 category.getDescription(),
@@ -65,10 +74,12 @@ public class CategoryJpaEntity {
                 category.getUpdatedAt(),
                 category.getDeletedAt()
         );
+        entity.version = category.getVersion();
+        return entity;
     }
 
     public Category toAggregate() {
-        return Category.with(
+        final var category = Category.with(
                 CategoryID.from(getId()),
                 getName(),
                 getDescription(),
@@ -77,6 +88,8 @@ public class CategoryJpaEntity {
                 getUpdatedAt(),
                 getDeletedAt()
         );
+        category.setVersion(getVersion());
+        return category;
     }
 
     public String getId() {
@@ -134,4 +147,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
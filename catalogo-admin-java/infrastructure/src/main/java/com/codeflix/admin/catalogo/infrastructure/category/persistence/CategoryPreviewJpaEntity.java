@@ -0,0 +1,84 @@
+package com.codeflix.admin.catalogo.infrastructure.category.persistence;
+
+import com.codeflix.admin.catalogo.domain.category.CategoryPreview;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
+
+import java.time.Instant;
+
+// the columns a listing shows or sorts by, read without a dirty-checking snapshot
+@Immutable
+@Entity(name = "CategoryPreview")
+@Table(name = "categories")
+public class CategoryPreviewJpaEntity {
+
+    @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private String id;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "description", length = 4000)
+    private String description;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
+    private Instant deletedAt;
+
+    public CategoryPreviewJpaEntity() {
+    }
+
+    public CategoryPreview toPreview() {
+        return new CategoryPreview(
+                getId(),
+                getName(),
+                getDescription(),
+                isActive(),
+                getCreatedAt(),
+                getDeletedAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -0,0 +1,8 @@
+package com.codeflix.admin.catalogo.infrastructure.category.persistence;
+
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.Repository;
+
+public interface CategoryPreviewRepository
+        extends Repository<CategoryPreviewJpaEntity, String>, JpaSpecificationExecutor<CategoryPreviewJpaEntity> {
+}
@@ -1,18 +1,38 @@
 package com.codeflix.admin.catalogo.infrastructure.category.persistence;
 
+import com.codeflix.admin.catalogo.infrastructure.search.SearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, JpaSpecificationExecutor<CategoryJpaEntity> {
 
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> clause, Pageable page);
 
     @Query(value = "select c.id from Category c where c.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query("select c.version from Category c where c.id = :id")
+    Optional<Long> findVersion(@Param("id") String id);
+
+    @Query("select new com.codeflix.admin.catalogo.infrastructure.search.SearchDocument(c.id, c.name, c.description) from Category c")
+    List<SearchDocument> findAllSearchDocuments();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select c from Category c")
+    Stream<CategoryJpaEntity> streamAll();
 }
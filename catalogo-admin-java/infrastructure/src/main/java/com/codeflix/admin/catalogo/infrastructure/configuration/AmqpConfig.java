@@ -1,14 +1,20 @@
 package com.codeflix.admin.catalogo.infrastructure.configuration;
 
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.ListenerProperties;
 import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import com.codeflix.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.codeflix.admin.catalogo.infrastructure.configuration.annotations.VideoEncodedQueue;
 import com.codeflix.admin.catalogo.infrastructure.configuration.annotations.VideoEvents;
 import org.springframework.amqp.core.*;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitAdmin;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 @Configuration
 public class AmqpConfig {
@@ -27,6 +33,50 @@ public class AmqpConfig {
         return new QueueProperties();
     }
 
+    @Bean
+    @ConfigurationProperties("amqp.listeners.video-encoded")
+    @VideoEncodedQueue
+    ListenerProperties videoEncodedListenerProperties() {
+        return new ListenerProperties();
+    }
+
+    @Bean
+    @Profile({"!development"})
+    SimpleRabbitListenerContainerFactory videoEncodedListenerFactory(
+            @VideoEncodedQueue final ListenerProperties props,
+            final ConnectionFactory connectionFactory
+    ) {
+        final var factory = new SimpleRabbitListenerContainerFactory();
+        factory.setConnectionFactory(connectionFactory);
+        factory.setConcurrentConsumers(props.getConcurrency());
+        factory.setMaxConcurrentConsumers(props.getMaxConcurrency());
+        factory.setPrefetchCount(props.getPrefetch());
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(props.getBatchSize());
+        factory.setReceiveTimeout(props.getReceiveTimeout());
+        // the listener acks each delivery itself, so one failed update does not settle the whole batch
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
+    // the listener moves the results it cannot apply to this queue itself, so it must exist before any is consumed
+    @Bean
+    @Profile({"!development & !test-integration & !test-e2e"})
+    SmartInitializingSingleton videoEncodedDeadLetterQueueCheck(
+            @VideoEncodedQueue final QueueProperties props,
+            final ConnectionFactory connectionFactory
+    ) {
+        return () -> {
+            final var deadLetterQueue = props.deadLetterQueue();
+            if (new RabbitAdmin(connectionFactory).getQueueProperties(deadLetterQueue) == null) {
+                throw new IllegalStateException(
+                        "Dead letter queue %s does not exist, declare it on the broker or set amqp.admin.auto-create"
+                                .formatted(deadLetterQueue));
+            }
+        };
+    }
+
     @Configuration
     static class Admin {
 
@@ -52,12 +102,18 @@ public class AmqpConfig {
             return BindingBuilder.bind(queue).to(exchange).with(props.getRoutingKey());
         }
 
+        // no x-dead-letter arguments here, redeclaring an existing queue with them fails with PRECONDITION_FAILED
         @Bean
         @VideoEncodedQueue
         Queue videoEncodedQueue(@VideoEncodedQueue QueueProperties props) {
             return new Queue(props.getQueue());
         }
 
+        @Bean
+        Queue videoEncodedDeadLetterQueue(@VideoEncodedQueue QueueProperties props) {
+            return QueueBuilder.durable(props.deadLetterQueue()).build();
+        }
+
         @Bean
         @VideoEncodedQueue
         Binding videoEncodedQueueBinding(
@@ -0,0 +1,79 @@
+package com.codeflix.admin.catalogo.infrastructure.configuration;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberGateway;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCacheReporter;
+import com.codeflix.admin.catalogo.infrastructure.castmember.CachedCastMemberGateway;
+import com.codeflix.admin.catalogo.infrastructure.castmember.CastMemberMySqlGateway;
+import com.codeflix.admin.catalogo.infrastructure.category.CachedCategoryGateway;
+import com.codeflix.admin.catalogo.infrastructure.category.CategoryMySqlGateway;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.cache.CacheProperties;
+import com.codeflix.admin.catalogo.infrastructure.genre.CachedGenreGateway;
+import com.codeflix.admin.catalogo.infrastructure.genre.GenreMySqlGateway;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.util.List;
+
+@Configuration
+public class CacheConfig {
+
+    @Bean
+    @ConfigurationProperties("cache.aggregates")
+    CacheProperties cacheProperties() {
+        return new CacheProperties();
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "cache.aggregates.enabled", havingValue = "true")
+    AggregateCache<Category> categoryCache(final CacheProperties props) {
+        return AggregateCache.create("categories", props, Category::with);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "cache.aggregates.enabled", havingValue = "true")
+    AggregateCache<Genre> genreCache(final CacheProperties props) {
+        return AggregateCache.create("genres", props, Genre::with);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "cache.aggregates.enabled", havingValue = "true")
+    AggregateCache<CastMember> castMemberCache(final CacheProperties props) {
+        return AggregateCache.create("cast_members", props, CastMember::with);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(value = "cache.aggregates.enabled", havingValue = "true")
+    CategoryGateway cachedCategoryGateway(final CategoryMySqlGateway gateway, final AggregateCache<Category> categoryCache) {
+        return new CachedCategoryGateway(gateway, categoryCache);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(value = "cache.aggregates.enabled", havingValue = "true")
+    GenreGateway cachedGenreGateway(final GenreMySqlGateway gateway, final AggregateCache<Genre> genreCache) {
+        return new CachedGenreGateway(gateway, genreCache);
+    }
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(value = "cache.aggregates.enabled", havingValue = "true")
+    CastMemberGateway cachedCastMemberGateway(final CastMemberMySqlGateway gateway, final AggregateCache<CastMember> castMemberCache) {
+        return new CachedCastMemberGateway(gateway, castMemberCache);
+    }
+
+    @Bean
+    @ConditionalOnProperty(value = "cache.aggregates.enabled", havingValue = "true")
+    AggregateCacheReporter aggregateCacheReporter(final List<AggregateCache<?>> caches) {
+        return new AggregateCacheReporter(caches);
+    }
+}
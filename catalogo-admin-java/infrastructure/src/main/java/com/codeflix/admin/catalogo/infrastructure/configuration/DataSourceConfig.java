@@ -0,0 +1,92 @@
+package com.codeflix.admin.catalogo.infrastructure.configuration;
+
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.mysql.ReplicaProperties;
+import com.codeflix.admin.catalogo.infrastructure.persistence.ReadYourWritesFilter;
+import com.codeflix.admin.catalogo.infrastructure.persistence.ReplicaLagMonitor;
+import com.codeflix.admin.catalogo.infrastructure.persistence.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.LinkedHashMap;
+
+@Configuration
+@ConditionalOnProperty(value = "mysql.replicas.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+    private static final String MYSQL_PREFIX = "jdbc:mysql://";
+
+    @Bean
+    @ConfigurationProperties("mysql.replicas")
+    ReplicaProperties replicaProperties() {
+        return new ReplicaProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(final DataSourceProperties props) {
+        return props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    ReplicaLagMonitor replicaLagMonitor(final HikariDataSource primaryDataSource, final ReplicaProperties props) {
+        final var replicas = new LinkedHashMap<String, HikariDataSource>();
+
+        for (final var url : props.getUrls()) {
+            final var name = "replica-" + (replicas.size() + 1);
+
+            final var config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(replicaUrl(primaryDataSource.getJdbcUrl(), url));
+            config.setPoolName(name);
+            config.setMaximumPoolSize(props.getMaximumPoolSize());
+            config.setMinimumIdle(Math.min(primaryDataSource.getMinimumIdle(), props.getMaximumPoolSize()));
+            config.setReadOnly(true);
+
+            replicas.put(name, new HikariDataSource(config));
+        }
+
+        return ReplicaLagMonitor.create(replicas, props.getMaxLag());
+    }
+
+    @Bean
+    ReplicaRoutingDataSource replicaRoutingDataSource(
+            final HikariDataSource primaryDataSource,
+            final ReplicaLagMonitor replicaLagMonitor
+    ) {
+        return ReplicaRoutingDataSource.create(primaryDataSource, replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+        final var dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(replicaRoutingDataSource);
+        dataSource.setDefaultAutoCommit(false);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    @Bean
+    ReadYourWritesFilter readYourWritesFilter() {
+        return new ReadYourWritesFilter();
+    }
+
+    private static String replicaUrl(final String primaryUrl, final String hostAndPort) {
+        if (primaryUrl == null || !primaryUrl.startsWith(MYSQL_PREFIX)) {
+            throw new IllegalStateException("Replicas need a %s primary url".formatted(MYSQL_PREFIX));
+        }
+
+        final var path = primaryUrl.indexOf('/', MYSQL_PREFIX.length());
+        return MYSQL_PREFIX + hostAndPort + (path < 0 ? "" : primaryUrl.substring(path));
+    }
+}
@@ -1,19 +1,46 @@
 package com.codeflix.admin.catalogo.infrastructure.configuration;
 
-import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.codeflix.admin.catalogo.infrastructure.amqp.OutboxRelay;
 import com.codeflix.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.BatchingProperties;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.OutboxProperties;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
 import com.codeflix.admin.catalogo.infrastructure.services.EventService;
+import com.codeflix.admin.catalogo.infrastructure.services.impl.BatchingRabbitEventService;
+import com.codeflix.admin.catalogo.infrastructure.services.impl.OutboxEventService;
 import com.codeflix.admin.catalogo.infrastructure.services.impl.RabbitEventService;
 import com.codeflix.admin.catalogo.infrastructure.services.local.InMemoryEventService;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
 
 @Configuration
+@EnableScheduling
 public class EventConfig {
 
+    @Bean
+    @ConfigurationProperties("amqp.outbox")
+    OutboxProperties outboxProperties() {
+        return new OutboxProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("amqp.batching")
+    BatchingProperties batchingProperties() {
+        return new BatchingProperties();
+    }
+
     @Bean
     @VideoCreatedQueue
     @Profile({"development"})
@@ -24,10 +51,68 @@ public class EventConfig {
     @Bean
     @VideoCreatedQueue
     @ConditionalOnMissingBean
+    @ConditionalOnProperty(value = "amqp.publisher", havingValue = "outbox", matchIfMissing = true)
+    EventService outboxVideoCreatedEventService(
+            @VideoCreatedQueue final QueueProperties props,
+            final OutboxEventRepository outboxEventRepository
+    ) {
+        return new OutboxEventService(props.getExchange(), props.getRoutingKey(), outboxEventRepository);
+    }
+
+    @Bean
+    @VideoCreatedQueue
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(value = "amqp.publisher", havingValue = "direct")
     EventService videoCreatedEventService(
             @VideoCreatedQueue final QueueProperties props,
             final RabbitOperations rabbitOperations
     ) {
         return new RabbitEventService(props.getExchange(), props.getRoutingKey(), rabbitOperations);
     }
-}
\ No newline at end of file
+
+    @Bean
+    @VideoCreatedQueue
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(value = "amqp.publisher", havingValue = "batching")
+    EventService batchingVideoCreatedEventService(
+            @VideoCreatedQueue final QueueProperties props,
+            final BatchingProperties batching,
+            final RabbitOperations rabbitOperations,
+            final OutboxEventRepository outboxEventRepository,
+            final MeterRegistry meterRegistry
+    ) {
+        return new BatchingRabbitEventService(
+                props.getExchange(),
+                props.getRoutingKey(),
+                rabbitOperations,
+                outboxEventRepository,
+                meterRegistry,
+                batching.getCapacity(),
+                batching.getBatchSize(),
+                Duration.ofMillis(batching.getLinger()),
+                Duration.ofMillis(batching.getConfirmTimeout()),
+                batching.getMaxAttempts()
+        );
+    }
+
+    @Bean
+    @Profile({"!development"})
+    // the batching publisher hands the batches it could not confirm over to the outbox
+    @ConditionalOnExpression("'${amqp.publisher:outbox}' == 'outbox' or '${amqp.publisher:outbox}' == 'batching'")
+    OutboxRelay outboxRelay(
+            final OutboxProperties props,
+            final OutboxEventRepository outboxEventRepository,
+            final RabbitOperations rabbitOperations,
+            final TransactionOperations transactionOperations
+    ) {
+        return new OutboxRelay(
+                outboxEventRepository,
+                rabbitOperations,
+                transactionOperations,
+                props.getBatchSize(),
+                props.getConfirmTimeout(),
+                Duration.ofMillis(props.getClaimTimeout()),
+                Duration.ofMillis(props.getRetention())
+        );
+    }
+}
@@ -3,15 +3,19 @@ package com.codeflix.admin.catalogo.infrastructure.configuration;
 import com.codeflix.admin.catalogo.infrastructure.configuration.properties.google.GoogleStorageProperties;
 import com.codeflix.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
 import com.codeflix.admin.catalogo.infrastructure.services.StorageService;
+import com.codeflix.admin.catalogo.infrastructure.services.impl.FileSystemStorageService;
 import com.codeflix.admin.catalogo.infrastructure.services.impl.GCStorageService;
 import com.codeflix.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
 import com.google.cloud.storage.Storage;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+
 @Configuration
 public class StorageConfig {
 
@@ -23,10 +27,17 @@ public class StorageConfig {
 
     @Bean
     @Profile({"development", "test-integration", "test-e2e"})
+    @ConditionalOnProperty(value = "storage.catalogo-videos.provider", havingValue = "memory", matchIfMissing = true)
     public StorageService localStorageAPI() {
         return new InMemoryStorageService();
     }
 
+    @Bean
+    @ConditionalOnProperty(value = "storage.catalogo-videos.provider", havingValue = "filesystem")
+    public StorageService fileSystemStorageAPI(final StorageProperties props) {
+        return new FileSystemStorageService(Path.of(props.getLocalPath()));
+    }
+
     @Bean
     @ConditionalOnMissingBean
     public StorageService gcStorageAPI(
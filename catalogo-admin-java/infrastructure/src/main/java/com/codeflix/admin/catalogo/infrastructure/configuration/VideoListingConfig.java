@@ -0,0 +1,62 @@
+package com.codeflix.admin.catalogo.infrastructure.configuration;
+
+import com.codeflix.admin.catalogo.domain.video.VideoListingGateway;
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.video.VideoListingProperties;
+import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchIndexes;
+import com.codeflix.admin.catalogo.infrastructure.video.VideoListingMySqlGateway;
+import com.codeflix.admin.catalogo.infrastructure.video.VideoListingProjection;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingRepository;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import jakarta.persistence.EntityManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.transaction.support.TransactionOperations;
+
+@Configuration
+@ConditionalOnProperty(value = "video.listing.enabled", havingValue = "true")
+public class VideoListingConfig {
+
+    @Bean
+    @ConfigurationProperties("video.listing")
+    VideoListingProperties videoListingProperties() {
+        return new VideoListingProperties();
+    }
+
+    @Bean
+    VideoListingProjection videoListingProjection(
+            final VideoRepository videoRepository,
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final CastMemberRepository castMemberRepository,
+            final VideoListingRepository videoListingRepository,
+            final EntityManager entityManager,
+            final TransactionOperations transactionOperations,
+            final VideoListingProperties props
+    ) {
+        return new VideoListingProjection(
+                videoRepository,
+                categoryRepository,
+                genreRepository,
+                castMemberRepository,
+                videoListingRepository,
+                entityManager,
+                transactionOperations,
+                props.getBatchSize()
+        );
+    }
+
+    @Bean
+    @Primary
+    VideoListingGateway videoListingGateway(
+            final VideoListingRepository videoListingRepository,
+            final SearchIndexes searchIndexes
+    ) {
+        return new VideoListingMySqlGateway(videoListingRepository, searchIndexes);
+    }
+}
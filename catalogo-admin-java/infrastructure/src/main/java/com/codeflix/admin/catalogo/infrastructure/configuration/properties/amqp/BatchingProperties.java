@@ -0,0 +1,72 @@
+package com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class BatchingProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingProperties.class);
+
+    private int capacity;
+    private int batchSize;
+    private long linger;
+    private long confirmTimeout;
+    private int maxAttempts;
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "BatchingProperties{" +
+                "capacity=" + capacity +
+                ", batchSize=" + batchSize +
+                ", linger=" + linger +
+                ", confirmTimeout=" + confirmTimeout +
+                ", maxAttempts=" + maxAttempts +
+                '}';
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getLinger() {
+        return linger;
+    }
+
+    public void setLinger(long linger) {
+        this.linger = linger;
+    }
+
+    public long getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public void setConfirmTimeout(long confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public void setMaxAttempts(int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+    }
+}
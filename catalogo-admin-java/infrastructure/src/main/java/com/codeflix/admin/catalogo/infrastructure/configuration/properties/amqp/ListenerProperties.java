@@ -0,0 +1,72 @@
+package com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ListenerProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ListenerProperties.class);
+
+    private int concurrency;
+    private int maxConcurrency;
+    private int prefetch;
+    private int batchSize;
+    private long receiveTimeout;
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ListenerProperties{" +
+                "concurrency=" + concurrency +
+                ", maxConcurrency=" + maxConcurrency +
+                ", prefetch=" + prefetch +
+                ", batchSize=" + batchSize +
+                ", receiveTimeout=" + receiveTimeout +
+                '}';
+    }
+
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    public void setConcurrency(int concurrency) {
+        this.concurrency = concurrency;
+    }
+
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    public void setMaxConcurrency(int maxConcurrency) {
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    public int getPrefetch() {
+        return prefetch;
+    }
+
+    public void setPrefetch(int prefetch) {
+        this.prefetch = prefetch;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getReceiveTimeout() {
+        return receiveTimeout;
+    }
+
+    public void setReceiveTimeout(long receiveTimeout) {
+        this.receiveTimeout = receiveTimeout;
+    }
+}
@@ -0,0 +1,62 @@
+package com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class OutboxProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxProperties.class);
+
+    private int batchSize;
+    private long confirmTimeout;
+    private long claimTimeout;
+    private long retention;
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "OutboxProperties{" +
+                "batchSize=" + batchSize +
+                ", confirmTimeout=" + confirmTimeout +
+                ", claimTimeout=" + claimTimeout +
+                ", retention=" + retention +
+                '}';
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public long getConfirmTimeout() {
+        return confirmTimeout;
+    }
+
+    public void setConfirmTimeout(long confirmTimeout) {
+        this.confirmTimeout = confirmTimeout;
+    }
+
+    public long getClaimTimeout() {
+        return claimTimeout;
+    }
+
+    public void setClaimTimeout(long claimTimeout) {
+        this.claimTimeout = claimTimeout;
+    }
+
+    public long getRetention() {
+        return retention;
+    }
+
+    public void setRetention(long retention) {
+        this.retention = retention;
+    }
+}
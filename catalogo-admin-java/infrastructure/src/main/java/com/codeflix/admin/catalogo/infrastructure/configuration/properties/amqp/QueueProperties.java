@@ -50,4 +50,8 @@ public class QueueProperties implements InitializingBean {
         this.queue = queue;
     }
 
+    public String deadLetterQueue() {
+        return this.queue + ".dlq";
+    }
+
 }
@@ -0,0 +1,57 @@
+package com.codeflix.admin.catalogo.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class CacheProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheProperties.class);
+
+    private boolean enabled;
+
+    private long maxSize;
+
+    private long ttl;
+
+    public CacheProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(long maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CacheProperties{" +
+                "enabled=" + enabled +
+                ", maxSize=" + maxSize +
+                ", ttl=" + ttl +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.codeflix.admin.catalogo.infrastructure.configuration.properties.mysql;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReplicaProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaProperties.class);
+
+    private boolean enabled;
+    private List<String> urls = new ArrayList<>();
+    private long maxLag;
+    private int maximumPoolSize;
+
+    public ReplicaProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public long getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(long maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaProperties{" +
+                "enabled=" + enabled +
+                ", urls=" + urls +
+                ", maxLag=" + maxLag +
+                ", maximumPoolSize=" + maximumPoolSize +
+                '}';
+    }
+}
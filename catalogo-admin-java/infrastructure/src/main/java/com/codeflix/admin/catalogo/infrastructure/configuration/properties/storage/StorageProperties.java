@@ -12,6 +12,8 @@ public class StorageProperties implements InitializingBean {
 
     private String filenamePattern;
 
+    private String localPath;
+
     public StorageProperties() {
     }
 
@@ -31,6 +33,14 @@ public class StorageProperties implements InitializingBean {
         this.filenamePattern = filenamePattern;
     }
 
+    public String getLocalPath() {
+        return localPath;
+    }
+
+    public void setLocalPath(String localPath) {
+        this.localPath = localPath;
+    }
+
     @Override
     public void afterPropertiesSet() {
         log.debug(toString());
@@ -41,6 +51,7 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
                 ", filenamePattern='" + filenamePattern + '\'' +
+                ", localPath='" + localPath + '\'' +
                 '}';
     }
 }
\ No newline at end of file
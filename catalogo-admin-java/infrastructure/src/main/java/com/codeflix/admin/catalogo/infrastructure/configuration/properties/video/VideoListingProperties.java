@@ -0,0 +1,55 @@
+package com.codeflix.admin.catalogo.infrastructure.configuration.properties.video;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class VideoListingProperties implements InitializingBean {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoListingProperties.class);
+
+    private boolean enabled;
+    private long flushInterval;
+    private int batchSize;
+
+    public VideoListingProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getFlushInterval() {
+        return flushInterval;
+    }
+
+    public void setFlushInterval(long flushInterval) {
+        this.flushInterval = flushInterval;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        log.info(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "VideoListingProperties{" +
+                "enabled=" + enabled +
+                ", flushInterval=" + flushInterval +
+                ", batchSize=" + batchSize +
+                '}';
+    }
+}
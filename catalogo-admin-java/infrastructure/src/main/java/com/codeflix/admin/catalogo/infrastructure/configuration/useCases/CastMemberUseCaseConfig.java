@@ -1,11 +1,17 @@
 package com.codeflix.admin.catalogo.infrastructure.configuration.useCases;
 
 import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.create.DefaultCreateCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.delete.DeleteCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.export.DefaultExportCastMembersUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberVersionUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.GetCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.get.GetCastMemberVersionUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.ListCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
@@ -42,6 +48,11 @@ public class CastMemberUseCaseConfig {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public CreateCastMembersUseCase createCastMembersUseCase() {
+        return new DefaultCreateCastMembersUseCase(castMemberGateway);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
@@ -52,11 +63,21 @@ public class CastMemberUseCaseConfig {
         return new DefaultGetCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public GetCastMemberVersionUseCase getCastMemberVersionUseCase() {
+        return new DefaultGetCastMemberVersionUseCase(castMemberGateway);
+    }
+
     @Bean
     public ListCastMembersUseCase listCastMembersUseCase() {
         return new DefaultListCastMembersUseCase(castMemberGateway);
     }
 
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new DefaultExportCastMembersUseCase(castMemberGateway);
+    }
+
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
@@ -1,11 +1,17 @@
 package com.codeflix.admin.catalogo.infrastructure.configuration.useCases;
 
+import com.codeflix.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.create.DefaultCreateCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.create.DefaultCreateCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.get.DefaultGetCategoryVersionUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.DefaultListCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.update.DefaultUpdateCategoryUseCase;
@@ -32,6 +38,11 @@ public class CategoryUseCaseConfig {
         return new DefaultCreateCategoryUseCase(gateway);
     }
 
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase() {
+        return new DefaultCreateCategoriesUseCase(gateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(gateway);
@@ -42,11 +53,21 @@ public class CategoryUseCaseConfig {
         return new DefaultGetCategoryUseCase(gateway);
     }
 
+    @Bean
+    public GetCategoryVersionUseCase getCategoryVersionUseCase() {
+        return new DefaultGetCategoryVersionUseCase(gateway);
+    }
+
     @Bean
     public ListCategoryUseCase listCategoryUseCase() {
         return new DefaultListCategoryUseCase(gateway);
     }
 
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(gateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(gateway);
@@ -1,11 +1,17 @@
 package com.codeflix.admin.catalogo.infrastructure.configuration.useCases;
 
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.create.CreateGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.create.DefaultCreateGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.create.DefaultCreateGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.export.DefaultExportGenresUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.get.DefaultGetGenreVersionUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.GetGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.get.GetGenreVersionUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.DefaultListGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.update.DefaultUpdateGenreUseCase;
@@ -36,6 +42,11 @@ public class GenreUseCaseConfig {
         return new DefaultCreateGenreUseCase(categoryGateway, genreGateway);
     }
 
+    @Bean
+    public CreateGenresUseCase createGenresUseCase() {
+        return new DefaultCreateGenresUseCase(categoryGateway, genreGateway);
+    }
+
     @Bean
     public UpdateGenreUseCase updateGenreUseCase() {
         return new DefaultUpdateGenreUseCase(categoryGateway, genreGateway);
@@ -46,11 +57,21 @@ public class GenreUseCaseConfig {
         return new DefaultGetGenreUseCase(genreGateway);
     }
 
+    @Bean
+    public GetGenreVersionUseCase getGenreVersionUseCase() {
+        return new DefaultGetGenreVersionUseCase(genreGateway);
+    }
+
     @Bean
     public ListGenreUseCase listGenreUseCase() {
         return new DefaultListGenreUseCase(genreGateway);
     }
 
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new DefaultExportGenresUseCase(genreGateway);
+    }
+
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase() {
         return new DefaultDeleteGenreUseCase(genreGateway);
@@ -1,7 +1,9 @@
 package com.codeflix.admin.catalogo.infrastructure.configuration.useCases;
 
 import com.codeflix.admin.catalogo.application.video.create.CreateVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.create.CreateVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.create.DefaultCreateVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.create.DefaultCreateVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.delete.DefaultDeleteVideoUseCase;
 import com.codeflix.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.codeflix.admin.catalogo.application.video.media.get.DefaultGetMediaUseCase;
@@ -10,8 +12,15 @@ import com.codeflix.admin.catalogo.application.video.media.update.DefaultUpdateM
 import com.codeflix.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
 import com.codeflix.admin.catalogo.application.video.media.upload.DefaultUploadMediaUseCase;
 import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.codeflix.admin.catalogo.application.video.media.upload.resumable.*;
+import com.codeflix.admin.catalogo.application.video.retrieve.export.DefaultExportVideosUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.export.ExportVideosUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.facets.DefaultFacetVideosUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.facets.FacetVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.retrieve.get.DefaultGetVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.get.DefaultGetVideoVersionUseCase;
 import com.codeflix.admin.catalogo.application.video.retrieve.get.GetVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.get.GetVideoVersionUseCase;
 import com.codeflix.admin.catalogo.application.video.retrieve.list.DefaultListVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.update.DefaultUpdateVideoUseCase;
@@ -21,14 +30,23 @@ import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.video.MediaResourceGateway;
 import com.codeflix.admin.catalogo.domain.video.VideoGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoListingGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 public class VideoUseCaseConfig {
 
+    private static final int MEDIA_STORE_POOL_SIZE = 16;
+    private static final int MEDIA_STORE_QUEUE_CAPACITY = 64;
+    private static final int MEDIA_STORE_SHUTDOWN_SECONDS = 30;
+    private static final int REFERENCE_VALIDATOR_POOL_SIZE = 16;
+    private static final int REFERENCE_VALIDATOR_QUEUE_CAPACITY = 64;
+
     private final CategoryGateway categoryGateway;
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
@@ -49,14 +67,45 @@ public class VideoUseCaseConfig {
         this.videoGateway = Objects.requireNonNull(videoGateway);
     }
 
+    // not a default candidate, so Spring Boot still creates its own applicationTaskExecutor
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor mediaStoreExecutor() {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(MEDIA_STORE_POOL_SIZE);
+        executor.setMaxPoolSize(MEDIA_STORE_POOL_SIZE);
+        executor.setQueueCapacity(MEDIA_STORE_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("media-store-");
+        // once the queue is full the request thread stores its own medias instead of failing
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(MEDIA_STORE_SHUTDOWN_SECONDS);
+        return executor;
+    }
+
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor referenceValidatorExecutor() {
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(REFERENCE_VALIDATOR_POOL_SIZE);
+        executor.setMaxPoolSize(REFERENCE_VALIDATOR_POOL_SIZE);
+        executor.setQueueCapacity(REFERENCE_VALIDATOR_QUEUE_CAPACITY);
+        executor.setThreadNamePrefix("reference-validator-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
     @Bean
     public CreateVideoUseCase createVideoUseCase() {
-        return new DefaultCreateVideoUseCase(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway);
+        return new DefaultCreateVideoUseCase(categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, videoGateway, referenceValidatorExecutor(), mediaStoreExecutor());
+    }
+
+    @Bean
+    public CreateVideosUseCase createVideosUseCase() {
+        return new DefaultCreateVideosUseCase(categoryGateway, castMemberGateway, genreGateway, videoGateway);
     }
 
     @Bean
     public UpdateVideoUseCase updateVideoUseCase() {
-        return new DefaultUpdateVideoUseCase(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway);
+        return new DefaultUpdateVideoUseCase(videoGateway, categoryGateway, castMemberGateway, genreGateway, mediaResourceGateway, referenceValidatorExecutor(), mediaStoreExecutor());
     }
 
     @Bean
@@ -64,19 +113,34 @@ public class VideoUseCaseConfig {
         return new DefaultGetVideoUseCase(videoGateway);
     }
 
+    @Bean
+    public GetVideoVersionUseCase getVideoVersionUseCase() {
+        return new DefaultGetVideoVersionUseCase(videoGateway);
+    }
+
     @Bean
     public DeleteVideoUseCase deleteVideoUseCase() {
         return new DefaultDeleteVideoUseCase(videoGateway, mediaResourceGateway);
     }
 
     @Bean
-    public ListVideosUseCase listVideosUseCase() {
-        return new DefaultListVideosUseCase(videoGateway);
+    public ListVideosUseCase listVideosUseCase(final VideoListingGateway videoListingGateway) {
+        return new DefaultListVideosUseCase(videoListingGateway);
+    }
+
+    @Bean
+    public ExportVideosUseCase exportVideosUseCase() {
+        return new DefaultExportVideosUseCase(videoGateway);
+    }
+
+    @Bean
+    public FacetVideosUseCase facetVideosUseCase() {
+        return new DefaultFacetVideosUseCase(videoGateway);
     }
 
     @Bean
     public GetMediaUseCase getMediaUseCase() {
-        return new DefaultGetMediaUseCase(mediaResourceGateway);
+        return new DefaultGetMediaUseCase(mediaResourceGateway, videoGateway);
     }
 
     @Bean
@@ -88,4 +152,24 @@ public class VideoUseCaseConfig {
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
     }
+
+    @Bean
+    public CreateMediaUploadUseCase createMediaUploadUseCase() {
+        return new DefaultCreateMediaUploadUseCase(mediaResourceGateway, videoGateway);
+    }
+
+    @Bean
+    public AppendMediaUploadUseCase appendMediaUploadUseCase() {
+        return new DefaultAppendMediaUploadUseCase(mediaResourceGateway);
+    }
+
+    @Bean
+    public GetMediaUploadUseCase getMediaUploadUseCase() {
+        return new DefaultGetMediaUploadUseCase(mediaResourceGateway);
+    }
+
+    @Bean
+    public CompleteMediaUploadUseCase completeMediaUploadUseCase(final UploadMediaUseCase uploadMediaUseCase) {
+        return new DefaultCompleteMediaUploadUseCase(mediaResourceGateway, uploadMediaUseCase);
+    }
 }
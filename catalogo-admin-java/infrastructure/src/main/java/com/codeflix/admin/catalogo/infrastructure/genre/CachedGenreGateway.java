@@ -0,0 +1,80 @@
+package com.codeflix.admin.catalogo.infrastructure.genre;
+
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+public class CachedGenreGateway implements GenreGateway {
+
+    private final GenreGateway gateway;
+    private final AggregateCache<Genre> cache;
+
+    public CachedGenreGateway(final GenreGateway gateway, final AggregateCache<Genre> cache) {
+        this.gateway = Objects.requireNonNull(gateway);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public Genre create(final Genre genre) {
+        final var created = this.gateway.create(genre);
+        this.cache.invalidate(created.getId().getValue());
+        return created;
+    }
+
+    @Override
+    public List<Genre> createAll(final List<Genre> genres) {
+        final var created = this.gateway.createAll(genres);
+        created.forEach(it -> this.cache.invalidate(it.getId().getValue()));
+        return created;
+    }
+
+    @Override
+    public void deleteById(final GenreID id) {
+        this.gateway.deleteById(id);
+        this.cache.invalidate(id.getValue());
+    }
+
+    @Override
+    public Optional<Genre> findById(final GenreID id) {
+        return this.cache.get(id.getValue(), () -> this.gateway.findById(id));
+    }
+
+    @Override
+    public Optional<Long> findVersion(final GenreID id) {
+        // a cached copy may be older than what another node wrote, so If-None-Match is answered from the table
+        return this.gateway.findVersion(id);
+    }
+
+    @Override
+    public Genre update(final Genre genre) {
+        // a rejected version means the cached copy is the stale one, so it goes either way
+        try {
+            return this.gateway.update(genre);
+        } finally {
+            this.cache.invalidate(genre.getId().getValue());
+        }
+    }
+
+    @Override
+    public Pagination<Genre> findAll(final SearchQuery query) {
+        return this.gateway.findAll(query);
+    }
+
+    @Override
+    public void streamAll(final Consumer<Genre> consumer) {
+        this.gateway.streamAll(consumer);
+    }
+
+    @Override
+    public List<GenreID> existsByIds(final Iterable<GenreID> ids) {
+        return this.gateway.existsByIds(ids);
+    }
+}
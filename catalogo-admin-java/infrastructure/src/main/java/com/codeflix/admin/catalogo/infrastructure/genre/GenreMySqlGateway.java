@@ -1,100 +1,182 @@
 package com.codeflix.admin.catalogo.infrastructure.genre;
 
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreChanged;
 import com.codeflix.admin.catalogo.domain.genre.GenreGateway;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.cache.ExistenceCache;
 import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
-import com.codeflix.admin.catalogo.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.jpa.domain.Specification;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchDocument;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchIndexes;
+import com.codeflix.admin.catalogo.infrastructure.utils.BatchUtils;
+import com.codeflix.admin.catalogo.infrastructure.utils.SearchUtils;
+import jakarta.persistence.EntityManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
-import static org.springframework.data.jpa.domain.Specification.where;
-
 @Component
 public class GenreMySqlGateway implements GenreGateway {
 
-    private final GenreRepository repository;
+    private static final String AGGREGATE = "genres";
 
-    public GenreMySqlGateway(final GenreRepository repository) {
+    private final GenreRepository repository;
+    private final SearchIndexes searchIndexes;
+    private final ExistenceCache existenceCache;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public GenreMySqlGateway(
+            final GenreRepository repository,
+            final SearchIndexes searchIndexes,
+            final ExistenceCache existenceCache,
+            final EntityManager entityManager,
+            final ApplicationEventPublisher eventPublisher
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.searchIndexes = Objects.requireNonNull(searchIndexes);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
     @Override
     public Genre create(final Genre genre) {
-        return save(genre);
+        return save(genre, GenreJpaEntity.from(genre));
+    }
+
+    @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> genres) {
+        final var entities = genres.stream()
+                .map(GenreJpaEntity::from)
+                .toList();
+
+        final var created = BatchUtils.persistAll(this.entityManager, entities, GenreJpaEntity::toAggregate);
+
+        SearchIndexes.afterCommit(() -> created.forEach(it -> this.searchIndexes.genres()
+                .put(SearchDocument.with(it.getId().getValue(), it.getName()))));
+        return created;
     }
 
     @Override
     public void deleteById(final GenreID id) {
         final var genreId = id.getValue();
-        if (this.repository.existsById(genreId)) {
+        if (BinaryIdConverter.isWellFormed(genreId) && this.repository.existsById(genreId)) {
             this.repository.deleteById(genreId);
+            SearchIndexes.afterCommit(() -> this.searchIndexes.genres().remove(genreId));
+            this.existenceCache.invalidate(AGGREGATE, genreId);
+            this.eventPublisher.publishEvent(new GenreChanged(genreId));
         }
     }
 
     @Override
     public Optional<Genre> findById(final GenreID id) {
-        return this.repository.findById(id.getValue())
+        return Optional.of(id.getValue())
+                .filter(BinaryIdConverter::isWellFormed)
+                .flatMap(this.repository::findById)
                 .map(GenreJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Long> findVersion(final GenreID id) {
+        return Optional.of(id.getValue())
+                .filter(BinaryIdConverter::isWellFormed)
+                .flatMap(this.repository::findVersion);
+    }
+
     @Override
     public Genre update(final Genre genre) {
-        return save(genre);
+        final var entity = GenreJpaEntity.from(genre);
+        if (entity.getVersion() == null) {
+            // read without a version, so it keeps overwriting whatever is stored
+            this.repository.findVersion(entity.getId()).ifPresent(entity::setVersion);
+        }
+
+        final var updated = save(genre, entity);
+        this.eventPublisher.publishEvent(new GenreChanged(updated.getId().getValue()));
+        return updated;
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Genre> findAll(final SearchQuery query) {
-        final var page = PageRequest.of(
-                query.page(),
-                query.perPage(),
-                Sort.by(Sort.Direction.fromString(query.direction()), query.sort())
+        final var page = SearchUtils.findAll(
+                this.repository,
+                this.searchIndexes.genres(),
+                query,
+                Function.identity()
         );
 
-        final var where = Optional.ofNullable(query.terms())
-                .filter(str -> !str.isBlank())
-                .map(this::assembleSpecification)
-                .orElse(null);
+        if (page.items().isEmpty()) {
+            return page.map(GenreJpaEntity::toAggregate);
+        }
 
-        final var pageResult =
-                this.repository.findAll(where(where), page);
+        // categories are loaded for the whole page at once instead of once per genre
+        final var categories = categoriesOf(page.items());
+        return page.map(it -> it.toAggregate(categories.getOrDefault(it.getId().trim(), List.of())));
+    }
 
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(GenreJpaEntity::toAggregate).toList()
-        );
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(final Consumer<Genre> consumer) {
+        BatchUtils.forEachBatch(this.entityManager, this.repository.streamAll(), batch -> {
+            final var categories = categoriesOf(batch);
+            batch.forEach(it -> consumer.accept(it.toAggregate(categories.getOrDefault(it.getId().trim(), List.of()))));
+        });
     }
 
     @Override
     public List<GenreID> existsByIds(final Iterable<GenreID> genreIDS) {
         final var ids = StreamSupport.stream(genreIDS.spliterator(), false)
                 .map(GenreID::getValue)
+                .filter(BinaryIdConverter::isWellFormed)
                 .toList();
 
-        return this.repository.existsByIds(ids).stream()
+        return this.existenceCache.existsByIds(AGGREGATE, ids, this.repository::existsByIds).stream()
                 .map(GenreID::from)
                 .toList();
     }
 
-    private Genre save(final Genre genre) {
-        return this.repository.save(GenreJpaEntity.from(genre))
-                .toAggregate();
+    private Map<String, List<CategoryID>> categoriesOf(final List<GenreJpaEntity> genres) {
+        final var ids = genres.stream().map(GenreJpaEntity::getId).toList();
+        return this.repository.findCategoryIds(ids).stream()
+                .collect(Collectors.groupingBy(
+                        it -> it.getGenreId().trim(),
+                        Collectors.mapping(it -> CategoryID.from(it.getCategoryId()), Collectors.toList())
+                ));
     }
 
-    private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+    private Genre save(final Genre genre, final GenreJpaEntity entity) {
+        // categories are lazy now, the saved ones are exactly the ones that were just written
+        final Genre saved;
+        try {
+            saved = this.repository.saveAndFlush(entity)
+                    .toAggregate(new ArrayList<>(genre.getCategories()));
+        } catch (final OptimisticLockingFailureException ex) {
+            throw StaleVersionException.with(genre);
+        }
+
+        SearchIndexes.afterCommit(() -> this.searchIndexes.genres()
+                .put(SearchDocument.with(saved.getId().getValue(), saved.getName())));
+        return saved;
     }
 }
@@ -3,6 +3,7 @@ package com.codeflix.admin.catalogo.infrastructure.genre.persistence;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
 import com.codeflix.admin.catalogo.domain.genre.Genre;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -15,7 +16,8 @@ import java.util.Set;
 public class GenreJpaEntity {
 
     @Id
-    @Column(name = "id", nullable = false)
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -24,7 +26,7 @@ public class GenreJpaEntity {
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
+    @OneToMany(mappedBy = "genre", cascade = CascadeType.ALL, fetch = FetchType.LAZY, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -36,6 +38,10 @@ public class GenreJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     public GenreJpaEntity() {
     }
 
@@ -65,6 +71,7 @@ public class GenreJpaEntity {
                 genre.getUpdatedAt(),
                 genre.getDeletedAt()
         );
+        anEntity.version = genre.getVersion();
 
         genre.getCategories()
                 .forEach(anEntity::addCategory);
@@ -73,15 +80,21 @@ public class GenreJpaEntity {
     }
 
     public Genre toAggregate() {
-        return Genre.with(
+        return toAggregate(getCategoryIDs());
+    }
+
+    public Genre toAggregate(final List<CategoryID> categories) {
+        final var genre = Genre.with(
                 GenreID.from(getId()),
                 getName(),
                 isActive(),
-                getCategoryIDs(),
+                categories,
                 getCreatedAt(),
                 getUpdatedAt(),
                 getDeletedAt()
         );
+        genre.setVersion(getVersion());
+        return genre;
     }
 
     private void addCategory(final CategoryID id) {
@@ -160,4 +173,13 @@ public class GenreJpaEntity {
         this.deletedAt = deletedAt;
         return this;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public GenreJpaEntity setVersion(Long version) {
+        this.version = version;
+        return this;
+    }
 }
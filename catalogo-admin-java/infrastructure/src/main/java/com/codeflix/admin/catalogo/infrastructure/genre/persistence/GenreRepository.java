@@ -1,18 +1,47 @@
 package com.codeflix.admin.catalogo.infrastructure.genre.persistence;
 
+import com.codeflix.admin.catalogo.infrastructure.search.SearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
+public interface GenreRepository extends JpaRepository<GenreJpaEntity, String>, JpaSpecificationExecutor<GenreJpaEntity> {
 
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
+    @Override
+    @EntityGraph(attributePaths = "categories")
+    Optional<GenreJpaEntity> findById(String id);
+
+    @Query("select gc.id from GenreCategoryJpaEntity gc where gc.id.genreId in :ids")
+    List<GenreCategoryID> findCategoryIds(@Param("ids") Collection<String> ids);
+
     @Query(value = "select g.id from Genre g where g.id in :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @Query("select g.version from Genre g where g.id = :id")
+    Optional<Long> findVersion(@Param("id") String id);
+
+    @Query("select new com.codeflix.admin.catalogo.infrastructure.search.SearchDocument(g.id, g.name) from Genre g")
+    List<SearchDocument> findAllSearchDocuments();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select g from Genre g")
+    Stream<GenreJpaEntity> streamAll();
 }
@@ -0,0 +1,134 @@
+package com.codeflix.admin.catalogo.infrastructure.outbox.persistence;
+
+import com.codeflix.admin.catalogo.infrastructure.utils.InstantUtils;
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+@Entity(name = "OutboxEvent")
+@Table(name = "events_outbox")
+public class OutboxEventJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false)
+    private String eventType;
+
+    @Column(name = "exchange", nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "sent_at", columnDefinition = "DATETIME(6)")
+    private Instant sentAt;
+
+    @Column(name = "claimed_until", columnDefinition = "DATETIME(6)")
+    private Instant claimedUntil;
+
+    public OutboxEventJpaEntity() {
+    }
+
+    private OutboxEventJpaEntity(
+            final String eventType,
+            final String exchange,
+            final String routingKey,
+            final String payload,
+            final Instant createdAt
+    ) {
+        this.eventType = eventType;
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.payload = payload;
+        this.createdAt = createdAt;
+    }
+
+    public static OutboxEventJpaEntity newEvent(
+            final String eventType,
+            final String exchange,
+            final String routingKey,
+            final String payload
+    ) {
+        return new OutboxEventJpaEntity(eventType, exchange, routingKey, payload, InstantUtils.now());
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public OutboxEventJpaEntity setId(Long id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public OutboxEventJpaEntity setEventType(String eventType) {
+        this.eventType = eventType;
+        return this;
+    }
+
+    public String getExchange() {
+        return exchange;
+    }
+
+    public OutboxEventJpaEntity setExchange(String exchange) {
+        this.exchange = exchange;
+        return this;
+    }
+
+    public String getRoutingKey() {
+        return routingKey;
+    }
+
+    public OutboxEventJpaEntity setRoutingKey(String routingKey) {
+        this.routingKey = routingKey;
+        return this;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+
+    public OutboxEventJpaEntity setPayload(String payload) {
+        this.payload = payload;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public OutboxEventJpaEntity setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+
+    public Instant getSentAt() {
+        return sentAt;
+    }
+
+    public OutboxEventJpaEntity setSentAt(Instant sentAt) {
+        this.sentAt = sentAt;
+        return this;
+    }
+
+    public Instant getClaimedUntil() {
+        return claimedUntil;
+    }
+
+    public OutboxEventJpaEntity setClaimedUntil(Instant claimedUntil) {
+        this.claimedUntil = claimedUntil;
+        return this;
+    }
+}
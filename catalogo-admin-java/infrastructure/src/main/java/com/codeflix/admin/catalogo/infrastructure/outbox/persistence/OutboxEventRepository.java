@@ -0,0 +1,37 @@
+package com.codeflix.admin.catalogo.infrastructure.outbox.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
+
+    // lock timeout -2 is SKIP LOCKED, so concurrent relays never pick the same rows
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select e from OutboxEvent e where e.sentAt is null and (e.claimedUntil is null or e.claimedUntil < :now) order by e.id")
+    List<OutboxEventJpaEntity> findPending(@Param("now") Instant now, Pageable page);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.claimedUntil = :claimedUntil where e.id in :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedUntil") Instant claimedUntil);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.claimedUntil = null where e.id in :ids and e.sentAt is null")
+    int release(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update OutboxEvent e set e.sentAt = :sentAt, e.claimedUntil = null where e.id in :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") Instant sentAt);
+
+    @Query("select e.id from OutboxEvent e where e.sentAt < :sentBefore order by e.sentAt")
+    List<Long> findSentBefore(@Param("sentBefore") Instant sentBefore, Pageable page);
+
+    long countBySentAtIsNull();
+}
@@ -0,0 +1,62 @@
+package com.codeflix.admin.catalogo.infrastructure.persistence;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Converter
+public class BinaryIdConverter implements AttributeConverter<String, byte[]> {
+
+    private static final HexFormat HEX = HexFormat.of();
+    private static final int LENGTH = 16;
+
+    @Override
+    public byte[] convertToDatabaseColumn(final String attribute) {
+        if (attribute == null) return null;
+
+        // a malformed id must never be written as NULL, lookups drop them with wellFormed before binding
+        final var bytes = unhex(attribute);
+        if (bytes == null) {
+            throw new IllegalArgumentException("'%s' is not a valid identifier".formatted(attribute));
+        }
+        return bytes;
+    }
+
+    @Override
+    public String convertToEntityAttribute(final byte[] dbData) {
+        if (dbData == null) return null;
+        return HEX.formatHex(dbData);
+    }
+
+    public static boolean isWellFormed(final String id) {
+        return id != null && unhex(id) != null;
+    }
+
+    // a malformed id matches no row, so it is left out of the lookup
+    public static Set<String> wellFormed(final Set<String> ids) {
+        if (ids == null) return null;
+        return ids.stream()
+                .filter(BinaryIdConverter::isWellFormed)
+                .collect(Collectors.toSet());
+    }
+
+    // returns NULL for anything that is not 16 hex encoded bytes, like UNHEX does in MySQL;
+    // the integration tests also register this as UNHEX in H2 so the migrations run there
+    public static byte[] unhex(final String id) {
+        if (id == null) return null;
+
+        final var hex = id.replace("-", "");
+        if (hex.length() != LENGTH * 2) {
+            return null;
+        }
+
+        try {
+            return HEX.parseHex(hex);
+        } catch (final IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.codeflix.admin.catalogo.infrastructure.persistence;
+
+public final class ReadYourWrites {
+
+    // null outside a request, FALSE until the request runs its first read-write transaction
+    private static final ThreadLocal<Boolean> WRITTEN = new ThreadLocal<>();
+
+    private ReadYourWrites() {
+    }
+
+    public static void begin() {
+        begin(false);
+    }
+
+    // work that is going to write starts sticky, so it reads what it changes from the primary
+    public static void begin(final boolean writing) {
+        WRITTEN.set(writing);
+    }
+
+    public static void end() {
+        WRITTEN.remove();
+    }
+
+    public static boolean isSticky() {
+        return Boolean.TRUE.equals(WRITTEN.get());
+    }
+
+    static void written() {
+        if (WRITTEN.get() != null) {
+            WRITTEN.set(Boolean.TRUE);
+        }
+    }
+}
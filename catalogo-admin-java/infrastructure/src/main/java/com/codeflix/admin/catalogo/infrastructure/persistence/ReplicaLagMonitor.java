@@ -0,0 +1,84 @@
+package com.codeflix.admin.catalogo.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final Map<String, HikariDataSource> replicas;
+    private final long maxLag;
+
+    private volatile List<String> healthy = List.of();
+
+    private ReplicaLagMonitor(final Map<String, HikariDataSource> replicas, final long maxLag) {
+        this.replicas = Objects.requireNonNull(replicas);
+        this.maxLag = maxLag;
+    }
+
+    public static ReplicaLagMonitor create(final Map<String, HikariDataSource> replicas, final long maxLag) {
+        return new ReplicaLagMonitor(new LinkedHashMap<>(replicas), maxLag);
+    }
+
+    public Map<String, HikariDataSource> replicas() {
+        return this.replicas;
+    }
+
+    public List<String> healthy() {
+        return this.healthy;
+    }
+
+    @Scheduled(fixedDelayString = "${mysql.replicas.lag-check-interval}")
+    public void check() {
+        final var healthy = new ArrayList<String>(this.replicas.size());
+
+        this.replicas.forEach((name, dataSource) -> {
+            final var lag = lagOf(name, dataSource);
+            final var wasHealthy = this.healthy.contains(name);
+
+            if (lag != null && lag <= this.maxLag) {
+                healthy.add(name);
+                if (!wasHealthy) {
+                    log.info("[message:replica.healthy] [replica:{}] [lag:{}]", name, lag);
+                }
+            } else if (wasHealthy) {
+                log.warn("[message:replica.lagging] [replica:{}] [lag:{}] [maxLag:{}]", name, lag, this.maxLag);
+            }
+        });
+
+        this.healthy = List.copyOf(healthy);
+    }
+
+    @Override
+    public void close() {
+        this.replicas.values().forEach(HikariDataSource::close);
+    }
+
+    // Seconds_Behind_Source is NULL while replication is stopped, which is treated as unusable
+    private static Long lagOf(final String name, final DataSource dataSource) {
+        try (final var conn = dataSource.getConnection();
+             final var statement = conn.createStatement();
+             final var result = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!result.next()) {
+                return null;
+            }
+
+            final var lag = result.getLong("Seconds_Behind_Source");
+            return result.wasNull() ? null : lag;
+        } catch (final SQLException e) {
+            log.debug("[message:replica.unreachable] [replica:{}] [error:{}]", name, e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.codeflix.admin.catalogo.infrastructure.persistence;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor monitor;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private ReplicaRoutingDataSource(final DataSource primary, final ReplicaLagMonitor monitor) {
+        this.monitor = Objects.requireNonNull(monitor);
+
+        final var targets = new HashMap<Object, Object>(monitor.replicas());
+        targets.put(PRIMARY, Objects.requireNonNull(primary));
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    public static ReplicaRoutingDataSource create(final DataSource primary, final ReplicaLagMonitor monitor) {
+        return new ReplicaRoutingDataSource(primary, monitor);
+    }
+
+    // only decides correctly behind a LazyConnectionDataSourceProxy: the transaction manager asks
+    // for a connection before the read-only flag is bound to the thread
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                ReadYourWrites.written();
+            }
+            return PRIMARY;
+        }
+
+        if (ReadYourWrites.isSticky()) {
+            return PRIMARY;
+        }
+
+        final var healthy = this.monitor.healthy();
+        if (healthy.isEmpty()) {
+            return PRIMARY;
+        }
+
+        return healthy.get(Math.floorMod(this.next.getAndIncrement(), healthy.size()));
+    }
+}
@@ -0,0 +1,322 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+public class BitmapIndex {
+
+    private final Consumer<BitmapIndex> loader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // field -> value -> ordinals of the documents holding that value
+    private Map<String, Map<String, RoaringBitmap>> postings = new HashMap<>();
+    private Map<String, Entry> documents = new HashMap<>();
+    private List<String> ids = new ArrayList<>();
+    private RoaringBitmap all = new RoaringBitmap();
+    // ordinals of removed documents, handed out again before the ids grow
+    private RoaringBitmap free = new RoaringBitmap();
+    private List<Consumer<BitmapIndex>> changes;
+    private volatile boolean loaded;
+    private volatile boolean trusted;
+
+    public BitmapIndex(final Consumer<BitmapIndex> loader) {
+        this.loader = Objects.requireNonNull(loader);
+    }
+
+    public void put(final FilterDocument document) {
+        final var id = document.id().trim();
+
+        this.lock.writeLock().lock();
+        try {
+            final var current = this.documents.get(id);
+            final int ordinal;
+            if (current != null) {
+                unindex(current);
+                ordinal = current.ordinal();
+            } else if (!this.free.isEmpty()) {
+                ordinal = this.free.first();
+                this.free.remove(ordinal);
+                this.ids.set(ordinal, id);
+            } else {
+                ordinal = this.ids.size();
+                this.ids.add(id);
+            }
+
+            document.values().forEach((field, values) -> {
+                final var bitmaps = this.postings.computeIfAbsent(field, it -> new HashMap<>());
+                values.forEach(value -> bitmaps.computeIfAbsent(value, it -> new RoaringBitmap()).add(ordinal));
+            });
+            this.all.add(ordinal);
+            this.documents.put(id, new Entry(ordinal, document.values()));
+            record(it -> it.put(document));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String id) {
+        this.lock.writeLock().lock();
+        try {
+            final var current = this.documents.remove(id.trim());
+            if (current != null) {
+                unindex(current);
+                this.all.remove(current.ordinal());
+                this.ids.set(current.ordinal(), null);
+                this.free.add(current.ordinal());
+            }
+            record(it -> it.remove(id));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.postings.clear();
+            this.documents.clear();
+            this.ids.clear();
+            this.all.clear();
+            this.free.clear();
+            this.loaded = false;
+            this.trusted = false;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    // a change this index missed makes it answer wrongly, so filters go to sql until the next reload
+    public void invalidate() {
+        this.trusted = false;
+    }
+
+    public boolean isTrusted() {
+        ensureLoaded();
+        return this.trusted;
+    }
+
+    public synchronized void reload() {
+        this.lock.writeLock().lock();
+        try {
+            this.changes = new ArrayList<>();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        // the rows are read without blocking selections, a fresh index also packs the ordinals again
+        final var fresh = new BitmapIndex(this.loader);
+        try {
+            this.loader.accept(fresh);
+        } catch (final RuntimeException e) {
+            this.lock.writeLock().lock();
+            try {
+                this.changes = null;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            // changes made while the rows were read are newer than what the loader saw
+            this.changes.forEach(it -> it.accept(fresh));
+            this.changes = null;
+            fresh.optimize();
+            this.postings = fresh.postings;
+            this.documents = fresh.documents;
+            this.ids = fresh.ids;
+            this.all = fresh.all;
+            this.free = fresh.free;
+            this.loaded = true;
+            this.trusted = true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        ensureLoaded();
+        this.lock.readLock().lock();
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public Selection select(
+            final Map<String, Set<String>> filters,
+            final Collection<String> within,
+            final int limit
+    ) {
+        ensureLoaded();
+
+        this.lock.readLock().lock();
+        try {
+            final var matched = match(filters, within);
+            final var total = matched.getLongCardinality();
+            if (total > limit) {
+                return new Selection(total, null);
+            }
+
+            final var selected = new ArrayList<String>((int) total);
+            final var it = matched.getIntIterator();
+            while (it.hasNext()) {
+                selected.add(this.ids.get(it.next()));
+            }
+            return new Selection(total, selected);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public Facets facets(
+            final Map<String, Set<String>> filters,
+            final Collection<String> within,
+            final Collection<String> fields
+    ) {
+        ensureLoaded();
+
+        this.lock.readLock().lock();
+        try {
+            final var matched = match(filters, within);
+            final var counts = new LinkedHashMap<String, Map<String, Long>>();
+
+            for (final var field : fields) {
+                // a field is counted without its own filter, so picking one value still shows the others
+                final var base = isFiltered(filters, field) ? match(without(filters, field), within) : matched;
+
+                final var values = new HashMap<String, Long>();
+                this.postings.getOrDefault(field, Map.of()).forEach((value, bitmap) -> {
+                    final var count = RoaringBitmap.andCardinality(base, bitmap);
+                    if (count > 0) {
+                        values.put(value, (long) count);
+                    }
+                });
+                counts.put(field, values);
+            }
+
+            return new Facets(matched.getLongCardinality(), counts);
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (this.loaded) {
+            return;
+        }
+
+        // puts wait for the load, so a change committed meanwhile is not overwritten by an older row
+        this.lock.writeLock().lock();
+        try {
+            if (!this.loaded) {
+                this.loader.accept(this);
+                optimize();
+                this.loaded = true;
+                this.trusted = true;
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void optimize() {
+        this.lock.writeLock().lock();
+        try {
+            this.all.runOptimize();
+            this.postings.values().forEach(it -> it.values().forEach(RoaringBitmap::runOptimize));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void record(final Consumer<BitmapIndex> change) {
+        if (this.changes != null) {
+            this.changes.add(change);
+        }
+    }
+
+    private RoaringBitmap match(final Map<String, Set<String>> filters, final Collection<String> within) {
+        final var matched = within == null ? this.all.clone() : ordinals(within);
+
+        for (final var filter : filters.entrySet()) {
+            if (matched.isEmpty()) {
+                break;
+            }
+            if (filter.getValue() == null || filter.getValue().isEmpty()) {
+                continue;
+            }
+
+            final var bitmaps = this.postings.getOrDefault(filter.getKey(), Map.of());
+            matched.and(RoaringBitmap.or(filter.getValue().stream()
+                    .map(bitmaps::get)
+                    .filter(Objects::nonNull)
+                    .iterator()));
+        }
+
+        return matched;
+    }
+
+    private RoaringBitmap ordinals(final Collection<String> within) {
+        final var ordinals = new RoaringBitmap();
+        for (final var id : within) {
+            final var entry = this.documents.get(id.trim());
+            if (entry != null) {
+                ordinals.add(entry.ordinal());
+            }
+        }
+        return ordinals;
+    }
+
+    private void unindex(final Entry entry) {
+        entry.values().forEach((field, values) -> {
+            final var bitmaps = this.postings.get(field);
+            for (final var value : values) {
+                final var bitmap = bitmaps.get(value);
+                bitmap.remove(entry.ordinal());
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(value);
+                }
+            }
+            if (bitmaps.isEmpty()) {
+                this.postings.remove(field);
+            }
+        });
+    }
+
+    private static boolean isFiltered(final Map<String, Set<String>> filters, final String field) {
+        final var values = filters.get(field);
+        return values != null && !values.isEmpty();
+    }
+
+    private static Map<String, Set<String>> without(final Map<String, Set<String>> filters, final String field) {
+        final var others = new HashMap<>(filters);
+        others.remove(field);
+        return others;
+    }
+
+    public record Selection(long total, List<String> ids) {
+    }
+
+    public record Facets(long total, Map<String, Map<String, Long>> counts) {
+
+        public Map<String, Long> of(final String field) {
+            return this.counts.getOrDefault(field, Map.of());
+        }
+    }
+
+    private record Entry(int ordinal, Map<String, Set<String>> values) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+public record FilterDocument(
+        String id,
+        Map<String, Set<String>> values
+) {
+
+    public FilterDocument {
+        values = values.entrySet().stream()
+                .filter(it -> it.getValue() != null && !it.getValue().isEmpty())
+                .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, it -> Set.copyOf(it.getValue())));
+    }
+
+    public static FilterDocument with(final String id, final Map<String, Set<String>> values) {
+        return new FilterDocument(id, values);
+    }
+}
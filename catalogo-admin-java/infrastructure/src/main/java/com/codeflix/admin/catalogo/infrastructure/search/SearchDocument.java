@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+public record SearchDocument(
+        String id,
+        String name,
+        String description
+) {
+
+    public SearchDocument(final String id, final String name) {
+        this(id, name, null);
+    }
+
+    public static SearchDocument with(final String id, final String name, final String description) {
+        return new SearchDocument(id, name, description);
+    }
+
+    public static SearchDocument with(final String id, final String name) {
+        return new SearchDocument(id, name);
+    }
+}
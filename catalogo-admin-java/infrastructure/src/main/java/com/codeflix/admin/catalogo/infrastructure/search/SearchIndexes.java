@@ -0,0 +1,144 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.codeflix.admin.catalogo.infrastructure.video.VideoFilters;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+@Component
+public class SearchIndexes {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexes.class);
+
+    private final TextIndex categories;
+    private final TextIndex genres;
+    private final TextIndex castMembers;
+    private final TextIndex videos;
+    private final BitmapIndex videoFilters;
+
+    public SearchIndexes(
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final CastMemberRepository castMemberRepository,
+            final VideoRepository videoRepository
+    ) {
+        Objects.requireNonNull(categoryRepository);
+        Objects.requireNonNull(genreRepository);
+        Objects.requireNonNull(castMemberRepository);
+        Objects.requireNonNull(videoRepository);
+
+        this.categories = newIndex("categories", categoryRepository::findAllSearchDocuments);
+        this.genres = newIndex("genres", genreRepository::findAllSearchDocuments);
+        this.castMembers = newIndex("cast_members", castMemberRepository::findAllSearchDocuments);
+        this.videos = newIndex("videos", videoRepository::findAllSearchDocuments);
+        this.videoFilters = new BitmapIndex(index -> {
+            final var startedAt = System.currentTimeMillis();
+            final var loaded = VideoFilters.loadAll(videoRepository, index::put);
+            log.info("[message:filter.index] [status:loaded] [aggregate:videos] [documents:{}] [elapsed:{}ms]",
+                    loaded, System.currentTimeMillis() - startedAt);
+        });
+    }
+
+    public TextIndex categories() {
+        return categories;
+    }
+
+    public TextIndex genres() {
+        return genres;
+    }
+
+    public TextIndex castMembers() {
+        return castMembers;
+    }
+
+    public TextIndex videos() {
+        return videos;
+    }
+
+    public BitmapIndex videoFilters() {
+        return videoFilters;
+    }
+
+    // filtering falls back to sql while the bitmap could not be loaded or missed a change
+    public Optional<BitmapIndex> trustedVideoFilters() {
+        try {
+            if (this.videoFilters.isTrusted()) {
+                return Optional.of(this.videoFilters);
+            }
+        } catch (final RuntimeException e) {
+            log.error("[message:filter.index] [status:load-failed]", e);
+        }
+        return Optional.empty();
+    }
+
+    // built at startup so the first listing does not pay for it
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        List.of(categories, genres, castMembers, videos).forEach(TextIndex::size);
+        this.videoFilters.size();
+    }
+
+    // every node only sees its own writes, so the indexes are rebuilt from the database to pick up the others
+    @Scheduled(fixedDelayString = "${search.indexes.refresh-interval}", initialDelayString = "${search.indexes.refresh-interval}")
+    public void refresh() {
+        for (final var index : List.of(categories, genres, castMembers, videos)) {
+            try {
+                index.reload();
+            } catch (final RuntimeException e) {
+                log.error("[message:search.index] [status:refresh-failed]", e);
+            }
+        }
+
+        try {
+            this.videoFilters.reload();
+        } catch (final RuntimeException e) {
+            // a bitmap that could not catch up with the other nodes is not used for filtering
+            this.videoFilters.invalidate();
+            log.error("[message:filter.index] [status:refresh-failed]", e);
+        }
+    }
+
+    // a rolled back write must not show up in searches, so changes made inside a transaction wait for its commit
+    public static void afterCommit(final Runnable change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    change.run();
+                }
+            });
+            return;
+        }
+
+        change.run();
+    }
+
+    public void clear() {
+        List.of(categories, genres, castMembers, videos).forEach(TextIndex::clear);
+        videoFilters.clear();
+    }
+
+    private static TextIndex newIndex(final String aggregate, final Supplier<List<SearchDocument>> documents) {
+        return new TextIndex(index -> {
+            final var startedAt = System.currentTimeMillis();
+            final var all = documents.get();
+            all.forEach(index::put);
+            log.info("[message:search.index] [status:loaded] [aggregate:{}] [documents:{}] [elapsed:{}ms]",
+                    aggregate, all.size(), System.currentTimeMillis() - startedAt);
+        });
+    }
+}
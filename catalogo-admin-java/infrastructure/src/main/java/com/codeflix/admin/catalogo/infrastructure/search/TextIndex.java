@@ -0,0 +1,254 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+public class TextIndex {
+
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATORS = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final double NAME_WEIGHT = 3.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+    private static final double PREFIX_BOOST = 0.5;
+
+    private final Consumer<TextIndex> loader;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private TreeMap<String, Map<String, Double>> postings = new TreeMap<>();
+    private Map<String, Set<String>> documents = new HashMap<>();
+    private List<Consumer<TextIndex>> changes;
+    private volatile boolean loaded;
+
+    public TextIndex(final Consumer<TextIndex> loader) {
+        this.loader = Objects.requireNonNull(loader);
+    }
+
+    public void put(final SearchDocument document) {
+        final var id = document.id().trim();
+        final var weights = new HashMap<String, Double>();
+        for (final var token : tokenize(document.name())) {
+            weights.merge(token, NAME_WEIGHT, Double::sum);
+        }
+        for (final var token : tokenize(document.description())) {
+            weights.merge(token, DESCRIPTION_WEIGHT, Double::sum);
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            unindex(id);
+            weights.forEach((token, weight) -> this.postings.computeIfAbsent(token, it -> new HashMap<>()).put(id, weight));
+            this.documents.put(id, weights.keySet());
+            record(it -> it.put(document));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(final String id) {
+        this.lock.writeLock().lock();
+        try {
+            unindex(id.trim());
+            record(it -> it.remove(id));
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public void clear() {
+        this.lock.writeLock().lock();
+        try {
+            this.postings.clear();
+            this.documents.clear();
+            this.loaded = false;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public synchronized void reload() {
+        this.lock.writeLock().lock();
+        try {
+            this.changes = new ArrayList<>();
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+
+        // the rows are read without blocking searches, the current documents are served until the swap
+        final var fresh = new TextIndex(this.loader);
+        try {
+            this.loader.accept(fresh);
+        } catch (final RuntimeException e) {
+            this.lock.writeLock().lock();
+            try {
+                this.changes = null;
+            } finally {
+                this.lock.writeLock().unlock();
+            }
+            throw e;
+        }
+
+        this.lock.writeLock().lock();
+        try {
+            // changes made while the rows were read are newer than what the loader saw
+            this.changes.forEach(it -> it.accept(fresh));
+            this.changes = null;
+            this.postings = fresh.postings;
+            this.documents = fresh.documents;
+            this.loaded = true;
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        ensureLoaded();
+        this.lock.readLock().lock();
+        try {
+            return this.documents.size();
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public List<Hit> search(final String terms) {
+        final var tokens = new LinkedHashSet<>(tokenize(terms));
+        if (tokens.isEmpty()) {
+            return List.of();
+        }
+
+        ensureLoaded();
+
+        this.lock.readLock().lock();
+        try {
+            final var total = Math.max(this.documents.size(), 1);
+
+            // the most selective token drives the candidates, the others only score them
+            final var matches = tokens.stream()
+                    .map(token -> Match.of(token, this.postings.subMap(token, true, token + Character.MAX_VALUE, false)))
+                    .sorted(Comparator.comparingLong(Match::size))
+                    .toList();
+
+            if (matches.get(0).size() == 0) {
+                return List.of();
+            }
+
+            final var scores = new HashMap<String, Double>();
+            matches.get(0).terms().forEach((term, ids) -> {
+                final var weight = weight(matches.get(0).token(), term, ids.size(), total);
+                ids.forEach((id, tf) -> scores.merge(id, tf * weight, Double::sum));
+            });
+
+            for (final var match : matches.subList(1, matches.size())) {
+                final var it = scores.entrySet().iterator();
+                while (it.hasNext()) {
+                    final var candidate = it.next();
+                    var score = 0.0;
+                    for (final var term : match.terms().entrySet()) {
+                        final var tf = term.getValue().get(candidate.getKey());
+                        if (tf != null) {
+                            score += tf * weight(match.token(), term.getKey(), term.getValue().size(), total);
+                        }
+                    }
+
+                    if (score == 0.0) {
+                        it.remove();
+                    } else {
+                        candidate.setValue(candidate.getValue() + score);
+                    }
+                }
+
+                if (scores.isEmpty()) {
+                    return List.of();
+                }
+            }
+
+            final var hits = new ArrayList<Hit>(scores.size());
+            scores.forEach((id, score) -> hits.add(new Hit(id, score)));
+            hits.sort(Comparator.comparingDouble(Hit::score).reversed().thenComparing(Hit::id));
+            return hits;
+        } finally {
+            this.lock.readLock().unlock();
+        }
+    }
+
+    public static List<String> tokenize(final String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        final var folded = MARKS.matcher(Normalizer.normalize(text, Normalizer.Form.NFD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+
+        return Arrays.stream(SEPARATORS.split(folded))
+                .filter(it -> !it.isEmpty())
+                .toList();
+    }
+
+    private void ensureLoaded() {
+        if (this.loaded) {
+            return;
+        }
+
+        // puts wait for the load, so a change committed meanwhile is not overwritten by an older row
+        this.lock.writeLock().lock();
+        try {
+            if (!this.loaded) {
+                this.loader.accept(this);
+                this.loaded = true;
+            }
+        } finally {
+            this.lock.writeLock().unlock();
+        }
+    }
+
+    private void record(final Consumer<TextIndex> change) {
+        if (this.changes != null) {
+            this.changes.add(change);
+        }
+    }
+
+    private void unindex(final String id) {
+        final var tokens = this.documents.remove(id);
+        if (tokens == null) {
+            return;
+        }
+
+        for (final var token : tokens) {
+            final var ids = this.postings.get(token);
+            ids.remove(id);
+            if (ids.isEmpty()) {
+                this.postings.remove(token);
+            }
+        }
+    }
+
+    private static double weight(final String token, final String term, final int frequency, final int total) {
+        final var boost = term.equals(token) ? 1.0 : PREFIX_BOOST;
+        return Math.log(1.0 + (double) total / frequency) * boost;
+    }
+
+    public record Hit(String id, double score) {
+    }
+
+    private record Match(String token, SortedMap<String, Map<String, Double>> terms, long size) {
+
+        static Match of(final String token, final SortedMap<String, Map<String, Double>> terms) {
+            return new Match(token, terms, terms.values().stream().mapToLong(Map::size).sum());
+        }
+    }
+}
@@ -2,7 +2,9 @@ package com.codeflix.admin.catalogo.infrastructure.services;
 
 import com.codeflix.admin.catalogo.domain.video.Resource;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface StorageService {
@@ -14,4 +16,16 @@ public interface StorageService {
     List<String> list(String prefix);
 
     void deleteAll(final List<String> ids);
-}
\ No newline at end of file
+
+    void createUpload(String id, String contentType, Map<String, String> attributes);
+
+    Optional<Map<String, String>> uploadAttributes(String id);
+
+    Optional<Long> uploadOffset(String id);
+
+    long appendUpload(String id, InputStream content);
+
+    Resource completeUpload(String id);
+
+    void discardUpload(String id);
+}
@@ -0,0 +1,219 @@
+package com.codeflix.admin.catalogo.infrastructure.services.impl;
+
+import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.codeflix.admin.catalogo.infrastructure.services.EventService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.dao.DataAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class BatchingRabbitEventService implements EventService, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingRabbitEventService.class);
+
+    private final String exchange;
+    private final String routingKey;
+    private final RabbitOperations ops;
+    private final OutboxEventRepository outboxEventRepository;
+    private final int batchSize;
+    private final long lingerNanos;
+    private final long confirmTimeout;
+    private final int maxAttempts;
+
+    private final BlockingQueue<PendingEvent> pending;
+    private final Thread flusher;
+    private volatile boolean running;
+
+    private final Counter published;
+    private final Counter retried;
+    private final Counter deferred;
+    private final Counter dropped;
+    private final DistributionSummary batches;
+    private final Timer confirms;
+
+    public BatchingRabbitEventService(
+            final String exchange,
+            final String routingKey,
+            final RabbitOperations ops,
+            final OutboxEventRepository outboxEventRepository,
+            final MeterRegistry meterRegistry,
+            final int capacity,
+            final int batchSize,
+            final Duration linger,
+            final Duration confirmTimeout,
+            final int maxAttempts
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.ops = Objects.requireNonNull(ops);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+        this.batchSize = batchSize;
+        this.lingerNanos = linger.toNanos();
+        this.confirmTimeout = confirmTimeout.toMillis();
+        this.maxAttempts = maxAttempts;
+        this.pending = new LinkedBlockingQueue<>(capacity);
+
+        Gauge.builder("events.batcher.queue.depth", this.pending, BlockingQueue::size)
+                .tag("routing.key", routingKey)
+                .register(meterRegistry);
+        this.published = Counter.builder("events.batcher.published").tag("routing.key", routingKey).register(meterRegistry);
+        this.retried = Counter.builder("events.batcher.retried").tag("routing.key", routingKey).register(meterRegistry);
+        this.deferred = Counter.builder("events.batcher.deferred").tag("routing.key", routingKey).register(meterRegistry);
+        this.dropped = Counter.builder("events.batcher.dropped").tag("routing.key", routingKey).register(meterRegistry);
+        this.batches = DistributionSummary.builder("events.batcher.batch.size").tag("routing.key", routingKey).register(meterRegistry);
+        this.confirms = Timer.builder("events.batcher.confirm.latency").tag("routing.key", routingKey).register(meterRegistry);
+
+        this.running = true;
+        this.flusher = new Thread(this::run, "event-batcher-" + routingKey);
+        this.flusher.setDaemon(true);
+        this.flusher.start();
+    }
+
+    @Override
+    public void send(final Object event) {
+        if (!this.running) {
+            throw new IllegalStateException("Event service for %s is closed".formatted(this.routingKey));
+        }
+
+        final var pendingEvent = new PendingEvent(event.getClass().getSimpleName(), Json.writeValueAsString(event));
+
+        // events raised inside a transaction are only published once it commits, a rollback discards them
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(pendingEvent);
+                }
+            });
+            return;
+        }
+
+        enqueue(pendingEvent);
+    }
+
+    @Override
+    public void close() {
+        // the flusher notices within one poll interval and publishes what is still queued
+        this.running = false;
+        try {
+            this.flusher.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void enqueue(final PendingEvent event) {
+        try {
+            this.pending.put(event);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while enqueuing event", e);
+        }
+    }
+
+    private void run() {
+        final var batch = new ArrayList<PendingEvent>(this.batchSize);
+        while (this.running || !this.pending.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (final InterruptedException e) {
+                log.warn("[message:event.batcher] [status:interrupted] [events:{}]", batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                publish(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void collect(final List<PendingEvent> batch) throws InterruptedException {
+        final var first = this.pending.poll(100, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        final var deadline = System.nanoTime() + this.lingerNanos;
+        while (batch.size() < this.batchSize) {
+            if (this.pending.drainTo(batch, this.batchSize - batch.size()) > 0) {
+                continue;
+            }
+
+            final var remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return;
+            }
+
+            final var next = this.pending.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void publish(final List<PendingEvent> batch) {
+        for (int attempt = 1; attempt <= this.maxAttempts; attempt++) {
+            if (attempt > 1) {
+                this.retried.increment();
+            }
+
+            final var startedAt = System.nanoTime();
+            try {
+                final var confirmed = this.ops.invoke(it -> {
+                    batch.forEach(event -> it.convertAndSend(this.exchange, this.routingKey, event.payload()));
+                    return it.waitForConfirms(this.confirmTimeout);
+                });
+
+                if (Boolean.TRUE.equals(confirmed)) {
+                    this.confirms.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    this.batches.record(batch.size());
+                    this.published.increment(batch.size());
+                    return;
+                }
+
+                log.warn("[message:event.batcher] [status:unconfirmed] [attempt:{}] [events:{}]", attempt, batch.size());
+            } catch (final AmqpException e) {
+                log.warn("[message:event.batcher] [status:error] [attempt:{}] [events:{}]", attempt, batch.size(), e);
+            }
+        }
+
+        drop(batch);
+    }
+
+    private void drop(final List<PendingEvent> batch) {
+        // the broker gave up on these events, the outbox relay publishes them once it is reachable again
+        try {
+            this.outboxEventRepository.saveAll(batch.stream()
+                    .map(it -> OutboxEventJpaEntity.newEvent(it.eventType(), this.exchange, this.routingKey, it.payload()))
+                    .toList());
+            this.deferred.increment(batch.size());
+            log.warn("[message:event.batcher] [status:deferred] [events:{}]", batch.size());
+        } catch (final DataAccessException e) {
+            this.dropped.increment(batch.size());
+            log.error("[message:event.batcher] [status:dropped] [events:{}] [payloads:{}]", batch.size(), batch.stream().map(PendingEvent::payload).toList(), e);
+        }
+    }
+
+    private record PendingEvent(String eventType, String payload) {
+    }
+}
@@ -0,0 +1,385 @@
+package com.codeflix.admin.catalogo.infrastructure.services.impl;
+
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.StreamingResource;
+import com.codeflix.admin.catalogo.infrastructure.services.StorageService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+public class FileSystemStorageService implements StorageService {
+
+    private static final String META_SUFFIX = ".meta";
+    private static final String PART_SUFFIX = ".part";
+    private static final String TMP_PREFIX = ".tmp-";
+
+    private static final String CHECKSUM = "checksum";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String NAME = "name";
+    private static final String LENGTH = "length";
+    private static final String ATTRIBUTE_PREFIX = "attribute.";
+
+    private final Path root;
+
+    public FileSystemStorageService(final Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        try {
+            Files.createDirectories(this.root);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void store(final String id, final Resource resource) {
+        final var target = path(id);
+
+        Path data = null;
+        Path sidecar = null;
+        try {
+            Files.createDirectories(target.getParent());
+
+            data = writeTemp(target, channel -> {
+                try (final var in = Channels.newChannel(resource.openStream())) {
+                    channel.transferFrom(in, 0, Long.MAX_VALUE);
+                }
+            });
+
+            final var meta = new Properties();
+            meta.setProperty(CHECKSUM, resource.checksum());
+            meta.setProperty(CONTENT_TYPE, resource.contentType());
+            meta.setProperty(NAME, resource.name());
+            meta.setProperty(LENGTH, String.valueOf(Files.size(data)));
+            sidecar = writeTemp(meta(target), channel -> meta.store(Channels.newOutputStream(channel), null));
+
+            // both files are on disk before either rename, the sidecar goes last and carries the data length
+            publish(data, target);
+            publish(sidecar, meta(target));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            deleteQuietly(data);
+            deleteQuietly(sidecar);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String id) {
+        final var target = path(id);
+        if (!Files.isRegularFile(target)) {
+            return Optional.empty();
+        }
+
+        try {
+            final var meta = readMeta(target);
+            final var length = Files.size(target);
+
+            // a crash between the two renames leaves data newer than its sidecar, so its checksum is recomputed
+            final var storedLength = meta.getProperty(LENGTH);
+            if (storedLength != null && Long.parseLong(storedLength) != length) {
+                return Optional.of(StreamingResource.with(
+                        new FileSource(target),
+                        length,
+                        meta.getProperty(CONTENT_TYPE),
+                        meta.getProperty(NAME)
+                ));
+            }
+
+            return Optional.of(StreamingResource.with(
+                    new FileSource(target),
+                    length,
+                    meta.getProperty(CHECKSUM),
+                    meta.getProperty(CONTENT_TYPE),
+                    meta.getProperty(NAME)
+            ));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        final var segments = prefix.split("/", 2);
+        final var shard = shard(segments[0]);
+        final var folder = shard.resolve(segments[0]);
+
+        if (!Files.isDirectory(folder)) {
+            return List.of();
+        }
+
+        try (final Stream<Path> files = Files.walk(folder)) {
+            return files
+                    .filter(Files::isRegularFile)
+                    .filter(it -> isObject(it.getFileName().toString()))
+                    .map(it -> shard.relativize(it).toString().replace(it.getFileSystem().getSeparator(), "/"))
+                    .filter(it -> it.startsWith(prefix))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteAll(final List<String> ids) {
+        if (ids == null || ids.isEmpty())
+            return;
+
+        try {
+            for (final var id : ids) {
+                final var target = path(id);
+                Files.deleteIfExists(target);
+                Files.deleteIfExists(meta(target));
+                deleteEmptyParents(target.getParent());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void createUpload(final String id, final String contentType, final Map<String, String> attributes) {
+        final var part = part(id);
+
+        try {
+            Files.createDirectories(part.getParent());
+            Files.deleteIfExists(part);
+
+            // the sidecar goes first, so any .part on disk can be turned back into its session
+            final var meta = new Properties();
+            meta.setProperty(CONTENT_TYPE, contentType);
+            attributes.forEach((key, value) -> meta.setProperty(ATTRIBUTE_PREFIX + key, value));
+            writeMeta(part, meta);
+
+            Files.createFile(part);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Map<String, String>> uploadAttributes(final String id) {
+        final var part = part(id);
+        if (!Files.isRegularFile(part)) {
+            return Optional.empty();
+        }
+
+        try {
+            final var meta = readMeta(part);
+            final var attributes = new HashMap<String, String>();
+            meta.stringPropertyNames().stream()
+                    .filter(it -> it.startsWith(ATTRIBUTE_PREFIX))
+                    .forEach(it -> attributes.put(it.substring(ATTRIBUTE_PREFIX.length()), meta.getProperty(it)));
+            return Optional.of(attributes);
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Long> uploadOffset(final String id) {
+        final var part = part(id);
+
+        try {
+            return Files.isRegularFile(part) ? Optional.of(Files.size(part)) : Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long appendUpload(final String id, final InputStream content) {
+        final var part = part(id);
+
+        try (final var channel = FileChannel.open(part, StandardOpenOption.WRITE);
+             final var in = Channels.newChannel(content)) {
+            channel.transferFrom(in, channel.size(), Long.MAX_VALUE);
+            channel.force(false);
+            return channel.size();
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("Upload %s was not started".formatted(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Resource completeUpload(final String id) {
+        final var part = part(id);
+
+        try {
+            return StreamingResource.with(
+                    new FileSource(part),
+                    Files.size(part),
+                    readMeta(part).getProperty(CONTENT_TYPE),
+                    id
+            );
+        } catch (NoSuchFileException e) {
+            throw new IllegalStateException("Upload %s was not started".formatted(id));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void discardUpload(final String id) {
+        final var part = part(id);
+
+        try {
+            Files.deleteIfExists(part);
+            Files.deleteIfExists(meta(part));
+            deleteEmptyParents(part.getParent());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Path path(final String id) {
+        final var segments = id.split("/", 2);
+        final var target = shard(segments[0]).resolve(id).normalize();
+
+        if (!target.startsWith(this.root) || target.equals(this.root)) {
+            throw new IllegalArgumentException("Invalid storage id %s".formatted(id));
+        }
+        return target;
+    }
+
+    private Path part(final String id) {
+        final var target = path(id);
+        return target.resolveSibling(target.getFileName() + PART_SUFFIX);
+    }
+
+    private Path shard(final String folder) {
+        final var hash = Integer.toHexString((folder.hashCode() & 0xff) | 0x100).substring(1);
+        return this.root.resolve(hash);
+    }
+
+    private static Path meta(final Path target) {
+        return target.resolveSibling(target.getFileName() + META_SUFFIX);
+    }
+
+    private static boolean isObject(final String filename) {
+        return !filename.startsWith(TMP_PREFIX)
+                && !filename.endsWith(META_SUFFIX)
+                && !filename.endsWith(PART_SUFFIX);
+    }
+
+    private static Properties readMeta(final Path target) throws IOException {
+        final var meta = new Properties();
+        try (final var in = Files.newInputStream(meta(target))) {
+            meta.load(in);
+        }
+        return meta;
+    }
+
+    private static void writeMeta(final Path target, final Properties meta) throws IOException {
+        writeAtomically(meta(target), channel -> meta.store(Channels.newOutputStream(channel), null));
+    }
+
+    private static void writeAtomically(final Path target, final ChannelWriter writer) throws IOException {
+        final var tmp = writeTemp(target, writer);
+
+        try {
+            publish(tmp, target);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+    }
+
+    private static Path writeTemp(final Path target, final ChannelWriter writer) throws IOException {
+        final var tmp = Files.createTempFile(target.getParent(), TMP_PREFIX, null);
+
+        try (final var channel = FileChannel.open(tmp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            writer.write(channel);
+            channel.force(true);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+        return tmp;
+    }
+
+    private static void publish(final Path tmp, final Path target) throws IOException {
+        Files.move(tmp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void deleteQuietly(final Path file) {
+        if (file == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+            // a leftover temp file is ignored by list and get
+        }
+    }
+
+    private void deleteEmptyParents(final Path folder) throws IOException {
+        var current = folder;
+        while (current != null && current.startsWith(this.root) && !current.equals(this.root)) {
+            try {
+                Files.deleteIfExists(current);
+            } catch (DirectoryNotEmptyException e) {
+                return;
+            }
+            current = current.getParent();
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+
+    private record FileSource(Path file) implements StreamingResource.Source {
+
+        @Override
+        public InputStream open() throws IOException {
+            return Files.newInputStream(file);
+        }
+
+        @Override
+        public InputStream open(final long position) throws IOException {
+            final var channel = FileChannel.open(file, StandardOpenOption.READ);
+            channel.position(position);
+            return Channels.newInputStream(channel);
+        }
+
+        @Override
+        public long transferTo(final long position, final long count, final WritableByteChannel target) throws IOException {
+            try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                final var end = Math.min(position + count, channel.size());
+
+                long transferred = 0;
+                while (position + transferred < end) {
+                    final var n = channel.transferTo(position + transferred, end - position - transferred, target);
+                    if (n <= 0) {
+                        break;
+                    }
+                    transferred += n;
+                }
+                return transferred;
+            }
+        }
+    }
+}
@@ -1,27 +1,58 @@
 package com.codeflix.admin.catalogo.infrastructure.services.impl;
 
 import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.StreamingResource;
 import com.codeflix.admin.catalogo.infrastructure.services.StorageService;
+import com.google.cloud.RestorableState;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
 public class GCStorageService implements StorageService {
 
+    private static final int UPLOAD_BUFFER_SIZE = 256 * 1024;
+    private static final Duration UPLOAD_IDLE_TIMEOUT = Duration.ofHours(24);
+    private static final long MAX_UPLOADS = 10_000;
+
     private final String bucket;
     private final Storage storage;
+    // GCS keeps no object for an unfinished resumable session, so an abandoned one only has to be forgotten here
+    private final Cache<String, Upload> uploads;
 
     public GCStorageService(final String bucket, final Storage storage) {
+        this(bucket, storage, UPLOAD_IDLE_TIMEOUT);
+    }
+
+    GCStorageService(final String bucket, final Storage storage, final Duration uploadIdleTimeout) {
         this.bucket = bucket;
         this.storage = storage;
+        this.uploads = CacheBuilder.newBuilder()
+                .expireAfterAccess(uploadIdleTimeout)
+                .maximumSize(MAX_UPLOADS)
+                .build();
     }
 
     @Override
     public void store(final String id, final Resource resource) {
+        if (resource instanceof StreamingResource aStream) {
+            storeStreaming(id, aStream);
+            return;
+        }
+
         final var info = BlobInfo.newBuilder(this.bucket, id)
                 .setContentType(resource.contentType())
                 .setCrc32cFromHexString(resource.checksum())
@@ -30,11 +61,36 @@ public class GCStorageService implements StorageService {
         this.storage.create(info, resource.content());
     }
 
+    private void storeStreaming(final String id, final StreamingResource resource) {
+        final var info = BlobInfo.newBuilder(this.bucket, id)
+                .setContentType(resource.contentType())
+                .build();
+
+        try (final var in = resource.openStream();
+             final var out = Channels.newOutputStream(this.storage.writer(info))) {
+            in.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // the writer sends no checksum up front, so the object GCS ended up with is checked against the streamed one
+        final var expectedChecksum = resource.checksum();
+        final var actualChecksum = Optional.ofNullable(this.storage.get(this.bucket, id))
+                .map(BlobInfo::getCrc32cToHexString)
+                .orElse(null);
+
+        if (!expectedChecksum.equals(actualChecksum)) {
+            this.storage.delete(BlobId.of(this.bucket, id));
+            throw new IllegalStateException("Stored %s has checksum %s but %s was streamed".formatted(id, actualChecksum, expectedChecksum));
+        }
+    }
+
     @Override
     public Optional<Resource> get(final String id) {
         return Optional.ofNullable(this.storage.get(this.bucket, id))
-                .map(blob -> Resource.with(
-                        blob.getContent(),
+                .map(blob -> StreamingResource.with(
+                        sourceOf(blob.getBlobId()),
+                        blob.getSize(),
                         blob.getCrc32cToHexString(),
                         blob.getContentType(),
                         blob.getName()
@@ -62,4 +118,109 @@ public class GCStorageService implements StorageService {
 
         this.storage.delete(blobs);
     }
+
+    @Override
+    public void createUpload(final String id, final String contentType, final Map<String, String> attributes) {
+        final var info = BlobInfo.newBuilder(this.bucket, id)
+                .setContentType(contentType)
+                .build();
+
+        final var writer = this.storage.writer(info);
+        this.uploads.put(id, new Upload(writer.capture(), contentType, Map.copyOf(attributes), 0));
+    }
+
+    @Override
+    public Optional<Map<String, String>> uploadAttributes(final String id) {
+        return Optional.ofNullable(this.uploads.getIfPresent(id))
+                .map(Upload::attributes);
+    }
+
+    @Override
+    public Optional<Long> uploadOffset(final String id) {
+        return Optional.ofNullable(this.uploads.getIfPresent(id))
+                .map(Upload::offset);
+    }
+
+    @Override
+    public long appendUpload(final String id, final InputStream content) {
+        final var anUpload = upload(id);
+        final var writer = anUpload.state().restore();
+        final var source = Channels.newChannel(content);
+        final var buffer = ByteBuffer.allocate(UPLOAD_BUFFER_SIZE);
+
+        long written = 0;
+        try {
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    written += writer.write(buffer);
+                }
+                buffer.clear();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            // the writer may have flushed part of a failed chunk to GCS already, so the session has to move past it
+            this.uploads.put(id, new Upload(writer.capture(), anUpload.contentType(), anUpload.attributes(), anUpload.offset() + written));
+        }
+
+        return anUpload.offset() + written;
+    }
+
+    @Override
+    public Resource completeUpload(final String id) {
+        final var anUpload = upload(id);
+
+        try {
+            anUpload.state().restore().close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return StreamingResource.with(
+                () -> Channels.newInputStream(this.storage.reader(this.bucket, id)),
+                anUpload.offset(),
+                anUpload.contentType(),
+                id
+        );
+    }
+
+    @Override
+    public void discardUpload(final String id) {
+        if (this.uploads.asMap().remove(id) != null) {
+            this.storage.delete(BlobId.of(this.bucket, id));
+        }
+    }
+
+    private StreamingResource.Source sourceOf(final BlobId blobId) {
+        return new StreamingResource.Source() {
+            @Override
+            public InputStream open() {
+                return Channels.newInputStream(storage.reader(blobId));
+            }
+
+            @Override
+            public InputStream open(final long position) throws IOException {
+                final var reader = storage.reader(blobId);
+                reader.seek(position);
+                return Channels.newInputStream(reader);
+            }
+        };
+    }
+
+    private Upload upload(final String id) {
+        final var anUpload = this.uploads.getIfPresent(id);
+        if (anUpload == null) {
+            throw new IllegalStateException("Upload %s was not started".formatted(id));
+        }
+        return anUpload;
+    }
+
+    private record Upload(
+            RestorableState<WriteChannel> state,
+            String contentType,
+            Map<String, String> attributes,
+            long offset
+    ) {
+    }
 }
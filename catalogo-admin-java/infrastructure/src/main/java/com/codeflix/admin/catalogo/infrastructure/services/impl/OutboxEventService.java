@@ -0,0 +1,35 @@
+package com.codeflix.admin.catalogo.infrastructure.services.impl;
+
+import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.codeflix.admin.catalogo.infrastructure.services.EventService;
+
+import java.util.Objects;
+
+public class OutboxEventService implements EventService {
+
+    private final String exchange;
+    private final String routingKey;
+    private final OutboxEventRepository outboxEventRepository;
+
+    public OutboxEventService(
+            final String exchange,
+            final String routingKey,
+            final OutboxEventRepository outboxEventRepository
+    ) {
+        this.exchange = Objects.requireNonNull(exchange);
+        this.routingKey = Objects.requireNonNull(routingKey);
+        this.outboxEventRepository = Objects.requireNonNull(outboxEventRepository);
+    }
+
+    @Override
+    public void send(final Object event) {
+        this.outboxEventRepository.save(OutboxEventJpaEntity.newEvent(
+                event.getClass().getSimpleName(),
+                this.exchange,
+                this.routingKey,
+                Json.writeValueAsString(event)
+        ));
+    }
+}
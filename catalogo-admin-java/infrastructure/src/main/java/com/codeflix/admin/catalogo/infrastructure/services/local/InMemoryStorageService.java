@@ -1,8 +1,15 @@
 package com.codeflix.admin.catalogo.infrastructure.services.local;
 
 import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.StreamingResource;
 import com.codeflix.admin.catalogo.infrastructure.services.StorageService;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,13 +18,16 @@ import java.util.concurrent.ConcurrentHashMap;
 public class InMemoryStorageService implements StorageService {
 
     private final Map<String, Resource> storage;
+    private final Map<String, Upload> uploads;
 
     public InMemoryStorageService() {
         this.storage = new ConcurrentHashMap<>();
+        this.uploads = new ConcurrentHashMap<>();
     }
 
     public void clear() {
         this.storage.clear();
+        this.uploads.keySet().forEach(this::discardUpload);
     }
 
     public Map<String, Resource> storage() {
@@ -26,6 +36,12 @@ public class InMemoryStorageService implements StorageService {
 
     @Override
     public void store(final String id, final Resource resource) {
+        if (resource instanceof StreamingResource) {
+            final var content = resource.content();
+            this.storage.put(id, Resource.with(content, resource.checksum(), resource.contentType(), resource.name()));
+            return;
+        }
+
         this.storage.put(id, resource);
     }
 
@@ -45,4 +61,80 @@ public class InMemoryStorageService implements StorageService {
     public void deleteAll(final List<String> ids) {
         ids.forEach(this.storage::remove);
     }
+
+    @Override
+    public void createUpload(final String id, final String contentType, final Map<String, String> attributes) {
+        try {
+            this.uploads.put(id, new Upload(Files.createTempFile("upload-", ".part"), contentType, Map.copyOf(attributes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Map<String, String>> uploadAttributes(final String id) {
+        return Optional.ofNullable(this.uploads.get(id))
+                .map(Upload::attributes);
+    }
+
+    @Override
+    public Optional<Long> uploadOffset(final String id) {
+        return Optional.ofNullable(this.uploads.get(id))
+                .map(Upload::size);
+    }
+
+    @Override
+    public long appendUpload(final String id, final InputStream content) {
+        final var anUpload = upload(id);
+        try (final var out = Files.newOutputStream(anUpload.file(), StandardOpenOption.APPEND)) {
+            content.transferTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return anUpload.size();
+    }
+
+    @Override
+    public Resource completeUpload(final String id) {
+        final var anUpload = upload(id);
+        return StreamingResource.with(
+                () -> Files.newInputStream(anUpload.file()),
+                anUpload.size(),
+                anUpload.contentType(),
+                id
+        );
+    }
+
+    @Override
+    public void discardUpload(final String id) {
+        final var anUpload = this.uploads.remove(id);
+        if (anUpload == null) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(anUpload.file());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Upload upload(final String id) {
+        final var anUpload = this.uploads.get(id);
+        if (anUpload == null) {
+            throw new IllegalStateException("Upload %s was not started".formatted(id));
+        }
+        return anUpload;
+    }
+
+    private record Upload(Path file, String contentType, Map<String, String> attributes) {
+
+        long size() {
+            try {
+                return Files.size(file);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
 }
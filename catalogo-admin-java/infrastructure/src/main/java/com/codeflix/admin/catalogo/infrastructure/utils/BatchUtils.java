@@ -0,0 +1,76 @@
+package com.codeflix.admin.catalogo.infrastructure.utils;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+public final class BatchUtils {
+
+    public static final int MAX_BATCH_SIZE = 1_000;
+
+    private BatchUtils() {
+    }
+
+    public static <E, T> List<T> persistAll(
+            final EntityManager entityManager,
+            final List<E> entities,
+            final Function<E, T> mapper
+    ) {
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+
+        final var session = entityManager.unwrap(Session.class);
+        final var batchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(Math.min(entities.size(), MAX_BATCH_SIZE));
+
+        try {
+            // persist instead of save: ids are assigned, so merge would select every row before inserting it
+            entities.forEach(entityManager::persist);
+            entityManager.flush();
+
+            final var result = entities.stream().map(mapper).toList();
+            entityManager.clear();
+            return result;
+        } finally {
+            session.setJdbcBatchSize(batchSize);
+        }
+    }
+
+    public static <E> void forEachBatch(
+            final EntityManager entityManager,
+            final Stream<E> rows,
+            final Consumer<List<E>> consumer
+    ) {
+        final var batch = new ArrayList<E>(MAX_BATCH_SIZE);
+
+        try (rows) {
+            rows.forEach(it -> {
+                batch.add(it);
+                if (batch.size() == MAX_BATCH_SIZE) {
+                    consume(entityManager, batch, consumer);
+                }
+            });
+        }
+
+        if (!batch.isEmpty()) {
+            consume(entityManager, batch, consumer);
+        }
+    }
+
+    private static <E> void consume(
+            final EntityManager entityManager,
+            final List<E> batch,
+            final Consumer<List<E>> consumer
+    ) {
+        consumer.accept(batch);
+        batch.clear();
+        // the cursor keeps going, the rows already handed over must not pile up in the persistence context
+        entityManager.clear();
+    }
+}
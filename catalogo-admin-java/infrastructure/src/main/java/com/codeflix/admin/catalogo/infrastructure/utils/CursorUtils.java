@@ -0,0 +1,184 @@
+package com.codeflix.admin.catalogo.infrastructure.utils;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import jakarta.persistence.criteria.Path;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+public final class CursorUtils {
+
+    private static final String ID = "id";
+
+    private CursorUtils() {
+    }
+
+    public static Sort sort(final String sort, final String direction) {
+        final var dir = Sort.Direction.fromString(direction);
+        return Sort.by(dir, sort).and(Sort.by(dir, ID));
+    }
+
+    public static <E, T> Pagination<T> findAll(
+            final JpaSpecificationExecutor<E> repository,
+            final Specification<E> where,
+            final SearchQuery query,
+            final LongSupplier estimate,
+            final Function<E, T> mapper
+    ) {
+        final var sort = query.sort();
+        final var direction = query.direction();
+        final var order = sort(sort, direction);
+        final var total = query.total() == null ? TotalMode.EXACT : query.total();
+        final LongSupplier count = () -> TotalUtils.count(
+                total,
+                estimate,
+                () -> repository.count(where)
+        );
+
+        if (query.after() == null && total == TotalMode.EXACT) {
+            final var pageResult = repository.findAll(where, PageRequest.of(query.page(), query.perPage(), order));
+            final var items = pageResult.getContent();
+
+            return new Pagination<>(
+                    pageResult.getNumber(),
+                    pageResult.getSize(),
+                    pageResult.getTotalElements(),
+                    items.stream().map(mapper).toList(),
+                    pageResult.hasNext() ? next(items.get(items.size() - 1), sort, direction) : null
+            );
+        }
+
+        if (query.after() == null) {
+            final var slice = repository.findBy(
+                    where,
+                    it -> it.sortBy(order).slice(PageRequest.of(query.page(), query.perPage()))
+            );
+            final var items = slice.getContent();
+
+            return new Pagination<>(
+                    slice.getNumber(),
+                    slice.getSize(),
+                    count.getAsLong(),
+                    items.stream().map(mapper).toList(),
+                    slice.hasNext() ? next(items.get(items.size() - 1), sort, direction) : null
+            );
+        }
+
+        final var rows = repository.findBy(
+                where.and(after(decode(query.after(), sort, direction))),
+                it -> it.sortBy(order).limit(query.perPage() + 1).all()
+        );
+
+        final var hasMore = rows.size() > query.perPage();
+        final var items = hasMore ? rows.subList(0, query.perPage()) : rows;
+
+        return new Pagination<>(
+                query.page(),
+                query.perPage(),
+                count.getAsLong(),
+                items.stream().map(mapper).toList(),
+                hasMore ? next(items.get(items.size() - 1), sort, direction) : null
+        );
+    }
+
+    public static String next(final Object entity, final String sort, final String direction) {
+        final var accessor = PropertyAccessorFactory.forDirectFieldAccess(entity);
+        return encode(sort, direction, accessor.getPropertyValue(sort), String.valueOf(accessor.getPropertyValue(ID)));
+    }
+
+    public static String encode(final String sort, final String direction, final Object value, final String id) {
+        final var cursor = new Cursor(sort, direction.toLowerCase(), value == null ? null : String.valueOf(value), id);
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(Json.writeValueAsString(cursor).getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decode(final String token, final String sort, final String direction) {
+        final Cursor cursor;
+        try {
+            final var json = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            cursor = Json.readValue(json, Cursor.class);
+        } catch (final RuntimeException e) {
+            throw DomainException.with(new Error("'after' is not a valid cursor"));
+        }
+
+        if (cursor == null || cursor.id() == null
+                || !sort.equals(cursor.sort()) || !direction.equalsIgnoreCase(cursor.direction())) {
+            throw DomainException.with(new Error("'after' does not belong to this sort order"));
+        }
+
+        return cursor;
+    }
+
+    public static Object valueOf(final Class<?> type, final String raw) {
+        if (raw == null || type == String.class) {
+            return raw;
+        }
+        if (type == Instant.class) {
+            return Instant.parse(raw);
+        }
+        if (type == Integer.class || type == int.class) {
+            return Integer.valueOf(raw);
+        }
+        if (type == Long.class || type == long.class) {
+            return Long.valueOf(raw);
+        }
+        if (type == Double.class || type == double.class) {
+            return Double.valueOf(raw);
+        }
+        if (type == Boolean.class || type == boolean.class) {
+            return Boolean.valueOf(raw);
+        }
+        if (type == BigDecimal.class) {
+            return new BigDecimal(raw);
+        }
+        if (type.isEnum()) {
+            return enumValue(type, raw);
+        }
+        throw DomainException.with(new Error("'%s' cannot be used with a cursor".formatted(type.getSimpleName())));
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object enumValue(final Class<?> type, final String raw) {
+        return Enum.valueOf((Class<? extends Enum>) type, raw);
+    }
+
+    // ascending order puts nulls first and descending puts them last, as MySQL does
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <E> Specification<E> after(final Cursor cursor) {
+        return (root, query, cb) -> {
+            final Path<Comparable> key = root.get(cursor.sort());
+            final Path<String> id = root.get(ID);
+            final var ascending = "asc".equals(cursor.direction());
+            final var value = (Comparable) valueOf(key.getJavaType(), cursor.value());
+
+            final var sameKeyAfterId = ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+
+            if (value == null) {
+                final var tie = cb.and(cb.isNull(key), sameKeyAfterId);
+                return ascending ? cb.or(tie, cb.isNotNull(key)) : tie;
+            }
+
+            final var beyond = ascending ? cb.greaterThan(key, value) : cb.lessThan(key, value);
+            final var tie = cb.and(cb.equal(key, value), sameKeyAfterId);
+
+            return ascending ? cb.or(beyond, tie) : cb.or(beyond, tie, cb.isNull(key));
+        };
+    }
+
+    public record Cursor(String sort, String direction, String value, String id) {
+    }
+}
@@ -0,0 +1,46 @@
+package com.codeflix.admin.catalogo.infrastructure.utils;
+
+import java.util.Arrays;
+
+public final class ETagUtils {
+
+    // versions start at zero, so this one is never stored
+    private static final long UNMATCHED = -1L;
+
+    private ETagUtils() {
+    }
+
+    public static String of(final Long version) {
+        return version == null ? null : "\"%d\"".formatted(version);
+    }
+
+    public static boolean matches(final String ifNoneMatch, final String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+
+        // If-None-Match uses the weak comparison, so W/ tags match their strong ones
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(it -> it.startsWith("W/") ? it.substring(2) : it)
+                .anyMatch(it -> it.equals("*") || it.equals(eTag));
+    }
+
+    public static Long version(final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        // If-Match uses the strong comparison, weak or foreign tags never match
+        final var tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            return UNMATCHED;
+        }
+
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (final NumberFormatException ex) {
+            return UNMATCHED;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package com.codeflix.admin.catalogo.infrastructure.utils;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.infrastructure.search.TextIndex;
+import com.google.common.collect.Lists;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.function.ToLongFunction;
+
+public final class SearchUtils {
+
+    public static final String RELEVANCE = "relevance";
+
+    // above this many hits the ids no longer fit a reasonable IN list and are sent in chunks
+    public static final int MAX_IDS = 10_000;
+
+    private static final String ID = "id";
+
+    private SearchUtils() {
+    }
+
+    public static boolean isRelevance(final String sort) {
+        return RELEVANCE.equalsIgnoreCase(sort);
+    }
+
+    public static boolean hasTerms(final String terms) {
+        return terms != null && !terms.isBlank();
+    }
+
+    public static List<String> search(final TextIndex index, final String terms) {
+        return index.search(terms).stream()
+                .map(TextIndex.Hit::id)
+                .toList();
+    }
+
+    public static <E, T> Pagination<T> findAll(
+            final JpaSpecificationExecutor<E> repository,
+            final TextIndex index,
+            final SearchQuery query,
+            final Function<E, T> mapper
+    ) {
+        return findAll(
+                repository,
+                index,
+                query,
+                ranked -> ranked == null ? index.size() : ranked.size(),
+                null,
+                null,
+                mapper
+        );
+    }
+
+    public static <E, T> Pagination<T> findAll(
+            final JpaSpecificationExecutor<E> repository,
+            final TextIndex index,
+            final SearchQuery query,
+            final ToLongFunction<List<String>> estimate,
+            final Specification<E> filter,
+            final Function<Set<String>, Collection<String>> matching,
+            final Function<E, T> mapper
+    ) {
+        final Specification<E> filtered = Specification.where(filter);
+
+        if (!hasTerms(query.terms())) {
+            if (isRelevance(query.sort())) {
+                throw DomainException.with(new Error("'relevance' sort requires search terms"));
+            }
+            return CursorUtils.findAll(repository, filtered, query, () -> estimate.applyAsLong(null), mapper);
+        }
+
+        final var ranked = search(index, query.terms());
+
+        if (isRelevance(query.sort())) {
+            var scoped = ranked;
+            if (filter != null && !ranked.isEmpty()) {
+                // the ranking comes from the index, only the ids that pass the filter are read back
+                final var passing = new HashSet<String>();
+                for (final var chunk : Lists.partition(ranked, MAX_IDS)) {
+                    passing.addAll(matching.apply(Set.copyOf(chunk)));
+                }
+                scoped = ranked.stream().filter(passing::contains).toList();
+            }
+
+            return rank(
+                    query.page(),
+                    query.perPage(),
+                    query.after(),
+                    scoped,
+                    ids -> repository.findAll(idIn(ids)),
+                    SearchUtils::idOf
+            ).map(mapper);
+        }
+
+        if (ranked.isEmpty()) {
+            return new Pagination<>(query.page(), query.perPage(), 0, List.of());
+        }
+
+        if (ranked.size() > MAX_IDS) {
+            final var sortBy = CursorUtils.sort(query.sort(), query.direction());
+            final var where = query.after() == null
+                    ? filtered
+                    : filtered.and(CursorUtils.<E>after(CursorUtils.decode(query.after(), query.sort(), query.direction())));
+
+            return findAllInChunks(
+                    query.page(),
+                    query.perPage(),
+                    query.after() != null,
+                    query.total(),
+                    ranked,
+                    order(query.sort(), query.direction()),
+                    (chunk, limit) -> repository.findBy(where.and(idIn(chunk)), it -> it.sortBy(sortBy).limit(limit).all()),
+                    chunk -> repository.count(filtered.and(idIn(chunk))),
+                    () -> estimate.applyAsLong(ranked),
+                    it -> CursorUtils.next(it, query.sort(), query.direction())
+            ).map(mapper);
+        }
+
+        return CursorUtils.findAll(repository, filtered.and(idIn(ranked)), query, () -> estimate.applyAsLong(ranked), mapper);
+    }
+
+    // each chunk is sorted and limited by sql, so only the rows that can still make the page are merged here
+    public static <T> Pagination<T> findAllInChunks(
+            final int page,
+            final int perPage,
+            final boolean afterCursor,
+            final TotalMode total,
+            final List<String> ranked,
+            final Comparator<T> order,
+            final BiFunction<Set<String>, Integer, List<T>> loader,
+            final ToLongFunction<Set<String>> counter,
+            final LongSupplier estimate,
+            final Function<T, String> next
+    ) {
+        // a cursor already skips what came before it, an offset has to be read from every chunk
+        final var offset = afterCursor ? 0 : (long) page * perPage;
+        final var limit = (int) Math.min(offset + perPage + 1, Integer.MAX_VALUE);
+        final var chunks = Lists.partition(ranked, MAX_IDS).stream()
+                .map(Set::copyOf)
+                .toList();
+
+        final var rows = new ArrayList<T>();
+        for (final var chunk : chunks) {
+            rows.addAll(loader.apply(chunk, limit));
+        }
+        rows.sort(order);
+
+        final var from = (int) Math.min(offset, rows.size());
+        final var to = (int) Math.min(offset + perPage, rows.size());
+        final var items = List.copyOf(rows.subList(from, to));
+        final var hasMore = rows.size() > offset + perPage;
+
+        return new Pagination<>(
+                page,
+                perPage,
+                TotalUtils.count(total, estimate, () -> chunks.stream().mapToLong(counter).sum()),
+                items,
+                hasMore && !items.isEmpty() ? next.apply(items.get(items.size() - 1)) : null,
+                hasMore
+        );
+    }
+
+    // the order sql sorts by: the key then the id, nulls first when ascending, text ignoring case and accents like the MySQL collation
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Comparator<T> order(final String sort, final String direction) {
+        final var collator = Collator.getInstance(Locale.ROOT);
+        collator.setStrength(Collator.PRIMARY);
+
+        final Comparator<Object> values = (a, b) -> a instanceof String x && b instanceof String y
+                ? collator.compare(x, y)
+                : ((Comparable) a).compareTo(b);
+
+        final Comparator<T> ascending = Comparator.<T, Object>comparing(it -> propertyOf(it, sort), Comparator.nullsFirst(values))
+                .thenComparing(SearchUtils::idOf);
+
+        return "desc".equalsIgnoreCase(direction) ? ascending.reversed() : ascending;
+    }
+
+    public static <T> Pagination<T> rank(
+            final int page,
+            final int perPage,
+            final String after,
+            final List<String> ranked,
+            final Function<List<String>, List<T>> loader,
+            final Function<T, String> idOf
+    ) {
+        if (after != null) {
+            throw DomainException.with(new Error("'after' cannot be used with 'relevance' sort"));
+        }
+
+        final var from = (int) Math.min((long) page * perPage, ranked.size());
+        final var to = (int) Math.min((long) from + perPage, ranked.size());
+        final var ids = ranked.subList(from, to);
+
+        if (ids.isEmpty()) {
+            return new Pagination<>(page, perPage, ranked.size(), List.of());
+        }
+
+        final var positions = new HashMap<String, Integer>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            positions.put(ids.get(i), i);
+        }
+
+        final var items = loader.apply(ids).stream()
+                .sorted(Comparator.comparingInt(it -> positions.getOrDefault(idOf.apply(it).trim(), Integer.MAX_VALUE)))
+                .toList();
+
+        return new Pagination<>(page, perPage, ranked.size(), items);
+    }
+
+    public static <E> Specification<E> idIn(final Collection<String> ids) {
+        return (root, query, cb) -> root.get(ID).in(ids);
+    }
+
+    private static String idOf(final Object entity) {
+        return String.valueOf(propertyOf(entity, ID));
+    }
+
+    private static Object propertyOf(final Object entity, final String property) {
+        return PropertyAccessorFactory.forDirectFieldAccess(entity).getPropertyValue(property);
+    }
+}
@@ -1,17 +0,0 @@
-package com.codeflix.admin.catalogo.infrastructure.utils;
-
-public final class SqlUtils {
-
-    private SqlUtils() {
-    }
-
-    public static String upper(final String term) {
-        if (term == null) return null;
-        return term.toUpperCase();
-    }
-
-    public static String like(final String term) {
-        if (term == null) return null;
-        return "%" + term + "%";
-    }
-}
\ No newline at end of file
@@ -0,0 +1,20 @@
+package com.codeflix.admin.catalogo.infrastructure.utils;
+
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
+
+import java.util.function.LongSupplier;
+
+public final class TotalUtils {
+
+    public static final long UNKNOWN = -1;
+
+    private TotalUtils() {}
+
+    public static long count(final TotalMode mode, final LongSupplier estimate, final LongSupplier exact) {
+        return switch (mode == null ? TotalMode.EXACT : mode) {
+            case EXACT -> exact.getAsLong();
+            case ESTIMATE -> estimate.getAsLong();
+            case NONE -> UNKNOWN;
+        };
+    }
+}
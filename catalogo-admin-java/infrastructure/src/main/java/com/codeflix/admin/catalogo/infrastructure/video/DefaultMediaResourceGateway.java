@@ -1,24 +1,52 @@
 package com.codeflix.admin.catalogo.infrastructure.video;
 
 
+import com.codeflix.admin.catalogo.domain.Utils.IdUtils;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
 import com.codeflix.admin.catalogo.domain.video.*;
 import com.codeflix.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
 import com.codeflix.admin.catalogo.infrastructure.services.StorageService;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.Striped;
 import org.springframework.stereotype.Component;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
 
 @Component
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
 
+    private static final String UPLOAD_TYPE = "type";
+    private static final String UPLOAD_CONTENT_TYPE = "contentType";
+    private static final String UPLOAD_NAME = "name";
+    private static final String UPLOAD_LENGTH = "length";
+    private static final Duration UPLOAD_IDLE_TIMEOUT = Duration.ofHours(1);
+    private static final long MAX_UPLOADS = 10_000;
+
     private final String filenamePattern;
     private final String locationPattern;
     private final StorageService storageService;
+    // only a shortcut, an evicted upload is rebuilt from the attributes the storage keeps for its session
+    private final Cache<String, MediaUpload> uploads;
+    private final Striped<Lock> uploadLocks;
 
     public DefaultMediaResourceGateway(final StorageProperties props, final StorageService storageService) {
         this.filenamePattern = props.getFilenamePattern();
         this.locationPattern = props.getLocationPattern();
         this.storageService = storageService;
+        this.uploads = CacheBuilder.newBuilder()
+                .expireAfterAccess(UPLOAD_IDLE_TIMEOUT)
+                .maximumSize(MAX_UPLOADS)
+                .build();
+        this.uploadLocks = Striped.lazyWeakLock(1024);
     }
 
     @Override
@@ -48,6 +76,69 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
         this.storageService.deleteAll(ids);
     }
 
+    @Override
+    public MediaUpload createUpload(
+            final VideoID id,
+            final VideoMediaType type,
+            final String contentType,
+            final String name,
+            final long length
+    ) {
+        final var anUpload = MediaUpload.with(IdUtils.uuid(), id, type, contentType, name, length, 0);
+        final var attributes = new HashMap<String, String>();
+        attributes.put(UPLOAD_TYPE, type.name());
+        attributes.put(UPLOAD_CONTENT_TYPE, contentType);
+        attributes.put(UPLOAD_LENGTH, String.valueOf(length));
+        if (name != null) {
+            attributes.put(UPLOAD_NAME, name);
+        }
+
+        this.storageService.createUpload(uploadpath(anUpload), contentType, attributes);
+        this.uploads.put(anUpload.id(), anUpload);
+        return anUpload;
+    }
+
+    @Override
+    public Optional<MediaUpload> findUpload(final VideoID id, final String uploadId) {
+        return Optional.ofNullable(this.uploads.getIfPresent(uploadId))
+                .or(() -> restoreUpload(id, uploadId))
+                .filter(it -> it.videoId().equals(id))
+                .flatMap(it -> this.storageService.uploadOffset(uploadpath(it)).map(it::withOffset));
+    }
+
+    @Override
+    public MediaUpload appendUpload(final MediaUpload upload, final InputStream content) {
+        final var path = uploadpath(upload);
+        final var lock = this.uploadLocks.get(upload.id());
+
+        lock.lock();
+        try {
+            // the offset is compared again under the lock, so two chunks sent at the same offset cannot both be appended
+            final var committed = this.storageService.uploadOffset(path).orElse(upload.offset());
+            if (committed != upload.offset()) {
+                throw DomainException.with(new Error("Invalid offset %s for upload %s, committed offset is %s"
+                        .formatted(upload.offset(), upload.id(), committed)));
+            }
+
+            final var offset = this.storageService.appendUpload(path, new DeclaredLengthInputStream(content, upload));
+            return upload.withOffset(offset);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Resource completeUpload(final MediaUpload upload) {
+        final var aResource = this.storageService.completeUpload(uploadpath(upload));
+        return StreamingResource.with(aResource::openStream, aResource.length(), upload.contentType(), upload.name());
+    }
+
+    @Override
+    public void discardUpload(final MediaUpload upload) {
+        this.uploads.invalidate(upload.id());
+        this.storageService.discardUpload(uploadpath(upload));
+    }
+
     private String filename(final VideoMediaType type) {
         return filenamePattern.replace("{type}", type.name());
     }
@@ -62,7 +153,88 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
                 .concat(filename(type));
     }
 
+    private String uploadpath(final MediaUpload upload) {
+        return uploadpath(upload.videoId(), upload.id());
+    }
+
+    private String uploadpath(final VideoID id, final String uploadId) {
+        return folder(id)
+                .concat("/uploads/")
+                .concat(uploadId);
+    }
+
+    // a storage that keeps sessions on disk lets them be rebuilt after a restart
+    private Optional<MediaUpload> restoreUpload(final VideoID id, final String uploadId) {
+        final var path = uploadpath(id, uploadId);
+
+        return this.storageService.uploadAttributes(path)
+                .filter(it -> it.keySet().containsAll(List.of(UPLOAD_TYPE, UPLOAD_CONTENT_TYPE, UPLOAD_LENGTH)))
+                .map(attributes -> MediaUpload.with(
+                        uploadId,
+                        id,
+                        VideoMediaType.valueOf(attributes.get(UPLOAD_TYPE)),
+                        attributes.get(UPLOAD_CONTENT_TYPE),
+                        attributes.get(UPLOAD_NAME),
+                        Long.parseLong(attributes.get(UPLOAD_LENGTH)),
+                        0
+                ))
+                .map(it -> {
+                    final var current = this.uploads.asMap().putIfAbsent(uploadId, it);
+                    return current != null ? current : it;
+                });
+    }
+
     private void store(final String filepath, final Resource resource) {
         this.storageService.store(filepath, resource);
     }
+
+    // fails as soon as the chunk goes past the declared length, before any byte beyond it reaches the storage
+    private static final class DeclaredLengthInputStream extends FilterInputStream {
+
+        private final MediaUpload upload;
+        private long remaining;
+
+        private DeclaredLengthInputStream(final InputStream in, final MediaUpload upload) {
+            super(in);
+            this.upload = upload;
+            this.remaining = upload.length() - upload.offset();
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (this.remaining <= 0) {
+                return endOfChunk();
+            }
+
+            final var read = super.read();
+            if (read != -1) {
+                this.remaining--;
+            }
+            return read;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+            if (this.remaining <= 0) {
+                return endOfChunk();
+            }
+
+            final var read = super.read(b, off, (int) Math.min(len, this.remaining));
+            if (read > 0) {
+                this.remaining -= read;
+            }
+            return read;
+        }
+
+        private int endOfChunk() throws IOException {
+            if (super.read() != -1) {
+                throw DomainException.with(new Error("Chunk exceeds the declared length of upload %s, which is %s bytes"
+                        .formatted(this.upload.id(), this.upload.length())));
+            }
+            return -1;
+        }
+    }
 }
@@ -2,91 +2,439 @@ package com.codeflix.admin.catalogo.infrastructure.video;
 
 import com.codeflix.admin.catalogo.domain.Identifier;
 import com.codeflix.admin.catalogo.domain.Utils.CollectionUtils;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
+import com.codeflix.admin.catalogo.domain.validation.Error;
 import com.codeflix.admin.catalogo.domain.video.*;
 import com.codeflix.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchDocument;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchIndexes;
 import com.codeflix.admin.catalogo.infrastructure.services.EventService;
-import com.codeflix.admin.catalogo.infrastructure.utils.SqlUtils;
+import com.codeflix.admin.catalogo.infrastructure.utils.BatchUtils;
+import com.codeflix.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.codeflix.admin.catalogo.infrastructure.utils.SearchUtils;
+import com.codeflix.admin.catalogo.infrastructure.utils.TotalUtils;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoCastMemberID;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoCategoryID;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoGenreID;
 import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
 import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import com.google.common.collect.Lists;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 public class DefaultVideoGateway implements VideoGateway {
 
         private final EventService eventService;
     private final VideoRepository videoRepository;
+    private final SearchIndexes searchIndexes;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     public DefaultVideoGateway(
             @VideoCreatedQueue final EventService eventService,
-            final VideoRepository videoRepository
+            final VideoRepository videoRepository,
+            final SearchIndexes searchIndexes,
+            final EntityManager entityManager,
+            final ApplicationEventPublisher eventPublisher
     ) {
         this.eventService = Objects.requireNonNull(eventService);
         this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.searchIndexes = Objects.requireNonNull(searchIndexes);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.eventPublisher = Objects.requireNonNull(eventPublisher);
     }
 
     @Override
     @Transactional
     public Video create(final Video video) {
-        return save(video);
+        return save(video, VideoJpaEntity.from(video));
+    }
+
+    @Override
+    @Transactional
+    public List<Video> createAll(final List<Video> videos) {
+        final var entities = videos.stream()
+                .map(VideoJpaEntity::from)
+                .toList();
+
+        final var created = BatchUtils.persistAll(this.entityManager, entities, VideoJpaEntity::toAggregate);
+
+        SearchIndexes.afterCommit(() -> created.forEach(it -> {
+            this.searchIndexes.videos().put(SearchDocument.with(it.getId().getValue(), it.getTitle(), it.getDescription()));
+            this.searchIndexes.videoFilters().put(VideoFilters.from(it));
+        }));
+        videos.forEach(it -> it.publishDomainEvents(this.eventService::send));
+        created.forEach(it -> this.eventPublisher.publishEvent(new VideoChanged(it.getId().getValue())));
+        return created;
     }
 
     @Override
     public void deleteById(final VideoID id) {
         final var videoId = id.getValue();
-        if (this.videoRepository.existsById(videoId)) {
+        if (BinaryIdConverter.isWellFormed(videoId) && this.videoRepository.existsById(videoId)) {
             this.videoRepository.deleteById(videoId);
+            SearchIndexes.afterCommit(() -> {
+                this.searchIndexes.videos().remove(videoId);
+                this.searchIndexes.videoFilters().remove(videoId);
+            });
+            this.eventPublisher.publishEvent(new VideoChanged(videoId));
         }
     }
 
     @Override
     @Transactional(readOnly = true)
     public Optional<Video> findById(final VideoID id) {
-        return this.videoRepository.findById(id.getValue())
+        return Optional.of(id.getValue())
+                .filter(BinaryIdConverter::isWellFormed)
+                .flatMap(this.videoRepository::findById)
                 .map(VideoJpaEntity::toAggregate);
     }
 
+    @Override
+    public Optional<Long> findVersion(final VideoID id) {
+        return Optional.of(id.getValue())
+                .filter(BinaryIdConverter::isWellFormed)
+                .flatMap(this.videoRepository::findVersion);
+    }
+
     @Override
     @Transactional
     public Video update(final Video video) {
-        return save(video);
+        final var entity = this.videoRepository.findById(video.getId().getValue())
+                .map(it -> {
+                    if (video.getVersion() != null && !video.getVersion().equals(it.getVersion())) {
+                        throw StaleVersionException.with(video);
+                    }
+                    return it.update(video);
+                })
+                .orElseGet(() -> VideoJpaEntity.from(video));
+
+        return save(video, entity);
+    }
+
+    @Override
+    @Transactional
+    public boolean updateMediaStatus(
+            final VideoID id,
+            final String resourceId,
+            final MediaStatus status,
+            final String encodedPath
+    ) {
+        final var expected = status.reachableFrom();
+        if (expected.isEmpty() || !BinaryIdConverter.isWellFormed(id.getValue())) {
+            return false;
+        }
+
+        final var updated = this.videoRepository.updateMediaStatus(id.getValue(), resourceId, status, encodedPath, expected) > 0;
+        if (updated) {
+            // the media status is part of the video response, so its etag has to change too
+            this.videoRepository.incrementVersion(id.getValue());
+            final var documents = VideoFilters.load(this.videoRepository, List.of(id.getValue()));
+            SearchIndexes.afterCommit(() -> documents.forEach(this.searchIndexes.videoFilters()::put));
+        }
+        return updated;
     }
 
     @Override
     public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
+        final var castMembers = BinaryIdConverter.wellFormed(CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.castMembers(), Identifier::getValue)));
+        final var categories = BinaryIdConverter.wellFormed(CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.categories(), Identifier::getValue)));
+        final var genres = BinaryIdConverter.wellFormed(CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.genres(), Identifier::getValue)));
+
+        // a filter left without any valid id cannot match a video
+        if (Stream.of(castMembers, categories, genres).anyMatch(it -> it != null && it.isEmpty())) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+
+        if (SearchUtils.isRelevance(aQuery.sort())) {
+            return findAllByRelevance(aQuery, castMembers, categories, genres);
+        }
+
+        final var ranked = SearchUtils.hasTerms(aQuery.terms())
+                ? SearchUtils.search(this.searchIndexes.videos(), aQuery.terms())
+                : null;
+
+        if (ranked != null && ranked.isEmpty()) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+
+        // without a trusted bitmap the filters stay in the sql query
+        final var selection = castMembers == null && categories == null && genres == null
+                ? null
+                : this.searchIndexes.trustedVideoFilters()
+                        .map(it -> it.select(VideoFilters.of(castMembers, categories, genres), ranked, SearchUtils.MAX_IDS))
+                        .orElse(null);
+
+        if (selection != null && selection.total() == 0) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+
+        // once the bitmap index resolved the filters to ids, sql only sorts and pages them
+        final var resolved = selection != null && selection.ids() != null;
+        if (!resolved && ranked != null && ranked.size() > SearchUtils.MAX_IDS) {
+            return findAllInChunks(
+                    aQuery,
+                    ranked,
+                    castMembers,
+                    categories,
+                    genres,
+                    () -> selection != null ? selection.total() : ranked.size()
+            );
+        }
+
+        final var ids = resolved ? Set.copyOf(selection.ids()) : ranked != null ? Set.copyOf(ranked) : null;
+        final var members = resolved ? null : castMembers;
+        final var inCategories = resolved ? null : categories;
+        final var inGenres = resolved ? null : genres;
+
+        final var total = aQuery.total() == null ? TotalMode.EXACT : aQuery.total();
+        final var counted = selection != null && (ranked == null || resolved);
+        final LongSupplier count = counted ? selection::total : () -> TotalUtils.count(
+                total,
+                () -> selection != null ? selection.total() : ranked != null ? ranked.size() : this.searchIndexes.videos().size(),
+                () -> this.videoRepository.count(ids, members, inCategories, inGenres)
+        );
+
+        if (aQuery.after() != null) {
+            final var after = CursorUtils.decode(aQuery.after(), aQuery.sort(), aQuery.direction());
+            final var rows = this.videoRepository.findAllAfter(
+                    ids,
+                    members,
+                    inCategories,
+                    inGenres,
+                    after,
+                    aQuery.perPage() + 1
+            );
+
+            final var hasMore = rows.size() > aQuery.perPage();
+            final var items = hasMore ? rows.subList(0, aQuery.perPage()) : rows;
+
+            return new Pagination<>(
+                    aQuery.page(),
+                    aQuery.perPage(),
+                    count.getAsLong(),
+                    items,
+                    hasMore ? next(items.get(items.size() - 1), aQuery) : null
+            );
+        }
+
         final var page = PageRequest.of(
                 aQuery.page(),
                 aQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(aQuery.direction()), aQuery.sort())
+                CursorUtils.sort(aQuery.sort(), aQuery.direction())
         );
 
-        final var actualPage = this.videoRepository.findAll(
-                SqlUtils.like(SqlUtils.upper(aQuery.terms())),
-                CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.castMembers(), Identifier::getValue)),
-                CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.categories(), Identifier::getValue)),
-                CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.genres(), Identifier::getValue)),
-                page
-        );
+        if (total != TotalMode.EXACT || counted) {
+            final var slice = this.videoRepository.findSlice(ids, members, inCategories, inGenres, page);
+            final var items = slice.getContent();
+
+            return new Pagination<>(
+                    slice.getNumber(),
+                    slice.getSize(),
+                    count.getAsLong(),
+                    items,
+                    slice.hasNext() ? next(items.get(items.size() - 1), aQuery) : null
+            );
+        }
+
+        final var actualPage = this.videoRepository.findAll(ids, members, inCategories, inGenres, page);
+        final var items = actualPage.getContent();
 
         return new Pagination<>(
                 actualPage.getNumber(),
                 actualPage.getSize(),
                 actualPage.getTotalElements(),
-                actualPage.toList()
+                items,
+                actualPage.hasNext() ? next(items.get(items.size() - 1), aQuery) : null
+        );
+    }
+
+    @Override
+    public VideoFacets facets(final VideoSearchQuery aQuery) {
+        final var castMembers = CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.castMembers(), Identifier::getValue));
+        final var categories = CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.categories(), Identifier::getValue));
+        final var genres = CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.genres(), Identifier::getValue));
+
+        final var ranked = SearchUtils.hasTerms(aQuery.terms())
+                ? SearchUtils.search(this.searchIndexes.videos(), aQuery.terms())
+                : null;
+
+        final var facets = this.searchIndexes.videoFilters()
+                .facets(VideoFilters.of(castMembers, categories, genres), ranked, VideoFilters.FACETS);
+
+        return new VideoFacets(
+                facets.total(),
+                facets.of(VideoFilters.CATEGORIES),
+                facets.of(VideoFilters.GENRES),
+                facets.of(VideoFilters.CAST_MEMBERS),
+                facets.of(VideoFilters.RATING),
+                facets.of(VideoFilters.PUBLISHED),
+                facets.of(VideoFilters.VIDEO_STATUS),
+                facets.of(VideoFilters.TRAILER_STATUS)
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAll(final Consumer<Video> consumer) {
+        BatchUtils.forEachBatch(this.entityManager, this.videoRepository.streamAll(), batch -> {
+            // relations are resolved for the whole batch, the cursor only carries the videos and their medias
+            final var ids = batch.stream().map(VideoJpaEntity::getId).toList();
+            final var categories = groupByVideo(
+                    this.videoRepository.findCategoryIds(ids),
+                    VideoCategoryID::getVideoId,
+                    it -> CategoryID.from(it.getCategoryId())
+            );
+            final var genres = groupByVideo(
+                    this.videoRepository.findGenreIds(ids),
+                    VideoGenreID::getVideoId,
+                    it -> GenreID.from(it.getGenreId())
+            );
+            final var castMembers = groupByVideo(
+                    this.videoRepository.findCastMemberIds(ids),
+                    VideoCastMemberID::getVideoId,
+                    it -> CastMemberID.from(it.getCastMemberId())
+            );
+
+            batch.forEach(it -> {
+                final var id = it.getId().trim();
+                consumer.accept(it.toAggregate(
+                        categories.getOrDefault(id, Set.of()),
+                        genres.getOrDefault(id, Set.of()),
+                        castMembers.getOrDefault(id, Set.of())
+                ));
+            });
+        });
+    }
+
+    private Pagination<VideoPreview> findAllByRelevance(
+            final VideoSearchQuery aQuery,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        if (!SearchUtils.hasTerms(aQuery.terms())) {
+            throw DomainException.with(new Error("'relevance' sort requires search terms"));
+        }
+
+        var ranked = SearchUtils.search(this.searchIndexes.videos(), aQuery.terms());
+
+        if (!ranked.isEmpty() && (castMembers != null || categories != null || genres != null)) {
+            final var scope = ranked;
+            final var matching = this.searchIndexes.trustedVideoFilters()
+                    .map(it -> Set.copyOf(it.select(VideoFilters.of(castMembers, categories, genres), scope, scope.size()).ids()))
+                    .orElseGet(() -> {
+                        final var passing = new HashSet<String>();
+                        for (final var chunk : Lists.partition(scope, SearchUtils.MAX_IDS)) {
+                            passing.addAll(this.videoRepository.findIds(Set.copyOf(chunk), castMembers, categories, genres));
+                        }
+                        return passing;
+                    });
+            ranked = ranked.stream().filter(matching::contains).toList();
+        }
+
+        return SearchUtils.rank(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.after(),
+                ranked,
+                this.videoRepository::findPreviews,
+                VideoPreview::id
+        );
+    }
+
+    // more hits than one IN list holds, so every chunk is sorted and limited in sql and the chunks are merged
+    private Pagination<VideoPreview> findAllInChunks(
+            final VideoSearchQuery aQuery,
+            final List<String> ranked,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final LongSupplier estimate
+    ) {
+        final var after = aQuery.after() == null
+                ? null
+                : CursorUtils.decode(aQuery.after(), aQuery.sort(), aQuery.direction());
+        final var sort = CursorUtils.sort(aQuery.sort(), aQuery.direction());
+
+        return SearchUtils.findAllInChunks(
+                aQuery.page(),
+                aQuery.perPage(),
+                after != null,
+                aQuery.total(),
+                ranked,
+                SearchUtils.order(aQuery.sort(), aQuery.direction()),
+                (chunk, limit) -> after != null
+                        ? this.videoRepository.findAllAfter(chunk, castMembers, categories, genres, after, limit)
+                        : this.videoRepository.findSlice(chunk, castMembers, categories, genres, PageRequest.of(0, limit, sort)).getContent(),
+                chunk -> this.videoRepository.count(chunk, castMembers, categories, genres),
+                estimate,
+                it -> next(it, aQuery)
         );
     }
 
-    private Video save(final Video video) {
-        final var result = this.videoRepository.save(VideoJpaEntity.from(video))
-                .toAggregate();
+    private static String next(final VideoPreview last, final VideoSearchQuery aQuery) {
+        final var accessor = PropertyAccessorFactory.forDirectFieldAccess(last);
+        if (!accessor.isReadableProperty(aQuery.sort())) {
+            return null;
+        }
+
+        return CursorUtils.encode(aQuery.sort(), aQuery.direction(), accessor.getPropertyValue(aQuery.sort()), last.id());
+    }
+
+    private static <T, ID> Map<String, Set<ID>> groupByVideo(
+            final List<T> rows,
+            final Function<T, String> videoId,
+            final Function<T, ID> id
+    ) {
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        it -> videoId.apply(it).trim(),
+                        Collectors.mapping(id, Collectors.toSet())
+                ));
+    }
+
+    private Video save(final Video video, final VideoJpaEntity entity) {
+        final Video result;
+        try {
+            result = this.videoRepository.saveAndFlush(entity)
+                    .toAggregate();
+        } catch (final OptimisticLockingFailureException ex) {
+            throw StaleVersionException.with(video);
+        }
+
+        SearchIndexes.afterCommit(() -> {
+            this.searchIndexes.videos().put(SearchDocument.with(result.getId().getValue(), result.getTitle(), result.getDescription()));
+            this.searchIndexes.videoFilters().put(VideoFilters.from(result));
+        });
 
         video.publishDomainEvents(this.eventService::send);
+        this.eventPublisher.publishEvent(new VideoChanged(result.getId().getValue()));
 
         return result;
     }
@@ -0,0 +1,163 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.Utils.CollectionUtils;
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.domain.video.Rating;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.infrastructure.search.FilterDocument;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoCastMemberID;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoCategoryID;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoGenreID;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public final class VideoFilters {
+
+    public static final String CATEGORIES = "categories";
+    public static final String GENRES = "genres";
+    public static final String CAST_MEMBERS = "cast_members";
+    public static final String RATING = "rating";
+    public static final String PUBLISHED = "published";
+    public static final String VIDEO_STATUS = "video_status";
+    public static final String TRAILER_STATUS = "trailer_status";
+
+    public static final List<String> FACETS =
+            List.of(CATEGORIES, GENRES, CAST_MEMBERS, RATING, PUBLISHED, VIDEO_STATUS, TRAILER_STATUS);
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private VideoFilters() {
+    }
+
+    public static FilterDocument from(final Video video) {
+        return document(
+                video.getId().getValue(),
+                CollectionUtils.mapTo(video.getCategories(), Identifier::getValue),
+                CollectionUtils.mapTo(video.getGenres(), Identifier::getValue),
+                CollectionUtils.mapTo(video.getCastMembers(), Identifier::getValue),
+                video.getRating(),
+                video.getPublished(),
+                video.getVideo().map(AudioVideoMedia::status).orElse(null),
+                video.getTrailer().map(AudioVideoMedia::status).orElse(null)
+        );
+    }
+
+    public static Map<String, Set<String>> of(
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres
+    ) {
+        final var filters = new HashMap<String, Set<String>>();
+        if (castMembers != null) {
+            filters.put(CAST_MEMBERS, castMembers);
+        }
+        if (categories != null) {
+            filters.put(CATEGORIES, categories);
+        }
+        if (genres != null) {
+            filters.put(GENRES, genres);
+        }
+        return filters;
+    }
+
+    public static long loadAll(final VideoRepository repository, final Consumer<FilterDocument> consumer) {
+        var loaded = 0L;
+        var after = VideoRepository.FIRST_ID;
+
+        while (true) {
+            final var ids = repository.findIdsAfter(after, PageRequest.ofSize(BATCH_SIZE));
+            if (ids.isEmpty()) {
+                return loaded;
+            }
+
+            final var documents = load(repository, ids);
+            documents.forEach(consumer);
+            loaded += documents.size();
+            after = ids.get(ids.size() - 1);
+        }
+    }
+
+    public static List<FilterDocument> load(final VideoRepository repository, final Collection<String> ids) {
+        final var categories = groupByVideo(
+                repository.findCategoryIds(ids),
+                VideoCategoryID::getVideoId,
+                VideoCategoryID::getCategoryId
+        );
+        final var genres = groupByVideo(
+                repository.findGenreIds(ids),
+                VideoGenreID::getVideoId,
+                VideoGenreID::getGenreId
+        );
+        final var castMembers = groupByVideo(
+                repository.findCastMemberIds(ids),
+                VideoCastMemberID::getVideoId,
+                VideoCastMemberID::getCastMemberId
+        );
+
+        return repository.findFilterRows(ids).stream()
+                .map(row -> {
+                    final var id = row.id().trim();
+                    return document(
+                            id,
+                            categories.getOrDefault(id, Set.of()),
+                            genres.getOrDefault(id, Set.of()),
+                            castMembers.getOrDefault(id, Set.of()),
+                            row.rating(),
+                            row.published(),
+                            row.videoStatus(),
+                            row.trailerStatus()
+                    );
+                })
+                .toList();
+    }
+
+    private static FilterDocument document(
+            final String id,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Set<String> castMembers,
+            final Rating rating,
+            final boolean published,
+            final MediaStatus videoStatus,
+            final MediaStatus trailerStatus
+    ) {
+        final var values = new HashMap<String, Set<String>>();
+        values.put(CATEGORIES, categories);
+        values.put(GENRES, genres);
+        values.put(CAST_MEMBERS, castMembers);
+        values.put(PUBLISHED, Set.of(String.valueOf(published)));
+        if (rating != null) {
+            values.put(RATING, Set.of(rating.getName()));
+        }
+        if (videoStatus != null) {
+            values.put(VIDEO_STATUS, Set.of(videoStatus.name()));
+        }
+        if (trailerStatus != null) {
+            values.put(TRAILER_STATUS, Set.of(trailerStatus.name()));
+        }
+        return FilterDocument.with(id, values);
+    }
+
+    private static <T> Map<String, Set<String>> groupByVideo(
+            final List<T> rows,
+            final Function<T, String> videoId,
+            final Function<T, String> id
+    ) {
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        it -> videoId.apply(it).trim(),
+                        Collectors.mapping(it -> id.apply(it).trim(), Collectors.toSet())
+                ));
+    }
+}
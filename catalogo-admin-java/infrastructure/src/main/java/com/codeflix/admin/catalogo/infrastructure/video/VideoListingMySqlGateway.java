@@ -0,0 +1,100 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.domain.Identifier;
+import com.codeflix.admin.catalogo.domain.Utils.CollectionUtils;
+import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.video.VideoListingGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoPreview;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchIndexes;
+import com.codeflix.admin.catalogo.infrastructure.utils.SearchUtils;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingRefJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingRefID;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingRepository;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public class VideoListingMySqlGateway implements VideoListingGateway {
+
+    private final VideoListingRepository repository;
+    private final SearchIndexes searchIndexes;
+
+    public VideoListingMySqlGateway(final VideoListingRepository repository, final SearchIndexes searchIndexes) {
+        this.repository = Objects.requireNonNull(repository);
+        this.searchIndexes = Objects.requireNonNull(searchIndexes);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
+        final var castMembers = BinaryIdConverter.wellFormed(CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.castMembers(), Identifier::getValue)));
+        final var categories = BinaryIdConverter.wellFormed(CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.categories(), Identifier::getValue)));
+        final var genres = BinaryIdConverter.wellFormed(CollectionUtils.nullIfEmpty(CollectionUtils.mapTo(aQuery.genres(), Identifier::getValue)));
+
+        // a filter left without any valid id cannot match a video
+        if (Stream.of(castMembers, categories, genres).anyMatch(it -> it != null && it.isEmpty())) {
+            return new Pagination<>(aQuery.page(), aQuery.perPage(), 0, List.of());
+        }
+
+        final var query = new SearchQuery(
+                aQuery.page(),
+                aQuery.perPage(),
+                aQuery.terms(),
+                aQuery.sort(),
+                aQuery.direction(),
+                aQuery.after(),
+                aQuery.total()
+        );
+
+        return SearchUtils.findAll(
+                this.repository,
+                this.searchIndexes.videos(),
+                query,
+                ranked -> castMembers == null && categories == null && genres == null
+                        ? ranked == null ? this.searchIndexes.videos().size() : ranked.size()
+                        : this.searchIndexes.trustedVideoFilters()
+                                .map(it -> it.select(VideoFilters.of(castMembers, categories, genres), ranked, 0).total())
+                                .orElseGet(() -> (long) (ranked == null ? this.searchIndexes.videos().size() : ranked.size())),
+                filter(castMembers, categories, genres),
+                ids -> this.searchIndexes.trustedVideoFilters()
+                        .map(it -> it.select(VideoFilters.of(castMembers, categories, genres), ids, ids.size()).ids())
+                        .orElseGet(() -> this.repository.findIds(ids, castMembers, categories, genres)),
+                VideoListingJpaEntity::toPreview
+        );
+    }
+
+    // any of the ids inside a filter, every filter that was given
+    @SafeVarargs
+    private static Specification<VideoListingJpaEntity> filter(final Set<String>... filters) {
+        return Arrays.stream(filters)
+                .filter(Objects::nonNull)
+                .map(VideoListingMySqlGateway::referencing)
+                .reduce(Specification::and)
+                .orElse(null);
+    }
+
+    private static Specification<VideoListingJpaEntity> referencing(final Set<String> refIds) {
+        return (root, query, cb) -> {
+            final var refs = query.subquery(String.class);
+            final var ref = refs.from(VideoListingRefJpaEntity.class);
+            final var id = ref.<VideoListingRefID>get("id");
+
+            refs.select(id.get("videoId"))
+                    .where(
+                            cb.equal(id.get("videoId"), root.get("id")),
+                            id.get("refId").in(refIds)
+                    );
+
+            return cb.exists(refs);
+        };
+    }
+}
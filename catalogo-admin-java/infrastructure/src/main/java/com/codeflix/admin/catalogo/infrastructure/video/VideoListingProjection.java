@@ -0,0 +1,340 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberChanged;
+import com.codeflix.admin.catalogo.domain.category.CategoryChanged;
+import com.codeflix.admin.catalogo.domain.genre.GenreChanged;
+import com.codeflix.admin.catalogo.domain.video.VideoChanged;
+import com.codeflix.admin.catalogo.domain.video.VideoPreview;
+import com.codeflix.admin.catalogo.domain.video.VideoPreview.Reference;
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.codeflix.admin.catalogo.infrastructure.utils.BatchUtils;
+import com.codeflix.admin.catalogo.infrastructure.utils.InstantUtils;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoCastMemberID;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoCategoryID;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoGenreID;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingRefJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingRepository;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class VideoListingProjection {
+
+    private static final Logger log = LoggerFactory.getLogger(VideoListingProjection.class);
+
+    private static final Comparator<Reference> BY_NAME =
+            Comparator.comparing(Reference::name, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final VideoRepository videoRepository;
+    private final CategoryRepository categoryRepository;
+    private final GenreRepository genreRepository;
+    private final CastMemberRepository castMemberRepository;
+    private final VideoListingRepository videoListingRepository;
+    private final EntityManager entityManager;
+    private final TransactionOperations transactionOperations;
+    private final int batchSize;
+
+    // id -> oldest event not yet projected, ids of categories, genres and cast members are expanded on flush
+    private final Map<String, Instant> pendingVideos = new ConcurrentHashMap<>();
+    private final Map<String, Instant> pendingRefs = new ConcurrentHashMap<>();
+
+    private final Object lock = new Object();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    private final AtomicLong lastLag = new AtomicLong();
+    private final AtomicReference<Instant> lastProjectedAt = new AtomicReference<>();
+
+    public VideoListingProjection(
+            final VideoRepository videoRepository,
+            final CategoryRepository categoryRepository,
+            final GenreRepository genreRepository,
+            final CastMemberRepository castMemberRepository,
+            final VideoListingRepository videoListingRepository,
+            final EntityManager entityManager,
+            final TransactionOperations transactionOperations,
+            final int batchSize
+    ) {
+        this.videoRepository = Objects.requireNonNull(videoRepository);
+        this.categoryRepository = Objects.requireNonNull(categoryRepository);
+        this.genreRepository = Objects.requireNonNull(genreRepository);
+        this.castMemberRepository = Objects.requireNonNull(castMemberRepository);
+        this.videoListingRepository = Objects.requireNonNull(videoListingRepository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.transactionOperations = Objects.requireNonNull(transactionOperations);
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(final VideoChanged event) {
+        pending(this.pendingVideos, event.id(), event.occurredOn());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(final CategoryChanged event) {
+        pending(this.pendingRefs, event.id(), event.occurredOn());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(final GenreChanged event) {
+        pending(this.pendingRefs, event.id(), event.occurredOn());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void on(final CastMemberChanged event) {
+        pending(this.pendingRefs, event.id(), event.occurredOn());
+    }
+
+    // the pending ids only live in memory, so whatever an earlier instance did not project is found again
+    // from the tables: videos by their updated_at, references by an updated_at newer than the projected row
+    @EventListener(ApplicationReadyEvent.class)
+    public int catchUp() {
+        final var startedAt = InstantUtils.now();
+        final var stale = new HashSet<String>(this.videoListingRepository.findUnprojectedVideoIds());
+        stale.addAll(this.videoListingRepository.findOrphanIds());
+        stale.addAll(this.videoListingRepository.findVideoIdsWithStaleRefs());
+
+        stale.forEach(it -> pending(this.pendingVideos, it, startedAt));
+
+        log.info("[message:listing.catch-up] [videos:{}]", stale.size());
+        return stale.size();
+    }
+
+    @Scheduled(fixedDelayString = "${video.listing.flush-interval}")
+    public void flush() {
+        if (!this.pendingRefs.isEmpty()) {
+            final var refs = drain(this.pendingRefs, this.pendingRefs.size());
+            final var oldest = oldest(refs.values());
+            this.videoListingRepository.findVideoIdsReferencing(refs.keySet())
+                    .forEach(it -> pending(this.pendingVideos, it, oldest));
+        }
+
+        while (!this.pendingVideos.isEmpty()) {
+            final var batch = drain(this.pendingVideos, this.batchSize);
+
+            try {
+                final var projected = project(batch.keySet());
+                final var lag = Duration.between(oldest(batch.values()), InstantUtils.now()).toMillis();
+                this.lastLag.set(lag);
+
+                log.info("[message:listing.projected] [videos:{}] [lag:{}ms] [pending:{}]",
+                        projected, lag, this.pendingVideos.size());
+            } catch (final RuntimeException e) {
+                batch.forEach((id, occurredOn) -> pending(this.pendingVideos, id, occurredOn));
+                log.error("[message:listing.projected] [status:error] [videos:{}]", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    public boolean rebuildAsync() {
+        if (!this.rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+
+        final var thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (final RuntimeException e) {
+                log.error("[message:listing.rebuild] [status:error]", e);
+            } finally {
+                this.rebuilding.set(false);
+            }
+        }, "video-listing-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+        return true;
+    }
+
+    public long rebuild() {
+        final var startedAt = InstantUtils.now();
+        var projected = 0L;
+        var after = VideoRepository.FIRST_ID;
+
+        while (true) {
+            final var ids = this.videoRepository.findIdsAfter(after, PageRequest.ofSize(this.batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            projected += project(ids);
+            after = ids.get(ids.size() - 1);
+        }
+
+        // anything not touched since the rebuild started belongs to a video that no longer exists
+        final Integer removed = this.transactionOperations.execute(status ->
+                this.videoListingRepository.deleteProjectedBefore(startedAt));
+
+        log.info("[message:listing.rebuild] [status:done] [videos:{}] [removed:{}] [elapsed:{}ms]",
+                projected, removed, Duration.between(startedAt, InstantUtils.now()).toMillis());
+        return projected;
+    }
+
+    public Status status() {
+        final var oldest = this.pendingVideos.isEmpty() && this.pendingRefs.isEmpty()
+                ? null
+                : oldest(List.of(oldest(this.pendingVideos.values()), oldest(this.pendingRefs.values())));
+
+        return new Status(
+                this.pendingVideos.size() + this.pendingRefs.size(),
+                oldest == null ? 0 : Duration.between(oldest, InstantUtils.now()).toMillis(),
+                this.lastLag.get(),
+                this.lastProjectedAt.get(),
+                this.rebuilding.get()
+        );
+    }
+
+    private int project(final Collection<String> ids) {
+        synchronized (this.lock) {
+            final Integer projected = this.transactionOperations.execute(status -> {
+                final var projectedAt = InstantUtils.now();
+                final var previews = this.videoRepository.findPreviews(ids);
+
+                final var categories = references(
+                        this.videoRepository.findCategoryIds(ids),
+                        VideoCategoryID::getVideoId,
+                        VideoCategoryID::getCategoryId,
+                        this.categoryRepository::findAllById,
+                        CategoryJpaEntity::getId,
+                        CategoryJpaEntity::getName
+                );
+                final var genres = references(
+                        this.videoRepository.findGenreIds(ids),
+                        VideoGenreID::getVideoId,
+                        VideoGenreID::getGenreId,
+                        this.genreRepository::findAllById,
+                        GenreJpaEntity::getId,
+                        GenreJpaEntity::getName
+                );
+                final var castMembers = references(
+                        this.videoRepository.findCastMemberIds(ids),
+                        VideoCastMemberID::getVideoId,
+                        VideoCastMemberID::getCastMemberId,
+                        this.castMemberRepository::findAllById,
+                        CastMemberJpaEntity::getId,
+                        CastMemberJpaEntity::getName
+                );
+
+                // videos that were deleted are only removed, everything else is written again from scratch
+                this.videoListingRepository.deleteByIds(ids);
+
+                final var rows = new ArrayList<VideoListingJpaEntity>(previews.size());
+                final var refs = new ArrayList<VideoListingRefJpaEntity>();
+
+                for (final var preview : previews) {
+                    final var id = preview.id();
+                    final var row = new VideoPreview(
+                            id,
+                            preview.title(),
+                            preview.description(),
+                            preview.createdAt(),
+                            preview.updatedAt(),
+                            categories.getOrDefault(id, List.of()),
+                            genres.getOrDefault(id, List.of()),
+                            castMembers.getOrDefault(id, List.of())
+                    );
+
+                    rows.add(VideoListingJpaEntity.from(row, projectedAt));
+                    row.categories().forEach(it -> refs.add(VideoListingRefJpaEntity.from(it.id(), id)));
+                    row.genres().forEach(it -> refs.add(VideoListingRefJpaEntity.from(it.id(), id)));
+                    row.castMembers().forEach(it -> refs.add(VideoListingRefJpaEntity.from(it.id(), id)));
+                }
+
+                BatchUtils.persistAll(this.entityManager, rows, Function.identity());
+                BatchUtils.persistAll(this.entityManager, refs, Function.identity());
+                return rows.size();
+            });
+
+            this.lastProjectedAt.set(InstantUtils.now());
+            return projected != null ? projected : 0;
+        }
+    }
+
+    private static <R, E> Map<String, List<Reference>> references(
+            final List<R> rows,
+            final Function<R, String> videoId,
+            final Function<R, String> refId,
+            final Function<Set<String>, List<E>> loader,
+            final Function<E, String> idOf,
+            final Function<E, String> nameOf
+    ) {
+        if (rows.isEmpty()) {
+            return Map.of();
+        }
+
+        final var names = loader.apply(rows.stream().map(refId).collect(Collectors.toSet())).stream()
+                .collect(Collectors.toMap(idOf, nameOf));
+
+        return rows.stream().collect(Collectors.groupingBy(
+                videoId,
+                Collectors.collectingAndThen(
+                        Collectors.mapping(it -> new Reference(refId.apply(it), names.get(refId.apply(it))), Collectors.toList()),
+                        it -> it.stream().sorted(BY_NAME).toList()
+                )
+        ));
+    }
+
+    private static void pending(final Map<String, Instant> pending, final String id, final Instant occurredOn) {
+        pending.merge(id, occurredOn, (current, next) -> current.isBefore(next) ? current : next);
+    }
+
+    private static Map<String, Instant> drain(final Map<String, Instant> pending, final int limit) {
+        final var drained = new HashMap<String, Instant>();
+        for (final var id : pending.keySet()) {
+            if (drained.size() == limit) {
+                break;
+            }
+
+            final var occurredOn = pending.remove(id);
+            if (occurredOn != null) {
+                drained.put(id, occurredOn);
+            }
+        }
+        return drained;
+    }
+
+    private static Instant oldest(final Collection<Instant> instants) {
+        return instants.stream()
+                .filter(Objects::nonNull)
+                .min(Comparator.naturalOrder())
+                .orElseGet(InstantUtils::now);
+    }
+
+    public record Status(
+            long pending,
+            long lag,
+            long lastLag,
+            Instant lastProjectedAt,
+            boolean rebuilding
+    ) {
+    }
+}
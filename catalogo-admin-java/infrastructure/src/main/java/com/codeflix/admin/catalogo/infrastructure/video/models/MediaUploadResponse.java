@@ -0,0 +1,13 @@
+package com.codeflix.admin.catalogo.infrastructure.video.models;
+
+import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record MediaUploadResponse(
+        @JsonProperty("upload_id") String uploadId,
+        @JsonProperty("video_id") String videoId,
+        @JsonProperty("media_type") VideoMediaType mediaType,
+        @JsonProperty("offset") long offset,
+        @JsonProperty("length") long length
+) {
+}
@@ -0,0 +1,17 @@
+package com.codeflix.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.Map;
+
+public record VideoFacetsResponse(
+        @JsonProperty("total") long total,
+        @JsonProperty("categories") Map<String, Long> categories,
+        @JsonProperty("genres") Map<String, Long> genres,
+        @JsonProperty("cast_members") Map<String, Long> castMembers,
+        @JsonProperty("ratings") Map<String, Long> ratings,
+        @JsonProperty("published") Map<String, Long> published,
+        @JsonProperty("video_status") Map<String, Long> videoStatus,
+        @JsonProperty("trailer_status") Map<String, Long> trailerStatus
+) {
+}
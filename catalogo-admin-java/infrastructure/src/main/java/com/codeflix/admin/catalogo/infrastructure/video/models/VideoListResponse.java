@@ -1,14 +1,21 @@
 package com.codeflix.admin.catalogo.infrastructure.video.models;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.Instant;
+import java.util.List;
 
+// references are left out when the listing was read without them
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record VideoListResponse(
         @JsonProperty("id") String id,
         @JsonProperty("title") String title,
         @JsonProperty("description") String description,
         @JsonProperty("created_at") Instant createdAt,
-        @JsonProperty("updated_at") Instant updatedAt
+        @JsonProperty("updated_at") Instant updatedAt,
+        @JsonProperty("categories") List<VideoReferenceResponse> categories,
+        @JsonProperty("genres") List<VideoReferenceResponse> genres,
+        @JsonProperty("cast_members") List<VideoReferenceResponse> castMembers
 ) {
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.codeflix.admin.catalogo.infrastructure.video.models;
+
+import com.codeflix.admin.catalogo.infrastructure.video.VideoListingProjection;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.Instant;
+
+public record VideoListingStatusResponse(
+        @JsonProperty("pending") long pending,
+        @JsonProperty("lag_ms") long lag,
+        @JsonProperty("last_lag_ms") long lastLag,
+        @JsonProperty("last_projected_at") Instant lastProjectedAt,
+        @JsonProperty("rebuilding") boolean rebuilding
+) {
+
+    public static VideoListingStatusResponse from(final VideoListingProjection.Status status) {
+        return new VideoListingStatusResponse(
+                status.pending(),
+                status.lag(),
+                status.lastLag(),
+                status.lastProjectedAt(),
+                status.rebuilding()
+        );
+    }
+}
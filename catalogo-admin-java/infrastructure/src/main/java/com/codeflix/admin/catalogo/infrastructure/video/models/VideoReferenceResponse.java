@@ -0,0 +1,9 @@
+package com.codeflix.admin.catalogo.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record VideoReferenceResponse(
+        @JsonProperty("id") String id,
+        @JsonProperty("name") String name
+) {
+}
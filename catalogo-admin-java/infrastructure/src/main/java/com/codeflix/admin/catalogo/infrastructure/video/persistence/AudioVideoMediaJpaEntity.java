@@ -2,6 +2,7 @@ package com.codeflix.admin.catalogo.infrastructure.video.persistence;
 
 import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
 import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
 import jakarta.persistence.*;
 
 @Entity(name = "AudioVideoMedia")
@@ -9,6 +10,8 @@ import jakarta.persistence.*;
 public class AudioVideoMediaJpaEntity {
 
     @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "checksum", nullable = false)
@@ -1,7 +1,9 @@
 package com.codeflix.admin.catalogo.infrastructure.video.persistence;
 
 import com.codeflix.admin.catalogo.domain.video.ImageMedia;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
@@ -11,6 +13,8 @@ import jakarta.persistence.Table;
 public class ImageMediaJpaEntity {
 
     @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "checksum", nullable = false)
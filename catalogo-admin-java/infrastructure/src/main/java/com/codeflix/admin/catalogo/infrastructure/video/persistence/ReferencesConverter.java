@@ -0,0 +1,23 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.video.VideoPreview.Reference;
+import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.List;
+
+@Converter
+public class ReferencesConverter implements AttributeConverter<List<Reference>, String> {
+
+    @Override
+    public String convertToDatabaseColumn(final List<Reference> attribute) {
+        return Json.writeValueAsString(attribute == null ? List.of() : attribute);
+    }
+
+    @Override
+    public List<Reference> convertToEntityAttribute(final String dbData) {
+        if (dbData == null) return List.of();
+        return List.of(Json.readValue(dbData, Reference[].class));
+    }
+}
@@ -0,0 +1,13 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.domain.video.Rating;
+
+public record VideoFilterRow(
+        String id,
+        Rating rating,
+        boolean published,
+        MediaStatus videoStatus,
+        MediaStatus trailerStatus
+) {
+}
@@ -1,6 +1,8 @@
 package com.codeflix.admin.catalogo.infrastructure.video.persistence;
 
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Embeddable;
 
 import java.io.Serializable;
@@ -9,10 +11,12 @@ import java.util.Objects;
 @Embeddable
 public class VideoGenreID implements Serializable {
 
-    @Column(name = "video_id", nullable = false)
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "video_id", nullable = false, columnDefinition = "BINARY(16)")
     private String videoId;
 
-    @Column(name = "genre_id", nullable = false)
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "genre_id", nullable = false, columnDefinition = "BINARY(16)")
     private String genreId;
 
     public VideoGenreID() {
@@ -4,9 +4,12 @@ import com.codeflix.admin.catalogo.domain.Utils.CollectionUtils;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
 import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
+import com.codeflix.admin.catalogo.domain.video.ImageMedia;
 import com.codeflix.admin.catalogo.domain.video.Rating;
 import com.codeflix.admin.catalogo.domain.video.Video;
 import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
 import jakarta.persistence.*;
 
 import java.time.Instant;
@@ -14,6 +17,8 @@ import java.time.Year;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Table(name = "videos")
@@ -21,7 +26,8 @@ import java.util.stream.Collectors;
 public class VideoJpaEntity {
 
     @Id
-    @Column(name = "id", nullable = false)
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "title", nullable = false)
@@ -51,6 +57,10 @@ public class VideoJpaEntity {
     @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
     private Instant updatedAt;
 
+    @Version
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @OneToOne(cascade = CascadeType.ALL, fetch = FetchType.EAGER, orphanRemoval = true)
     @JoinColumn(name = "video_id")
     private AudioVideoMediaJpaEntity video;
@@ -148,6 +158,7 @@ public class VideoJpaEntity {
                         .map(ImageMediaJpaEntity::from)
                         .orElse(null)
         );
+        entity.version = aVideo.getVersion();
 
         aVideo.getCategories()
                 .forEach(entity::addCategory);
@@ -161,8 +172,99 @@ public class VideoJpaEntity {
         return entity;
     }
 
+    public VideoJpaEntity update(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.getOpened();
+        this.published = aVideo.getPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.updatedAt = aVideo.getUpdatedAt();
+
+        this.video = syncMedia(this.video, aVideo.getVideo().orElse(null));
+        this.trailer = syncMedia(this.trailer, aVideo.getTrailer().orElse(null));
+        this.banner = syncImage(this.banner, aVideo.getBanner().orElse(null));
+        this.thumbnail = syncImage(this.thumbnail, aVideo.getThumbnail().orElse(null));
+        this.thumbnailHalf = syncImage(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+
+        sync(this.categories, aVideo.getCategories(), it -> CategoryID.from(it.getId().getCategoryId()), this::addCategory);
+        sync(this.genres, aVideo.getGenres(), it -> GenreID.from(it.getId().getGenreId()), this::addGenre);
+        sync(this.castMembers, aVideo.getCastMembers(), it -> CastMemberID.from(it.getId().getCastMemberId()), this::addCastMember);
+
+        return this;
+    }
+
+    private static <E, ID> void sync(
+            final Set<E> current,
+            final Set<ID> target,
+            final Function<E, ID> idOf,
+            final Consumer<ID> add
+    ) {
+        final var existing = new HashSet<ID>(current.size());
+        current.removeIf(it -> {
+            final var id = idOf.apply(it);
+            existing.add(id);
+            return !target.contains(id);
+        });
+
+        target.stream()
+                .filter(it -> !existing.contains(it))
+                .forEach(add);
+    }
+
+    private static AudioVideoMediaJpaEntity syncMedia(final AudioVideoMediaJpaEntity current, final AudioVideoMedia target) {
+        if (target == null) {
+            return null;
+        }
+
+        if (current == null || !current.getId().equals(target.id())) {
+            return AudioVideoMediaJpaEntity.from(target);
+        }
+
+        return current
+                .setChecksum(target.checksum())
+                .setName(target.name())
+                .setFilePath(target.rawLocation())
+                .setEncodedPath(target.encodedLocation())
+                .setStatus(target.status());
+    }
+
+    private static ImageMediaJpaEntity syncImage(final ImageMediaJpaEntity current, final ImageMedia target) {
+        if (target == null) {
+            return null;
+        }
+
+        if (current == null || !current.getId().equals(target.id())) {
+            return ImageMediaJpaEntity.from(target);
+        }
+
+        return current
+                .setChecksum(target.checksum())
+                .setName(target.name())
+                .setFilePath(target.location());
+    }
+
     public Video toAggregate() {
-        return Video.with(
+        return toAggregate(
+                getCategories().stream()
+                        .map(it -> CategoryID.from(it.getId().getCategoryId()))
+                        .collect(Collectors.toSet()),
+                getGenres().stream()
+                        .map(it -> GenreID.from(it.getId().getGenreId()))
+                        .collect(Collectors.toSet()),
+                getCastMembers().stream()
+                        .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
+                        .collect(Collectors.toSet())
+        );
+    }
+
+    public Video toAggregate(
+            final Set<CategoryID> categories,
+            final Set<GenreID> genres,
+            final Set<CastMemberID> castMembers
+    ) {
+        final var aVideo = Video.with(
                 VideoID.from(getId()),
                 getTitle(),
                 getDescription(),
@@ -188,16 +290,12 @@ public class VideoJpaEntity {
                 Optional.ofNullable(getVideo())
                         .map(AudioVideoMediaJpaEntity::toDomain)
                         .orElse(null),
-                getCategories().stream()
-                        .map(it -> CategoryID.from(it.getId().getCategoryId()))
-                        .collect(Collectors.toSet()),
-                getGenres().stream()
-                        .map(it -> GenreID.from(it.getId().getGenreId()))
-                        .collect(Collectors.toSet()),
-                getCastMembers().stream()
-                        .map(it -> CastMemberID.from(it.getId().getCastMemberId()))
-                        .collect(Collectors.toSet())
+                categories,
+                genres,
+                castMembers
         );
+        aVideo.setVersion(getVersion());
+        return aVideo;
     }
 
     public void addCategory(final CategoryID anId) {
@@ -302,6 +400,15 @@ public class VideoJpaEntity {
         return this;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public VideoJpaEntity setVersion(Long version) {
+        this.version = version;
+        return this;
+    }
+
     public AudioVideoMediaJpaEntity getVideo() {
         return video;
     }
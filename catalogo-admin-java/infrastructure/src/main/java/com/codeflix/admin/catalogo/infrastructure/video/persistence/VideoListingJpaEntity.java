@@ -0,0 +1,138 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.video.VideoPreview;
+import com.codeflix.admin.catalogo.domain.video.VideoPreview.Reference;
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.List;
+
+@Table(name = "video_listing")
+@Entity(name = "VideoListing")
+public class VideoListingJpaEntity {
+
+    @Id
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
+    private String id;
+
+    @Column(name = "title", nullable = false)
+    private String title;
+
+    @Column(name = "description", length = 4000)
+    private String description;
+
+    @Convert(converter = ReferencesConverter.class)
+    @Column(name = "categories", nullable = false, columnDefinition = "TEXT")
+    private List<Reference> categories;
+
+    @Convert(converter = ReferencesConverter.class)
+    @Column(name = "genres", nullable = false, columnDefinition = "TEXT")
+    private List<Reference> genres;
+
+    @Convert(converter = ReferencesConverter.class)
+    @Column(name = "cast_members", nullable = false, columnDefinition = "TEXT")
+    private List<Reference> castMembers;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "projected_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant projectedAt;
+
+    public VideoListingJpaEntity() {
+    }
+
+    private VideoListingJpaEntity(
+            final String id,
+            final String title,
+            final String description,
+            final List<Reference> categories,
+            final List<Reference> genres,
+            final List<Reference> castMembers,
+            final Instant createdAt,
+            final Instant updatedAt,
+            final Instant projectedAt
+    ) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.categories = categories;
+        this.genres = genres;
+        this.castMembers = castMembers;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.projectedAt = projectedAt;
+    }
+
+    public static VideoListingJpaEntity from(final VideoPreview preview, final Instant projectedAt) {
+        return new VideoListingJpaEntity(
+                preview.id(),
+                preview.title(),
+                preview.description(),
+                preview.categories(),
+                preview.genres(),
+                preview.castMembers(),
+                preview.createdAt(),
+                preview.updatedAt(),
+                projectedAt
+        );
+    }
+
+    public VideoPreview toPreview() {
+        return new VideoPreview(
+                getId(),
+                getTitle(),
+                getDescription(),
+                getCreatedAt(),
+                getUpdatedAt(),
+                getCategories(),
+                getGenres(),
+                getCastMembers()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public List<Reference> getCategories() {
+        return categories;
+    }
+
+    public List<Reference> getGenres() {
+        return genres;
+    }
+
+    public List<Reference> getCastMembers() {
+        return castMembers;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getProjectedAt() {
+        return projectedAt;
+    }
+}
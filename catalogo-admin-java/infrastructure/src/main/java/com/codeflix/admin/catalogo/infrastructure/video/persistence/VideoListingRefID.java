@@ -0,0 +1,54 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter;
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Embeddable;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class VideoListingRefID implements Serializable {
+
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "ref_id", nullable = false, columnDefinition = "BINARY(16)")
+    private String refId;
+
+    @Convert(converter = BinaryIdConverter.class)
+    @Column(name = "video_id", nullable = false, columnDefinition = "BINARY(16)")
+    private String videoId;
+
+    public VideoListingRefID() {
+    }
+
+    private VideoListingRefID(final String refId, final String videoId) {
+        this.refId = refId;
+        this.videoId = videoId;
+    }
+
+    public static VideoListingRefID from(final String refId, final String videoId) {
+        return new VideoListingRefID(refId, videoId);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VideoListingRefID that = (VideoListingRefID) o;
+        return Objects.equals(getRefId(), that.getRefId()) && Objects.equals(getVideoId(), that.getVideoId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getRefId(), getVideoId());
+    }
+
+    public String getRefId() {
+        return refId;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+}
@@ -0,0 +1,43 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+
+import java.util.Objects;
+
+@Entity(name = "VideoListingRef")
+@Table(name = "video_listing_refs")
+public class VideoListingRefJpaEntity {
+
+    @EmbeddedId
+    private VideoListingRefID id;
+
+    public VideoListingRefJpaEntity() {
+    }
+
+    private VideoListingRefJpaEntity(final VideoListingRefID id) {
+        this.id = id;
+    }
+
+    public static VideoListingRefJpaEntity from(final String refId, final String videoId) {
+        return new VideoListingRefJpaEntity(VideoListingRefID.from(refId, videoId));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        VideoListingRefJpaEntity that = (VideoListingRefJpaEntity) o;
+        return Objects.equals(getId(), that.getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getId());
+    }
+
+    public VideoListingRefID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,76 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+public interface VideoListingRepository
+        extends JpaRepository<VideoListingJpaEntity, String>, JpaSpecificationExecutor<VideoListingJpaEntity> {
+
+    @Query("""
+            select l.id from VideoListing l
+            where
+                l.id in :ids
+            and
+                ( :castMembers is null or exists (
+                    select 1 from VideoListingRef r where r.id.videoId = l.id and r.id.refId in :castMembers
+                ) )
+            and
+                ( :categories is null or exists (
+                    select 1 from VideoListingRef r where r.id.videoId = l.id and r.id.refId in :categories
+                ) )
+            and
+                ( :genres is null or exists (
+                    select 1 from VideoListingRef r where r.id.videoId = l.id and r.id.refId in :genres
+                ) )
+            """)
+    List<String> findIds(
+            @Param("ids") Collection<String> ids,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres
+    );
+
+    @Query("select distinct r.id.videoId from VideoListingRef r where r.id.refId in :refIds")
+    List<String> findVideoIdsReferencing(@Param("refIds") Collection<String> refIds);
+
+    // rows that are missing, older than their video or left behind by a deleted one
+    @Query("""
+            select v.id from Video v
+            where not exists (select 1 from VideoListing l where l.id = v.id and l.updatedAt = v.updatedAt)
+            """)
+    List<String> findUnprojectedVideoIds();
+
+    @Query("select l.id from VideoListing l where not exists (select 1 from Video v where v.id = l.id)")
+    List<String> findOrphanIds();
+
+    // rows still carrying the name of a category, genre or cast member changed or deleted after they were projected
+    @Query("""
+            select distinct r.id.videoId from VideoListingRef r join VideoListing l on l.id = r.id.videoId
+            where exists (select 1 from Category c where c.id = r.id.refId and c.updatedAt > l.projectedAt)
+               or exists (select 1 from Genre g where g.id = r.id.refId and g.updatedAt > l.projectedAt)
+               or exists (select 1 from CastMember m where m.id = r.id.refId and m.updatedAt > l.projectedAt)
+               or not (
+                      exists (select 1 from Category c where c.id = r.id.refId)
+                   or exists (select 1 from Genre g where g.id = r.id.refId)
+                   or exists (select 1 from CastMember m where m.id = r.id.refId)
+               )
+            """)
+    List<String> findVideoIdsWithStaleRefs();
+
+    // refs go with their rows through ON DELETE CASCADE
+    @Modifying
+    @Query("delete from VideoListing l where l.id in :ids")
+    int deleteByIds(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("delete from VideoListing l where l.projectedAt < :before")
+    int deleteProjectedBefore(@Param("before") Instant before);
+}
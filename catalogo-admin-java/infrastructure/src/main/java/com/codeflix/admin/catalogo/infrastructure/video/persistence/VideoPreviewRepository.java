@@ -0,0 +1,19 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.video.VideoPreview;
+import com.codeflix.admin.catalogo.infrastructure.utils.CursorUtils.Cursor;
+
+import java.util.List;
+import java.util.Set;
+
+public interface VideoPreviewRepository {
+
+    List<VideoPreview> findAllAfter(
+            Set<String> ids,
+            Set<String> castMembers,
+            Set<String> categories,
+            Set<String> genres,
+            Cursor after,
+            int limit
+    );
+}
@@ -0,0 +1,60 @@
+package com.codeflix.admin.catalogo.infrastructure.video.persistence;
+
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.domain.video.VideoPreview;
+import com.codeflix.admin.catalogo.infrastructure.utils.CursorUtils;
+import com.codeflix.admin.catalogo.infrastructure.utils.CursorUtils.Cursor;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.util.List;
+import java.util.Set;
+
+public class VideoPreviewRepositoryImpl implements VideoPreviewRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<VideoPreview> findAllAfter(
+            final Set<String> ids,
+            final Set<String> castMembers,
+            final Set<String> categories,
+            final Set<String> genres,
+            final Cursor after,
+            final int limit
+    ) {
+        final var type = sortType(after.sort());
+        final var value = CursorUtils.valueOf(type, after.value());
+        final var ascending = "asc".equals(after.direction());
+        final var operator = ascending ? ">" : "<";
+        final var key = "v." + after.sort();
+
+        // the sort key is validated against the metamodel above, so it is safe to inline
+        final var jpql = VideoRepository.PREVIEW + VideoRepository.FILTERS
+                + " and ( %1$s %2$s :afterValue or ( %1$s = :afterValue and v.id %2$s :afterId ) )".formatted(key, operator)
+                + " order by %1$s %2$s, v.id %2$s".formatted(key, ascending ? "asc" : "desc");
+
+        return this.entityManager.createQuery(jpql, VideoPreview.class)
+                .setParameter("ids", ids)
+                .setParameter("castMembers", castMembers)
+                .setParameter("categories", categories)
+                .setParameter("genres", genres)
+                .setParameter("afterValue", value)
+                .setParameter("afterId", after.id())
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private Class<?> sortType(final String sort) {
+        try {
+            return this.entityManager.getMetamodel()
+                    .entity(VideoJpaEntity.class)
+                    .getSingularAttribute(sort)
+                    .getJavaType();
+        } catch (final IllegalArgumentException e) {
+            throw DomainException.with(new Error("'%s' is not a sortable video field".formatted(sort)));
+        }
+    }
+}
@@ -1,18 +1,31 @@
 package com.codeflix.admin.catalogo.infrastructure.video.persistence;
 
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
 import com.codeflix.admin.catalogo.domain.video.VideoPreview;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 
-public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
+public interface VideoRepository extends JpaRepository<VideoJpaEntity, String>, VideoPreviewRepository {
 
-    @Query("""
-            select distinct new com.codeflix.admin.catalogo.domain.video.VideoPreview(
+    String FIRST_ID = "00000000000000000000000000000000";
+
+    String PREVIEW = """
+            select new com.codeflix.admin.catalogo.domain.video.VideoPreview(
                 v.id as id,
                 v.title as title,
                 v.description as description,
@@ -20,23 +33,135 @@ public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
                 v.updatedAt as updatedAt
             )
             from Video v
-                left join v.castMembers members
-                left join v.categories categories
-                left join v.genres genres
+            """;
+
+    String FILTERS = """
             where
-                ( :terms is null or UPPER(v.title) like :terms )
+                ( :ids is null or v.id in :ids )
             and
-                ( :castMembers is null or members.id.castMemberId in :castMembers )
+                ( :castMembers is null or exists (
+                    select 1 from VideoCastMember members
+                    where members.id.videoId = v.id and members.id.castMemberId in :castMembers
+                ) )
             and
-                ( :categories is null or categories.id.categoryId in :categories )
+                ( :categories is null or exists (
+                    select 1 from VideoCategory categories
+                    where categories.id.videoId = v.id and categories.id.categoryId in :categories
+                ) )
             and
-                ( :genres is null or genres.id.genreId in :genres )
-            """)
+                ( :genres is null or exists (
+                    select 1 from VideoGenre genres
+                    where genres.id.videoId = v.id and genres.id.genreId in :genres
+                ) )
+            """;
+
+    @Query(value = PREVIEW + FILTERS, countQuery = "select count(v.id) from Video v " + FILTERS)
     Page<VideoPreview> findAll(
-            @Param("terms") String terms,
+            @Param("ids") Set<String> ids,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres,
+            Pageable page
+    );
+
+    @Query(PREVIEW + FILTERS)
+    Slice<VideoPreview> findSlice(
+            @Param("ids") Set<String> ids,
             @Param("castMembers") Set<String> castMembers,
             @Param("categories") Set<String> categories,
             @Param("genres") Set<String> genres,
             Pageable page
     );
+
+    @Query("select v.id from Video v " + FILTERS)
+    List<String> findIds(
+            @Param("ids") Set<String> ids,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres
+    );
+
+    @Query("select count(v.id) from Video v " + FILTERS)
+    long count(
+            @Param("ids") Set<String> ids,
+            @Param("castMembers") Set<String> castMembers,
+            @Param("categories") Set<String> categories,
+            @Param("genres") Set<String> genres
+    );
+
+    @Query(PREVIEW + "where v.id in :ids")
+    List<VideoPreview> findPreviews(@Param("ids") Collection<String> ids);
+
+    @Query("select v.id from Video v where v.id > :after order by v.id")
+    List<String> findIdsAfter(@Param("after") String after, Pageable page);
+
+    @Query("""
+            select new com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoFilterRow(
+                v.id,
+                v.rating,
+                v.published,
+                video.status,
+                trailer.status
+            )
+            from Video v
+            left join v.video video
+            left join v.trailer trailer
+            where v.id in :ids
+            """)
+    List<VideoFilterRow> findFilterRows(@Param("ids") Collection<String> ids);
+
+    @Query("select new com.codeflix.admin.catalogo.infrastructure.search.SearchDocument(v.id, v.title, v.description) from Video v")
+    List<SearchDocument> findAllSearchDocuments();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("""
+            select v from Video v
+            left join fetch v.banner
+            left join fetch v.thumbnail
+            left join fetch v.thumbnailHalf
+            left join fetch v.video
+            left join fetch v.trailer
+            """)
+    Stream<VideoJpaEntity> streamAll();
+
+    @Query("select v.version from Video v where v.id = :id")
+    Optional<Long> findVersion(@Param("id") String id);
+
+    @Modifying
+    @Query("update Video v set v.version = v.version + 1 where v.id = :id")
+    int incrementVersion(@Param("id") String id);
+
+    @Query("select c.id from VideoCategory c where c.id.videoId in :ids")
+    List<VideoCategoryID> findCategoryIds(@Param("ids") Collection<String> ids);
+
+    @Query("select g.id from VideoGenre g where g.id.videoId in :ids")
+    List<VideoGenreID> findGenreIds(@Param("ids") Collection<String> ids);
+
+    @Query("select m.id from VideoCastMember m where m.id.videoId in :ids")
+    List<VideoCastMemberID> findCastMemberIds(@Param("ids") Collection<String> ids);
+
+    @Modifying
+    @Query("""
+            update AudioVideoMedia m
+            set m.status = :status, m.encodedPath = coalesce(:encodedPath, m.encodedPath)
+            where
+                m.id = :resourceId
+            and
+                m.status in :expected
+            and
+                exists (
+                    select 1 from Video v
+                    where v.id = :videoId and (v.video.id = m.id or v.trailer.id = m.id)
+                )
+            """)
+    int updateMediaStatus(
+            @Param("videoId") String videoId,
+            @Param("resourceId") String resourceId,
+            @Param("status") MediaStatus status,
+            @Param("encodedPath") String encodedPath,
+            @Param("expected") Set<MediaStatus> expected
+    );
 }
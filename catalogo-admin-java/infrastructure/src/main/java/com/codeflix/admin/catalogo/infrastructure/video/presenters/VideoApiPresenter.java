@@ -1,14 +1,19 @@
 package com.codeflix.admin.catalogo.infrastructure.video.presenters;
 
 import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaOutput;
+import com.codeflix.admin.catalogo.application.video.media.upload.resumable.MediaUploadOutput;
+import com.codeflix.admin.catalogo.application.video.retrieve.facets.VideoFacetsOutput;
 import com.codeflix.admin.catalogo.application.video.retrieve.get.VideoOutput;
 import com.codeflix.admin.catalogo.application.video.retrieve.list.VideoListOutput;
 import com.codeflix.admin.catalogo.application.video.update.UpdateVideoOutput;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
 import com.codeflix.admin.catalogo.domain.video.AudioVideoMedia;
 import com.codeflix.admin.catalogo.domain.video.ImageMedia;
+import com.codeflix.admin.catalogo.domain.video.VideoPreview;
 import com.codeflix.admin.catalogo.infrastructure.video.models.*;
 
+import java.util.List;
+
 public interface VideoApiPresenter {
 
     static VideoResponse present(final VideoOutput output) {
@@ -74,15 +79,50 @@ public interface VideoApiPresenter {
                 output.title(),
                 output.description(),
                 output.createdAt(),
-                output.updatedAt()
+                output.updatedAt(),
+                present(output.categories()),
+                present(output.genres()),
+                present(output.castMembers())
         );
     }
 
+    static List<VideoReferenceResponse> present(final List<VideoPreview.Reference> references) {
+        if (references == null) {
+            return null;
+        }
+        return references.stream()
+                .map(it -> new VideoReferenceResponse(it.id(), it.name()))
+                .toList();
+    }
+
     static Pagination<VideoListResponse> present(final Pagination<VideoListOutput> page) {
         return page.map(VideoApiPresenter::present);
     }
 
+    static VideoFacetsResponse present(final VideoFacetsOutput output) {
+        return new VideoFacetsResponse(
+                output.total(),
+                output.categories(),
+                output.genres(),
+                output.castMembers(),
+                output.ratings(),
+                output.published(),
+                output.videoStatus(),
+                output.trailerStatus()
+        );
+    }
+
     static UploadMediaResponse present(final UploadMediaOutput output) {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
+
+    static MediaUploadResponse present(final MediaUploadOutput output) {
+        return new MediaUploadResponse(
+                output.uploadId(),
+                output.videoId(),
+                output.mediaType(),
+                output.offset(),
+                output.length()
+        );
+    }
 }
@@ -0,0 +1 @@
+CREATE ALIAS IF NOT EXISTS UNHEX FOR 'com.codeflix.admin.catalogo.infrastructure.persistence.BinaryIdConverter.unhex';
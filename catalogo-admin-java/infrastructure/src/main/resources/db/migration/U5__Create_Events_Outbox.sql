@@ -0,0 +1 @@
+DROP TABLE events_outbox;
\ No newline at end of file
@@ -0,0 +1,162 @@
+CREATE TABLE categories_u7 (
+    id CHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(4000),
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+INSERT INTO categories_u7 (id, name, description, active, created_at, updated_at, deleted_at)
+SELECT LOWER(HEX(id)), name, description, active, created_at, updated_at, deleted_at FROM categories;
+
+CREATE TABLE genres_u7 (
+    id CHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+INSERT INTO genres_u7 (id, name, active, created_at, updated_at, deleted_at)
+SELECT LOWER(HEX(id)), name, active, created_at, updated_at, deleted_at FROM genres;
+
+CREATE TABLE genres_categories_u7 (
+    genre_id CHAR(36) NOT NULL,
+    category_id CHAR(36) NOT NULL
+);
+
+INSERT INTO genres_categories_u7 (genre_id, category_id)
+SELECT LOWER(HEX(genre_id)), LOWER(HEX(category_id)) FROM genres_categories;
+
+CREATE TABLE cast_members_u7 (
+    id CHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+INSERT INTO cast_members_u7 (id, name, type, created_at, updated_at)
+SELECT LOWER(HEX(id)), name, type, created_at, updated_at FROM cast_members;
+
+CREATE TABLE videos_video_media_u7 (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    encoded_path VARCHAR(500) NOT NULL,
+    media_status VARCHAR(50) NOT NULL
+);
+
+INSERT INTO videos_video_media_u7 (id, name, checksum, file_path, encoded_path, media_status)
+SELECT LOWER(HEX(id)), name, checksum, file_path, encoded_path, media_status FROM videos_video_media;
+
+CREATE TABLE videos_image_media_u7 (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL
+);
+
+INSERT INTO videos_image_media_u7 (id, name, checksum, file_path)
+SELECT LOWER(HEX(id)), name, checksum, file_path FROM videos_image_media;
+
+CREATE TABLE videos_u7 (
+    id CHAR(32) NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    year_launched SMALLINT NOT NULL,
+    opened BOOLEAN NOT NULL DEFAULT FALSE,
+    published BOOLEAN NOT NULL DEFAULT FALSE,
+    rating VARCHAR(5),
+    duration DECIMAL(5, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    video_id CHAR(32) NULL,
+    trailer_id CHAR(32) NULL,
+    banner_id CHAR(32) NULL,
+    thumbnail_id CHAR(32) NULL,
+    thumbnail_half_id CHAR(32) NULL
+);
+
+INSERT INTO videos_u7 (
+    id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at,
+    video_id, trailer_id, banner_id, thumbnail_id, thumbnail_half_id
+)
+SELECT
+    LOWER(HEX(id)), title, description, year_launched, opened, published, rating, duration, created_at, updated_at,
+    LOWER(HEX(video_id)), LOWER(HEX(trailer_id)), LOWER(HEX(banner_id)), LOWER(HEX(thumbnail_id)), LOWER(HEX(thumbnail_half_id))
+FROM videos;
+
+CREATE TABLE videos_categories_u7 (
+    video_id CHAR(32) NOT NULL,
+    category_id CHAR(32) NOT NULL
+);
+
+INSERT INTO videos_categories_u7 (video_id, category_id)
+SELECT LOWER(HEX(video_id)), LOWER(HEX(category_id)) FROM videos_categories;
+
+CREATE TABLE videos_genres_u7 (
+    video_id CHAR(32) NOT NULL,
+    genre_id CHAR(32) NOT NULL
+);
+
+INSERT INTO videos_genres_u7 (video_id, genre_id)
+SELECT LOWER(HEX(video_id)), LOWER(HEX(genre_id)) FROM videos_genres;
+
+CREATE TABLE videos_cast_members_u7 (
+    video_id CHAR(32) NOT NULL,
+    cast_member_id CHAR(32) NOT NULL
+);
+
+INSERT INTO videos_cast_members_u7 (video_id, cast_member_id)
+SELECT LOWER(HEX(video_id)), LOWER(HEX(cast_member_id)) FROM videos_cast_members;
+
+DROP TABLE videos_cast_members;
+DROP TABLE videos_genres;
+DROP TABLE videos_categories;
+DROP TABLE videos;
+DROP TABLE videos_image_media;
+DROP TABLE videos_video_media;
+DROP TABLE genres_categories;
+DROP TABLE cast_members;
+DROP TABLE genres;
+DROP TABLE categories;
+
+ALTER TABLE categories_u7 RENAME TO categories;
+ALTER TABLE genres_u7 RENAME TO genres;
+ALTER TABLE genres_categories_u7 RENAME TO genres_categories;
+ALTER TABLE cast_members_u7 RENAME TO cast_members;
+ALTER TABLE videos_video_media_u7 RENAME TO videos_video_media;
+ALTER TABLE videos_image_media_u7 RENAME TO videos_image_media;
+ALTER TABLE videos_u7 RENAME TO videos;
+ALTER TABLE videos_categories_u7 RENAME TO videos_categories;
+ALTER TABLE videos_genres_u7 RENAME TO videos_genres;
+ALTER TABLE videos_cast_members_u7 RENAME TO videos_cast_members;
+
+ALTER TABLE genres_categories ADD CONSTRAINT idx_genre_category UNIQUE (genre_id, category_id);
+ALTER TABLE genres_categories ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE genres_categories ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
+
+ALTER TABLE videos ADD CONSTRAINT fk_v_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_thumb_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_thumb_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_categories ADD CONSTRAINT idx_vcs_video_category UNIQUE (video_id, category_id);
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES categories (id);
+ALTER TABLE videos_genres ADD CONSTRAINT idx_vgs_video_genre UNIQUE (video_id, genre_id);
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id);
+ALTER TABLE videos_cast_members ADD CONSTRAINT idx_vcms_video_member UNIQUE (video_id, cast_member_id);
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_cast_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id);
+
+CREATE INDEX idx_vcs_category_video ON videos_categories (category_id, video_id);
+CREATE INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id);
+CREATE INDEX idx_vcms_member_video ON videos_cast_members (cast_member_id, video_id);
@@ -0,0 +1,2 @@
+DROP TABLE video_listing_refs;
+DROP TABLE video_listing;
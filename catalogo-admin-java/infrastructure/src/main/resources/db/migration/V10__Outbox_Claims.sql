@@ -0,0 +1 @@
+ALTER TABLE events_outbox ADD COLUMN claimed_until DATETIME(6) NULL;
@@ -0,0 +1,163 @@
+CREATE TABLE categories_v7 (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(4000),
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+INSERT INTO categories_v7 (id, name, description, active, created_at, updated_at, deleted_at)
+SELECT UNHEX(REPLACE(id, '-', '')), name, description, active, created_at, updated_at, deleted_at FROM categories;
+
+CREATE TABLE genres_v7 (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    deleted_at DATETIME(6) NULL
+);
+
+INSERT INTO genres_v7 (id, name, active, created_at, updated_at, deleted_at)
+SELECT UNHEX(REPLACE(id, '-', '')), name, active, created_at, updated_at, deleted_at FROM genres;
+
+CREATE TABLE genres_categories_v7 (
+    genre_id BINARY(16) NOT NULL,
+    category_id BINARY(16) NOT NULL,
+    PRIMARY KEY (genre_id, category_id)
+);
+
+INSERT INTO genres_categories_v7 (genre_id, category_id)
+SELECT UNHEX(REPLACE(genre_id, '-', '')), UNHEX(REPLACE(category_id, '-', '')) FROM genres_categories;
+
+CREATE TABLE cast_members_v7 (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    type VARCHAR(32) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL
+);
+
+INSERT INTO cast_members_v7 (id, name, type, created_at, updated_at)
+SELECT UNHEX(REPLACE(id, '-', '')), name, type, created_at, updated_at FROM cast_members;
+
+CREATE TABLE videos_video_media_v7 (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL,
+    encoded_path VARCHAR(500) NOT NULL,
+    media_status VARCHAR(50) NOT NULL
+);
+
+INSERT INTO videos_video_media_v7 (id, name, checksum, file_path, encoded_path, media_status)
+SELECT UNHEX(REPLACE(id, '-', '')), name, checksum, file_path, encoded_path, media_status FROM videos_video_media;
+
+CREATE TABLE videos_image_media_v7 (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    checksum VARCHAR(255) NOT NULL,
+    file_path VARCHAR(500) NOT NULL
+);
+
+INSERT INTO videos_image_media_v7 (id, name, checksum, file_path)
+SELECT UNHEX(REPLACE(id, '-', '')), name, checksum, file_path FROM videos_image_media;
+
+CREATE TABLE videos_v7 (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(1000) NOT NULL,
+    year_launched SMALLINT NOT NULL,
+    opened BOOLEAN NOT NULL DEFAULT FALSE,
+    published BOOLEAN NOT NULL DEFAULT FALSE,
+    rating VARCHAR(5),
+    duration DECIMAL(5, 2) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    video_id BINARY(16) NULL,
+    trailer_id BINARY(16) NULL,
+    banner_id BINARY(16) NULL,
+    thumbnail_id BINARY(16) NULL,
+    thumbnail_half_id BINARY(16) NULL
+);
+
+INSERT INTO videos_v7 (
+    id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at,
+    video_id, trailer_id, banner_id, thumbnail_id, thumbnail_half_id
+)
+SELECT
+    UNHEX(REPLACE(id, '-', '')), title, description, year_launched, opened, published, rating, duration, created_at, updated_at,
+    UNHEX(REPLACE(video_id, '-', '')), UNHEX(REPLACE(trailer_id, '-', '')), UNHEX(REPLACE(banner_id, '-', '')),
+    UNHEX(REPLACE(thumbnail_id, '-', '')), UNHEX(REPLACE(thumbnail_half_id, '-', ''))
+FROM videos;
+
+CREATE TABLE videos_categories_v7 (
+    video_id BINARY(16) NOT NULL,
+    category_id BINARY(16) NOT NULL,
+    PRIMARY KEY (video_id, category_id)
+);
+
+INSERT INTO videos_categories_v7 (video_id, category_id)
+SELECT UNHEX(REPLACE(video_id, '-', '')), UNHEX(REPLACE(category_id, '-', '')) FROM videos_categories;
+
+CREATE TABLE videos_genres_v7 (
+    video_id BINARY(16) NOT NULL,
+    genre_id BINARY(16) NOT NULL,
+    PRIMARY KEY (video_id, genre_id)
+);
+
+INSERT INTO videos_genres_v7 (video_id, genre_id)
+SELECT UNHEX(REPLACE(video_id, '-', '')), UNHEX(REPLACE(genre_id, '-', '')) FROM videos_genres;
+
+CREATE TABLE videos_cast_members_v7 (
+    video_id BINARY(16) NOT NULL,
+    cast_member_id BINARY(16) NOT NULL,
+    PRIMARY KEY (video_id, cast_member_id)
+);
+
+INSERT INTO videos_cast_members_v7 (video_id, cast_member_id)
+SELECT UNHEX(REPLACE(video_id, '-', '')), UNHEX(REPLACE(cast_member_id, '-', '')) FROM videos_cast_members;
+
+DROP TABLE videos_cast_members;
+DROP TABLE videos_genres;
+DROP TABLE videos_categories;
+DROP TABLE videos;
+DROP TABLE videos_image_media;
+DROP TABLE videos_video_media;
+DROP TABLE genres_categories;
+DROP TABLE cast_members;
+DROP TABLE genres;
+DROP TABLE categories;
+
+ALTER TABLE categories_v7 RENAME TO categories;
+ALTER TABLE genres_v7 RENAME TO genres;
+ALTER TABLE genres_categories_v7 RENAME TO genres_categories;
+ALTER TABLE cast_members_v7 RENAME TO cast_members;
+ALTER TABLE videos_video_media_v7 RENAME TO videos_video_media;
+ALTER TABLE videos_image_media_v7 RENAME TO videos_image_media;
+ALTER TABLE videos_v7 RENAME TO videos;
+ALTER TABLE videos_categories_v7 RENAME TO videos_categories;
+ALTER TABLE videos_genres_v7 RENAME TO videos_genres;
+ALTER TABLE videos_cast_members_v7 RENAME TO videos_cast_members;
+
+ALTER TABLE genres_categories ADD CONSTRAINT fk_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id) ON DELETE CASCADE;
+ALTER TABLE genres_categories ADD CONSTRAINT fk_category_id FOREIGN KEY (category_id) REFERENCES categories (id) ON DELETE CASCADE;
+
+ALTER TABLE videos ADD CONSTRAINT fk_v_video_id FOREIGN KEY (video_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_trailer_id FOREIGN KEY (trailer_id) REFERENCES videos_video_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_banner_id FOREIGN KEY (banner_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_thumb_id FOREIGN KEY (thumbnail_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+ALTER TABLE videos ADD CONSTRAINT fk_v_thumb_half_id FOREIGN KEY (thumbnail_half_id) REFERENCES videos_image_media (id) ON DELETE CASCADE;
+
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_categories ADD CONSTRAINT fk_vcs_category_id FOREIGN KEY (category_id) REFERENCES categories (id);
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_genres ADD CONSTRAINT fk_vgs_genre_id FOREIGN KEY (genre_id) REFERENCES genres (id);
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_video_id FOREIGN KEY (video_id) REFERENCES videos (id);
+ALTER TABLE videos_cast_members ADD CONSTRAINT fk_vcms_cast_member_id FOREIGN KEY (cast_member_id) REFERENCES cast_members (id);
+
+CREATE INDEX idx_vcs_category_video ON videos_categories (category_id, video_id);
+CREATE INDEX idx_vgs_genre_video ON videos_genres (genre_id, video_id);
+CREATE INDEX idx_vcms_member_video ON videos_cast_members (cast_member_id, video_id);
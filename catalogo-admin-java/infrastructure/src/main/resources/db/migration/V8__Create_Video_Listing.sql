@@ -0,0 +1,23 @@
+CREATE TABLE video_listing (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    description VARCHAR(4000),
+    categories TEXT NOT NULL,
+    genres TEXT NOT NULL,
+    cast_members TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    projected_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_vl_title ON video_listing (title, id);
+CREATE INDEX idx_vl_created_at ON video_listing (created_at, id);
+CREATE INDEX idx_vl_updated_at ON video_listing (updated_at, id);
+CREATE INDEX idx_vl_projected_at ON video_listing (projected_at);
+
+CREATE TABLE video_listing_refs (
+    ref_id BINARY(16) NOT NULL,
+    video_id BINARY(16) NOT NULL,
+    PRIMARY KEY (ref_id, video_id),
+    CONSTRAINT fk_vlr_video_id FOREIGN KEY (video_id) REFERENCES video_listing (id) ON DELETE CASCADE
+);
@@ -21,7 +21,7 @@ public class AmqpTestConfiguration {
     }
 
     @Bean
-    ConnectionFactory connectionFactory() {
+    ConnectionFactory connectionFactory() throws Exception {
         final var factory = Mockito.mock(ConnectionFactory.class);
         final var connection = Mockito.mock(Connection.class);
         final var channel = Mockito.mock(Channel.class);
@@ -29,6 +29,7 @@ public class AmqpTestConfiguration {
         BDDMockito.willReturn(connection).given(factory).createConnection();
         BDDMockito.willReturn(channel).given(connection).createChannel(Mockito.anyBoolean());
         BDDMockito.given(channel.isOpen()).willReturn(true);
+        BDDMockito.given(channel.waitForConfirms(Mockito.anyLong())).willReturn(true);
 
         return factory;
     }
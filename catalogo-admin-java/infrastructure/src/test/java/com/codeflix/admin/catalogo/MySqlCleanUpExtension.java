@@ -1,7 +1,12 @@
 package com.codeflix.admin.catalogo;
 
+import com.codeflix.admin.catalogo.infrastructure.cache.ExistenceCache;
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
 import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchIndexes;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingRepository;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
@@ -16,11 +21,15 @@ public class MySqlCleanUpExtension implements BeforeEachCallback {
         final var appContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
-//                appContext.getBean(VideoRepository.class),
-//                appContext.getBean(CastMemberRepository.class),
+                appContext.getBean(VideoListingRepository.class),
+                appContext.getBean(VideoRepository.class),
+                appContext.getBean(CastMemberRepository.class),
                 appContext.getBean(GenreRepository.class),
                 appContext.getBean(CategoryRepository.class)
         ));
+
+        appContext.getBean(SearchIndexes.class).clear();
+        appContext.getBean(ExistenceCache.class).invalidateAll();
     }
 
     private void cleanUp(final Collection<CrudRepository> repositories) {
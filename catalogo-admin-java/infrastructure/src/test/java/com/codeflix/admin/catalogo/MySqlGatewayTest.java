@@ -17,7 +17,9 @@ import java.lang.annotation.*;
         basePackages = "com.codeflix.admin.catalogo",
         useDefaultFilters = false,
         includeFilters = {
-                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySqlGateway")
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySqlGateway"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*SearchIndexes"),
+                @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*ExistenceCache")
         }
 )
 @DataJpaTest
@@ -0,0 +1,120 @@
+package com.codeflix.admin.catalogo.infrastructure.amqp;
+
+import com.codeflix.admin.catalogo.AmqpTest;
+import com.codeflix.admin.catalogo.domain.video.VideoMediaCreated;
+import com.codeflix.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import com.codeflix.admin.catalogo.infrastructure.services.EventService;
+import com.codeflix.admin.catalogo.infrastructure.utils.InstantUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+@AmqpTest
+public class OutboxRelayTest {
+
+    private static final String LISTENER = "video.created";
+
+    @Autowired
+    @VideoCreatedQueue
+    private EventService publisher;
+
+    @Autowired
+    private OutboxRelay relay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private RabbitListenerTestHarness harness;
+
+    @BeforeEach
+    void cleanUp() {
+        this.outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    public void givenAnEvent_whenCallsSend_shouldStoreItAsPending() {
+        final var notification = new VideoMediaCreated("resource", "filepath");
+
+        this.publisher.send(notification);
+
+        final var actualEvents = this.outboxEventRepository.findAll();
+
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals(1, this.outboxEventRepository.countBySentAtIsNull());
+
+        final var actualEvent = actualEvents.get(0);
+
+        Assertions.assertEquals("VideoMediaCreated", actualEvent.getEventType());
+        Assertions.assertEquals(Json.writeValueAsString(notification), actualEvent.getPayload());
+        Assertions.assertNotNull(actualEvent.getCreatedAt());
+        Assertions.assertNull(actualEvent.getSentAt());
+    }
+
+    @Test
+    public void givenPendingEvents_whenCallsRelay_shouldPublishAndMarkThemSent() throws InterruptedException {
+        final var notification = new VideoMediaCreated("resource", "filepath");
+
+        final var expectedMessage = Json.writeValueAsString(notification);
+
+        this.publisher.send(notification);
+
+        final var actualRelayed = this.relay.relay();
+
+        Assertions.assertEquals(1, actualRelayed);
+        Assertions.assertEquals(0, this.outboxEventRepository.countBySentAtIsNull());
+        Assertions.assertNotNull(this.outboxEventRepository.findAll().get(0).getSentAt());
+
+        final var invocationData =
+                harness.getNextInvocationDataFor(LISTENER, 1, TimeUnit.SECONDS);
+
+        Assertions.assertNotNull(invocationData);
+        Assertions.assertEquals(expectedMessage, invocationData.getArguments()[0]);
+
+        Assertions.assertEquals(0, this.relay.relay());
+    }
+
+    @Test
+    public void givenAnEventClaimedByAnotherRelay_whenCallsRelay_shouldSkipItUntilTheClaimExpires() {
+        this.publisher.send(new VideoMediaCreated("resource", "filepath"));
+
+        final var event = this.outboxEventRepository.findAll().get(0);
+        this.outboxEventRepository.save(event.setClaimedUntil(InstantUtils.now().plus(1, ChronoUnit.MINUTES)));
+
+        Assertions.assertEquals(0, this.relay.relay());
+        Assertions.assertEquals(1, this.outboxEventRepository.countBySentAtIsNull());
+
+        this.outboxEventRepository.save(event.setClaimedUntil(InstantUtils.now().minus(1, ChronoUnit.MINUTES)));
+
+        Assertions.assertEquals(1, this.relay.relay());
+        Assertions.assertEquals(0, this.outboxEventRepository.countBySentAtIsNull());
+        Assertions.assertNull(this.outboxEventRepository.findAll().get(0).getClaimedUntil());
+    }
+
+    @Test
+    public void givenSentAndPendingEvents_whenCallsPurge_shouldDeleteOnlyEventsSentBeforeTheCutoff() {
+        final var now = InstantUtils.now();
+
+        final var expiredSent = this.outboxEventRepository.save(
+                OutboxEventJpaEntity.newEvent("VideoMediaCreated", "exchange", "key", "{}").setSentAt(now.minus(8, ChronoUnit.DAYS)));
+        final var recentSent = this.outboxEventRepository.save(
+                OutboxEventJpaEntity.newEvent("VideoMediaCreated", "exchange", "key", "{}").setSentAt(now.minus(1, ChronoUnit.HOURS)));
+        final var pending = this.outboxEventRepository.save(
+                OutboxEventJpaEntity.newEvent("VideoMediaCreated", "exchange", "key", "{}"));
+
+        final var actualPurged = this.relay.purge(now.minus(7, ChronoUnit.DAYS));
+
+        Assertions.assertEquals(1, actualPurged);
+        Assertions.assertFalse(this.outboxEventRepository.existsById(expiredSent.getId()));
+        Assertions.assertTrue(this.outboxEventRepository.existsById(recentSent.getId()));
+        Assertions.assertTrue(this.outboxEventRepository.existsById(pending.getId()));
+    }
+}
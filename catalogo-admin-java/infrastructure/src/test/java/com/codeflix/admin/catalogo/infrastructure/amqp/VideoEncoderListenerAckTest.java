@@ -0,0 +1,150 @@
+package com.codeflix.admin.catalogo.infrastructure.amqp;
+
+import com.codeflix.admin.catalogo.application.video.media.update.UpdateMediaStatusCommand;
+import com.codeflix.admin.catalogo.application.video.media.update.UpdateMediaStatusUseCase;
+import com.codeflix.admin.catalogo.domain.Utils.IdUtils;
+import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.validation.Error;
+import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.codeflix.admin.catalogo.infrastructure.persistence.ReadYourWrites;
+import com.codeflix.admin.catalogo.infrastructure.video.models.VideoEncoderCompleted;
+import com.codeflix.admin.catalogo.infrastructure.video.models.VideoEncoderError;
+import com.codeflix.admin.catalogo.infrastructure.video.models.VideoMessage;
+import com.codeflix.admin.catalogo.infrastructure.video.models.VideoMetadata;
+import com.rabbitmq.client.Channel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@Tag("unitTest")
+public class VideoEncoderListenerAckTest {
+
+    private final UpdateMediaStatusUseCase useCase = Mockito.mock(UpdateMediaStatusUseCase.class);
+    private final Channel channel = Mockito.mock(Channel.class);
+    private final VideoEncoderListener listener = new VideoEncoderListener(useCase, queueProperties());
+
+    @Test
+    public void givenADuplicatedResult_whenCallsListener_shouldUpdateOnceAndAckBothDeliveries() throws Exception {
+        final var completed = completed(IdUtils.uuid());
+
+        this.listener.onVideoEncodedMessages(List.of(message(1, completed), message(2, completed)), this.channel);
+
+        Mockito.verify(this.useCase, Mockito.times(1)).execute(Mockito.any());
+        Mockito.verify(this.channel).basicAck(1, false);
+        Mockito.verify(this.channel).basicAck(2, false);
+        Mockito.verify(this.channel, Mockito.never()).basicNack(Mockito.anyLong(), Mockito.anyBoolean(), Mockito.anyBoolean());
+    }
+
+    @Test
+    public void givenACompletedResult_whenCallsListener_shouldReadTheVideoFromThePrimary() throws Exception {
+        final var sticky = new ArrayList<Boolean>();
+        Mockito.doAnswer(it -> sticky.add(ReadYourWrites.isSticky())).when(this.useCase).execute(Mockito.any());
+
+        this.listener.onVideoEncodedMessages(List.of(message(1, completed(IdUtils.uuid()))), this.channel);
+
+        Assertions.assertEquals(List.of(true), sticky);
+        Assertions.assertFalse(ReadYourWrites.isSticky());
+    }
+
+    @Test
+    public void givenAFailingUpdate_whenCallsListener_shouldRequeueItAndAckTheOthers() throws Exception {
+        final var failingVideo = IdUtils.uuid();
+        final var healthyVideo = IdUtils.uuid();
+
+        Mockito.doThrow(new IllegalStateException("Database unavailable"))
+                .when(this.useCase).execute(Mockito.argThat((UpdateMediaStatusCommand it) -> it.videoId().equals(failingVideo)));
+
+        this.listener.onVideoEncodedMessages(List.of(
+                message(1, completed(failingVideo)),
+                message(2, completed(healthyVideo))
+        ), this.channel);
+
+        Mockito.verify(this.channel, Mockito.never()).basicAck(Mockito.eq(1L), Mockito.anyBoolean());
+        Mockito.verify(this.channel).basicNack(1, false, true);
+        Mockito.verify(this.channel).basicAck(2, false);
+    }
+
+    @Test
+    public void givenAnUpdateRejectedByTheDomain_whenCallsListener_shouldDeadLetterIt() throws Exception {
+        Mockito.doThrow(NotFoundException.with(new Error("Video not found")))
+                .when(this.useCase).execute(Mockito.any());
+
+        final var completed = completed(IdUtils.uuid());
+
+        this.listener.onVideoEncodedMessages(List.of(message(1, completed)), this.channel);
+
+        final var inOrder = Mockito.inOrder(this.channel);
+        inOrder.verify(this.channel).basicPublish(
+                Mockito.eq(""),
+                Mockito.eq("video.encoded.queue.dlq"),
+                Mockito.any(),
+                Mockito.eq(completed.getBytes(StandardCharsets.UTF_8))
+        );
+        inOrder.verify(this.channel).basicAck(1, false);
+        Mockito.verify(this.channel, Mockito.never()).basicNack(Mockito.anyLong(), Mockito.anyBoolean(), Mockito.anyBoolean());
+    }
+
+    @Test
+    public void givenAFailedResultOfAVideo_whenCallsListener_shouldRequeueItsLaterResultsWithoutApplyingThem() throws Exception {
+        final var videoId = IdUtils.uuid();
+
+        Mockito.doThrow(new IllegalStateException("Database unavailable"))
+                .when(this.useCase).execute(Mockito.any());
+
+        this.listener.onVideoEncodedMessages(List.of(
+                message(1, completed(videoId)),
+                message(2, completed(videoId))
+        ), this.channel);
+
+        Mockito.verify(this.useCase, Mockito.times(1)).execute(Mockito.any());
+        Mockito.verify(this.channel).basicNack(1, false, true);
+        Mockito.verify(this.channel).basicNack(2, false, true);
+        Mockito.verify(this.channel, Mockito.never()).basicAck(Mockito.anyLong(), Mockito.anyBoolean());
+    }
+
+    @Test
+    public void givenAnErrorOrUnreadableResult_whenCallsListener_shouldSettleItWithoutUpdating() throws Exception {
+        final var error = Json.writeValueAsString(new VideoEncoderError(new VideoMessage("123", "abc"), "Video not found"));
+
+        this.listener.onVideoEncodedMessages(List.of(message(1, error), message(2, "not json")), this.channel);
+
+        Mockito.verify(this.useCase, Mockito.never()).execute(Mockito.any());
+        Mockito.verify(this.channel).basicAck(1, false);
+        Mockito.verify(this.channel).basicPublish(
+                Mockito.eq(""),
+                Mockito.eq("video.encoded.queue.dlq"),
+                Mockito.any(),
+                Mockito.eq("not json".getBytes(StandardCharsets.UTF_8))
+        );
+        Mockito.verify(this.channel).basicAck(2, false);
+        Mockito.verify(this.channel, Mockito.never()).basicNack(Mockito.anyLong(), Mockito.anyBoolean(), Mockito.anyBoolean());
+    }
+
+    private static String completed(final String videoId) {
+        return Json.writeValueAsString(new VideoEncoderCompleted(
+                videoId,
+                "bucket",
+                new VideoMetadata("folder", IdUtils.uuid(), "video.mp4")
+        ));
+    }
+
+    private static QueueProperties queueProperties() {
+        final var properties = new QueueProperties();
+        properties.setQueue("video.encoded.queue");
+        return properties;
+    }
+
+    private static Message message(final long deliveryTag, final String payload) {
+        final var properties = new MessageProperties();
+        properties.setDeliveryTag(deliveryTag);
+        return new Message(payload.getBytes(StandardCharsets.UTF_8), properties);
+    }
+}
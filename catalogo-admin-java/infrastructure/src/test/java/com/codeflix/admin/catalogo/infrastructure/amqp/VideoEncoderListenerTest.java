@@ -15,11 +15,14 @@ import com.codeflix.admin.catalogo.infrastructure.video.models.VideoMetadata;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.core.Message;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
 import org.springframework.amqp.rabbit.test.TestRabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -59,8 +62,8 @@ public class VideoEncoderListenerTest {
         Assertions.assertNotNull(invocationData);
         Assertions.assertNotNull(invocationData.getArguments());
 
-        final var actualMessage = (String) invocationData.getArguments()[0];
-        Assertions.assertEquals(expectedMessage, actualMessage);
+        final var actualMessages = bodiesOf(invocationData.getArguments()[0]);
+        Assertions.assertEquals(List.of(expectedMessage), actualMessages);
     }
 
     @Test
@@ -88,8 +91,8 @@ public class VideoEncoderListenerTest {
         Assertions.assertNotNull(invocationData);
         Assertions.assertNotNull(invocationData.getArguments());
 
-        final var actualMessage = (String) invocationData.getArguments()[0];
-        Assertions.assertEquals(expectedMessage, actualMessage);
+        final var actualMessages = bodiesOf(invocationData.getArguments()[0]);
+        Assertions.assertEquals(List.of(expectedMessage), actualMessages);
 
         final var captor = ArgumentCaptor.forClass(UpdateMediaStatusCommand.class);
         verify(updateMediaStatusUseCase).execute(captor.capture());
@@ -101,4 +104,11 @@ public class VideoEncoderListenerTest {
         Assertions.assertEquals(expectedEncoderVideoFolder, actualCommand.folder());
         Assertions.assertEquals(expectedFilePath, actualCommand.filename());
     }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> bodiesOf(final Object messages) {
+        return ((List<Message>) messages).stream()
+                .map(it -> new String(it.getBody(), StandardCharsets.UTF_8))
+                .toList();
+    }
 }
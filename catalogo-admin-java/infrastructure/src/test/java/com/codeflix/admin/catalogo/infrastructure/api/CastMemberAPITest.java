@@ -3,10 +3,13 @@ package com.codeflix.admin.catalogo.infrastructure.api;
 import com.codeflix.admin.catalogo.ApiTest;
 import com.codeflix.admin.catalogo.ControllerTest;
 import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMemberOutput;
+import com.codeflix.admin.catalogo.application.castmember.create.CreateCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.create.DefaultCreateCastMemberUseCase;
 import com.codeflix.admin.catalogo.application.castmember.delete.DefaultDeleteCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.export.ExportCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.CastMemberOutput;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberUseCase;
+import com.codeflix.admin.catalogo.application.castmember.retrieve.get.DefaultGetCastMemberVersionUseCase;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.CastMemberListOutput;
 import com.codeflix.admin.catalogo.application.castmember.retrieve.list.DefaultListCastMembersUseCase;
 import com.codeflix.admin.catalogo.application.castmember.update.DefaultUpdateCastMemberUseCase;
@@ -46,12 +49,18 @@ public class CastMemberAPITest {
     @MockitoBean
     private DefaultCreateCastMemberUseCase createCastMemberUseCase;
     @MockitoBean
+    private CreateCastMembersUseCase createCastMembersUseCase;
+    @MockitoBean
     private DefaultDeleteCastMemberUseCase deleteCastMemberUseCase;
     @MockitoBean
     private DefaultGetCastMemberUseCase getCastMemberUseCase;
     @MockitoBean
+    private DefaultGetCastMemberVersionUseCase getCastMemberVersionUseCase;
+    @MockitoBean
     private DefaultListCastMembersUseCase listCastMembersUseCase;
     @MockitoBean
+    private ExportCastMembersUseCase exportCastMembersUseCase;
+    @MockitoBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
     @Test
@@ -2,11 +2,15 @@ package com.codeflix.admin.catalogo.infrastructure.api;
 
 import com.codeflix.admin.catalogo.ApiTest;
 import com.codeflix.admin.catalogo.ControllerTest;
+import com.codeflix.admin.catalogo.application.bulk.BulkItemOutput;
+import com.codeflix.admin.catalogo.application.category.create.CreateCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryOutput;
 import com.codeflix.admin.catalogo.application.category.create.CreateCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.delete.DeleteCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.CategoryOutput;
 import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryUseCase;
+import com.codeflix.admin.catalogo.application.category.retrieve.get.GetCategoryVersionUseCase;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.CategoryListOutput;
 import com.codeflix.admin.catalogo.application.category.retrieve.list.ListCategoryUseCase;
 import com.codeflix.admin.catalogo.application.category.update.UpdateCategoryOutput;
@@ -15,7 +19,9 @@ import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
 import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
 import com.codeflix.admin.catalogo.domain.exceptions.NotFoundException;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.pagination.Pagination;
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
 import com.codeflix.admin.catalogo.domain.validation.Error;
 import com.codeflix.admin.catalogo.domain.validation.handler.Notification;
 import com.codeflix.admin.catalogo.infrastructure.category.models.CreateCategoryRequest;
@@ -23,9 +29,11 @@ import com.codeflix.admin.catalogo.infrastructure.category.models.UpdateCategory
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.vavr.API;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -47,13 +55,19 @@ public class CategoryAPITest {
     @MockitoBean
     private CreateCategoryUseCase createCategoryUseCase;
     @MockitoBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+    @MockitoBean
     private GetCategoryUseCase getCategoryUseCase;
     @MockitoBean
+    private GetCategoryVersionUseCase getCategoryVersionUseCase;
+    @MockitoBean
     private UpdateCategoryUseCase updateCategoryUseCase;
     @MockitoBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
     @MockitoBean
     private ListCategoryUseCase listCategoryUseCase;
+    @MockitoBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
 
 
     @Test
@@ -212,6 +226,53 @@ public class CategoryAPITest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
     }
 
+    @Test
+    public void givenAVersionedCategory_whenCallsGetCategory_shouldReturnItsETag() throws Exception {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        category.setVersion(3L);
+
+        final var expectedId = category.getId().getValue();
+
+        Mockito.when(getCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(CategoryOutput.from(category));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)));
+
+        Mockito.verify(getCategoryVersionUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenAMatchingETag_whenCallsGetCategory_shouldReturnNotModified() throws Exception {
+        final var expectedId = "123";
+
+        Mockito.when(getCategoryVersionUseCase.execute(Mockito.any()))
+                .thenReturn(3L);
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(HttpHeaders.IF_NONE_MATCH, "W/\"2\", \"3\"")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        Mockito.verify(getCategoryVersionUseCase, Mockito.times(1)).execute(Mockito.eq(expectedId));
+        Mockito.verify(getCategoryUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
     @Test
     public void givenValidCommand_whenCallsUpdateCategory_shouldReturnCategoryId() throws Exception {
         final var expectedId = "123";
@@ -314,6 +375,60 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenAStaleIfMatch_whenCallsUpdateCategory_shouldReturnPreconditionFailed() throws Exception {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId().getValue();
+        final var expectedVersion = 2L;
+        final var expectedErrorMessage = "Category with ID %s was changed by someone else".formatted(expectedId);
+
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(StaleVersionException.with(category));
+
+        final var command = new UpdateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(command));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isPreconditionFailed())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+
+        Mockito.verify(updateCategoryUseCase, Mockito.times(1)).execute(Mockito.argThat(it ->
+                Objects.equals(expectedId, it.id()) && Objects.equals(expectedVersion, it.version())
+        ));
+    }
+
+    @Test
+    public void givenAConcurrentUpdate_whenCallsUpdateCategoryWithoutIfMatch_shouldReturnConflict() throws Exception {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId().getValue();
+
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(StaleVersionException.with(category));
+
+        final var command = new UpdateCategoryRequest("Filmes", "A categoria mais assistida", true);
+
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .with(ApiTest.CATEGORIES_JWT)
+                .accept(MediaType.APPLICATION_JSON)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(mapper.writeValueAsString(command));
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isConflict());
+
+        Mockito.verify(updateCategoryUseCase, Mockito.times(1)).execute(Mockito.argThat(it -> it.version() == null));
+    }
+
     @Test
     public void givenValidId_whenCallsDeleteCategory_shouldReturnNoContent() throws Exception {
         final var expectedId = "123";
@@ -384,4 +499,97 @@ public class CategoryAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenNoTotalAndACursor_whenCallsListCategories_shouldPassThemAndReturnHasMore() throws Exception {
+        final var category = Category.newCategory("Movies", null, true);
+
+        final var expectedAfter = "cursor";
+        final var expectedNext = "next-cursor";
+
+        Mockito.when(listCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 1, -1, List.of(CategoryListOutput.from(category)), expectedNext));
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("perPage", "1")
+                .queryParam("after", expectedAfter)
+                .queryParam("total", "none")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.total", Matchers.equalTo(-1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next", Matchers.equalTo(expectedNext)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.has_more", Matchers.equalTo(true)));
+
+        Mockito.verify(listCategoryUseCase, Mockito.times(1)).execute(Mockito.argThat(query ->
+                Objects.equals(expectedAfter, query.after())
+                        && Objects.equals(TotalMode.NONE, query.total())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidTotal_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .with(ApiTest.CATEGORIES_JWT)
+                .queryParam("total", "maybe")
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        response.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo("Invalid maybe for total")));
+
+        Mockito.verify(listCategoryUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenANdjsonStream_whenCallsCreateInBulk_shouldStreamOneResultPerLine() throws Exception {
+        final var expectedMessage = "'name' should not be null";
+        final var body = String.join("\n",
+                "{\"name\":\"Filmes\",\"description\":\"A categoria mais assistida\"}",
+                "{\"name\":",
+                "",
+                "{\"description\":\"Sem nome\",\"is_active\":false}"
+        );
+
+        Mockito.when(createCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(List.of(
+                        BulkItemOutput.created("123"),
+                        BulkItemOutput.failed(Notification.create(new Error(expectedMessage)))
+                ));
+
+        final var request = MockMvcRequestBuilders.post("/categories/bulk")
+                .with(ApiTest.CATEGORIES_JWT)
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(body);
+
+        final var result = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(result));
+
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE));
+
+        final var lines = response.andReturn().getResponse().getContentAsString().split("\n");
+
+        Assertions.assertEquals(3, lines.length);
+        Assertions.assertEquals("{\"line\":1,\"id\":\"123\",\"errors\":[]}", lines[0]);
+        Assertions.assertEquals("{\"line\":2,\"id\":null,\"errors\":[{\"message\":\"Malformed JSON line\"}]}", lines[1]);
+        Assertions.assertEquals("{\"line\":4,\"id\":null,\"errors\":[{\"message\":\"%s\"}]}".formatted(expectedMessage), lines[2]);
+
+        Mockito.verify(createCategoriesUseCase, Mockito.times(1)).execute(Mockito.argThat(commands ->
+                commands.size() == 2
+                        && Objects.equals("Filmes", commands.get(0).name())
+                        && commands.get(0).isActive()
+                        && Objects.isNull(commands.get(1).name())
+                        && !commands.get(1).isActive()
+        ));
+    }
 }
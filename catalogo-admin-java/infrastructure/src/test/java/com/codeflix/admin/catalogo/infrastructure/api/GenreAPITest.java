@@ -4,9 +4,12 @@ import com.codeflix.admin.catalogo.ApiTest;
 import com.codeflix.admin.catalogo.ControllerTest;
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreOutput;
 import com.codeflix.admin.catalogo.application.genre.create.CreateGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.create.CreateGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.delete.DeleteGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.export.ExportGenresUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.GenreOutput;
 import com.codeflix.admin.catalogo.application.genre.retrieve.get.GetGenreUseCase;
+import com.codeflix.admin.catalogo.application.genre.retrieve.get.GetGenreVersionUseCase;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.GenreListOutput;
 import com.codeflix.admin.catalogo.application.genre.retrieve.list.ListGenreUseCase;
 import com.codeflix.admin.catalogo.application.genre.update.UpdateGenreOutput;
@@ -22,6 +25,7 @@ import com.codeflix.admin.catalogo.infrastructure.genre.models.CreateGenreReques
 import com.codeflix.admin.catalogo.infrastructure.genre.models.UpdateGenreRequest;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -32,8 +36,10 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 @ControllerTest(controllers = GenreAPI.class)
 public class GenreAPITest {
@@ -46,13 +52,19 @@ public class GenreAPITest {
     @MockitoBean
     private CreateGenreUseCase createGenreUseCase;
     @MockitoBean
+    private CreateGenresUseCase createGenresUseCase;
+    @MockitoBean
     private GetGenreUseCase getGenreUseCase;
     @MockitoBean
+    private GetGenreVersionUseCase getGenreVersionUseCase;
+    @MockitoBean
     private UpdateGenreUseCase updateGenreUseCase;
     @MockitoBean
     private DeleteGenreUseCase deleteGenreUseCase;
     @MockitoBean
     private ListGenreUseCase listGenreUseCase;
+    @MockitoBean
+    private ExportGenresUseCase exportGenresUseCase;
 
     @Test
     public void givenValidCommand_whenCallsCreateGenre_shouldReturnGenreId() throws Exception {
@@ -317,5 +329,55 @@ public class GenreAPITest {
                         && Objects.equals(expectedTerms, query.terms())
         ));
     }
-}
 
+    @Test
+    public void givenAValidFormat_whenCallsExport_shouldStreamEveryGenreAsCsv() throws Exception {
+        final var genre = Genre.newGenre("Ação, \"Aventura\"", true)
+                .addCategories(List.of(CategoryID.from("456"), CategoryID.from("123")));
+
+        Mockito.doAnswer(invocation -> {
+            final Consumer<GenreOutput> consumer = invocation.getArgument(0);
+            consumer.accept(GenreOutput.from(genre));
+            return null;
+        }).when(exportGenresUseCase).execute(Mockito.any());
+
+        final var request = MockMvcRequestBuilders.get("/genres/export")
+                .with(ApiTest.GENRES_JWT)
+                .queryParam("format", "csv");
+
+        final var result = this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(MockMvcRequestBuilders.asyncDispatch(result))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", "text/csv"))
+                .andExpect(MockMvcResultMatchers.header().string("Content-Disposition", "attachment; filename=\"genres.csv\""));
+
+        final var lines = response.andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals("id,name,categories_id,is_active,created_at,updated_at,deleted_at", lines[0]);
+        Assertions.assertEquals(
+                "%s,\"Ação, \"\"Aventura\"\"\",123|456,true,%s,%s,".formatted(
+                        genre.getId().getValue(),
+                        genre.getCreatedAt(),
+                        genre.getUpdatedAt()
+                ),
+                lines[1]
+        );
+    }
+
+    @Test
+    public void givenAnInvalidFormat_whenCallsExport_shouldReturnUnprocessableEntity() throws Exception {
+        final var request = MockMvcRequestBuilders.get("/genres/export")
+                .with(ApiTest.GENRES_JWT)
+                .queryParam("format", "xml");
+
+        this.mvc.perform(request)
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.errors[0].message", Matchers.equalTo("Invalid xml for format")));
+
+        Mockito.verify(exportGenresUseCase, Mockito.never()).execute(Mockito.any());
+    }
+}
@@ -1,12 +1,16 @@
 package com.codeflix.admin.catalogo.infrastructure.api;
 
 import com.codeflix.admin.catalogo.ApiTest;
+import com.codeflix.admin.catalogo.application.video.retrieve.export.ExportVideosUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.facets.FacetVideosUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.facets.VideoFacetsOutput;
 import com.codeflix.admin.catalogo.domain.Fixture;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.codeflix.admin.catalogo.ControllerTest;
 import com.codeflix.admin.catalogo.application.video.create.CreateVideoCommand;
 import com.codeflix.admin.catalogo.application.video.create.CreateVideoOutput;
 import com.codeflix.admin.catalogo.application.video.create.CreateVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.create.CreateVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.delete.DeleteVideoUseCase;
 import com.codeflix.admin.catalogo.application.video.media.get.GetMediaCommand;
 import com.codeflix.admin.catalogo.application.video.media.get.GetMediaUseCase;
@@ -14,7 +18,9 @@ import com.codeflix.admin.catalogo.application.video.media.get.MediaOutput;
 import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaCommand;
 import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaOutput;
 import com.codeflix.admin.catalogo.application.video.media.upload.UploadMediaUseCase;
+import com.codeflix.admin.catalogo.application.video.media.upload.resumable.*;
 import com.codeflix.admin.catalogo.application.video.retrieve.get.GetVideoUseCase;
+import com.codeflix.admin.catalogo.application.video.retrieve.get.GetVideoVersionUseCase;
 import com.codeflix.admin.catalogo.application.video.retrieve.get.VideoOutput;
 import com.codeflix.admin.catalogo.application.video.retrieve.list.ListVideosUseCase;
 import com.codeflix.admin.catalogo.application.video.retrieve.list.VideoListOutput;
@@ -43,6 +49,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import static com.codeflix.admin.catalogo.domain.Utils.CollectionUtils.mapTo;
@@ -65,17 +72,33 @@ public class VideoAPITest {
     @MockitoBean
     private CreateVideoUseCase createVideoUseCase;
     @MockitoBean
+    private CreateVideosUseCase createVideosUseCase;
+    @MockitoBean
     private GetVideoUseCase getVideoUseCase;
     @MockitoBean
+    private GetVideoVersionUseCase getVideoVersionUseCase;
+    @MockitoBean
     private UpdateVideoUseCase updateVideoUseCase;
     @MockitoBean
     private DeleteVideoUseCase deleteVideoUseCase;
     @MockitoBean
     private ListVideosUseCase listVideosUseCase;
     @MockitoBean
+    private ExportVideosUseCase exportVideosUseCase;
+    @MockitoBean
+    private FacetVideosUseCase facetVideosUseCase;
+    @MockitoBean
     private GetMediaUseCase getMediaUseCase;
     @MockitoBean
     private UploadMediaUseCase uploadMediaUseCase;
+    @MockitoBean
+    private CreateMediaUploadUseCase createMediaUploadUseCase;
+    @MockitoBean
+    private AppendMediaUploadUseCase appendMediaUploadUseCase;
+    @MockitoBean
+    private GetMediaUploadUseCase getMediaUploadUseCase;
+    @MockitoBean
+    private CompleteMediaUploadUseCase completeMediaUploadUseCase;
 
     @Test
     public void givenValidCommand_whenCallsCreateFull_shouldReturnAnId() throws Exception {
@@ -425,7 +448,7 @@ public class VideoAPITest {
         );
 
         when(updateVideoUseCase.execute(any()))
-                .thenReturn(new UpdateVideoOutput(expectedId.getValue()));
+                .thenReturn(new UpdateVideoOutput(expectedId.getValue(), null));
 
 
         final var request = put("/videos/{id}", expectedId.getValue())
@@ -595,6 +618,42 @@ public class VideoAPITest {
         Assertions.assertEquals(Set.of(GenreID.from(expectedGenres)), actualQuery.genres());
     }
 
+    @Test
+    public void givenPreviewsReadWithAndWithoutReferences_whenCallsListVideos_shouldOnlyReturnTheKnownReferences() throws Exception {
+        final var withoutReferences = new VideoPreview(Fixture.video());
+        final var withReferences = new VideoPreview(
+                "123",
+                "Breaking Bad",
+                "A série",
+                withoutReferences.createdAt(),
+                withoutReferences.updatedAt(),
+                List.of(new VideoPreview.Reference("456", "Séries")),
+                List.of(),
+                List.of()
+        );
+
+        final var expectedItems = List.of(VideoListOutput.from(withoutReferences), VideoListOutput.from(withReferences));
+
+        when(listVideosUseCase.execute(any()))
+                .thenReturn(new Pagination<>(0, 25, 2, expectedItems));
+
+        final var request = get("/videos")
+                .with(ApiTest.VIDEOS_JWT)
+                .accept(MediaType.APPLICATION_JSON);
+
+        this.mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(2)))
+                .andExpect(jsonPath("$.items[0].categories").doesNotExist())
+                .andExpect(jsonPath("$.items[0].genres").doesNotExist())
+                .andExpect(jsonPath("$.items[0].cast_members").doesNotExist())
+                .andExpect(jsonPath("$.items[1].categories", hasSize(1)))
+                .andExpect(jsonPath("$.items[1].categories[0].id", equalTo("456")))
+                .andExpect(jsonPath("$.items[1].categories[0].name", equalTo("Séries")))
+                .andExpect(jsonPath("$.items[1].genres", hasSize(0)))
+                .andExpect(jsonPath("$.items[1].cast_members", hasSize(0)));
+    }
+
     @Test
     public void givenEmptyParams_whenCallsListVideosWithDefaultValues_shouldReturnPagination() throws Exception {
         final var video = new VideoPreview(Fixture.video());
@@ -645,6 +704,50 @@ public class VideoAPITest {
         Assertions.assertTrue(actualQuery.genres().isEmpty());
     }
 
+    @Test
+    public void givenFilters_whenCallsFacets_shouldReturnCountsPerValue() throws Exception {
+        final var expectedCategories = "cat1";
+        final var expectedTerms = "Algo";
+
+        when(facetVideosUseCase.execute(any()))
+                .thenReturn(new VideoFacetsOutput(
+                        2,
+                        Map.of(expectedCategories, 2L),
+                        Map.of("gen1", 1L),
+                        Map.of(),
+                        Map.of("L", 2L),
+                        Map.of("true", 1L, "false", 1L),
+                        Map.of("COMPLETED", 2L),
+                        Map.of()
+                ));
+
+        final var request = get("/videos/facets")
+                .with(ApiTest.VIDEOS_JWT)
+                .queryParam("search", expectedTerms)
+                .queryParam("categories_ids", expectedCategories)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(2)))
+                .andExpect(jsonPath("$.categories.cat1", equalTo(2)))
+                .andExpect(jsonPath("$.genres.gen1", equalTo(1)))
+                .andExpect(jsonPath("$.ratings.L", equalTo(2)))
+                .andExpect(jsonPath("$.published.false", equalTo(1)))
+                .andExpect(jsonPath("$.video_status.COMPLETED", equalTo(2)));
+
+        final var captor = ArgumentCaptor.forClass(VideoSearchQuery.class);
+
+        verify(facetVideosUseCase).execute(captor.capture());
+
+        final var actualQuery = captor.getValue();
+        Assertions.assertEquals(expectedTerms, actualQuery.terms());
+        Assertions.assertEquals(Set.of(CategoryID.from(expectedCategories)), actualQuery.categories());
+        Assertions.assertEquals(Set.of(), actualQuery.castMembers());
+        Assertions.assertEquals(Set.of(), actualQuery.genres());
+    }
+
     @Test
     public void givenValidVideoIdAndFileType_whenCallsGetMediaById_shouldReturnContent() throws Exception {
         final var expectedId = VideoID.unique();
@@ -652,19 +755,25 @@ public class VideoAPITest {
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
 
-        final var expectedMedia = new MediaOutput(expectedResource.content(), expectedResource.contentType(), expectedResource.name());
+        final var expectedMedia = MediaOutput.with(expectedResource, expectedResource.checksum());
 
         when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
         final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
         .with(ApiTest.VIDEOS_JWT);
 
-        final var response = this.mvc.perform(request);
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
 
         response.andExpect(status().isOk())
                 .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
                 .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
                 .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
+                .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedMedia.checksum())))
+                .andExpect(header().string(ACCEPT_RANGES, "bytes"))
                 .andExpect(content().bytes(expectedMedia.content()));
 
         final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
@@ -676,6 +785,102 @@ public class VideoAPITest {
         Assertions.assertEquals(expectedMediaType.name(), actualCommand.mediaType());
     }
 
+    @Test
+    public void givenValidRange_whenCallsGetMediaById_shouldReturnPartialContent() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedMedia = MediaOutput.with(expectedResource, expectedResource.checksum());
+        final var expectedContent = "teud".getBytes();
+
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .with(ApiTest.VIDEOS_JWT)
+                .header(RANGE, "bytes=3-6");
+
+        final var result = this.mvc.perform(request)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        final var response = this.mvc.perform(asyncDispatch(result));
+
+        response.andExpect(status().isPartialContent())
+                .andExpect(header().string(CONTENT_RANGE, "bytes 3-6/%s".formatted(expectedResource.length())))
+                .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedContent.length)))
+                .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    public void givenUnsatisfiableRange_whenCallsGetMediaById_shouldReturnRangeNotSatisfiable() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.with(expectedResource, expectedResource.checksum()));
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .with(ApiTest.VIDEOS_JWT)
+                .header(RANGE, "bytes=100-200");
+
+        final var response = this.mvc.perform(request);
+
+        response.andExpect(status().isRequestedRangeNotSatisfiable())
+                .andExpect(header().string(CONTENT_RANGE, "bytes */%s".formatted(expectedResource.length())));
+    }
+
+    @Test
+    public void givenMatchingETag_whenCallsGetMediaById_shouldReturnNotModified() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.BANNER;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedMedia = MediaOutput.with(expectedResource, expectedResource.checksum());
+        final var expectedETag = "\"%s\"".formatted(expectedMedia.checksum());
+
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        final var request = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .with(ApiTest.VIDEOS_JWT)
+                .header(IF_NONE_MATCH, expectedETag);
+
+        final var response = this.mvc.perform(request);
+
+        response.andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag))
+                .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    public void givenWeakOrEmbeddingETags_whenCallsGetMediaById_shouldCompareWholeTagsOnly() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.BANNER;
+        final var expectedResource = Fixture.Videos.resource(expectedMediaType);
+        final var expectedMedia = MediaOutput.with(expectedResource, expectedResource.checksum());
+        final var expectedETag = "\"%s\"".formatted(expectedMedia.checksum());
+
+        when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
+
+        final var weakRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .with(ApiTest.VIDEOS_JWT)
+                .header(IF_NONE_MATCH, "W/" + expectedETag);
+
+        this.mvc.perform(weakRequest)
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(ETAG, expectedETag));
+
+        final var embeddingRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType.name())
+                .with(ApiTest.VIDEOS_JWT)
+                .header(IF_NONE_MATCH, "x" + expectedETag);
+
+        final var result = this.mvc.perform(embeddingRequest)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        this.mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().bytes(expectedMedia.content()));
+    }
+
     @Test
     public void givenValidVideoIdAndFile_whenCallsUploadMedia_shouldStoreIt() throws Exception {
         final var expectedId = VideoID.unique();
@@ -708,7 +913,7 @@ public class VideoAPITest {
 
         final var actualCommand = captor.getValue();
         Assertions.assertEquals(expectedId.getValue(), actualCommand.videoId());
-        Assertions.assertEquals(expectedResource.content(), actualCommand.videoResource().resource().content());
+        Assertions.assertArrayEquals(expectedResource.content(), actualCommand.videoResource().resource().content());
         Assertions.assertEquals(expectedResource.name(), actualCommand.videoResource().resource().name());
         Assertions.assertEquals(expectedResource.contentType(), actualCommand.videoResource().resource().contentType());
         Assertions.assertEquals(expectedType, actualCommand.videoResource().type());
@@ -734,4 +939,90 @@ public class VideoAPITest {
                 .andExpect(header().string(CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(jsonPath("$.message", equalTo("Invalid INVALID for VideoMediaType")));
     }
+
+    @Test
+    public void givenValidChunk_whenCallsAppendMediaUpload_shouldReturnCommittedOffset() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUploadId = "123";
+        final var expectedChunk = "Conteudo".getBytes();
+        final var expectedOffset = 1024L;
+        final var expectedLength = 4096L;
+
+        when(appendMediaUploadUseCase.execute(any()))
+                .thenReturn(new MediaUploadOutput(expectedUploadId, expectedId.getValue(), expectedType, expectedOffset + expectedChunk.length, expectedLength));
+
+        final var request = put("/videos/{id}/medias/{type}/uploads/{uploadId}", expectedId.getValue(), expectedType.name(), expectedUploadId)
+                .with(ApiTest.VIDEOS_JWT)
+                .header(CONTENT_RANGE, "bytes %s-%s/%s".formatted(expectedOffset, expectedOffset + expectedChunk.length - 1, expectedLength))
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .accept(MediaType.APPLICATION_JSON)
+                .content(expectedChunk);
+
+        final var response = this.mvc.perform(request);
+
+        response.andExpect(status().isOk())
+                .andExpect(jsonPath("$.upload_id", equalTo(expectedUploadId)))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.offset", equalTo((int) (expectedOffset + expectedChunk.length))))
+                .andExpect(jsonPath("$.length", equalTo((int) expectedLength)));
+
+        final var captor = ArgumentCaptor.forClass(AppendMediaUploadCommand.class);
+
+        verify(this.appendMediaUploadUseCase).execute(captor.capture());
+
+        final var actualCommand = captor.getValue();
+        Assertions.assertEquals(expectedId.getValue(), actualCommand.videoId());
+        Assertions.assertEquals(expectedType.name(), actualCommand.mediaType());
+        Assertions.assertEquals(expectedUploadId, actualCommand.uploadId());
+        Assertions.assertEquals(expectedOffset, actualCommand.offset());
+        Assertions.assertEquals(Long.valueOf(expectedChunk.length), actualCommand.length());
+    }
+
+    @Test
+    public void givenInvalidContentRange_whenCallsAppendMediaUpload_shouldReturnError() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedErrorMessage = "Invalid Content-Range items 0-1/2";
+
+        final var request = put("/videos/{id}/medias/VIDEO/uploads/123", expectedId.getValue())
+                .with(ApiTest.VIDEOS_JWT)
+                .header(CONTENT_RANGE, "items 0-1/2")
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .accept(MediaType.APPLICATION_JSON)
+                .content("ab".getBytes());
+
+        final var response = this.mvc.perform(request);
+
+        response.andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+
+        verify(this.appendMediaUploadUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenFinishedUpload_whenCallsCompleteMediaUpload_shouldReturnCreated() throws Exception {
+        final var expectedId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedUploadId = "123";
+
+        when(completeMediaUploadUseCase.execute(any()))
+                .thenReturn(new UploadMediaOutput(expectedId.getValue(), expectedType));
+
+        final var request = post("/videos/{id}/medias/{type}/uploads/{uploadId}/complete", expectedId.getValue(), expectedType.name(), expectedUploadId)
+                .with(ApiTest.VIDEOS_JWT)
+                .accept(MediaType.APPLICATION_JSON);
+
+        final var response = this.mvc.perform(request);
+
+        response.andExpect(status().isCreated())
+                .andExpect(header().string(LOCATION, "/videos/%s/medias/%s".formatted(expectedId.getValue(), expectedType.name())))
+                .andExpect(jsonPath("$.video_id", equalTo(expectedId.getValue())))
+                .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+        verify(this.completeMediaUploadUseCase).execute(argThat(cmd ->
+                expectedId.getValue().equals(cmd.videoId())
+                        && expectedType.name().equals(cmd.mediaType())
+                        && expectedUploadId.equals(cmd.uploadId())
+        ));
+    }
 }
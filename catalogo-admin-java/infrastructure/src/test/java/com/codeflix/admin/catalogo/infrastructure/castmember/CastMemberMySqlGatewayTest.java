@@ -6,15 +6,25 @@ import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
 import com.codeflix.admin.catalogo.domain.castmember.CastMemberType;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberPreviewJpaEntity;
 import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
 import com.codeflix.admin.catalogo.infrastructure.utils.InstantUtils;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 @MySqlGatewayTest
@@ -26,6 +36,9 @@ public class CastMemberMySqlGatewayTest {
     @Autowired
     private CastMemberRepository castMemberRepository;
 
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     @Test
     public void testDependencies() {
         Assertions.assertNotNull(castMemberGateway);
@@ -113,6 +126,29 @@ public class CastMemberMySqlGatewayTest {
         Assertions.assertEquals(expectedId.getValue().trim(), actualMember.get(0).getValue().trim());
     }
 
+    @Test
+    public void givenCheckedCastMembers_whenDeletedOnlyThroughTheGateway_shouldForgetOnlyThoseIds() {
+        final var members = new ArrayList<CastMemberJpaEntity>();
+        for (int i = 0; i < 300; i++) {
+            members.add(CastMemberJpaEntity.from(CastMember.newMember("Member " + i, CastMemberType.ACTOR)));
+        }
+        castMemberRepository.saveAllAndFlush(members);
+
+        final var ids = members.stream().map(it -> CastMemberID.from(it.getId())).toList();
+
+        Assertions.assertEquals(300, castMemberGateway.existsByIds(ids).size());
+
+        castMemberRepository.deleteById(ids.get(0).getValue());
+        castMemberGateway.deleteById(ids.get(1));
+
+        final var actualIds = castMemberGateway.existsByIds(ids).stream()
+                .map(it -> it.getValue().trim())
+                .toList();
+
+        Assertions.assertEquals(299, actualIds.size());
+        Assertions.assertTrue(actualIds.contains(ids.get(0).getValue().trim()));
+        Assertions.assertFalse(actualIds.contains(ids.get(1).getValue().trim()));
+    }
 
     @Test
     public void givenValidCastMember_whenDeleteById_shouldDeleteIt() {
@@ -224,7 +260,7 @@ public class CastMemberMySqlGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualPage.perPage());
         Assertions.assertEquals(expectedTotal, actualPage.total());
         Assertions.assertEquals(expectedItemsCount, actualPage.items().size());
-        Assertions.assertEquals(expectedName, actualPage.items().get(0).getName());
+        Assertions.assertEquals(expectedName, actualPage.items().get(0).name());
     }
 
     @ParameterizedTest
@@ -256,7 +292,7 @@ public class CastMemberMySqlGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualPage.perPage());
         Assertions.assertEquals(expectedTotal, actualPage.total());
         Assertions.assertEquals(expectedItemsCount, actualPage.items().size());
-        Assertions.assertEquals(expectedName, actualPage.items().get(0).getName());
+        Assertions.assertEquals(expectedName, actualPage.items().get(0).name());
     }
 
     @ParameterizedTest
@@ -290,11 +326,37 @@ public class CastMemberMySqlGatewayTest {
 
         int index = 0;
         for (final var expectedName : expectedNames.split(";")) {
-            Assertions.assertEquals(expectedName, actualPage.items().get(index).getName());
+            Assertions.assertEquals(expectedName, actualPage.items().get(index).name());
             index++;
         }
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenPrePersistedMembers_whenCallsFindAll_shouldReadTheListedColumnsInsteadOfTheAggregates() {
+        mockMembers();
+
+        final var stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        stats.clear();
+
+        final var actualPage = castMemberGateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(5, actualPage.items().size());
+        Assertions.assertEquals("Jason Momoa", actualPage.items().get(0).name());
+        Assertions.assertEquals(CastMemberType.ACTOR, actualPage.items().get(0).type());
+        Assertions.assertEquals(0, stats.getEntityStatistics(CastMemberJpaEntity.class.getName()).getLoadCount());
+        Assertions.assertEquals(5, stats.getEntityStatistics(CastMemberPreviewJpaEntity.class.getName()).getLoadCount());
+
+        final var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        final var actualColumns = entityManagerFactory.getMetamodel().entity(CastMemberPreviewJpaEntity.class).getAttributes().stream()
+                .map(Attribute::getName)
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(Set.of("id", "name", "type", "createdAt", "updatedAt"), actualColumns);
+        Assertions.assertFalse(sessionFactory.getMappingMetamodel().getEntityDescriptor(CastMemberPreviewJpaEntity.class).isMutable());
+    }
+
     private void mockMembers() {
         final var members = Stream.of(
                         CastMember.newMember("Kit Harington", CastMemberType.ACTOR),
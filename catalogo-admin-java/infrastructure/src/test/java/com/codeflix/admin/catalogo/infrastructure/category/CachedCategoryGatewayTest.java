@@ -0,0 +1,106 @@
+package com.codeflix.admin.catalogo.infrastructure.category;
+
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.infrastructure.cache.AggregateCache;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.cache.CacheProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+
+public class CachedCategoryGatewayTest {
+
+    private static final int READS = 1_000;
+
+    private CategoryGateway delegate;
+    private AggregateCache<Category> cache;
+    private CachedCategoryGateway target;
+
+    @BeforeEach
+    public void setUp() {
+        final var props = new CacheProperties();
+        props.setMaxSize(100);
+        props.setTtl(60);
+
+        this.delegate = Mockito.mock(CategoryGateway.class);
+        this.cache = AggregateCache.create("categories", props, Category::with);
+        this.target = new CachedCategoryGateway(this.delegate, this.cache);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdAgain_shouldNotHitTheDelegateNorShareTheInstance() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        final var firstRead = target.findById(category.getId()).get();
+        firstRead.update("Changed by a caller", null, false);
+
+        final var secondRead = target.findById(category.getId()).get();
+
+        Assertions.assertEquals("Filmes", secondRead.getName());
+        Assertions.assertNotSame(firstRead, secondRead);
+        Assertions.assertEquals(1, cache.stats().hitCount());
+        Mockito.verify(delegate, Mockito.times(1)).findById(category.getId());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldReadTheNewStateFromTheDelegate() {
+        final var category = Category.newCategory("Filmes", null, true);
+        final var updated = Category.with(category).update("Séries", null, true);
+        Mockito.when(delegate.findById(category.getId()))
+                .thenReturn(Optional.of(category))
+                .thenReturn(Optional.of(updated));
+        Mockito.when(delegate.update(Mockito.any())).thenReturn(updated);
+
+        target.findById(category.getId());
+        target.update(updated);
+
+        Assertions.assertEquals("Séries", target.findById(category.getId()).get().getName());
+        Mockito.verify(delegate, Mockito.times(2)).findById(category.getId());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsDeleteById_shouldForgetIt() {
+        final var category = Category.newCategory("Filmes", null, true);
+        Mockito.when(delegate.findById(category.getId()))
+                .thenReturn(Optional.of(category))
+                .thenReturn(Optional.empty());
+
+        target.findById(category.getId());
+        target.deleteById(category.getId());
+
+        Assertions.assertTrue(target.findById(category.getId()).isEmpty());
+        Mockito.verify(delegate).deleteById(category.getId());
+    }
+
+    @Test
+    public void givenAMissingCategory_whenCallsFindById_shouldNotCacheTheAbsence() {
+        final var id = CategoryID.unique();
+        Mockito.when(delegate.findById(id)).thenReturn(Optional.empty());
+
+        target.findById(id);
+        target.findById(id);
+
+        Assertions.assertEquals(0, cache.size());
+        Mockito.verify(delegate, Mockito.times(2)).findById(id);
+    }
+
+    @Test
+    public void givenACachedCategory_whenReadRepeatedly_shouldServeEveryReadAfterTheFirstFromTheCache() {
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        Mockito.when(delegate.findById(category.getId())).thenReturn(Optional.of(category));
+
+        for (int i = 0; i < READS; i++) {
+            Assertions.assertEquals("Filmes", target.findById(category.getId()).get().getName());
+        }
+
+        Assertions.assertEquals(READS - 1, cache.stats().hitCount());
+        Assertions.assertEquals(1, cache.stats().missCount());
+        Assertions.assertEquals(1, cache.size());
+        Mockito.verify(delegate, Mockito.times(1)).findById(category.getId());
+    }
+}
@@ -1,16 +1,35 @@
 package com.codeflix.admin.catalogo.infrastructure.category;
 
+import com.codeflix.admin.catalogo.domain.Utils.InstantUtils;
 import com.codeflix.admin.catalogo.domain.category.Category;
 import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.category.CategoryPreview;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
+import com.codeflix.admin.catalogo.domain.exceptions.StaleVersionException;
 import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
+import com.codeflix.admin.catalogo.domain.pagination.TotalMode;
 import com.codeflix.admin.catalogo.MySqlGatewayTest;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryPreviewJpaEntity;
 import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.admin.catalogo.infrastructure.utils.SearchUtils;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.Attribute;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @MySqlGatewayTest
 public class CategoryMySqlGatewayTest {
@@ -19,6 +38,10 @@ public class CategoryMySqlGatewayTest {
     private CategoryMySqlGateway gateway;
     @Autowired
     private CategoryRepository repository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
 
     @Test
     public void givenValidCategory_whenCallsCreate_shouldReturnNewCategory() {
@@ -49,6 +72,16 @@ public class CategoryMySqlGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenAMalformedId_whenCallsCreate_shouldFailInsteadOfStoringANullId() {
+        final var now = InstantUtils.now();
+        final var category = Category.with(CategoryID.from("123"), "Filmes", null, true, now, now, null);
+
+        Assertions.assertThrows(RuntimeException.class, () -> gateway.create(category));
+        Assertions.assertEquals(0, repository.count());
+    }
+
     @Test
     public void givenValidCategory_whenCallsUpdate_shouldReturnNewCategory() {
         final var expectedName = "Filmes";
@@ -83,6 +116,23 @@ public class CategoryMySqlGatewayTest {
         Assertions.assertNull(actualEntity.getDeletedAt());
     }
 
+    @Test
+    public void givenAVersionedCategory_whenCallsUpdateWithAnOutdatedVersion_shouldThrowStaleVersionException() {
+        final var category = Category.newCategory("Filmes", null, true);
+
+        final var created = gateway.create(category);
+        Assertions.assertEquals(0L, created.getVersion());
+        Assertions.assertEquals(Optional.of(0L), gateway.findVersion(category.getId()));
+        Assertions.assertEquals(Optional.empty(), gateway.findVersion(CategoryID.from("missing")));
+
+        final var updated = gateway.update(Category.with(created).update("Séries", null, true));
+        Assertions.assertEquals(1L, updated.getVersion());
+        Assertions.assertEquals(Optional.of(1L), gateway.findVersion(category.getId()));
+
+        final var outdated = Category.with(created).update("Documentários", null, true);
+        Assertions.assertThrows(StaleVersionException.class, () -> gateway.update(outdated));
+    }
+
     @Test
     public void givenPrePersistedCategoryAndValidCategoryId_whenTryToDeletedIt_shouldDeleteCategory() {
         final var category = Category.newCategory("Filmes", null, true);
@@ -165,7 +215,7 @@ public class CategoryMySqlGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(documentarios.getId().getValue().trim(), actualResult.items().get(0).getId().getValue().trim());
+        Assertions.assertEquals(documentarios.getId().getValue().trim(), actualResult.items().get(0).id().trim());
     }
 
     @Test
@@ -212,7 +262,7 @@ public class CategoryMySqlGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(documentarios.getId().getValue().trim(), actualResult.items().get(0).getId().getValue().trim());
+        Assertions.assertEquals(documentarios.getId().getValue().trim(), actualResult.items().get(0).id().trim());
 
         expectedPage = 1;
         query = new SearchQuery(expectedPage, 1, "", "name", "asc");
@@ -222,7 +272,7 @@ public class CategoryMySqlGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(filmes.getId().getValue().trim(), actualResult.items().get(0).getId().getValue().trim());
+        Assertions.assertEquals(filmes.getId().getValue().trim(), actualResult.items().get(0).id().trim());
 
         expectedPage = 2;
         query = new SearchQuery(expectedPage, 1, "", "name", "asc");
@@ -232,7 +282,188 @@ public class CategoryMySqlGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(series.getId().getValue().trim(), actualResult.items().get(0).getId().getValue().trim());
+        Assertions.assertEquals(series.getId().getValue().trim(), actualResult.items().get(0).id().trim());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithCursor_shouldWalkEveryPageOnce() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "Some description", true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var firstPage = gateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+
+        Assertions.assertEquals(documentarios.getId().getValue().trim(), firstPage.items().get(0).id().trim());
+        Assertions.assertNotNull(firstPage.next());
+
+        final var secondPage = gateway.findAll(new SearchQuery(0, 1, "", "name", "asc", firstPage.next()));
+
+        Assertions.assertEquals(3, secondPage.total());
+        Assertions.assertEquals(1, secondPage.items().size());
+        Assertions.assertEquals(filmes.getId().getValue().trim(), secondPage.items().get(0).id().trim());
+        Assertions.assertNotNull(secondPage.next());
+
+        final var lastPage = gateway.findAll(new SearchQuery(0, 1, "", "name", "asc", secondPage.next()));
+
+        Assertions.assertEquals(series.getId().getValue().trim(), lastPage.items().get(0).id().trim());
+        Assertions.assertNull(lastPage.next());
+    }
+
+    @Test
+    public void givenCategoriesWithNullDescriptions_whenCallsFindAllWithCursorByDescription_shouldNotSkipAny() {
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", "Some description", true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        for (final var direction : List.of("asc", "desc")) {
+            final var actualIds = new ArrayList<String>();
+
+            var actualResult = gateway.findAll(new SearchQuery(0, 1, "", "description", direction));
+            actualResult.items().forEach(it -> actualIds.add(it.id().trim()));
+
+            while (actualResult.next() != null) {
+                actualResult = gateway.findAll(new SearchQuery(0, 1, "", "description", direction, actualResult.next()));
+                actualResult.items().forEach(it -> actualIds.add(it.id().trim()));
+            }
+
+            Assertions.assertEquals(3, actualIds.size());
+            Assertions.assertEquals(
+                    Set.of(filmes.getId().getValue(), series.getId().getValue(), documentarios.getId().getValue()),
+                    Set.copyOf(actualIds)
+            );
+        }
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllWithoutTotal_shouldReturnHasMoreInsteadOfCount() {
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var firstPage = gateway.findAll(new SearchQuery(0, 1, "", "name", "asc", null, TotalMode.NONE));
+
+        Assertions.assertEquals(-1, firstPage.total());
+        Assertions.assertEquals(1, firstPage.items().size());
+        Assertions.assertTrue(firstPage.hasMore());
+
+        final var lastPage = gateway.findAll(new SearchQuery(1, 1, "", "name", "asc", null, TotalMode.NONE));
+
+        Assertions.assertEquals(-1, lastPage.total());
+        Assertions.assertEquals(1, lastPage.items().size());
+        Assertions.assertFalse(lastPage.hasMore());
+        Assertions.assertNull(lastPage.next());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenAnEstimatedTotal_whenCallsFindAll_shouldCountTheSearchIndexInsteadOfTheTable() {
+        final var query = new SearchQuery(0, 10, "", "name", "asc", null, TotalMode.ESTIMATE);
+
+        gateway.create(Category.newCategory("Filmes", null, true));
+
+        Assertions.assertEquals(1, gateway.findAll(query).total());
+
+        // written behind the gateway's back, so the index does not know about it yet
+        repository.save(CategoryJpaEntity.from(Category.newCategory("Séries", null, true)));
+
+        Assertions.assertEquals(1, gateway.findAll(query).total());
+
+        gateway.create(Category.newCategory("Documentários", null, true));
+
+        final var actualResult = gateway.findAll(query);
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(3, actualResult.items().size());
+    }
+
+    @Test
+    public void givenAnEstimatedTotalAndTerms_whenCallsFindAll_shouldCountTheIndexHits() {
+        gateway.create(Category.newCategory("Filmes", null, true));
+        gateway.create(Category.newCategory("Filmes Antigos", null, true));
+        gateway.create(Category.newCategory("Séries", null, true));
+
+        final var actualResult = gateway.findAll(new SearchQuery(0, 1, "filmes", "name", "asc", null, TotalMode.ESTIMATE));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(1, actualResult.items().size());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenPrePersistedCategories_whenCallsFindAll_shouldReadWithoutFlushing() {
+        repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        stats.clear();
+
+        final var actualResult = gateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals(0, stats.getFlushCount());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenPrePersistedCategories_whenCallsFindAll_shouldReadTheListedColumnsInsteadOfTheAggregates() {
+        repository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", "A categoria mais assistida", true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, false))
+        ));
+
+        final var stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        stats.clear();
+
+        final var actualResult = gateway.findAll(new SearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2, actualResult.items().size());
+        Assertions.assertEquals("Filmes", actualResult.items().get(0).name());
+        Assertions.assertEquals("A categoria mais assistida", actualResult.items().get(0).description());
+        Assertions.assertFalse(actualResult.items().get(1).isActive());
+        Assertions.assertEquals(0, stats.getEntityStatistics(CategoryJpaEntity.class.getName()).getLoadCount());
+        Assertions.assertEquals(2, stats.getEntityStatistics(CategoryPreviewJpaEntity.class.getName()).getLoadCount());
+
+        final var sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        final var actualColumns = entityManagerFactory.getMetamodel().entity(CategoryPreviewJpaEntity.class).getAttributes().stream()
+                .map(Attribute::getName)
+                .collect(Collectors.toSet());
+
+        Assertions.assertEquals(Set.of("id", "name", "description", "active", "createdAt", "updatedAt", "deletedAt"), actualColumns);
+        Assertions.assertFalse(sessionFactory.getMappingMetamodel().getEntityDescriptor(CategoryPreviewJpaEntity.class).isMutable());
+    }
+
+    @Test
+    public void givenACursorOfAnotherSort_whenCallsFindAll_shouldThrowDomainException() {
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var firstPage = gateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.findAll(new SearchQuery(0, 1, "", "createdAt", "asc", firstPage.next()))
+        );
+
+        Assertions.assertEquals("'after' does not belong to this sort order", actualException.getMessage());
     }
 
     @Test
@@ -262,7 +493,7 @@ public class CategoryMySqlGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(documentarios.getId().getValue().trim(), actualResult.items().get(0).getId().getValue().trim());
+        Assertions.assertEquals(documentarios.getId().getValue().trim(), actualResult.items().get(0).id().trim());
     }
 
     @Test
@@ -292,7 +523,7 @@ public class CategoryMySqlGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(filmes.getId().getValue().trim(), actualResult.items().get(0).getId().getValue().trim());
+        Assertions.assertEquals(filmes.getId().getValue().trim(), actualResult.items().get(0).id().trim());
 
         query = new SearchQuery(0, 1, "MAIS ASSISTIDA", "name", "asc");
         actualResult = gateway.findAll(query);
@@ -301,7 +532,131 @@ public class CategoryMySqlGatewayTest {
         Assertions.assertEquals(expectedPerPage, actualResult.perPage());
         Assertions.assertEquals(expectedTotal, actualResult.total());
         Assertions.assertEquals(expectedPerPage, actualResult.items().size());
-        Assertions.assertEquals(filmes.getId().getValue().trim(), actualResult.items().get(0).getId().getValue().trim());
+        Assertions.assertEquals(filmes.getId().getValue().trim(), actualResult.items().get(0).id().trim());
+    }
+
+    @Test
+    public void givenAccentedTerms_whenCallsFindAllSortedByRelevance_shouldRankNameMatchesFirst() {
+        final var filmes = Category.newCategory("Filmes", "Séries e documentários em destaque", true);
+        final var series = Category.newCategory("Séries", "Temporadas completas", true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        repository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var actualResult = gateway.findAll(new SearchQuery(0, 10, "series", "relevance", "desc"));
+
+        Assertions.assertEquals(2, actualResult.total());
+        Assertions.assertEquals(series.getId().getValue().trim(), actualResult.items().get(0).id().trim());
+        Assertions.assertEquals(filmes.getId().getValue().trim(), actualResult.items().get(1).id().trim());
+        Assertions.assertFalse(actualResult.hasMore());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenALoadedIndex_whenCategoriesChangeThroughTheGateway_shouldSearchTheChanges() {
+        final var filmes = gateway.create(Category.newCategory("Filmes", null, true));
+
+        Assertions.assertEquals(1, gateway.findAll(new SearchQuery(0, 10, "film", "name", "asc")).total());
+
+        final var animes = gateway.create(Category.newCategory("Animes", null, true));
+        Assertions.assertEquals(1, gateway.findAll(new SearchQuery(0, 10, "anime", "name", "asc")).total());
+
+        gateway.update(filmes.clone().update("Curtas", null, true));
+        Assertions.assertEquals(0, gateway.findAll(new SearchQuery(0, 10, "film", "name", "asc")).total());
+
+        gateway.deleteById(animes.getId());
+        Assertions.assertEquals(0, gateway.findAll(new SearchQuery(0, 10, "anime", "name", "asc")).total());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenARolledBackCreate_whenCallsFindAll_shouldNotFindItInTheIndex() {
+        final var query = new SearchQuery(0, 10, "filmes", "name", "asc", null, TotalMode.ESTIMATE);
+        Assertions.assertEquals(0, gateway.findAll(query).total());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            gateway.create(Category.newCategory("Filmes", null, true));
+            status.setRollbackOnly();
+        });
+
+        Assertions.assertEquals(0, gateway.findAll(query).total());
+    }
+
+    @Test
+    public void givenNoTerms_whenCallsFindAllSortedByRelevance_shouldThrowDomainException() {
+        final var actualException = Assertions.assertThrows(
+                DomainException.class,
+                () -> gateway.findAll(new SearchQuery(0, 10, "", "relevance", "desc"))
+        );
+
+        Assertions.assertEquals("'relevance' sort requires search terms", actualException.getMessage());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenMoreHitsThanOneInListHolds_whenCallsFindAllSortedByName_shouldPageThemInsteadOfFailing() {
+        final var expectedTotal = SearchUtils.MAX_IDS + 50;
+        final var chunkSize = 500;
+
+        final var categories = new ArrayList<Category>(expectedTotal);
+        for (int i = 0; i < expectedTotal; i++) {
+            categories.add(Category.newCategory("Categoria %05d".formatted(i), null, true));
+        }
+        for (int from = 0; from < expectedTotal; from += chunkSize) {
+            gateway.createAll(categories.subList(from, Math.min(from + chunkSize, expectedTotal)));
+        }
+
+        final var firstPage = gateway.findAll(new SearchQuery(0, 10, "categoria", "name", "asc"));
+        Assertions.assertEquals(expectedTotal, firstPage.total());
+        Assertions.assertEquals(
+                List.of("Categoria 00000", "Categoria 00001", "Categoria 00002", "Categoria 00003", "Categoria 00004",
+                        "Categoria 00005", "Categoria 00006", "Categoria 00007", "Categoria 00008", "Categoria 00009"),
+                firstPage.items().stream().map(CategoryPreview::name).toList()
+        );
+
+        final var nextPage = gateway.findAll(new SearchQuery(0, 10, "categoria", "name", "asc", firstPage.next(), TotalMode.NONE));
+        Assertions.assertEquals("Categoria 00010", nextPage.items().get(0).name());
+        Assertions.assertEquals("Categoria 00019", nextPage.items().get(9).name());
+
+        final var lastPage = gateway.findAll(new SearchQuery(expectedTotal / 10 - 1, 10, "categoria", "name", "desc"));
+        Assertions.assertEquals("Categoria 00009", lastPage.items().get(0).name());
+        Assertions.assertEquals("Categoria 00000", lastPage.items().get(9).name());
+        Assertions.assertFalse(lastPage.hasMore());
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void givenTenThousandCategories_whenCallsCreateAllInChunks_shouldInsertThemInJdbcBatches() {
+        final var expectedTotal = 10_000;
+        final var chunkSize = 500;
+
+        final var categories = new ArrayList<Category>(expectedTotal);
+        for (int i = 0; i < expectedTotal; i++) {
+            categories.add(Category.newCategory("Categoria " + i, "Importada em lote", true));
+        }
+
+        final var stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        stats.clear();
+
+        var created = 0;
+        for (int from = 0; from < expectedTotal; from += chunkSize) {
+            created += gateway.createAll(categories.subList(from, from + chunkSize)).size();
+        }
+
+        Assertions.assertEquals(expectedTotal, created);
+        Assertions.assertEquals(expectedTotal, repository.count());
+        Assertions.assertEquals(expectedTotal, stats.getEntityInsertCount());
+        // a couple of statements per chunk instead of one per row
+        Assertions.assertTrue(stats.getPrepareStatementCount() <= expectedTotal / chunkSize * 2,
+                "prepared " + stats.getPrepareStatementCount());
+
+        final var expectedId = categories.get(42).getId().getValue();
+        final var actualSearch = gateway.findAll(new SearchQuery(0, 20, "Categoria 42", "relevance", "asc"));
+        Assertions.assertTrue(actualSearch.items().stream().anyMatch(it -> it.id().trim().equals(expectedId)));
+    }
 }
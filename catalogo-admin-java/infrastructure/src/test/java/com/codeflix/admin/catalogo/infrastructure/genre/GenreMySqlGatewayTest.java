@@ -9,15 +9,23 @@ import com.codeflix.admin.catalogo.domain.pagination.SearchQuery;
 import com.codeflix.admin.catalogo.infrastructure.category.CategoryMySqlGateway;
 import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
 import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.codeflix.admin.catalogo.infrastructure.utils.BatchUtils;
 import com.codeflix.admin.catalogo.infrastructure.utils.InstantUtils;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 @MySqlGatewayTest
@@ -29,6 +37,10 @@ public class GenreMySqlGatewayTest {
     private GenreMySqlGateway genreGateway;
     @Autowired
     private GenreRepository genreRepository;
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
 
     @Test
     public void testDependenciesInjected() {
@@ -371,6 +383,69 @@ public class GenreMySqlGatewayTest {
         Assertions.assertTrue(actualGenre.isEmpty());
     }
 
+    @ParameterizedTest
+    @CsvSource({"5", "20", "50"})
+    public void givenGenresWithCategories_whenCallsFindAll_shouldIssueTheSameStatementsForAnyPageSize(final int expectedPerPage) {
+        final var categories = Stream.of("Filmes", "Séries", "Documentários")
+                .map(name -> categoryGateway.create(Category.newCategory(name, null, true)).getId())
+                .toList();
+
+        final var genres = new ArrayList<GenreJpaEntity>();
+        for (int i = 0; i < 50; i++) {
+            final var genre = Genre.newGenre("Genre " + i, true);
+            genre.addCategories(categories);
+            genres.add(GenreJpaEntity.from(genre));
+        }
+        genreRepository.saveAllAndFlush(genres);
+        entityManager.clear();
+
+        final var stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        stats.clear();
+
+        final var actualPage = genreGateway.findAll(new SearchQuery(0, expectedPerPage, "", "name", "asc"));
+
+        Assertions.assertEquals(expectedPerPage, actualPage.items().size());
+        actualPage.items().forEach(it -> Assertions.assertEquals(categories.size(), it.getCategories().size()));
+        Assertions.assertEquals(3, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenGenresWithCategories_whenCallsStreamAll_shouldLoadCategoriesPerBatchAndKeepTheContextBounded() {
+        final var expectedCount = BatchUtils.MAX_BATCH_SIZE * 2 + 500;
+        final var categories = Stream.of("Filmes", "Séries", "Documentários")
+                .map(name -> categoryGateway.create(Category.newCategory(name, null, true)).getId())
+                .toList();
+
+        final var genres = new ArrayList<GenreJpaEntity>();
+        for (int i = 0; i < expectedCount; i++) {
+            final var genre = Genre.newGenre("Genre " + i, true);
+            genre.addCategories(categories);
+            genres.add(GenreJpaEntity.from(genre));
+        }
+        genreRepository.saveAllAndFlush(genres);
+        entityManager.clear();
+
+        final var stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        stats.setStatisticsEnabled(true);
+        stats.clear();
+
+        final var session = entityManager.getEntityManager().unwrap(Session.class);
+        final var actualIds = new HashSet<String>();
+        final var managed = new AtomicInteger();
+
+        genreGateway.streamAll(genre -> {
+            Assertions.assertEquals(categories.size(), genre.getCategories().size());
+            actualIds.add(genre.getId().getValue());
+            managed.accumulateAndGet(session.getStatistics().getEntityCount(), Math::max);
+        });
+
+        Assertions.assertEquals(expectedCount, actualIds.size());
+        Assertions.assertTrue(managed.get() <= BatchUtils.MAX_BATCH_SIZE);
+        // one cursor plus one categories lookup per batch
+        Assertions.assertEquals(4, stats.getPrepareStatementCount());
+    }
+
     @Test
     public void givenEmptyGenres_whenCallFindAll_shouldReturnEmptyList() {
         final var expectedPage = 0;
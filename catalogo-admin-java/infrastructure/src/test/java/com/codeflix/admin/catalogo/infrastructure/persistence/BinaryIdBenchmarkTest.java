@@ -0,0 +1,142 @@
+package com.codeflix.admin.catalogo.infrastructure.persistence;
+
+import com.codeflix.admin.catalogo.domain.Utils.IdUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+// BENCHMARK_ROWS=10000000 ./gradlew :infrastructure:test --tests '*BinaryIdBenchmarkTest'
+@Tag("integrationTest")
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "BENCHMARK_ROWS", matches = "\\d+")
+public class BinaryIdBenchmarkTest {
+
+    private static final int CATEGORIES_PER_VIDEO = 5;
+    private static final int CATEGORIES = 1_000;
+    private static final int BATCH_SIZE = 10_000;
+
+    @Container
+    private static final MySQLContainer<?> MY_SQL_CONTAINER = new MySQLContainer<>("mysql:8.0")
+            .withPassword("123456")
+            .withUsername("root")
+            .withDatabaseName("adm_videos");
+
+    @Test
+    public void givenMillionsOfAssociations_whenStoredAsBinaryTimeOrderedIds_shouldUseLessSpace() throws Exception {
+        final var rows = Long.parseLong(System.getenv("BENCHMARK_ROWS"));
+
+        try (final var conn = connect()) {
+            execute(conn, """
+                    CREATE TABLE videos_categories_char (
+                        video_id CHAR(32) NOT NULL,
+                        category_id CHAR(32) NOT NULL,
+                        CONSTRAINT idx_char_video_category UNIQUE (video_id, category_id),
+                        INDEX idx_char_category_video (category_id, video_id)
+                    )
+                    """);
+            execute(conn, """
+                    CREATE TABLE videos_categories_binary (
+                        video_id BINARY(16) NOT NULL,
+                        category_id BINARY(16) NOT NULL,
+                        PRIMARY KEY (video_id, category_id),
+                        INDEX idx_binary_category_video (category_id, video_id)
+                    )
+                    """);
+
+            insert(conn, "videos_categories_char", rows,
+                    () -> UUID.randomUUID().toString().replace("-", ""));
+            insert(conn, "videos_categories_binary", rows,
+                    () -> BinaryIdConverter.unhex(IdUtils.uuid()));
+
+            Assertions.assertEquals(rows, count(conn, "videos_categories_char"));
+            Assertions.assertEquals(rows, count(conn, "videos_categories_binary"));
+            Assertions.assertTrue(size(conn, "videos_categories_binary") < size(conn, "videos_categories_char"));
+        }
+    }
+
+    private static Connection connect() throws SQLException {
+        return DriverManager.getConnection(
+                MY_SQL_CONTAINER.getJdbcUrl() + "?rewriteBatchedStatements=true",
+                MY_SQL_CONTAINER.getUsername(),
+                MY_SQL_CONTAINER.getPassword()
+        );
+    }
+
+    private static void execute(final Connection conn, final String sql) throws SQLException {
+        try (final var statement = conn.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static <T> void insert(
+            final Connection conn,
+            final String table,
+            final long rows,
+            final Supplier<T> newId
+    ) throws SQLException {
+        final var categories = new ArrayList<T>(CATEGORIES);
+        for (int i = 0; i < CATEGORIES; i++) {
+            categories.add(newId.get());
+        }
+
+        conn.setAutoCommit(false);
+
+        try (final var statement = conn.prepareStatement("INSERT INTO " + table + " (video_id, category_id) VALUES (?, ?)")) {
+            var pending = 0;
+            for (long i = 0; i < rows; i += CATEGORIES_PER_VIDEO) {
+                final var videoId = newId.get();
+                final var offset = (int) (i % (CATEGORIES - CATEGORIES_PER_VIDEO));
+
+                for (int j = 0; j < CATEGORIES_PER_VIDEO && i + j < rows; j++) {
+                    statement.setObject(1, videoId);
+                    statement.setObject(2, categories.get(offset + j));
+                    statement.addBatch();
+
+                    if (++pending == BATCH_SIZE) {
+                        statement.executeBatch();
+                        conn.commit();
+                        pending = 0;
+                    }
+                }
+            }
+            statement.executeBatch();
+            conn.commit();
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private static long count(final Connection conn, final String table) throws SQLException {
+        try (final var statement = conn.createStatement();
+             final var result = statement.executeQuery("SELECT COUNT(*) FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static long size(final Connection conn, final String table) throws SQLException {
+        execute(conn, "ANALYZE TABLE " + table);
+
+        try (final var statement = conn.prepareStatement(
+                "SELECT data_length, index_length FROM information_schema.TABLES WHERE table_schema = DATABASE() AND table_name = ?"
+        )) {
+            statement.setString(1, table);
+
+            try (final var result = statement.executeQuery()) {
+                result.next();
+                return result.getLong(1) + result.getLong(2);
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.codeflix.admin.catalogo.infrastructure.persistence;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class ReplicaRoutingDataSourceTest {
+
+    private ReplicaLagMonitor monitor;
+    private ReplicaRoutingDataSource target;
+
+    @BeforeEach
+    public void setUp() {
+        this.monitor = Mockito.mock(ReplicaLagMonitor.class);
+        Mockito.when(monitor.replicas()).thenReturn(Map.of(
+                "replica-1", Mockito.mock(HikariDataSource.class),
+                "replica-2", Mockito.mock(HikariDataSource.class)
+        ));
+        Mockito.when(monitor.healthy()).thenReturn(List.of("replica-1", "replica-2"));
+
+        this.target = ReplicaRoutingDataSource.create(Mockito.mock(DataSource.class), monitor);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clear();
+        ReadYourWrites.end();
+    }
+
+    @Test
+    public void givenAReadWriteTransaction_whenRouting_shouldUsePrimary() {
+        givenTransaction(false);
+
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, target.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void givenReadOnlyTransactions_whenRouting_shouldRoundRobinHealthyReplicas() {
+        givenTransaction(true);
+
+        Assertions.assertEquals("replica-1", target.determineCurrentLookupKey());
+        Assertions.assertEquals("replica-2", target.determineCurrentLookupKey());
+        Assertions.assertEquals("replica-1", target.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void givenEveryReplicaLagging_whenRoutingAReadOnlyTransaction_shouldFallBackToPrimary() {
+        Mockito.when(monitor.healthy()).thenReturn(List.of());
+        givenTransaction(true);
+
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, target.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void givenAWriteEarlierInTheRequest_whenRoutingAReadOnlyTransaction_shouldStickToPrimary() {
+        ReadYourWrites.begin();
+
+        givenTransaction(true);
+        Assertions.assertEquals("replica-1", target.determineCurrentLookupKey());
+
+        givenTransaction(false);
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, target.determineCurrentLookupKey());
+
+        givenTransaction(true);
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, target.determineCurrentLookupKey());
+
+        ReadYourWrites.end();
+        Assertions.assertEquals("replica-2", target.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void givenAWriteOutsideARequest_whenRoutingAReadOnlyTransaction_shouldKeepUsingReplicas() {
+        givenTransaction(false);
+        Assertions.assertEquals(ReplicaRoutingDataSource.PRIMARY, target.determineCurrentLookupKey());
+
+        givenTransaction(true);
+        Assertions.assertEquals("replica-1", target.determineCurrentLookupKey());
+    }
+
+    @Test
+    public void givenAnUpdateRequest_whenRoutingItsReadForUpdate_shouldUsePrimary() throws Exception {
+        final var routed = new ArrayList<Object>();
+        final FilterChain chain = (request, response) -> {
+            // the use case loads the aggregate in a read-only transaction before writing it back
+            givenTransaction(true);
+            routed.add(target.determineCurrentLookupKey());
+        };
+
+        new ReadYourWritesFilter().doFilter(new MockHttpServletRequest("PUT", "/categories/123"), new MockHttpServletResponse(), chain);
+        new ReadYourWritesFilter().doFilter(new MockHttpServletRequest("GET", "/categories/123"), new MockHttpServletResponse(), chain);
+
+        Assertions.assertEquals(List.of(ReplicaRoutingDataSource.PRIMARY, "replica-1"), routed);
+    }
+
+    private static void givenTransaction(final boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,209 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class BitmapIndexTest {
+
+    @Test
+    public void givenDocuments_whenSelects_shouldOrValuesOfAFieldAndAndTheFields() {
+        final var index = newIndex(
+                document("1", "c1", "g1"),
+                document("2", "c2", "g1"),
+                document("3", "c1", "g2"),
+                document("4", "c3", "g1")
+        );
+
+        Assertions.assertEquals(Set.of("1", "2"), ids(index.select(
+                Map.of("categories", Set.of("c1", "c2"), "genres", Set.of("g1")), null, 10)));
+        Assertions.assertEquals(Set.of("1", "3"), ids(index.select(
+                Map.of("categories", Set.of("c1")), null, 10)));
+        Assertions.assertEquals(Set.of(), ids(index.select(
+                Map.of("categories", Set.of("unknown")), null, 10)));
+        Assertions.assertEquals(4, index.select(Map.of(), null, 10).total());
+    }
+
+    @Test
+    public void givenASelectionOverTheLimit_whenSelects_shouldOnlyCount() {
+        final var index = newIndex(
+                document("1", "c1", "g1"),
+                document("2", "c1", "g1"),
+                document("3", "c1", "g1")
+        );
+
+        final var actualSelection = index.select(Map.of("categories", Set.of("c1")), null, 2);
+
+        Assertions.assertEquals(3, actualSelection.total());
+        Assertions.assertNull(actualSelection.ids());
+    }
+
+    @Test
+    public void givenRankedIds_whenSelects_shouldOnlyKeepThoseIds() {
+        final var index = newIndex(
+                document("1", "c1", "g1"),
+                document("2", "c1", "g1"),
+                document("3", "c2", "g1")
+        );
+
+        Assertions.assertEquals(Set.of("2"), ids(index.select(
+                Map.of("categories", Set.of("c1")), List.of("2", "3", "missing"), 10)));
+    }
+
+    @Test
+    public void givenAFilteredField_whenCountsFacets_shouldCountThatFieldWithoutItsOwnFilter() {
+        final var index = newIndex(
+                document("1", "c1", "g1"),
+                document("2", "c2", "g1"),
+                document("3", "c1", "g2"),
+                document("4", "c1", "g1")
+        );
+
+        final var actualFacets = index.facets(
+                Map.of("categories", Set.of("c1")),
+                null,
+                List.of("categories", "genres")
+        );
+
+        Assertions.assertEquals(3, actualFacets.total());
+        Assertions.assertEquals(Map.of("c1", 3L, "c2", 1L), actualFacets.of("categories"));
+        Assertions.assertEquals(Map.of("g1", 2L, "g2", 1L), actualFacets.of("genres"));
+        Assertions.assertEquals(Map.of(), actualFacets.of("rating"));
+    }
+
+    @Test
+    public void givenAnIndexedDocument_whenPutAgainOrRemoved_shouldReflectTheChange() {
+        final var index = newIndex(document("1", "c1", "g1"));
+        Assertions.assertEquals(1, index.size());
+
+        index.put(document("1", "c2", "g1"));
+        Assertions.assertEquals(Set.of(), ids(index.select(Map.of("categories", Set.of("c1")), null, 10)));
+        Assertions.assertEquals(Set.of("1"), ids(index.select(Map.of("categories", Set.of("c2")), null, 10)));
+
+        index.remove("1");
+        Assertions.assertEquals(Set.of(), ids(index.select(Map.of("genres", Set.of("g1")), null, 10)));
+        Assertions.assertEquals(0, index.size());
+        Assertions.assertEquals(Map.of(), index.facets(Map.of(), null, List.of("categories")).of("categories"));
+    }
+
+    @Test
+    public void givenAClearedIndex_whenQueried_shouldLoadAgain() {
+        final var loads = new AtomicInteger();
+        final var index = new BitmapIndex(it -> {
+            loads.incrementAndGet();
+            it.put(document("1", "c1", "g1"));
+        });
+
+        Assertions.assertEquals(1, index.size());
+        Assertions.assertEquals(1, index.size());
+        Assertions.assertEquals(1, loads.get());
+
+        index.clear();
+
+        Assertions.assertEquals(1, index.select(Map.of("categories", Set.of("c1")), null, 10).total());
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenRemovedDocuments_whenPutsNewOnes_shouldReuseTheirOrdinals() {
+        final var index = newIndex(
+                document("1", "c1", "g1"),
+                document("2", "c2", "g1")
+        );
+
+        index.remove("1");
+        index.put(document("3", "c3", "g2"));
+
+        Assertions.assertEquals(2, index.size());
+        Assertions.assertEquals(Set.of(), ids(index.select(Map.of("categories", Set.of("c1")), null, 10)));
+        Assertions.assertEquals(Set.of("3"), ids(index.select(Map.of("categories", Set.of("c3")), null, 10)));
+        Assertions.assertEquals(Set.of("2", "3"), ids(index.select(Map.of(), null, 10)));
+    }
+
+    @Test
+    public void givenAChangeWhileReloading_whenReloads_shouldSwapInTheRowsAndKeepTheChange() {
+        final var rows = new ArrayList<>(List.of(document("1", "c1", "g1")));
+        final var whileLoading = new AtomicReference<Runnable>(() -> {});
+        final var index = new BitmapIndex(it -> {
+            rows.forEach(it::put);
+            whileLoading.get().run();
+        });
+
+        Assertions.assertEquals(Set.of("1"), ids(index.select(Map.of("categories", Set.of("c1")), null, 10)));
+
+        rows.set(0, document("1", "c2", "g1"));
+        rows.add(document("2", "c3", "g1"));
+        whileLoading.set(() -> index.remove("2"));
+
+        index.reload();
+
+        Assertions.assertEquals(Set.of(), ids(index.select(Map.of("categories", Set.of("c1")), null, 10)));
+        Assertions.assertEquals(Set.of("1"), ids(index.select(Map.of("categories", Set.of("c2")), null, 10)));
+        Assertions.assertEquals(Set.of(), ids(index.select(Map.of("categories", Set.of("c3")), null, 10)));
+        Assertions.assertEquals(1, index.size());
+    }
+
+    @Test
+    public void givenAnInvalidatedIndex_whenReloads_shouldBeTrustedAgain() {
+        final var index = newIndex(document("1", "c1", "g1"));
+        Assertions.assertTrue(index.isTrusted());
+
+        index.invalidate();
+        Assertions.assertFalse(index.isTrusted());
+
+        index.reload();
+        Assertions.assertTrue(index.isTrusted());
+    }
+
+    @Test
+    public void givenManyVideos_whenSelectsByCategoryGenreAndPublished_shouldCountEveryMatch() {
+        final var videos = 200_000;
+        final var index = new BitmapIndex(it -> {
+            for (int i = 0; i < videos; i++) {
+                it.put(FilterDocument.with(String.valueOf(i), Map.of(
+                        "categories", new HashSet<>(List.of("c" + i % 50, "c" + i % 7)),
+                        "genres", Set.of("g" + i % 20),
+                        "published", Set.of(String.valueOf(i % 2 == 0))
+                )));
+            }
+        });
+        index.size();
+
+        final var filters = Map.of(
+                "categories", Set.of("c1", "c2"),
+                "genres", Set.of("g4"),
+                "published", Set.of("true")
+        );
+
+        final var actualSelection = index.select(filters, null, 0);
+
+        var expectedTotal = 0L;
+        for (int i = 0; i < videos; i++) {
+            final var category = i % 50 == 1 || i % 50 == 2 || i % 7 == 1 || i % 7 == 2;
+            if (category && i % 20 == 4 && i % 2 == 0) {
+                expectedTotal++;
+            }
+        }
+
+        Assertions.assertEquals(expectedTotal, actualSelection.total());
+    }
+
+    private static BitmapIndex newIndex(final FilterDocument... documents) {
+        return new BitmapIndex(index -> List.of(documents).forEach(index::put));
+    }
+
+    private static FilterDocument document(final String id, final String category, final String genre) {
+        return FilterDocument.with(id, Map.of("categories", Set.of(category), "genres", Set.of(genre)));
+    }
+
+    private static Set<String> ids(final BitmapIndex.Selection selection) {
+        return new HashSet<>(selection.ids() == null ? new ArrayList<>() : selection.ids());
+    }
+}
@@ -0,0 +1,111 @@
+package com.codeflix.admin.catalogo.infrastructure.search;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class TextIndexTest {
+
+    @Test
+    public void givenAccentedDocuments_whenSearchesWithoutAccents_shouldMatch() {
+        final var index = newIndex(
+                SearchDocument.with("1", "Ação"),
+                SearchDocument.with("2", "Ficção científica")
+        );
+
+        Assertions.assertEquals(List.of("1"), ids(index.search("acao")));
+        Assertions.assertEquals(List.of("2"), ids(index.search("FICCAO")));
+        Assertions.assertEquals(List.of("2"), ids(index.search("científ")));
+    }
+
+    @Test
+    public void givenManyTerms_whenSearches_shouldReturnOnlyDocumentsMatchingAll() {
+        final var index = newIndex(
+                SearchDocument.with("1", "Filmes", "A categoria mais assistida"),
+                SearchDocument.with("2", "Séries", "A categoria mais recente"),
+                SearchDocument.with("3", "Documentários", "A menos assistida")
+        );
+
+        Assertions.assertEquals(List.of("1"), ids(index.search("mais assistida")));
+        Assertions.assertEquals(List.of(), ids(index.search("mais documentario")));
+        Assertions.assertEquals(List.of(), ids(index.search("!!!")));
+    }
+
+    @Test
+    public void givenMatchesInNameAndDescription_whenSearches_shouldRankNameMatchesAboveDescriptionMatches() {
+        final var index = newIndex(
+                SearchDocument.with("1", "Comédia", "Drama leve"),
+                SearchDocument.with("2", "Drama", "Histórias pesadas"),
+                SearchDocument.with("3", "Dramaturgia", "Peças de teatro")
+        );
+
+        Assertions.assertEquals(List.of("2", "3", "1"), ids(index.search("drama")));
+    }
+
+    @Test
+    public void givenAnIndexedDocument_whenPutAgainOrRemoved_shouldReflectTheChange() {
+        final var index = newIndex(SearchDocument.with("1", "Terror"));
+        Assertions.assertEquals(1, index.size());
+
+        index.put(SearchDocument.with("1", "Suspense"));
+        Assertions.assertEquals(List.of(), ids(index.search("terror")));
+        Assertions.assertEquals(List.of("1"), ids(index.search("susp")));
+
+        index.remove("1");
+        Assertions.assertEquals(List.of(), ids(index.search("susp")));
+        Assertions.assertEquals(0, index.size());
+    }
+
+    @Test
+    public void givenAClearedIndex_whenSearches_shouldLoadAgainOnlyOnce() {
+        final var loads = new AtomicInteger();
+        final var index = new TextIndex(it -> {
+            loads.incrementAndGet();
+            it.put(SearchDocument.with("1 ", "Terror"));
+        });
+
+        Assertions.assertEquals(List.of("1"), ids(index.search("terror")));
+        Assertions.assertEquals(List.of("1"), ids(index.search("terror")));
+        Assertions.assertEquals(1, loads.get());
+
+        index.clear();
+
+        Assertions.assertEquals(List.of("1"), ids(index.search("terror")));
+        Assertions.assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void givenAChangeWhileReloading_whenReloads_shouldSwapInTheRowsAndKeepTheChange() {
+        final var rows = new ArrayList<>(List.of(SearchDocument.with("1", "Terror")));
+        final var whileLoading = new AtomicReference<Runnable>(() -> {});
+        final var index = new TextIndex(it -> {
+            rows.forEach(it::put);
+            whileLoading.get().run();
+        });
+
+        Assertions.assertEquals(List.of("1"), ids(index.search("terror")));
+
+        rows.set(0, SearchDocument.with("1", "Suspense"));
+        rows.add(SearchDocument.with("2", "Drama"));
+        whileLoading.set(() -> index.put(SearchDocument.with("2", "Comédia")));
+
+        index.reload();
+
+        Assertions.assertEquals(List.of(), ids(index.search("terror")));
+        Assertions.assertEquals(List.of("1"), ids(index.search("suspense")));
+        Assertions.assertEquals(List.of("2"), ids(index.search("comedia")));
+        Assertions.assertEquals(List.of(), ids(index.search("drama")));
+    }
+
+    private static TextIndex newIndex(final SearchDocument... documents) {
+        return new TextIndex(it -> List.of(documents).forEach(it::put));
+    }
+
+    private static List<String> ids(final List<TextIndex.Hit> hits) {
+        return hits.stream().map(TextIndex.Hit::id).toList();
+    }
+}
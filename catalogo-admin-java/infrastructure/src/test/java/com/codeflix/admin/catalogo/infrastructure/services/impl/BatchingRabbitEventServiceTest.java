@@ -0,0 +1,162 @@
+package com.codeflix.admin.catalogo.infrastructure.services.impl;
+
+import com.codeflix.admin.catalogo.AmqpTest;
+import com.codeflix.admin.catalogo.domain.video.VideoMediaCreated;
+import com.codeflix.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
+import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
+import com.codeflix.admin.catalogo.infrastructure.outbox.persistence.OutboxEventRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@AmqpTest
+public class BatchingRabbitEventServiceTest {
+
+    private static final String LISTENER = "video.created";
+
+    @Autowired
+    @VideoCreatedQueue
+    private QueueProperties props;
+
+    @Autowired
+    private RabbitOperations rabbitOperations;
+
+    @Autowired
+    private RabbitListenerTestHarness harness;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private TransactionOperations transactionOperations;
+
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.outboxEventRepository.deleteAll();
+    }
+
+    @Test
+    public void givenEvents_whenCallsSend_shouldPublishThemAsOneConfirmedBatch() throws InterruptedException {
+        final var expectedEvents = 3;
+        final var notification = new VideoMediaCreated("resource", "filepath");
+        final var expectedMessage = Json.writeValueAsString(notification);
+
+        final var publisher = newPublisher(rabbitOperations);
+
+        for (int i = 0; i < expectedEvents; i++) {
+            publisher.send(notification);
+        }
+
+        for (int i = 0; i < expectedEvents; i++) {
+            final var invocationData = harness.getNextInvocationDataFor(LISTENER, 1, TimeUnit.SECONDS);
+
+            Assertions.assertNotNull(invocationData);
+            Assertions.assertEquals(expectedMessage, invocationData.getArguments()[0]);
+        }
+
+        publisher.close();
+
+        Assertions.assertEquals(0, meterRegistry.get("events.batcher.queue.depth").gauge().value());
+        Assertions.assertEquals(expectedEvents, meterRegistry.get("events.batcher.published").counter().count());
+        Assertions.assertEquals(1, meterRegistry.get("events.batcher.batch.size").summary().count());
+        Assertions.assertEquals(expectedEvents, meterRegistry.get("events.batcher.batch.size").summary().max());
+        Assertions.assertEquals(0, meterRegistry.get("events.batcher.retried").counter().count());
+    }
+
+    @Test
+    public void givenAnUnconfirmedBatch_whenCallsSend_shouldRetryIt() {
+        final var ops = Mockito.mock(RabbitOperations.class);
+
+        Mockito.when(ops.invoke(Mockito.any()))
+                .thenReturn(false)
+                .thenReturn(true);
+
+        final var publisher = newPublisher(ops);
+
+        publisher.send(new VideoMediaCreated("resource", "filepath"));
+        publisher.close();
+
+        Mockito.verify(ops, Mockito.times(2)).invoke(Mockito.any());
+        Assertions.assertEquals(1, meterRegistry.get("events.batcher.retried").counter().count());
+        Assertions.assertEquals(1, meterRegistry.get("events.batcher.published").counter().count());
+        Assertions.assertEquals(0, meterRegistry.get("events.batcher.dropped").counter().count());
+    }
+
+    @Test
+    public void givenABatchThatIsNeverConfirmed_whenCallsSend_shouldHandItOverToTheOutbox() {
+        final var notification = new VideoMediaCreated("resource", "filepath");
+        final var ops = Mockito.mock(RabbitOperations.class);
+
+        Mockito.when(ops.invoke(Mockito.any())).thenReturn(false);
+
+        final var publisher = newPublisher(ops);
+
+        publisher.send(notification);
+        publisher.close();
+
+        final var actualEvents = this.outboxEventRepository.findAll();
+
+        Mockito.verify(ops, Mockito.times(3)).invoke(Mockito.any());
+        Assertions.assertEquals(1, actualEvents.size());
+        Assertions.assertEquals("VideoMediaCreated", actualEvents.get(0).getEventType());
+        Assertions.assertEquals(props.getRoutingKey(), actualEvents.get(0).getRoutingKey());
+        Assertions.assertEquals(Json.writeValueAsString(notification), actualEvents.get(0).getPayload());
+        Assertions.assertNull(actualEvents.get(0).getSentAt());
+        Assertions.assertEquals(1, meterRegistry.get("events.batcher.deferred").counter().count());
+        Assertions.assertEquals(0, meterRegistry.get("events.batcher.dropped").counter().count());
+    }
+
+    @Test
+    public void givenAnEventSentInsideATransaction_whenItRollsBack_shouldNotPublishIt() {
+        final var ops = Mockito.mock(RabbitOperations.class);
+
+        Mockito.when(ops.invoke(Mockito.any())).thenReturn(true);
+
+        final var publisher = newPublisher(ops);
+
+        this.transactionOperations.executeWithoutResult(status -> {
+            publisher.send(new VideoMediaCreated("rolled-back", "filepath"));
+            status.setRollbackOnly();
+        });
+
+        this.transactionOperations.executeWithoutResult(status -> {
+            publisher.send(new VideoMediaCreated("committed", "filepath"));
+
+            Assertions.assertEquals(0, meterRegistry.get("events.batcher.queue.depth").gauge().value());
+        });
+
+        publisher.close();
+
+        Mockito.verify(ops, Mockito.times(1)).invoke(Mockito.any());
+        Assertions.assertEquals(1, meterRegistry.get("events.batcher.published").counter().count());
+    }
+
+    private BatchingRabbitEventService newPublisher(final RabbitOperations ops) {
+        return new BatchingRabbitEventService(
+                props.getExchange(),
+                props.getRoutingKey(),
+                ops,
+                outboxEventRepository,
+                meterRegistry,
+                100,
+                50,
+                Duration.ofMillis(50),
+                Duration.ofSeconds(1),
+                3
+        );
+    }
+}
@@ -0,0 +1,203 @@
+package com.codeflix.admin.catalogo.infrastructure.services.impl;
+
+import com.codeflix.admin.catalogo.domain.Utils.IdUtils;
+import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.StreamingResource;
+import com.codeflix.admin.catalogo.domain.video.VideoID;
+import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.storage.StorageProperties;
+import com.codeflix.admin.catalogo.infrastructure.video.DefaultMediaResourceGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.channels.Channels;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static io.vavr.API.*;
+
+public class FileSystemStorageAPITest {
+
+    @TempDir
+    private Path root;
+
+    private FileSystemStorageService target;
+
+    @BeforeEach
+    public void setUp() {
+        this.target = new FileSystemStorageService(root);
+    }
+
+    @Test
+    public void givenValidResource_whenCallsStore_shouldStoreIt() {
+        final var expectedResource = getResource(VideoMediaType.THUMBNAIL);
+        final var expectedId = "videoId-123/type-THUMBNAIL";
+
+        target.store(expectedId, expectedResource);
+
+        final var actualContent = target.get(expectedId).get();
+
+        Assertions.assertEquals(expectedResource.checksum(), actualContent.checksum());
+        Assertions.assertEquals(expectedResource.name(), actualContent.name());
+        Assertions.assertEquals(expectedResource.contentType(), actualContent.contentType());
+        Assertions.assertEquals(expectedResource.length(), actualContent.length());
+        Assertions.assertArrayEquals(expectedResource.content(), actualContent.content());
+    }
+
+    @Test
+    public void givenStreamingResource_whenCallsStore_shouldStoreItWithStreamedChecksum() {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = "03fe62de";
+        final var expectedId = "videoId-123/type-VIDEO";
+
+        target.store(expectedId, StreamingResource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                "video.mp4"
+        ));
+
+        final var actualContent = target.get(expectedId).get();
+
+        Assertions.assertEquals(expectedChecksum, actualContent.checksum());
+        Assertions.assertArrayEquals(expectedContent, actualContent.content());
+    }
+
+    @Test
+    public void givenStoredResource_whenCallsTransferTo_shouldReadOnlyTheRange() throws Exception {
+        final var expectedId = "videoId-123/type-VIDEO";
+        final var expectedRange = "teud".getBytes();
+
+        target.store(expectedId, getResource(VideoMediaType.VIDEO));
+
+        final var out = new ByteArrayOutputStream();
+        final var actualTransferred =
+                target.get(expectedId).get().transferTo(3, expectedRange.length, Channels.newChannel(out));
+
+        Assertions.assertEquals(expectedRange.length, actualTransferred);
+        Assertions.assertArrayEquals(expectedRange, out.toByteArray());
+    }
+
+    @Test
+    public void givenInvalidResource_whenCallsGet_shouldRetrieveEmpty() {
+        target.store("videoId-123/type-VIDEO", getResource(VideoMediaType.VIDEO));
+
+        final var actualContent = target.get("videoId-123/type-TRAILER");
+
+        Assertions.assertTrue(actualContent.isEmpty());
+    }
+
+    @Test
+    public void givenPrefix_whenCallsList_shouldRetrieveOnlyItsFolder() {
+        final var expectedIds = List.of("videoId-123/type-VIDEO", "videoId-123/type-BANNER");
+
+        target.store("videoId-123/type-VIDEO", getResource(VideoMediaType.VIDEO));
+        target.store("videoId-123/type-BANNER", getResource(VideoMediaType.BANNER));
+        target.store("videoId-456/type-VIDEO", getResource(VideoMediaType.VIDEO));
+
+        final var actualContent = target.list("videoId-123");
+
+        Assertions.assertTrue(
+                expectedIds.size() == actualContent.size()
+                        && expectedIds.containsAll(actualContent)
+        );
+    }
+
+    @Test
+    public void givenResources_whenCallsDeleteAll_shouldRemoveFilesAndFolders() throws Exception {
+        target.store("videoId-123/type-VIDEO", getResource(VideoMediaType.VIDEO));
+        target.store("videoId-123/type-BANNER", getResource(VideoMediaType.BANNER));
+
+        target.deleteAll(target.list("videoId-123"));
+
+        Assertions.assertTrue(target.list("videoId-123").isEmpty());
+        try (final var files = Files.walk(root)) {
+            Assertions.assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    public void givenChunks_whenCallsAppendUpload_shouldCommitOffsetAndComplete() {
+        final var expectedId = "videoId-123/uploads/abc";
+        final var expectedContent = "Conteudo";
+
+        target.createUpload(expectedId, "video/mp4", Map.of());
+
+        Assertions.assertEquals(0L, target.uploadOffset(expectedId).get());
+
+        final var firstOffset = target.appendUpload(expectedId, new ByteArrayInputStream("Cont".getBytes()));
+        final var secondOffset = target.appendUpload(expectedId, new ByteArrayInputStream("eudo".getBytes()));
+
+        Assertions.assertEquals(4, firstOffset);
+        Assertions.assertEquals(8, secondOffset);
+        Assertions.assertTrue(target.list("videoId-123").isEmpty());
+
+        final var actualResource = target.completeUpload(expectedId);
+
+        Assertions.assertEquals(expectedContent, new String(actualResource.content()));
+        Assertions.assertEquals("video/mp4", actualResource.contentType());
+
+        target.discardUpload(expectedId);
+
+        Assertions.assertTrue(target.uploadOffset(expectedId).isEmpty());
+    }
+
+    @Test
+    public void givenAnUploadOfAStoppedService_whenANewServiceFindsIt_shouldResumeFromTheCommittedOffset() {
+        final var props = new StorageProperties();
+        props.setLocationPattern("videoId-{videoId}");
+        props.setFilenamePattern("type-{type}");
+
+        final var expectedVideoId = VideoID.unique();
+        final var anUpload = new DefaultMediaResourceGateway(props, target)
+                .createUpload(expectedVideoId, VideoMediaType.VIDEO, "video/mp4", "video.mp4", 8);
+        new DefaultMediaResourceGateway(props, target)
+                .appendUpload(anUpload, new ByteArrayInputStream("Cont".getBytes()));
+
+        final var restarted = new DefaultMediaResourceGateway(props, new FileSystemStorageService(root));
+        final var actualUpload = restarted.findUpload(expectedVideoId, anUpload.id()).get();
+
+        Assertions.assertEquals(anUpload.withOffset(4), actualUpload);
+        Assertions.assertTrue(restarted.findUpload(VideoID.unique(), anUpload.id()).isEmpty());
+    }
+
+    @Test
+    public void givenDataNewerThanItsSidecar_whenCallsGet_shouldRecomputeTheChecksum() throws Exception {
+        final var expectedId = "videoId-123/type-VIDEO";
+        final var expectedContent = "Conteudo novo".getBytes();
+        final var expectedChecksum = StreamingResource.with(
+                () -> new ByteArrayInputStream(expectedContent), expectedContent.length, "video/mp4", "video.mp4"
+        ).checksum();
+
+        target.store(expectedId, getResource(VideoMediaType.VIDEO));
+
+        // the same state a crash between the data and the sidecar renames leaves behind
+        try (final var files = Files.walk(root)) {
+            final var data = files.filter(it -> it.getFileName().toString().equals("type-VIDEO")).findFirst().get();
+            Files.write(data, expectedContent);
+        }
+
+        final var actualResource = target.get(expectedId).get();
+
+        Assertions.assertEquals(expectedContent.length, actualResource.length());
+        Assertions.assertEquals(expectedChecksum, actualResource.checksum());
+    }
+
+    private static Resource getResource(final VideoMediaType type) {
+        final String contentType = Match(type).of(
+                Case($(List(VideoMediaType.VIDEO, VideoMediaType.TRAILER)::contains), "video/mp4"),
+                Case($(), "image/jpg")
+        );
+
+        final String checksum = IdUtils.uuid();
+        final byte[] content = "Conteudo".getBytes();
+
+        return Resource.with(content, checksum, contentType, type.name().toLowerCase());
+    }
+}
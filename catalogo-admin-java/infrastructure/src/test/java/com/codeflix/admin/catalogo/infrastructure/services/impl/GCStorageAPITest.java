@@ -2,8 +2,12 @@ package com.codeflix.admin.catalogo.infrastructure.services.impl;
 
 import com.codeflix.admin.catalogo.domain.Utils.IdUtils;
 import com.codeflix.admin.catalogo.domain.video.Resource;
+import com.codeflix.admin.catalogo.domain.video.StreamingResource;
 import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
+import com.codeflix.admin.catalogo.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
@@ -14,7 +18,13 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.ArgumentCaptor;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 
 import static io.vavr.API.*;
 import static io.vavr.API.$;
@@ -54,6 +64,81 @@ public class GCStorageAPITest {
         Assertions.assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
     }
 
+    @Test
+    public void givenStreamingResource_whenCallsStore_shouldStreamItThroughWriter() throws Exception {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedId = "video";
+        final var expectedContentType = "video/mp4";
+        final var expectedResource = StreamingResource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                expectedContentType,
+                expectedId
+        );
+
+        final var written = new ByteArrayOutputStream();
+        final var writer = writeChannel(written);
+        Mockito.doReturn(writer).when(storage).writer(Mockito.any(BlobInfo.class));
+
+        final var blob = Mockito.mock(Blob.class);
+        Mockito.when(blob.getCrc32cToHexString()).thenReturn(HashingUtils.checksum(expectedContent));
+        Mockito.doReturn(blob).when(storage).get(Mockito.eq(bucket), Mockito.eq(expectedId));
+
+        this.target.store(expectedId, expectedResource);
+
+        final var capturer = ArgumentCaptor.forClass(BlobInfo.class);
+
+        Mockito.verify(storage, Mockito.times(1)).writer(capturer.capture());
+        Mockito.verify(storage, Mockito.never()).create(Mockito.any(BlobInfo.class), Mockito.any(byte[].class));
+        Mockito.verify(writer, Mockito.times(1)).close();
+
+        final var actualBlob = capturer.getValue();
+        Assertions.assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
+        Assertions.assertEquals(expectedId, actualBlob.getBlobId().getName());
+        Assertions.assertEquals(expectedContentType, actualBlob.getContentType());
+        Assertions.assertArrayEquals(expectedContent, written.toByteArray());
+        Assertions.assertEquals(HashingUtils.checksum(expectedContent), expectedResource.checksum());
+        Mockito.verify(storage, Mockito.never()).delete(Mockito.any(BlobId.class));
+    }
+
+    @Test
+    public void givenAStoredObjectWithAnotherChecksum_whenCallsStoreStreaming_shouldDeleteItAndFail() throws Exception {
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedId = "video";
+        final var expectedResource = StreamingResource.with(
+                () -> new ByteArrayInputStream(expectedContent),
+                expectedContent.length,
+                "video/mp4",
+                expectedId
+        );
+
+        final var writer = writeChannel(new ByteArrayOutputStream());
+        Mockito.doReturn(writer).when(storage).writer(Mockito.any(BlobInfo.class));
+
+        final var blob = Mockito.mock(Blob.class);
+        Mockito.when(blob.getCrc32cToHexString()).thenReturn(HashingUtils.checksum("Conteu".getBytes()));
+        Mockito.doReturn(blob).when(storage).get(Mockito.eq(bucket), Mockito.eq(expectedId));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> this.target.store(expectedId, expectedResource));
+
+        Mockito.verify(writer, Mockito.times(1)).close();
+        Mockito.verify(storage, Mockito.times(1)).delete(Mockito.eq(BlobId.of(bucket, expectedId)));
+    }
+
+    @Test
+    public void givenAnIdleUpload_whenItsSessionExpires_shouldForgetIt() {
+        final var expectedId = "uploads/video";
+        final var writer = Mockito.mock(WriteChannel.class);
+        Mockito.doReturn(writer).when(storage).writer(Mockito.any(BlobInfo.class));
+
+        final var expiringTarget = new GCStorageService(bucket, storage, Duration.ZERO);
+        expiringTarget.createUpload(expectedId, "video/mp4", Map.of("type", "VIDEO"));
+
+        Assertions.assertTrue(expiringTarget.uploadOffset(expectedId).isEmpty());
+        Assertions.assertTrue(expiringTarget.uploadAttributes(expectedId).isEmpty());
+        Assertions.assertThrows(IllegalStateException.class, () -> expiringTarget.completeUpload(expectedId));
+    }
+
     @Test
     public void givenResource_whenCallsGet_shouldRetrieveIt() {
         final var expectedResource = getResource(VideoMediaType.THUMBNAIL);
@@ -61,13 +146,38 @@ public class GCStorageAPITest {
 
         final Blob blob = mockBlob(expectedResource);
         Mockito.doReturn(blob).when(storage).get(Mockito.eq(bucket), Mockito.eq(expectedId));
+        Mockito.doAnswer(invocation -> readChannel(expectedResource.content()))
+                .when(storage).reader(Mockito.eq(BlobId.of(bucket, expectedId)));
 
         final var actualContent = target.get(expectedId).get();
 
         Assertions.assertEquals(expectedResource.checksum(), actualContent.checksum());
         Assertions.assertEquals(expectedResource.name(), actualContent.name());
-        Assertions.assertEquals(expectedResource.content(), actualContent.content());
+        Assertions.assertArrayEquals(expectedResource.content(), actualContent.content());
         Assertions.assertEquals(expectedResource.contentType(), actualContent.contentType());
+        Assertions.assertEquals(expectedResource.length(), actualContent.length());
+
+        Mockito.verify(blob, Mockito.never()).getContent();
+    }
+
+    @Test
+    public void givenResource_whenCallsGetAndReadsRange_shouldSeekReader() throws Exception {
+        final var expectedResource = getResource(VideoMediaType.VIDEO);
+        final var expectedId = expectedResource.name();
+        final var expectedRange = "teudo".getBytes();
+
+        final Blob blob = mockBlob(expectedResource);
+        Mockito.doReturn(blob).when(storage).get(Mockito.eq(bucket), Mockito.eq(expectedId));
+        Mockito.doAnswer(invocation -> readChannel(expectedResource.content()))
+                .when(storage).reader(Mockito.eq(BlobId.of(bucket, expectedId)));
+
+        final var actualContent = target.get(expectedId).get();
+
+        final var out = new ByteArrayOutputStream();
+        final var actualTransferred = actualContent.transferTo(3, expectedRange.length, Channels.newChannel(out));
+
+        Assertions.assertEquals(expectedRange.length, actualTransferred);
+        Assertions.assertArrayEquals(expectedRange, out.toByteArray());
     }
 
     @Test
@@ -127,10 +237,46 @@ public class GCStorageAPITest {
         Mockito.when(blob.getCrc32cToHexString()).thenReturn(resource.checksum());
         Mockito.when(blob.getContent()).thenReturn(resource.content());
         Mockito.when(blob.getContentType()).thenReturn(resource.contentType());
+        Mockito.when(blob.getSize()).thenReturn(resource.length());
         Mockito.when(blob.getName()).thenReturn(resource.name());
         return blob;
     }
 
+    private static WriteChannel writeChannel(final ByteArrayOutputStream written) throws Exception {
+        final var writer = Mockito.mock(WriteChannel.class);
+        Mockito.when(writer.isOpen()).thenReturn(true);
+        Mockito.when(writer.write(Mockito.any())).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            final var n = buffer.remaining();
+            final var chunk = new byte[n];
+            buffer.get(chunk);
+            written.write(chunk);
+            return n;
+        });
+        return writer;
+    }
+
+    private static ReadChannel readChannel(final byte[] content) throws Exception {
+        final var position = new long[]{0};
+        final var reader = Mockito.mock(ReadChannel.class);
+        Mockito.when(reader.isOpen()).thenReturn(true);
+        Mockito.doAnswer(invocation -> {
+            position[0] = invocation.getArgument(0);
+            return null;
+        }).when(reader).seek(Mockito.anyLong());
+        Mockito.when(reader.read(Mockito.any())).thenAnswer(invocation -> {
+            final ByteBuffer buffer = invocation.getArgument(0);
+            if (position[0] >= content.length) {
+                return -1;
+            }
+            final var n = (int) Math.min(buffer.remaining(), content.length - position[0]);
+            buffer.put(content, (int) position[0], n);
+            position[0] += n;
+            return n;
+        });
+        return reader;
+    }
+
     private static Resource getResource(final VideoMediaType type) {
         final String contentType = Match(type).of(
                 Case($(List(VideoMediaType.VIDEO, VideoMediaType.TRAILER)::contains), "video/mp4"),
@@ -4,10 +4,12 @@ import com.codeflix.admin.catalogo.AmqpTest;
 import com.codeflix.admin.catalogo.domain.video.VideoMediaCreated;
 import com.codeflix.admin.catalogo.infrastructure.configuration.annotations.VideoCreatedQueue;
 import com.codeflix.admin.catalogo.infrastructure.configuration.json.Json;
+import com.codeflix.admin.catalogo.infrastructure.configuration.properties.amqp.QueueProperties;
 import com.codeflix.admin.catalogo.infrastructure.services.EventService;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.amqp.rabbit.test.RabbitListenerTestHarness;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.messaging.handler.annotation.Payload;
@@ -22,7 +24,10 @@ public class RabbitEventServiceTest {
 
     @Autowired
     @VideoCreatedQueue
-    private EventService publisher;
+    private QueueProperties props;
+
+    @Autowired
+    private RabbitOperations rabbitOperations;
 
     @Autowired
     private RabbitListenerTestHarness harness;
@@ -33,7 +38,10 @@ public class RabbitEventServiceTest {
 
         final var expectedMessage = Json.writeValueAsString(notification);
 
-        this.publisher.send(notification);
+        final EventService publisher =
+                new RabbitEventService(props.getExchange(), props.getRoutingKey(), rabbitOperations);
+
+        publisher.send(notification);
 
         final var invocationData =
                 harness.getNextInvocationDataFor(LISTENER, 1, TimeUnit.SECONDS);
@@ -2,6 +2,7 @@ package com.codeflix.admin.catalogo.infrastructure.video;
 
 import com.codeflix.admin.catalogo.IntegrationTest;
 import com.codeflix.admin.catalogo.domain.Utils.IdUtils;
+import com.codeflix.admin.catalogo.domain.exceptions.DomainException;
 import com.codeflix.admin.catalogo.domain.video.*;
 import com.codeflix.admin.catalogo.infrastructure.services.StorageService;
 import com.codeflix.admin.catalogo.infrastructure.services.local.InMemoryStorageService;
@@ -10,8 +11,15 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static io.vavr.API.*;
 import static io.vavr.API.$;
@@ -147,6 +155,71 @@ class DefaultMediaResourceGatewayTest {
         );
     }
 
+    @Test
+    public void givenTwoChunksAtTheSameOffset_whenAppendedConcurrently_shouldAppendOnlyOne() throws Exception {
+        final var expectedChunk = "Conteudo".getBytes();
+        final var anUpload = this.mediaResourceGateway.createUpload(
+                VideoID.unique(), VideoMediaType.VIDEO, "video/mp4", "video.mp4", 1024);
+
+        final var firstInside = new CountDownLatch(1);
+        final var releaseFirst = new CountDownLatch(1);
+        final var firstChunk = new FilterInputStream(new ByteArrayInputStream(expectedChunk)) {
+            @Override
+            public int read(final byte[] b, final int off, final int len) throws IOException {
+                firstInside.countDown();
+                try {
+                    releaseFirst.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.read(b, off, len);
+            }
+        };
+
+        final var first = CompletableFuture.supplyAsync(() -> this.mediaResourceGateway.appendUpload(anUpload, firstChunk));
+        Assertions.assertTrue(firstInside.await(5, TimeUnit.SECONDS));
+
+        final var secondThread = new Thread[1];
+        final var second = CompletableFuture.supplyAsync(() -> {
+            secondThread[0] = Thread.currentThread();
+            return this.mediaResourceGateway.appendUpload(anUpload, new ByteArrayInputStream(expectedChunk));
+        });
+        awaitBlocked(secondThread);
+        releaseFirst.countDown();
+
+        Assertions.assertEquals(expectedChunk.length, first.get(5, TimeUnit.SECONDS).offset());
+
+        final var actualException = Assertions.assertThrows(ExecutionException.class, () -> second.get(5, TimeUnit.SECONDS));
+        Assertions.assertInstanceOf(DomainException.class, actualException.getCause());
+
+        final var actualUpload = this.mediaResourceGateway.findUpload(anUpload.videoId(), anUpload.id()).get();
+        Assertions.assertEquals(expectedChunk.length, actualUpload.offset());
+    }
+
+    @Test
+    public void givenAChunkLongerThanTheUpload_whenCallsAppendUpload_shouldStopAtTheDeclaredLength() {
+        final var expectedLength = 4;
+        final var anUpload = this.mediaResourceGateway.createUpload(
+                VideoID.unique(), VideoMediaType.VIDEO, "video/mp4", "video.mp4", expectedLength);
+
+        Assertions.assertThrows(DomainException.class, () ->
+                this.mediaResourceGateway.appendUpload(anUpload, new ByteArrayInputStream("Conteudo".getBytes())));
+
+        final var actualUpload = this.mediaResourceGateway.findUpload(anUpload.videoId(), anUpload.id()).get();
+        Assertions.assertEquals(expectedLength, actualUpload.offset());
+    }
+
+    private static void awaitBlocked(final Thread[] thread) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (thread[0] != null && thread[0].getState() == Thread.State.WAITING) {
+                return;
+            }
+            Thread.sleep(5);
+        }
+        Assertions.fail("The second append never waited for the first one");
+    }
+
     private InMemoryStorageService storageService() {
         return (InMemoryStorageService) storageService;
     }
@@ -0,0 +1,518 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.IntegrationTest;
+import com.codeflix.admin.catalogo.domain.Fixture;
+import com.codeflix.admin.catalogo.domain.castmember.CastMember;
+import com.codeflix.admin.catalogo.domain.castmember.CastMemberID;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.genre.Genre;
+import com.codeflix.admin.catalogo.domain.genre.GenreID;
+import com.codeflix.admin.catalogo.domain.video.MediaStatus;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoMediaType;
+import com.codeflix.admin.catalogo.domain.video.VideoPreview;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.castmember.persistence.CastMemberRepository;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.genre.persistence.GenreRepository;
+import com.codeflix.admin.catalogo.infrastructure.search.SearchIndexes;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@IntegrationTest
+public class DefaultVideoGatewayTest {
+
+    private static final int SMALL_ASSOCIATION = 2;
+    private static final int LARGE_ASSOCIATION = 200;
+    private static final int LISTED_VIDEOS = 100;
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private SearchIndexes searchIndexes;
+
+    @AfterEach
+    void resetStatistics() {
+        final var stats = statistics();
+        stats.clear();
+        stats.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void givenAVideoWithManyCastMembers_whenCallsUpdateChangingOnlyTheTitle_shouldNotRewriteAssociations() {
+        final var fewMembers = createMembers(SMALL_ASSOCIATION);
+        final var smallVideo = this.videoGateway.create(newVideo(fewMembers));
+
+        final var members = createMembers(LARGE_ASSOCIATION);
+        final var video = this.videoGateway.create(newVideo(members));
+
+        final var expectedStatements = statementsOf(() -> this.videoGateway.update(editTitle(smallVideo, fewMembers)));
+
+        final var stats = startStatistics();
+
+        final var actualVideo = this.videoGateway.update(editTitle(video, members));
+
+        Assertions.assertEquals(LARGE_ASSOCIATION, actualVideo.getCastMembers().size());
+        Assertions.assertEquals(0, stats.getEntityInsertCount());
+        Assertions.assertEquals(0, stats.getEntityDeleteCount());
+        Assertions.assertEquals(1, stats.getEntityUpdateCount());
+        Assertions.assertEquals(expectedStatements, stats.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenAVideoWithManyCastMembers_whenCallsUpdateSwappingOneMember_shouldIssueOneDeleteAndOneInsert() {
+        final var fewMembers = createMembers(SMALL_ASSOCIATION + 1);
+        final var smallVideo = this.videoGateway.create(newVideo(fewMembers.subList(0, SMALL_ASSOCIATION)));
+
+        final var members = createMembers(LARGE_ASSOCIATION + 1);
+        final var initialMembers = new HashSet<>(members.subList(0, LARGE_ASSOCIATION));
+        final var expectedMembers = new HashSet<>(members.subList(1, LARGE_ASSOCIATION + 1));
+
+        final var video = this.videoGateway.create(newVideo(new ArrayList<>(initialMembers)));
+
+        final var expectedStatements = statementsOf(() ->
+                this.videoGateway.update(editTitle(smallVideo, fewMembers.subList(1, SMALL_ASSOCIATION + 1))));
+
+        final var stats = startStatistics();
+
+        final var actualVideo = this.videoGateway.update(editTitle(video, new ArrayList<>(expectedMembers)));
+
+        Assertions.assertEquals(expectedMembers, actualVideo.getCastMembers());
+        Assertions.assertEquals(1, stats.getEntityInsertCount());
+        Assertions.assertEquals(1, stats.getEntityDeleteCount());
+        Assertions.assertEquals(expectedStatements, stats.getPrepareStatementCount());
+        Assertions.assertEquals(expectedMembers, this.videoGateway.findById(video.getId()).get().getCastMembers());
+    }
+
+    @Test
+    public void givenVideosWithLargeAssociations_whenCallsFindAllFilteringByAll_shouldReturnEachVideoOnce() {
+        final var categories = createCategories(10);
+        final var genres = createGenres(5);
+        final var members = createMembers(50);
+
+        for (int i = 0; i < LISTED_VIDEOS; i++) {
+            this.videoGateway.create(newVideo(categories, genres, members));
+        }
+        this.videoGateway.create(newVideo());
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "",
+                "title",
+                "asc",
+                new HashSet<>(members),
+                new HashSet<>(categories),
+                new HashSet<>(genres)
+        );
+
+        final var stats = startStatistics();
+
+        final var actualPage = this.videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(LISTED_VIDEOS, actualPage.total());
+        Assertions.assertEquals(10, actualPage.items().size());
+        Assertions.assertEquals(10, actualPage.items().stream().map(VideoPreview::id).distinct().count());
+        // one page query and at most one count, however many associations each video has
+        Assertions.assertTrue(stats.getPrepareStatementCount() <= 2, "statements: " + stats.getPrepareStatementCount());
+    }
+
+    @Test
+    public void givenVideos_whenCallsFindAllFilteringByOneCategory_shouldReturnOnlyMatchingVideos() {
+        final var categories = createCategories(2);
+        final var genres = createGenres(1);
+
+        final var expectedVideo =
+                this.videoGateway.create(newVideo(categories.subList(0, 1), genres, List.of()));
+        this.videoGateway.create(newVideo(categories.subList(1, 2), genres, List.of()));
+
+        final var aQuery = new VideoSearchQuery(
+                0,
+                10,
+                "",
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(categories.get(0)),
+                new HashSet<>(genres)
+        );
+
+        final var actualPage = this.videoGateway.findAll(aQuery);
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(expectedVideo.getId().getValue(), actualPage.items().get(0).id());
+    }
+
+    @Test
+    public void givenFilteredVideos_whenCallsFindAllFollowingCursors_shouldWalkEveryVideoOnce() {
+        final var categories = createCategories(1);
+        final var expectedVideos = 7;
+        final var expectedPerPage = 3;
+
+        final var expectedIds = new HashSet<String>();
+        for (int i = 0; i < expectedVideos; i++) {
+            expectedIds.add(this.videoGateway.create(newVideo(categories, List.of(), List.of())).getId().getValue());
+        }
+        this.videoGateway.create(newVideo());
+
+        final var actualIds = new ArrayList<String>();
+        String after = null;
+        do {
+            final var actualPage = this.videoGateway.findAll(new VideoSearchQuery(
+                    0,
+                    expectedPerPage,
+                    "",
+                    "createdAt",
+                    "desc",
+                    Set.of(),
+                    new HashSet<>(categories),
+                    Set.of(),
+                    after
+            ));
+
+            Assertions.assertEquals(expectedVideos, actualPage.total());
+            actualPage.items().forEach(it -> actualIds.add(it.id()));
+            after = actualPage.next();
+        } while (after != null);
+
+        Assertions.assertEquals(expectedVideos, actualIds.size());
+        Assertions.assertEquals(expectedIds, new HashSet<>(actualIds));
+    }
+
+    @Test
+    public void givenFilteredVideos_whenCallsFindAllSortedByRelevance_shouldRankOnlyMatchingVideos() {
+        final var categories = createCategories(2);
+
+        final var expectedFirst = this.videoGateway.create(newVideo("Matrix", "Ficção científica", categories.subList(0, 1)));
+        final var expectedSecond = this.videoGateway.create(newVideo("Animatrix", "Curtas do universo Matrix", categories.subList(0, 1)));
+        this.videoGateway.create(newVideo("Matrix Reloaded", "Ficção científica", categories.subList(1, 2)));
+        this.videoGateway.create(newVideo("Duna", "Ficção científica", categories.subList(0, 1)));
+
+        final var actualPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0,
+                10,
+                "matrix",
+                "relevance",
+                "desc",
+                Set.of(),
+                Set.of(categories.get(0)),
+                Set.of()
+        ));
+
+        Assertions.assertEquals(2, actualPage.total());
+        Assertions.assertEquals(
+                List.of(expectedFirst.getId().getValue(), expectedSecond.getId().getValue()),
+                actualPage.items().stream().map(VideoPreview::id).toList()
+        );
+    }
+
+    @Test
+    public void givenAnUntrustedFilterIndex_whenCallsFindAllFiltering_shouldFilterInSqlInstead() {
+        final var categories = createCategories(2);
+
+        final var expectedVideo = this.videoGateway.create(newVideo("Matrix", "Ficção científica", categories.subList(0, 1)));
+        this.videoGateway.create(newVideo("Matrix Reloaded", "Ficção científica", categories.subList(1, 2)));
+
+        this.searchIndexes.videoFilters().invalidate();
+
+        final var actualPage = this.videoGateway.findAll(new VideoSearchQuery(
+                0,
+                10,
+                "",
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(categories.get(0)),
+                Set.of()
+        ));
+        final var actualRanked = this.videoGateway.findAll(new VideoSearchQuery(
+                0,
+                10,
+                "matrix",
+                "relevance",
+                "desc",
+                Set.of(),
+                Set.of(categories.get(0)),
+                Set.of()
+        ));
+
+        Assertions.assertEquals(1, actualPage.total());
+        Assertions.assertEquals(expectedVideo.getId().getValue(), actualPage.items().get(0).id());
+        Assertions.assertEquals(List.of(expectedVideo.getId().getValue()), actualRanked.items().stream().map(VideoPreview::id).toList());
+        Assertions.assertTrue(this.searchIndexes.trustedVideoFilters().isEmpty());
+    }
+
+    @Test
+    public void givenVideos_whenCallsFacetsFilteringByCategory_shouldCountEveryFacetOfTheMatches() {
+        final var categories = createCategories(2);
+        final var genres = createGenres(1);
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+
+        final var video = this.videoGateway.create(newVideo(categories.subList(0, 1), genres, List.of())
+                .updateVideoMedia(expectedMedia));
+        this.videoGateway.create(newVideo(categories.subList(0, 1), List.of(), List.of()));
+        this.videoGateway.create(newVideo(categories.subList(1, 2), genres, List.of()));
+
+        this.videoGateway.updateMediaStatus(video.getId(), expectedMedia.id(), MediaStatus.COMPLETED, "encoded/video.mp4");
+
+        final var actualFacets = this.videoGateway.facets(new VideoSearchQuery(
+                0,
+                0,
+                "",
+                "title",
+                "asc",
+                Set.of(),
+                Set.of(categories.get(0)),
+                Set.of()
+        ));
+
+        Assertions.assertEquals(2, actualFacets.total());
+        Assertions.assertEquals(
+                Map.of(categories.get(0).getValue(), 2L, categories.get(1).getValue(), 1L),
+                actualFacets.categories()
+        );
+        Assertions.assertEquals(Map.of(genres.get(0).getValue(), 1L), actualFacets.genres());
+        Assertions.assertEquals(2L, actualFacets.published().values().stream().mapToLong(Long::longValue).sum());
+        Assertions.assertEquals(Map.of(MediaStatus.COMPLETED.name(), 1L), actualFacets.videoStatus());
+        Assertions.assertEquals(Map.of(), actualFacets.castMembers());
+    }
+
+    @Test
+    public void givenAPendingVideoMedia_whenCallsUpdateMediaStatus_shouldUpdateOnlyTheMedia() {
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+        final var expectedTrailer = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+        final var expectedEncodedPath = "encoded/video.mp4";
+
+        final var video = this.videoGateway.create(newVideo()
+                .updateVideoMedia(expectedMedia)
+                .updateTrailerMedia(expectedTrailer));
+
+        final var actualResult = this.videoGateway.updateMediaStatus(
+                video.getId(),
+                expectedMedia.id(),
+                MediaStatus.COMPLETED,
+                expectedEncodedPath
+        );
+
+        Assertions.assertTrue(actualResult);
+
+        final var actualVideo = this.videoGateway.findById(video.getId()).get();
+        final var actualMedia = actualVideo.getVideo().get();
+
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualMedia.status());
+        Assertions.assertEquals(expectedEncodedPath, actualMedia.encodedLocation());
+        Assertions.assertEquals(MediaStatus.PENDING, actualVideo.getTrailer().get().status());
+        Assertions.assertEquals(video.getUpdatedAt(), actualVideo.getUpdatedAt());
+    }
+
+    @Test
+    public void givenAProcessingUpdate_whenCallsUpdateMediaStatus_shouldKeepTheEncodedPath() {
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.TRAILER);
+
+        final var video = this.videoGateway.create(newVideo().updateTrailerMedia(expectedMedia));
+
+        final var actualResult = this.videoGateway.updateMediaStatus(
+                video.getId(),
+                expectedMedia.id(),
+                MediaStatus.PROCESSING,
+                null
+        );
+
+        Assertions.assertTrue(actualResult);
+
+        final var actualMedia = this.videoGateway.findById(video.getId()).get().getTrailer().get();
+
+        Assertions.assertEquals(MediaStatus.PROCESSING, actualMedia.status());
+        Assertions.assertEquals("", actualMedia.encodedLocation());
+    }
+
+    @Test
+    public void givenACompletedMedia_whenCallsUpdateMediaStatusWithAnOlderStatus_shouldNotUpdate() {
+        final var expectedEncodedPath = "encoded/video.mp4";
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO).completed(expectedEncodedPath);
+
+        final var video = this.videoGateway.create(newVideo().updateVideoMedia(expectedMedia));
+
+        final var actualResult = this.videoGateway.updateMediaStatus(
+                video.getId(),
+                expectedMedia.id(),
+                MediaStatus.PROCESSING,
+                null
+        );
+
+        Assertions.assertFalse(actualResult);
+
+        final var actualMedia = this.videoGateway.findById(video.getId()).get().getVideo().get();
+
+        Assertions.assertEquals(MediaStatus.COMPLETED, actualMedia.status());
+        Assertions.assertEquals(expectedEncodedPath, actualMedia.encodedLocation());
+    }
+
+    @Test
+    public void givenAMediaOfAnotherVideo_whenCallsUpdateMediaStatus_shouldNotUpdate() {
+        final var expectedMedia = Fixture.Videos.audioVideo(VideoMediaType.VIDEO);
+
+        final var video = this.videoGateway.create(newVideo().updateVideoMedia(expectedMedia));
+        final var anotherVideo = this.videoGateway.create(newVideo());
+
+        final var actualResult = this.videoGateway.updateMediaStatus(
+                anotherVideo.getId(),
+                expectedMedia.id(),
+                MediaStatus.COMPLETED,
+                "encoded/video.mp4"
+        );
+
+        Assertions.assertFalse(actualResult);
+        Assertions.assertEquals(
+                MediaStatus.PENDING,
+                this.videoGateway.findById(video.getId()).get().getVideo().get().status()
+        );
+    }
+
+    private List<CastMemberID> createMembers(final int count) {
+        final var members = new ArrayList<CastMemberJpaEntity>(count);
+        for (int i = 0; i < count; i++) {
+            members.add(CastMemberJpaEntity.from(CastMember.newMember(Fixture.name(), Fixture.CastMembers.type())));
+        }
+
+        return this.castMemberRepository.saveAll(members).stream()
+                .map(it -> CastMemberID.from(it.getId()))
+                .toList();
+    }
+
+    private List<CategoryID> createCategories(final int count) {
+        final var categories = new ArrayList<CategoryJpaEntity>(count);
+        for (int i = 0; i < count; i++) {
+            categories.add(CategoryJpaEntity.from(Category.newCategory(Fixture.name(), "Some description", true)));
+        }
+
+        return this.categoryRepository.saveAll(categories).stream()
+                .map(it -> CategoryID.from(it.getId()))
+                .toList();
+    }
+
+    private List<GenreID> createGenres(final int count) {
+        final var genres = new ArrayList<GenreJpaEntity>(count);
+        for (int i = 0; i < count; i++) {
+            genres.add(GenreJpaEntity.from(Genre.newGenre(Fixture.name(), true)));
+        }
+
+        return this.genreRepository.saveAll(genres).stream()
+                .map(it -> GenreID.from(it.getId()))
+                .toList();
+    }
+
+    private Statistics statistics() {
+        return this.entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private Statistics startStatistics() {
+        final var stats = statistics();
+        stats.setStatisticsEnabled(true);
+        stats.clear();
+        return stats;
+    }
+
+    private long statementsOf(final Runnable action) {
+        final var stats = startStatistics();
+        action.run();
+        return stats.getPrepareStatementCount();
+    }
+
+    private static Video editTitle(final Video video, final List<CastMemberID> members) {
+        return Video.with(video).update(
+                Fixture.title(),
+                video.getDescription(),
+                video.getLaunchedAt(),
+                video.getDuration(),
+                video.getOpened(),
+                video.getPublished(),
+                video.getRating(),
+                video.getCategories(),
+                video.getGenres(),
+                new HashSet<>(members)
+        );
+    }
+
+    private static Video newVideo(final List<CastMemberID> members) {
+        return newVideo(List.of(), List.of(), members);
+    }
+
+    private static Video newVideo(final String title, final String description, final List<CategoryID> categories) {
+        return Video.newVideo(
+                title,
+                description,
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                new HashSet<>(categories),
+                Set.of(),
+                Set.of()
+        );
+    }
+
+    private static Video newVideo(
+            final List<CategoryID> categories,
+            final List<GenreID> genres,
+            final List<CastMemberID> members
+    ) {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                new HashSet<>(categories),
+                new HashSet<>(genres),
+                new HashSet<>(members)
+        );
+    }
+
+    private static Video newVideo() {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(),
+                Set.of(),
+                Set.of()
+        );
+    }
+}
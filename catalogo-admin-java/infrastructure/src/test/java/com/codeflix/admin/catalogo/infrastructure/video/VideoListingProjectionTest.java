@@ -0,0 +1,168 @@
+package com.codeflix.admin.catalogo.infrastructure.video;
+
+import com.codeflix.admin.catalogo.IntegrationTest;
+import com.codeflix.admin.catalogo.domain.Fixture;
+import com.codeflix.admin.catalogo.domain.category.Category;
+import com.codeflix.admin.catalogo.domain.category.CategoryGateway;
+import com.codeflix.admin.catalogo.domain.category.CategoryID;
+import com.codeflix.admin.catalogo.domain.video.Video;
+import com.codeflix.admin.catalogo.domain.video.VideoListingGateway;
+import com.codeflix.admin.catalogo.domain.video.VideoPreview;
+import com.codeflix.admin.catalogo.domain.video.VideoSearchQuery;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.category.persistence.CategoryRepository;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoJpaEntity;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoListingRepository;
+import com.codeflix.admin.catalogo.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Year;
+import java.util.List;
+import java.util.Set;
+
+@IntegrationTest
+@TestPropertySource(properties = {
+        "video.listing.enabled=true",
+        "video.listing.flush-interval=3600000"
+})
+public class VideoListingProjectionTest {
+
+    @Autowired
+    private VideoListingProjection videoListingProjection;
+
+    @Autowired
+    private VideoListingGateway videoListingGateway;
+
+    @Autowired
+    private VideoListingRepository videoListingRepository;
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Test
+    public void givenAnEnabledListing_whenInjectsVideoListingGateway_shouldUseTheReadModel() {
+        Assertions.assertInstanceOf(VideoListingMySqlGateway.class, this.videoListingGateway);
+    }
+
+    @Test
+    public void givenCreatedVideos_whenFlushes_shouldListThemWithReferenceNames() {
+        final var expectedCategory = this.categoryGateway.create(Category.newCategory("Filmes", "A categoria mais assistida", true));
+        final var anotherCategory = this.categoryGateway.create(Category.newCategory("Séries", "Episódios", true));
+
+        final var expectedVideo = this.videoGateway.create(newVideo(expectedCategory.getId()));
+        this.videoGateway.create(newVideo(anotherCategory.getId()));
+
+        Assertions.assertEquals(2, this.videoListingProjection.status().pending());
+
+        this.videoListingProjection.flush();
+
+        final var actualPage = this.videoListingGateway.findAll(query(expectedCategory.getId()));
+
+        Assertions.assertEquals(0, this.videoListingProjection.status().pending());
+        Assertions.assertEquals(1, actualPage.total());
+
+        final var actualPreview = actualPage.items().get(0);
+        Assertions.assertEquals(expectedVideo.getId().getValue(), actualPreview.id());
+        Assertions.assertEquals(expectedVideo.getTitle(), actualPreview.title());
+        Assertions.assertEquals(
+                List.of(new VideoPreview.Reference(expectedCategory.getId().getValue(), "Filmes")),
+                actualPreview.categories()
+        );
+    }
+
+    @Test
+    public void givenAListedVideo_whenItsCategoryIsRenamed_shouldProjectTheNewName() {
+        final var category = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var video = this.videoGateway.create(newVideo(category.getId()));
+        this.videoListingProjection.flush();
+
+        this.categoryGateway.update(Category.with(category).update("Longas", null, true));
+        this.videoListingProjection.flush();
+
+        final var actualPreview = this.videoListingGateway.findAll(query(category.getId())).items().get(0);
+
+        Assertions.assertEquals(video.getId().getValue(), actualPreview.id());
+        Assertions.assertEquals("Longas", actualPreview.categories().get(0).name());
+    }
+
+    @Test
+    public void givenALostReadModel_whenRebuilds_shouldListEveryVideoAgain() {
+        final var category = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        this.videoGateway.create(newVideo(category.getId()));
+        this.videoGateway.create(newVideo(category.getId()));
+        this.videoListingProjection.flush();
+
+        this.videoListingRepository.deleteAll();
+        Assertions.assertEquals(0, this.videoListingGateway.findAll(query(category.getId())).total());
+
+        final var actualProjected = this.videoListingProjection.rebuild();
+
+        Assertions.assertEquals(2, actualProjected);
+        Assertions.assertEquals(2, this.videoListingGateway.findAll(query(category.getId())).total());
+    }
+
+    @Test
+    public void givenADeletedVideo_whenFlushes_shouldRemoveItFromTheListing() {
+        final var category = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        final var video = this.videoGateway.create(newVideo(category.getId()));
+        this.videoListingProjection.flush();
+
+        this.videoGateway.deleteById(video.getId());
+        this.videoListingProjection.flush();
+
+        Assertions.assertEquals(0, this.videoListingGateway.findAll(query(category.getId())).total());
+        Assertions.assertEquals(0, this.videoListingRepository.count());
+    }
+
+    @Test
+    public void givenChangesAnEarlierInstanceNeverProjected_whenCatchesUp_shouldListThem() {
+        final var category = this.categoryGateway.create(Category.newCategory("Filmes", null, true));
+        this.videoGateway.create(newVideo(category.getId()));
+        this.videoListingProjection.flush();
+
+        // written straight to the tables, like events that were still pending when a node stopped
+        this.categoryRepository.saveAndFlush(CategoryJpaEntity.from(Category.with(category).update("Longas", null, true)));
+        this.videoRepository.saveAndFlush(VideoJpaEntity.from(newVideo(category.getId())));
+        Assertions.assertEquals(0, this.videoListingProjection.status().pending());
+
+        Assertions.assertEquals(2, this.videoListingProjection.catchUp());
+        this.videoListingProjection.flush();
+
+        final var actualPage = this.videoListingGateway.findAll(query(category.getId()));
+
+        Assertions.assertEquals(2, actualPage.total());
+        actualPage.items().forEach(it -> Assertions.assertEquals("Longas", it.categories().get(0).name()));
+        Assertions.assertEquals(0, this.videoListingProjection.catchUp());
+    }
+
+    private static VideoSearchQuery query(final CategoryID category) {
+        return new VideoSearchQuery(0, 10, "", "title", "asc", Set.of(), Set.of(category), Set.of());
+    }
+
+    private static Video newVideo(final CategoryID category) {
+        return Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Fixture.Videos.rating(),
+                Set.of(category),
+                Set.of(),
+                Set.of()
+        );
+    }
+}